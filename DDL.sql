@@ -6,6 +6,12 @@
 -- CREATE DATABASE seoul_commercial_district;
 
 -- 기존 테이블 삭제 (순서 주의: 외래키 참조 순서)
+DROP TABLE IF EXISTS dataset_version CASCADE;
+DROP SEQUENCE IF EXISTS dataset_version_seq;
+DROP TABLE IF EXISTS sales_forecast CASCADE;
+DROP TABLE IF EXISTS sales_anomaly CASCADE;
+DROP TABLE IF EXISTS sales_quantile_sketch CASCADE;
+DROP TABLE IF EXISTS sales_monthly_aggregate CASCADE;
 DROP TABLE IF EXISTS sales_data CASCADE;
 DROP TABLE IF EXISTS district_population_statistics CASCADE;
 DROP TABLE IF EXISTS district_codes CASCADE;
@@ -63,34 +69,136 @@ CREATE INDEX idx_population_total ON district_population_statistics(total_popula
 CREATE INDEX idx_population_created_at ON district_population_statistics(created_at);
 
 -- =====================================================
--- 3. 매출 데이터 테이블
+-- 3. 매출 데이터 테이블 (기준_년월_코드 월별 RANGE 파티션)
 -- =====================================================
+-- 금액/건수는 애플리케이션에서 long/int 로 매핑되므로 NULL 을 허용하지 않음
 CREATE TABLE sales_data (
-    id BIGSERIAL PRIMARY KEY,
-    기준_년월_코드 VARCHAR(10),
+    id BIGSERIAL,
+    기준_년월_코드 VARCHAR(10) NOT NULL,
     자치구_코드 INTEGER,
     자치구_코드_명 VARCHAR(20),
     서비스_업종_코드 VARCHAR(20),
     서비스_업종_코드_명 VARCHAR(50),
-    당월_매출_금액 BIGINT,
-    당월_매출_건수 INTEGER,
-    주중_매출_금액 BIGINT,
-    주말_매출_금액 BIGINT,
-    남성_매출_금액 BIGINT,
-    여성_매출_금액 BIGINT,
-    주중_매출_건수 INTEGER,
-    주말_매출_건수 INTEGER,
-    남성_매출_건수 INTEGER,
-    여성_매출_건수 INTEGER
-);
+    당월_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    당월_매출_건수 INTEGER NOT NULL DEFAULT 0,
+    주중_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    주말_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    남성_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    여성_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    주중_매출_건수 INTEGER NOT NULL DEFAULT 0,
+    주말_매출_건수 INTEGER NOT NULL DEFAULT 0,
+    남성_매출_건수 INTEGER NOT NULL DEFAULT 0,
+    여성_매출_건수 INTEGER NOT NULL DEFAULT 0,
+    -- 파티션 테이블의 기본키는 파티션 키를 포함해야 함
+    PRIMARY KEY (id, 기준_년월_코드)
+) PARTITION BY RANGE (기준_년월_코드);
+
+-- 월 파티션 범위를 벗어난 데이터 보관용 기본 파티션
+CREATE TABLE sales_data_default PARTITION OF sales_data DEFAULT;
+
+-- 월별 파티션 생성 함수 (예: SELECT create_sales_data_partition('202501');)
+-- 애플리케이션의 SalesPartitionService 가 매일 이번 달/다음 달 파티션을 자동 생성함
+CREATE OR REPLACE FUNCTION create_sales_data_partition(p_year_month TEXT) RETURNS VOID AS $$
+DECLARE
+    v_next TEXT := to_char(to_date(p_year_month, 'YYYYMM') + INTERVAL '1 month', 'YYYYMM');
+BEGIN
+    IF p_year_month !~ '^[0-9]{6}$' THEN
+        RAISE EXCEPTION '기준 년월은 yyyyMM 형식이어야 합니다: %', p_year_month;
+    END IF;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF sales_data FOR VALUES FROM (%L) TO (%L)',
+                   'sales_data_p' || p_year_month, p_year_month, v_next);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_sales_data_partition(to_char(CURRENT_DATE, 'YYYYMM'));
+SELECT create_sales_data_partition(to_char(CURRENT_DATE + INTERVAL '1 month', 'YYYYMM'));
+SELECT create_sales_data_partition('202501');
 
--- 매출 데이터 인덱스
-CREATE INDEX idx_sales_year_month ON sales_data(기준_년월_코드);
+-- 매출 데이터 인덱스 (파티션 테이블에 생성하면 모든 파티션에 전파됨)
+-- 조회 조건 컬럼 + 기준_년월_코드 복합 인덱스로 파티션 내부에서도 범위 검색 가능
+CREATE INDEX idx_sales_district_name_month ON sales_data(자치구_코드_명, 기준_년월_코드);
+CREATE INDEX idx_sales_category_name_month ON sales_data(서비스_업종_코드_명, 기준_년월_코드);
 CREATE INDEX idx_sales_district_code ON sales_data(자치구_코드);
-CREATE INDEX idx_sales_district_name ON sales_data(자치구_코드_명);
 CREATE INDEX idx_sales_service_category ON sales_data(서비스_업종_코드);
 CREATE INDEX idx_sales_amount ON sales_data(당월_매출_금액);
 
+-- 자치구/업종/기준 년월별 매출 집계 (쓰기 시 같은 트랜잭션에서 증분 반영, SalesAggregateService)
+-- 통계 API 는 원본 행 대신 이 테이블을 읽으며, 자치구/업종명이 없는 행은 빈 문자열로 집계됨
+CREATE TABLE sales_monthly_aggregate (
+    기준_년월_코드 VARCHAR(10) NOT NULL,
+    자치구_코드_명 VARCHAR(20) NOT NULL,
+    서비스_업종_코드_명 VARCHAR(50) NOT NULL,
+    행_수 BIGINT NOT NULL DEFAULT 0,
+    당월_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    당월_매출_건수 BIGINT NOT NULL DEFAULT 0,
+    주중_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    주말_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    남성_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    여성_매출_금액 BIGINT NOT NULL DEFAULT 0,
+    주중_매출_건수 BIGINT NOT NULL DEFAULT 0,
+    주말_매출_건수 BIGINT NOT NULL DEFAULT 0,
+    남성_매출_건수 BIGINT NOT NULL DEFAULT 0,
+    여성_매출_건수 BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명)
+);
+
+CREATE INDEX idx_sales_aggregate_district_month ON sales_monthly_aggregate(자치구_코드_명, 기준_년월_코드);
+CREATE INDEX idx_sales_aggregate_category_month ON sales_monthly_aggregate(서비스_업종_코드_명, 기준_년월_코드);
+
+-- 자치구/업종/기준 년월별 매출 금액·객단가 분포 (t-digest 직렬화 값, SalesQuantileService)
+-- 쓰기 시 같은 트랜잭션에서 갱신되며, 조회 시 필요한 그룹만 병합하여 분위수를 계산함
+CREATE TABLE sales_quantile_sketch (
+    기준_년월_코드 VARCHAR(10) NOT NULL,
+    자치구_코드_명 VARCHAR(20) NOT NULL,
+    서비스_업종_코드_명 VARCHAR(50) NOT NULL,
+    매출_금액_스케치 BYTEA NOT NULL,
+    객단가_스케치 BYTEA NOT NULL,
+    PRIMARY KEY (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명)
+);
+
+CREATE INDEX idx_sales_sketch_district_month ON sales_quantile_sketch(자치구_코드_명, 기준_년월_코드);
+CREATE INDEX idx_sales_sketch_category_month ON sales_quantile_sketch(서비스_업종_코드_명, 기준_년월_코드);
+
+-- 자치구/업종/기준 년월별 매출 이상치 (SalesAnomalyService, 적재 후 배치로 전체 재계산)
+-- 점수는 기준선(전년 동월 + 추세 또는 최근 중앙값) 대비 로버스트 z 점수이며 임계값을 넘은 달만 저장함
+CREATE TABLE sales_anomaly (
+    기준_년월_코드 VARCHAR(10) NOT NULL,
+    자치구_코드_명 VARCHAR(20) NOT NULL,
+    서비스_업종_코드_명 VARCHAR(50) NOT NULL,
+    실제_매출_금액 BIGINT NOT NULL,
+    기대_매출_금액 BIGINT NOT NULL,
+    점수 DOUBLE PRECISION NOT NULL,
+    심각도 VARCHAR(10) NOT NULL,
+    기준선 VARCHAR(10) NOT NULL,
+    PRIMARY KEY (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명)
+);
+
+CREATE INDEX idx_sales_anomaly_month_score ON sales_anomaly(기준_년월_코드, (ABS(점수)) DESC);
+
+-- 자치구/업종별 다음 horizon 개월 매출 예측과 예측 구간 (SalesForecastService, 적재 후 배치로 전체 재계산)
+-- 기준_년월_코드는 예측 대상 월이며, 조회는 메모리에 올린 색인에서 처리함
+CREATE TABLE sales_forecast (
+    기준_년월_코드 VARCHAR(10) NOT NULL,
+    자치구_코드_명 VARCHAR(20) NOT NULL,
+    서비스_업종_코드_명 VARCHAR(50) NOT NULL,
+    예측_개월 INTEGER NOT NULL,
+    예측_매출_금액 BIGINT NOT NULL,
+    하한_매출_금액 BIGINT NOT NULL,
+    상한_매출_금액 BIGINT NOT NULL,
+    모델 VARCHAR(20) NOT NULL,
+    PRIMARY KEY (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명)
+);
+
+-- 데이터셋 버전 (커밋된 마지막 버전, 커밋 후 별도 트랜잭션에서 갱신)
+CREATE TABLE dataset_version (
+    dataset VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 매출 데이터셋 버전 발급 (행 잠금 없음, 같은 트랜잭션에서 NOTIFY sales_data_changed, '<버전>')
+CREATE SEQUENCE dataset_version_seq;
+
 -- =====================================================
 -- 4. 샘플 데이터 삽입 (자치구 코드)
 -- =====================================================
@@ -0,0 +1,43 @@
+-- =====================================================
+-- sales_data 금액/건수 컬럼 NOT NULL 마이그레이션
+-- =====================================================
+-- 매출 도메인이 금액은 long, 건수는 int 원시 타입으로 매핑되므로
+-- 금액/건수 컬럼의 NULL 을 0 으로 바꾸고 NOT NULL DEFAULT 0 제약을 추가합니다.
+-- (NULL 이 남아 있으면 엔티티 로딩 시 오류가 발생합니다.)
+--
+-- 실행: psql -d seoul_commercial_district -f sales_data_not_null_migration.sql
+-- 파티션 테이블에 실행하면 모든 파티션에 전파됩니다.
+-- =====================================================
+
+BEGIN;
+
+UPDATE sales_data SET
+    당월_매출_금액 = COALESCE(당월_매출_금액, 0),
+    당월_매출_건수 = COALESCE(당월_매출_건수, 0),
+    주중_매출_금액 = COALESCE(주중_매출_금액, 0),
+    주말_매출_금액 = COALESCE(주말_매출_금액, 0),
+    남성_매출_금액 = COALESCE(남성_매출_금액, 0),
+    여성_매출_금액 = COALESCE(여성_매출_금액, 0),
+    주중_매출_건수 = COALESCE(주중_매출_건수, 0),
+    주말_매출_건수 = COALESCE(주말_매출_건수, 0),
+    남성_매출_건수 = COALESCE(남성_매출_건수, 0),
+    여성_매출_건수 = COALESCE(여성_매출_건수, 0)
+WHERE 당월_매출_금액 IS NULL OR 당월_매출_건수 IS NULL
+   OR 주중_매출_금액 IS NULL OR 주말_매출_금액 IS NULL
+   OR 남성_매출_금액 IS NULL OR 여성_매출_금액 IS NULL
+   OR 주중_매출_건수 IS NULL OR 주말_매출_건수 IS NULL
+   OR 남성_매출_건수 IS NULL OR 여성_매출_건수 IS NULL;
+
+ALTER TABLE sales_data
+    ALTER COLUMN 당월_매출_금액 SET DEFAULT 0, ALTER COLUMN 당월_매출_금액 SET NOT NULL,
+    ALTER COLUMN 당월_매출_건수 SET DEFAULT 0, ALTER COLUMN 당월_매출_건수 SET NOT NULL,
+    ALTER COLUMN 주중_매출_금액 SET DEFAULT 0, ALTER COLUMN 주중_매출_금액 SET NOT NULL,
+    ALTER COLUMN 주말_매출_금액 SET DEFAULT 0, ALTER COLUMN 주말_매출_금액 SET NOT NULL,
+    ALTER COLUMN 남성_매출_금액 SET DEFAULT 0, ALTER COLUMN 남성_매출_금액 SET NOT NULL,
+    ALTER COLUMN 여성_매출_금액 SET DEFAULT 0, ALTER COLUMN 여성_매출_금액 SET NOT NULL,
+    ALTER COLUMN 주중_매출_건수 SET DEFAULT 0, ALTER COLUMN 주중_매출_건수 SET NOT NULL,
+    ALTER COLUMN 주말_매출_건수 SET DEFAULT 0, ALTER COLUMN 주말_매출_건수 SET NOT NULL,
+    ALTER COLUMN 남성_매출_건수 SET DEFAULT 0, ALTER COLUMN 남성_매출_건수 SET NOT NULL,
+    ALTER COLUMN 여성_매출_건수 SET DEFAULT 0, ALTER COLUMN 여성_매출_건수 SET NOT NULL;
+
+COMMIT;
@@ -0,0 +1,159 @@
+-- =====================================================
+-- sales_data 월별 파티션 전환 마이그레이션
+-- =====================================================
+-- 기존 단일 힙 테이블 sales_data 를 기준_년월_코드 RANGE 파티션 테이블로 전환합니다.
+--
+-- 실행: psql -d seoul_commercial_district -f sales_data_partition_migration.sql
+--
+-- 1. 기존 테이블을 sales_data_legacy 로 이름 변경
+-- 2. 같은 컬럼 구성의 파티션 테이블 sales_data 생성
+-- 3. 기존 데이터에 존재하는 기준 년월별 파티션 생성 후 데이터 복사
+-- 4. id 시퀀스 위치 이어받기, 뷰 재생성
+--
+-- 전체가 하나의 트랜잭션으로 실행되며, 검증 후 sales_data_legacy 를 직접 삭제하면 됩니다.
+-- 되돌리기: DROP TABLE sales_data; ALTER TABLE sales_data_legacy RENAME TO sales_data; (뷰 재생성)
+-- =====================================================
+
+BEGIN;
+
+-- 뷰는 테이블 OID 를 참조하므로 이름 변경 전에 삭제 후 마지막에 다시 생성
+DROP VIEW IF EXISTS district_population_sales;
+DROP VIEW IF EXISTS district_total_sales;
+
+ALTER TABLE sales_data RENAME TO sales_data_legacy;
+
+-- 기존 인덱스 이름을 비워 새 테이블에서 재사용
+ALTER INDEX IF EXISTS idx_sales_year_month RENAME TO idx_sales_legacy_year_month;
+ALTER INDEX IF EXISTS idx_sales_district_code RENAME TO idx_sales_legacy_district_code;
+ALTER INDEX IF EXISTS idx_sales_district_name RENAME TO idx_sales_legacy_district_name;
+ALTER INDEX IF EXISTS idx_sales_service_category RENAME TO idx_sales_legacy_service_category;
+ALTER INDEX IF EXISTS idx_sales_amount RENAME TO idx_sales_legacy_amount;
+
+CREATE TABLE sales_data (
+    id BIGSERIAL,
+    기준_년월_코드 VARCHAR(10) NOT NULL,
+    자치구_코드 INTEGER,
+    자치구_코드_명 VARCHAR(20),
+    서비스_업종_코드 VARCHAR(20),
+    서비스_업종_코드_명 VARCHAR(50),
+    당월_매출_금액 BIGINT,
+    당월_매출_건수 INTEGER,
+    주중_매출_금액 BIGINT,
+    주말_매출_금액 BIGINT,
+    남성_매출_금액 BIGINT,
+    여성_매출_금액 BIGINT,
+    주중_매출_건수 INTEGER,
+    주말_매출_건수 INTEGER,
+    남성_매출_건수 INTEGER,
+    여성_매출_건수 INTEGER,
+    PRIMARY KEY (id, 기준_년월_코드)
+) PARTITION BY RANGE (기준_년월_코드);
+
+CREATE TABLE sales_data_default PARTITION OF sales_data DEFAULT;
+
+CREATE OR REPLACE FUNCTION create_sales_data_partition(p_year_month TEXT) RETURNS VOID AS $$
+DECLARE
+    v_next TEXT := to_char(to_date(p_year_month, 'YYYYMM') + INTERVAL '1 month', 'YYYYMM');
+BEGIN
+    IF p_year_month !~ '^[0-9]{6}$' THEN
+        RAISE EXCEPTION '기준 년월은 yyyyMM 형식이어야 합니다: %', p_year_month;
+    END IF;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF sales_data FOR VALUES FROM (%L) TO (%L)',
+                   'sales_data_p' || p_year_month, p_year_month, v_next);
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터의 기준 년월 + 이번 달/다음 달 파티션 생성 (형식이 맞지 않는 값은 기본 파티션으로 감)
+DO $$
+DECLARE
+    v_month TEXT;
+BEGIN
+    FOR v_month IN
+        SELECT DISTINCT 기준_년월_코드 FROM sales_data_legacy WHERE 기준_년월_코드 ~ '^[0-9]{6}$'
+        UNION
+        SELECT to_char(CURRENT_DATE, 'YYYYMM')
+        UNION
+        SELECT to_char(CURRENT_DATE + INTERVAL '1 month', 'YYYYMM')
+    LOOP
+        PERFORM create_sales_data_partition(v_month);
+    END LOOP;
+END;
+$$;
+
+-- 데이터 복사 (create_sales_table.sql 로 만든 테이블은 id 가 없으므로 새로 발급)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'sales_data_legacy' AND column_name = 'id') THEN
+        INSERT INTO sales_data (id, 기준_년월_코드, 자치구_코드, 자치구_코드_명, 서비스_업종_코드, 서비스_업종_코드_명,
+                                당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액,
+                                주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수)
+        SELECT id, COALESCE(기준_년월_코드, '000000'), 자치구_코드, 자치구_코드_명, 서비스_업종_코드, 서비스_업종_코드_명,
+               당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액,
+               주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수
+        FROM sales_data_legacy;
+
+        PERFORM setval(pg_get_serial_sequence('sales_data', 'id'),
+                       GREATEST((SELECT COALESCE(MAX(id), 0) FROM sales_data), 1));
+    ELSE
+        INSERT INTO sales_data (기준_년월_코드, 자치구_코드, 자치구_코드_명, 서비스_업종_코드, 서비스_업종_코드_명,
+                                당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액,
+                                주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수)
+        SELECT COALESCE(기준_년월_코드, '000000'), 자치구_코드, 자치구_코드_명, 서비스_업종_코드, 서비스_업종_코드_명,
+               당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액,
+               주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수
+        FROM sales_data_legacy;
+    END IF;
+END;
+$$;
+
+CREATE INDEX idx_sales_district_name_month ON sales_data(자치구_코드_명, 기준_년월_코드);
+CREATE INDEX idx_sales_category_name_month ON sales_data(서비스_업종_코드_명, 기준_년월_코드);
+CREATE INDEX idx_sales_district_code ON sales_data(자치구_코드);
+CREATE INDEX idx_sales_service_category ON sales_data(서비스_업종_코드);
+CREATE INDEX idx_sales_amount ON sales_data(당월_매출_금액);
+
+CREATE OR REPLACE VIEW district_total_sales AS
+SELECT 
+    자치구_코드,
+    자치구_코드_명,
+    기준_년월_코드,
+    SUM(당월_매출_금액) as 총_매출_금액,
+    SUM(당월_매출_건수) as 총_매출_건수,
+    COUNT(*) as 업종_수
+FROM sales_data
+GROUP BY 자치구_코드, 자치구_코드_명, 기준_년월_코드;
+
+CREATE OR REPLACE VIEW district_population_sales AS
+SELECT 
+    d.district_name,
+    p.total_population,
+    p.resident_population,
+    p.worker_population,
+    p.floating_population,
+    s.총_매출_금액,
+    s.총_매출_건수,
+    CASE 
+        WHEN p.total_population > 0 
+        THEN ROUND(s.총_매출_금액::NUMERIC / p.total_population, 2)
+        ELSE 0 
+    END as 인구당_매출액
+FROM district_population_statistics p
+LEFT JOIN district_total_sales s ON p.district_name = s.자치구_코드_명
+LEFT JOIN district_codes d ON p.district_name = d.district_name;
+
+-- 건수 검증 (두 값이 같아야 함)
+SELECT (SELECT COUNT(*) FROM sales_data_legacy) AS legacy_rows,
+       (SELECT COUNT(*) FROM sales_data) AS partitioned_rows;
+
+COMMIT;
+
+-- =====================================================
+-- 오래된 파티션 분리/아카이브 예시
+-- =====================================================
+-- ALTER TABLE sales_data DETACH PARTITION sales_data_p202401;
+-- CREATE SCHEMA IF NOT EXISTS sales_archive;
+-- ALTER TABLE sales_data_p202401 SET SCHEMA sales_archive;
+--
+-- 파티션 프루닝 확인 (Seq Scan 대상이 sales_data_p202501 하나여야 함)
+-- EXPLAIN SELECT * FROM sales_data WHERE 자치구_코드_명 = '강남구' AND 기준_년월_코드 BETWEEN '202501' AND '202501';
@@ -0,0 +1,115 @@
+#!/usr/bin/env bash
+#
+# 네이티브 실행 파일 스모크 테스트 + JVM 빌드와 기동 시간/RSS 비교
+#
+# 사전 준비: 로컬 PostgreSQL (README 의 docker 명령) 과 DDL.sql 적용, 아래 두 빌드
+#   ./gradlew bootJar nativeCompile
+#
+# 사용법: scripts/native-smoke-test.sh
+#   NATIVE_BIN, JVM_JAR, PORT, PROFILE, READY_TIMEOUT 환경 변수로 변경 가능
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+NATIVE_BIN=${NATIVE_BIN:-build/native/nativeCompile/seoul-commercial-district-api}
+JVM_JAR=${JVM_JAR:-$(ls build/libs/*.jar 2>/dev/null | grep -v -- '-plain.jar' | head -n 1 || true)}
+PORT=${PORT:-18080}
+PROFILE=${PROFILE:-fast}
+READY_TIMEOUT=${READY_TIMEOUT:-60}
+BASE_URL="http://localhost:${PORT}/api"
+
+# 응답 코드 200 을 기대하는 GET 경로 (더미 데이터 기준)
+GANGNAM=%EA%B0%95%EB%82%A8%EA%B5%AC  # 강남구
+ENDPOINTS=(
+  "/districts/health"
+  "/districts"
+  "/districts/top?limit=5"
+  "/districts/statistics/summary"
+  "/district-codes"
+  "/sales/district/${GANGNAM}"
+  "/sales/district/${GANGNAM}/total"
+  "/sales/district/${GANGNAM}/statistics/category"
+  "/sales/district/${GANGNAM}/statistics/gender"
+  "/sales/district/${GANGNAM}/statistics/weekday-weekend"
+  "/sales/top/districts?limit=5"
+  "/sales/top/categories?limit=5"
+  "/sales/monthly/category-groups"
+  "/sales/average-monthly-sales/${GANGNAM}"
+)
+
+now_ms() { date +%s%3N; }
+
+rss_kb() { awk '/^VmRSS:/ { print $2 }' "/proc/$1/status" 2>/dev/null || echo 0; }
+
+# $1 = 이름, 나머지 = 실행 명령. 결과를 "이름 준비ms RSS_KB 실패수" 로 출력
+run_target() {
+  local name=$1; shift
+  local log_file="build/smoke-${name}.log"
+  mkdir -p build
+
+  local start; start=$(now_ms)
+  SPRING_PROFILES_ACTIVE=$PROFILE SERVER_PORT=$PORT "$@" >"$log_file" 2>&1 &
+  local pid=$!
+  trap 'kill "$pid" 2>/dev/null || true' RETURN
+
+  local ready_ms=-1
+  while (( $(now_ms) - start < READY_TIMEOUT * 1000 )); do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "[$name] 프로세스가 종료되었습니다. 로그: $log_file" >&2
+      tail -n 40 "$log_file" >&2
+      echo "$name -1 0 ${#ENDPOINTS[@]}"
+      return
+    fi
+    if curl -fs -o /dev/null "${BASE_URL}/districts/health"; then
+      ready_ms=$(( $(now_ms) - start ))
+      break
+    fi
+    sleep 0.05
+  done
+
+  local failures=0
+  if (( ready_ms < 0 )); then
+    echo "[$name] ${READY_TIMEOUT}s 안에 준비되지 않았습니다. 로그: $log_file" >&2
+    failures=${#ENDPOINTS[@]}
+  else
+    for path in "${ENDPOINTS[@]}"; do
+      local status
+      status=$(curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}${path}")
+      if [[ "$status" != "200" ]]; then
+        echo "[$name] 실패: GET ${path} -> ${status}" >&2
+        failures=$((failures + 1))
+      fi
+    done
+  fi
+
+  # 스모크 요청을 처리한 뒤의 상주 메모리
+  local rss; rss=$(rss_kb "$pid")
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  echo "$name $ready_ms $rss $failures"
+}
+
+results=()
+if [[ -x "$NATIVE_BIN" ]]; then
+  results+=("$(run_target native "$NATIVE_BIN")")
+else
+  echo "네이티브 실행 파일이 없습니다: $NATIVE_BIN (./gradlew nativeCompile)" >&2
+  exit 1
+fi
+if [[ -n "$JVM_JAR" && -f "$JVM_JAR" ]]; then
+  results+=("$(run_target jvm java --add-opens=java.base/java.nio=ALL-UNNAMED -jar "$JVM_JAR")")
+else
+  echo "JVM jar 가 없어 비교를 건너뜁니다 (./gradlew bootJar)" >&2
+fi
+
+echo
+printf '%-8s %12s %10s %8s\n' "대상" "준비(ms)" "RSS(MB)" "실패"
+total_failures=0
+for result in "${results[@]}"; do
+  read -r name ready rss failures <<<"$result"
+  printf '%-8s %12s %10s %8s\n' "$name" "$ready" "$((rss / 1024))" "$failures"
+  total_failures=$((total_failures + failures))
+done
+
+exit $(( total_failures > 0 ? 1 : 0 ))
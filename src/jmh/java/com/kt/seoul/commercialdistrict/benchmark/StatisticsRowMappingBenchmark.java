@@ -0,0 +1,107 @@
+package com.kt.seoul.commercialdistrict.benchmark;
+
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 집계 결과 행 매핑 비용 비교 (네이티브 쿼리 Object[] 변환 vs JPQL 생성자 표현식)
+ *
+ * 측정 범위는 이미 읽어 온 결과 행을 DTO 로 바꾸는 Java 쪽 비용뿐입니다.
+ * 쿼리 실행, JDBC 값 디코딩, Hibernate 결과 처리는 포함하지 않으므로 실제 리포지토리 호출 시간과는 다릅니다.
+ * - objectArrayMapping: 생성자 표현식 도입 전 SalesDataService 의 변환
+ *   (네이티브 SUM 결과 BigDecimal/Long 을 위치별로 꺼내 long 으로 바꾸고 빌더로 DTO 생성)
+ * - constructorProjection: Hibernate 의 생성자 표현식 처리를 흉내 낸 것
+ *   (Long 합계 튜플로 DTO 생성자를 리플렉션 호출, Hibernate 의 실제 매핑 코드는 실행하지 않음)
+ *
+ * 실행: ./gradlew jmh
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsRowMappingBenchmark {
+
+    /**
+     * 결과 행 수 (25 = 자치구 순위, 1000 = 자치구 × 업종 규모)
+     */
+    @Param({"25", "1000"})
+    private int rows;
+
+    private List<Object[]> nativeRows;
+    private List<Object[]> jpqlTuples;
+    private Constructor<SalesStatisticsResponse.CategorySalesStatistics> constructor;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        nativeRows = new ArrayList<>(rows);
+        jpqlTuples = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String category = "업종" + i;
+            long amount = 1_000_000_000L + i * 7_919L;
+            long count = 1_000L + i;
+            nativeRows.add(new Object[]{category, BigDecimal.valueOf(amount), count});
+            jpqlTuples.add(new Object[]{category, amount, count});
+        }
+        constructor = SalesStatisticsResponse.CategorySalesStatistics.class
+                .getConstructor(String.class, long.class, long.class);
+    }
+
+    @Benchmark
+    public List<SalesStatisticsResponse.CategorySalesStatistics> objectArrayMapping() {
+        return nativeRows.stream()
+                .map(result -> SalesStatisticsResponse.CategorySalesStatistics.builder()
+                        .serviceCategoryName(result[0] != null ? (String) result[0] : "")
+                        .totalAmount(sumToLong(result[1]))
+                        .totalCount(countToLong(result[2]))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SalesStatisticsResponse.CategorySalesStatistics> constructorProjection() throws ReflectiveOperationException {
+        List<SalesStatisticsResponse.CategorySalesStatistics> results = new ArrayList<>(jpqlTuples.size());
+        for (Object[] tuple : jpqlTuples) {
+            results.add(constructor.newInstance(tuple));
+        }
+        return results;
+    }
+
+    /**
+     * 이전 변환 (numeric 합계, 범위 초과 시 예외)
+     */
+    private static long sumToLong(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.longValueExact();
+        }
+        return ((Number) value).longValue();
+    }
+
+    private static long countToLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -1,7 +1,11 @@
 package com.kt.seoul.commercialdistrict;
 
+import com.kt.seoul.commercialdistrict.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 서울시 상권 분석 서비스 메인 애플리케이션
@@ -10,9 +14,18 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SeoulCommercialDistrictApplication {
 
+    /**
+     * 기동 단계/빈 생성 시간 기록 한도 (StartupReport 가 준비 완료 시 출력 후 비움)
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(SeoulCommercialDistrictApplication.class, args);
+        SpringApplication application = new SpringApplication(SeoulCommercialDistrictApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
@@ -0,0 +1,173 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간에 따라 조정되는 동시 실행 한도 (엔드포인트 등급 하나)
+ *
+ * 한도 안에서는 바로 실행하고, 넘으면 queueSize 자리까지 queueTimeout 동안 기다리며, 그 밖은 거절합니다.
+ * 한도는 gradient 방식으로 조정합니다.
+ * - 장기 평균 지연 / 단기 평균 지연 비율(0.5 ~ 1)만큼 줄이고 √한도 만큼 여유를 더함
+ * - 지연이 평소 수준이면 한도가 늘고, 지연이 늘면(대기열이 생기면) 한도가 줄어듦
+ * - 서버 오류나 대기 시간 초과는 한도를 0.9 배로 곱하여 줄임 (AIMD 의 곱셈 감소)
+ * 한도의 절반도 쓰지 않는 동안에는 지연 시간만 기록하고 한도는 늘리지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WINDOW_WEIGHT = 0.1;
+    private static final double LONG_WINDOW_WEIGHT = 0.002;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int queueSize) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.queueSize = Math.max(0, queueSize);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 실행 자리 획득
+     *
+     * @param timeoutNanos 최대 대기 시간
+     * @return 실행 시작 시점의 동시 실행 수 (획득하지 못하면 -1)
+     */
+    int acquire(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                return ++inFlight;
+            }
+            if (waiting >= queueSize) {
+                return -1;
+            }
+            waiting++;
+            try {
+                long remaining = timeoutNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        backOff();
+                        return -1;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                return ++inFlight;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 자리 반납과 지연 시간 반영
+     *
+     * @param rttNanos 실행 시간
+     * @param inFlightAtStart 실행 시작 시점의 동시 실행 수
+     * @param failed 서버 오류 여부
+     */
+    void release(long rttNanos, int inFlightAtStart, boolean failed) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (failed) {
+                backOff();
+            } else {
+                update(rttNanos, inFlightAtStart);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_WEIGHT;
+        // 부하가 사라진 뒤 장기 평균이 높게 남아 한도가 과하게 커지지 않도록 빠르게 내림
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        setLimit(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private void backOff() {
+        setLimit(limit * BACKOFF_RATIO);
+    }
+
+    private void setLimit(double value) {
+        double previous = limit;
+        limit = Math.max(minLimit, Math.min(maxLimit, value));
+        if ((int) limit > (int) previous) {
+            released.signalAll();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 단기 평균 지연 시간 (밀리초)
+     */
+    double shortRttMillis() {
+        lock.lock();
+        try {
+            return shortRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 수용 제어 필터 (엔드포인트 등급별 격벽 + 클라이언트별 요청률 제한)
+ *
+ * 요청 경로로 등급(app.admission.classes)을 정하고, 등급마다 따로 동시 실행 한도와 대기열을 둡니다.
+ * 무거운 조회가 몰려도 해당 등급의 한도까지만 커넥션 풀을 쓰므로 가벼운 조회는 영향을 받지 않습니다.
+ *
+ * - 클라이언트 요청률 초과: 429 + Retry-After (토큰이 다시 찰 때까지의 초)
+ * - 등급 한도와 대기열 초과, 대기 시간 초과: 503 + Retry-After (등급 설정)
+ *
+ * 압축 응답 캐시 필터 뒤에서 실행되므로 캐시 적중 응답은 한도를 쓰지 않습니다.
+ * 준비 완료(ReadinessState.ACCEPTING_TRAFFIC) 전에는 외부 트래픽이 들어오지 않으므로 요청률 제한을 적용하지 않습니다
+ * (기동 워밍업이 같은 루프백 주소로 연속 요청하기 때문).
+ * 비동기로 처리되는 요청은 응답이 끝날 때 자리를 반납합니다.
+ * 등급별 한도/실행 중/대기 수와 거절 수는 admission.* 지표로 노출됩니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionControlProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final List<EndpointClass> classes = new ArrayList<>();
+    private final EndpointClass defaultClass;
+    private final ClientRateLimiter rateLimiter;
+    private final Counter rateLimited;
+    private final ApplicationAvailability availability;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, MeterRegistry meterRegistry,
+                                  ApplicationAvailability availability) {
+        this.properties = properties;
+        this.availability = availability;
+        EndpointClass fallback = null;
+        for (Map.Entry<String, AdmissionControlProperties.EndpointClass> entry : properties.getClasses().entrySet()) {
+            EndpointClass endpointClass = new EndpointClass(entry.getKey(), entry.getValue(), meterRegistry);
+            classes.add(endpointClass);
+            if (entry.getKey().equals(properties.getDefaultClass())) {
+                fallback = endpointClass;
+            }
+        }
+        this.defaultClass = fallback;
+
+        AdmissionControlProperties.RateLimit rateLimit = properties.getRateLimit();
+        this.rateLimiter = rateLimit.isEnabled()
+                ? new ClientRateLimiter(rateLimit.getTokensPerSecond(), rateLimit.getBurst(), rateLimit.getMaxClients())
+                : null;
+        this.rateLimited = Counter.builder("admission.rate-limited")
+                .description("클라이언트 요청률 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        if (rateLimiter != null) {
+            Gauge.builder("admission.rate-limit.clients", rateLimiter, ClientRateLimiter::clients)
+                    .description("요청률을 추적 중인 클라이언트 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return properties.getExcludePaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(urlPathHelper.getPathWithinApplication(request));
+
+        if (rateLimiter != null && availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            long waitNanos = rateLimiter.tryAcquire(clientId(request), endpointClass != null ? endpointClass.tokens : 1);
+            if (waitNanos > 0) {
+                rateLimited.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS.value(), Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1))));
+                return;
+            }
+        }
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int inFlightAtStart;
+        try {
+            inFlightAtStart = endpointClass.limit.acquire(endpointClass.queueTimeoutNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlightAtStart = -1;
+        }
+        if (inFlightAtStart < 0) {
+            endpointClass.rejected.increment();
+            log.debug("{} 등급 한도 초과로 거절: {} (한도 {}, 대기 {})", endpointClass.name,
+                    request.getRequestURI(), endpointClass.limit.limit(), endpointClass.limit.waiting());
+            reject(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, endpointClass.retryAfterSeconds);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                // 비동기 처리(스트리밍, 처리 시한 엔드포인트)는 응답이 끝날 때까지 자리를 유지
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(endpointClass, startTime, inFlightAtStart));
+            }
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (!async) {
+                endpointClass.limit.release(System.nanoTime() - startTime, inFlightAtStart, failed);
+            }
+        }
+    }
+
+    private EndpointClass classify(String path) {
+        for (EndpointClass endpointClass : classes) {
+            if (endpointClass.paths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+                return endpointClass;
+            }
+        }
+        return defaultClass;
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = properties.getRateLimit().getClientHeader();
+        String client = header != null && !header.isBlank() ? request.getHeader(header) : null;
+        return client != null && !client.isBlank() ? client : request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, int status, long retryAfterSeconds) {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+    /**
+     * 비동기 요청이 끝나면(완료, 시간 초과, 오류 중 처음 한 번) 실행 자리 반납
+     */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final EndpointClass endpointClass;
+        private final long startTime;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(EndpointClass endpointClass, long startTime, int inFlightAtStart) {
+            this.endpointClass = endpointClass;
+            this.startTime = startTime;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            ServletResponse response = event.getSuppliedResponse();
+            release(response instanceof HttpServletResponse http
+                    && http.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // 대부분 클라이언트 연결 종료이므로 서버 오류로 보지 않음
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                endpointClass.limit.release(System.nanoTime() - startTime, inFlightAtStart, failed);
+            }
+        }
+    }
+
+    /**
+     * 등급별 한도와 지표
+     */
+    private static final class EndpointClass {
+
+        private final String name;
+        private final List<String> paths;
+        private final AdaptiveConcurrencyLimit limit;
+        private final long queueTimeoutNanos;
+        private final long retryAfterSeconds;
+        private final int tokens;
+        private final Counter rejected;
+
+        private EndpointClass(String name, AdmissionControlProperties.EndpointClass settings, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.paths = List.copyOf(settings.getPaths());
+            this.limit = new AdaptiveConcurrencyLimit(settings.getInitialLimit(), settings.getMinLimit(),
+                    settings.getMaxLimit(), settings.getQueueSize());
+            this.queueTimeoutNanos = settings.getQueueTimeout().toNanos();
+            this.retryAfterSeconds = Math.max(1, settings.getRetryAfter().toSeconds());
+            this.tokens = Math.max(1, settings.getTokens());
+
+            Gauge.builder("admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .tag("class", name).description("현재 동시 실행 한도").register(meterRegistry);
+            Gauge.builder("admission.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .tag("class", name).description("실행 중인 요청 수").register(meterRegistry);
+            Gauge.builder("admission.waiting", limit, AdaptiveConcurrencyLimit::waiting)
+                    .tag("class", name).description("대기 중인 요청 수").register(meterRegistry);
+            Gauge.builder("admission.latency", limit, AdaptiveConcurrencyLimit::shortRttMillis)
+                    .tag("class", name).baseUnit("milliseconds").description("최근 평균 실행 시간").register(meterRegistry);
+            this.rejected = Counter.builder("admission.rejected")
+                    .tag("class", name).description("한도 초과로 거절된 요청 수").register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 수용 제어 설정 (엔드포인트 등급별 동시 실행 한도와 클라이언트별 요청률)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 제어하지 않는 경로 (context-path 제외, Ant 스타일 / 헬스 프로브 등)
+     */
+    private List<String> excludePaths = new ArrayList<>(List.of("/actuator/**"));
+
+    /**
+     * 어느 등급의 paths 에도 맞지 않는 요청의 등급 (classes 에 없으면 동시 실행 한도 없음)
+     */
+    private String defaultClass = "standard";
+
+    /**
+     * 엔드포인트 등급 (선언 순서대로 경로를 비교하여 처음 맞는 등급 적용)
+     */
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 엔드포인트 등급별 동시 실행 한도 (한도는 지연 시간에 따라 min-limit ~ max-limit 에서 조정)
+     */
+    @Data
+    public static class EndpointClass {
+
+        /**
+         * 등급에 속하는 경로 패턴 (context-path 제외, Ant 스타일)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 50;
+
+        /**
+         * 한도를 넘은 요청이 기다릴 수 있는 자리 수 (가득 차면 바로 503)
+         */
+        private int queueSize = 20;
+
+        /**
+         * 대기 최대 시간 (지나면 503)
+         */
+        private Duration queueTimeout = Duration.ofMillis(500);
+
+        /**
+         * 503 응답의 Retry-After
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /**
+         * 요청 하나가 소비하는 요청률 토큰 수 (무거운 등급일수록 크게)
+         */
+        private int tokens = 1;
+    }
+
+    /**
+     * 클라이언트별 토큰 버킷 요청률 제한
+     */
+    @Data
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        /**
+         * 초당 충전 토큰 수
+         */
+        private double tokensPerSecond = 20;
+
+        /**
+         * 버킷 크기 (순간 최대 허용량)
+         */
+        private int burst = 40;
+
+        /**
+         * 클라이언트 식별 헤더 (없으면 원격 주소)
+         */
+        private String clientHeader = "X-Client-Id";
+
+        /**
+         * 추적하는 최대 클라이언트 수 (넘으면 가득 찬 버킷부터 정리)
+         */
+        private int maxClients = 10000;
+    }
+}
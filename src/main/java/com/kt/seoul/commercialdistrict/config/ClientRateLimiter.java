@@ -0,0 +1,88 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 토큰 버킷 요청률 제한
+ *
+ * 버킷은 burst 개 토큰으로 시작하여 초당 tokensPerSecond 개씩 다시 찹니다.
+ * 추적하는 클라이언트가 maxClients 를 넘으면 가득 찬(오래 요청이 없던) 버킷부터 지웁니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class ClientRateLimiter {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final int maxClients;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    ClientRateLimiter(double tokensPerSecond, int burst, int maxClients) {
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.maxClients = maxClients;
+    }
+
+    /**
+     * 토큰 소비
+     *
+     * @param client 클라이언트 식별자
+     * @param tokens 소비할 토큰 수
+     * @return 0 이면 허용, 양수이면 토큰이 다시 찰 때까지 기다려야 하는 나노초
+     */
+    long tryAcquire(String client, int tokens) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evictIdle(now);
+            }
+            bucket = buckets.computeIfAbsent(client, k -> new Bucket(burst, now));
+        }
+        return bucket.tryAcquire(Math.min(tokens, burst), now);
+    }
+
+    int clients() {
+        return buckets.size();
+    }
+
+    private void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (buckets.size() >= maxClients) {
+            buckets.clear();
+        }
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        private synchronized long tryAcquire(double requested, long now) {
+            refill(now);
+            if (tokens >= requested) {
+                tokens -= requested;
+                return 0;
+            }
+            return (long) Math.ceil((requested - tokens) / tokensPerNano);
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
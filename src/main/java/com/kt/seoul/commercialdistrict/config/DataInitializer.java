@@ -1,51 +1,98 @@
 package com.kt.seoul.commercialdistrict.config;
 
+import com.kt.seoul.commercialdistrict.dto.SeoulDistrict;
 import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
 import com.kt.seoul.commercialdistrict.entity.DistrictCode;
 import com.kt.seoul.commercialdistrict.entity.SalesData;
 import com.kt.seoul.commercialdistrict.repository.DistrictPopulationStatisticsRepository;
 import com.kt.seoul.commercialdistrict.repository.DistrictCodeRepository;
 import com.kt.seoul.commercialdistrict.repository.SalesDataRepository;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.service.DatasetVersionService;
+import com.kt.seoul.commercialdistrict.service.SalesAggregateService;
+import com.kt.seoul.commercialdistrict.service.SalesPartitionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 /**
  * 서울시 25개 자치구 더미 데이터 초기화 컴포넌트
  * 
+ * app.startup.seed-once-per-version=true 이면 dataset_version 에 버전이 기록된 뒤로는
+ * 테이블을 조회하지 않고 바로 건너뜁니다 (기동 시 쿼리 1회).
+ * 
  * @author KT 개발팀
  * @version 1.0.0
  */
 @Slf4j
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
     
     private final DistrictPopulationStatisticsRepository repository;
     private final DistrictCodeRepository districtCodeRepository;
     private final SalesDataRepository salesDataRepository;
+    private final SalesPartitionService salesPartitionService;
+    private final SalesAggregateService salesAggregateService;
+    private final ReadYourWritesPinning readYourWritesPinning;
+    private final DatasetVersionService datasetVersionService;
+    private final ApplicationStartup applicationStartup;
+    
+    @Value("${app.startup.seed-enabled:true}")
+    private boolean seedEnabled;
+    
+    @Value("${app.startup.seed-once-per-version:false}")
+    private boolean seedOncePerVersion;
     
     @Override
     @Transactional
+    @Workload(Workload.Kind.BATCH)
     public void run(String... args) throws Exception {
-        log.info("서울시 25개 자치구 데이터 초기화 시작");
-        
-        // 자치구 코드 데이터 초기화
-        initializeDistrictCodes();
-        
-        // 인구 통계 데이터 초기화
-        initializePopulationStatistics();
-        
-        // 매출 데이터 초기화
-        initializeSalesData();
+        if (!seedEnabled) {
+            log.info("데이터 초기화 비활성 (app.startup.seed-enabled=false)");
+            return;
+        }
         
-        log.info("서울시 25개 자치구 데이터 초기화 완료");
+        StartupStep step = applicationStartup.start("app.data-initializer.run");
+        try {
+            // 한 번 적재되어 버전이 기록된 데이터셋은 다시 확인하지 않음
+            if (seedOncePerVersion) {
+                long version = datasetVersionService.currentVersion();
+                step.tag("datasetVersion", String.valueOf(version));
+                if (version > 0) {
+                    log.info("데이터셋 v{} 이 이미 적재되어 데이터 초기화를 건너뜁니다.", version);
+                    return;
+                }
+            }
+            
+            log.info("서울시 25개 자치구 데이터 초기화 시작");
+            
+            // 자치구 코드 데이터 초기화
+            initializeDistrictCodes();
+            
+            // 인구 통계 데이터 초기화
+            initializePopulationStatistics();
+            
+            // 매출 데이터 초기화
+            initializeSalesData();
+            
+            log.info("서울시 25개 자치구 데이터 초기화 완료");
+        } finally {
+            step.end();
+        }
     }
     
     /**
@@ -55,8 +102,9 @@ public class DataInitializer implements CommandLineRunner {
         log.info("자치구 코드 데이터 초기화 시작");
         
         // 기존 데이터가 있으면 초기화하지 않음
-        if (districtCodeRepository.count() > 0) {
-            log.info("기존 자치구 코드 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", districtCodeRepository.count());
+        long existing = districtCodeRepository.count();
+        if (existing > 0) {
+            log.info("기존 자치구 코드 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", existing);
             return;
         }
         
@@ -73,8 +121,9 @@ public class DataInitializer implements CommandLineRunner {
         log.info("인구 통계 데이터 초기화 시작");
         
         // 기존 데이터가 있으면 초기화하지 않음
-        if (repository.count() > 0) {
-            log.info("기존 인구 통계 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", repository.count());
+        long existing = repository.count();
+        if (existing > 0) {
+            log.info("기존 인구 통계 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", existing);
             return;
         }
         
@@ -91,14 +140,25 @@ public class DataInitializer implements CommandLineRunner {
         log.info("매출 데이터 초기화 시작");
         
         // 기존 데이터가 있으면 초기화하지 않음
-        if (salesDataRepository.count() > 0) {
-            log.info("기존 매출 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", salesDataRepository.count());
+        long existing = salesDataRepository.count();
+        if (existing > 0) {
+            log.info("기존 매출 데이터가 존재하여 초기화를 건너뜁니다. (총 {}개 레코드)", existing);
+            salesAggregateService.rebuildIfEmpty();
             return;
         }
         
         List<SalesData> salesDataList = createSalesData();
+        
+        // 파티션 테이블인 경우 적재할 기준 년월 파티션을 먼저 준비
+        salesPartitionService.ensurePartitions(salesDataList.stream()
+                .map(SalesData::getBaseYearMonth)
+                .collect(Collectors.toCollection(TreeSet::new)));
+        // 자치구/업종/월별 집계는 SalesDataAggregateListener 가 같은 트랜잭션에서 반영
         salesDataRepository.saveAll(salesDataList);
         
+        // 복제본에 반영되기 전까지 읽기 요청은 주 데이터베이스에서 처리
+        readYourWritesPinning.pinAfterCommit();
+        
         log.info("매출 데이터 초기화 완료 (총 {}개 레코드)", salesDataList.size());
     }
     
@@ -108,43 +168,12 @@ public class DataInitializer implements CommandLineRunner {
      * @return 자치구 코드 데이터 목록
      */
     private List<DistrictCode> createDistrictCodeData() {
-        return Arrays.asList(
-            createDistrictCode("11110", "종로구"),
-            createDistrictCode("11140", "중구"),
-            createDistrictCode("11170", "용산구"),
-            createDistrictCode("11200", "성동구"),
-            createDistrictCode("11215", "광진구"),
-            createDistrictCode("11230", "동대문구"),
-            createDistrictCode("11260", "중랑구"),
-            createDistrictCode("11290", "성북구"),
-            createDistrictCode("11305", "강북구"),
-            createDistrictCode("11320", "도봉구"),
-            createDistrictCode("11350", "노원구"),
-            createDistrictCode("11410", "은평구"),
-            createDistrictCode("11440", "서대문구"),
-            createDistrictCode("11470", "마포구"),
-            createDistrictCode("11500", "양천구"),
-            createDistrictCode("11530", "강서구"),
-            createDistrictCode("11545", "구로구"),
-            createDistrictCode("11560", "금천구"),
-            createDistrictCode("11590", "영등포구"),
-            createDistrictCode("11620", "동작구"),
-            createDistrictCode("11650", "관악구"),
-            createDistrictCode("11680", "서초구"),
-            createDistrictCode("11710", "강남구"),
-            createDistrictCode("11740", "송파구"),
-            createDistrictCode("11770", "강동구")
-        );
-    }
-    
-    /**
-     * 자치구 코드 데이터 생성 헬퍼 메서드
-     */
-    private DistrictCode createDistrictCode(String districtCode, String districtName) {
-        return DistrictCode.builder()
-                .districtCode(districtCode)
-                .districtName(districtName)
-                .build();
+        return Arrays.stream(SeoulDistrict.values())
+                .map(district -> DistrictCode.builder()
+                        .districtCode(district.code())
+                        .districtName(district.districtName())
+                        .build())
+                .toList();
     }
     
     /**
@@ -327,88 +356,88 @@ public class DataInitializer implements CommandLineRunner {
         return Arrays.asList(
             // 강남구 매출 데이터
             createSalesData("202501", 11680, "강남구", "CS100001", "한식전문점", 
-                BigInteger.valueOf(1500000000), 1200, BigInteger.valueOf(900000000), BigInteger.valueOf(600000000),
-                BigInteger.valueOf(750000000), BigInteger.valueOf(750000000), 600, 600, 375, 375),
+                1500000000L, 1200, 900000000L, 600000000L,
+                750000000L, 750000000L, 600, 600, 375, 375),
             createSalesData("202501", 11680, "강남구", "CS100002", "중식전문점", 
-                BigInteger.valueOf(1200000000), 800, BigInteger.valueOf(720000000), BigInteger.valueOf(480000000),
-                BigInteger.valueOf(600000000), BigInteger.valueOf(600000000), 400, 400, 300, 300),
+                1200000000L, 800, 720000000L, 480000000L,
+                600000000L, 600000000L, 400, 400, 300, 300),
             createSalesData("202501", 11680, "강남구", "CS100003", "카페", 
-                BigInteger.valueOf(800000000), 1500, BigInteger.valueOf(480000000), BigInteger.valueOf(320000000),
-                BigInteger.valueOf(400000000), BigInteger.valueOf(400000000), 750, 750, 200, 200),
+                800000000L, 1500, 480000000L, 320000000L,
+                400000000L, 400000000L, 750, 750, 200, 200),
             createSalesData("202501", 11680, "강남구", "CS100004", "편의점", 
-                BigInteger.valueOf(600000000), 2000, BigInteger.valueOf(360000000), BigInteger.valueOf(240000000),
-                BigInteger.valueOf(300000000), BigInteger.valueOf(300000000), 1000, 1000, 150, 150),
+                600000000L, 2000, 360000000L, 240000000L,
+                300000000L, 300000000L, 1000, 1000, 150, 150),
             createSalesData("202501", 11680, "강남구", "CS100005", "미용실", 
-                BigInteger.valueOf(400000000), 600, BigInteger.valueOf(240000000), BigInteger.valueOf(160000000),
-                BigInteger.valueOf(200000000), BigInteger.valueOf(200000000), 300, 300, 100, 100),
+                400000000L, 600, 240000000L, 160000000L,
+                200000000L, 200000000L, 300, 300, 100, 100),
             
             // 강서구 매출 데이터
             createSalesData("202501", 11500, "강서구", "CS100001", "한식전문점", 
-                BigInteger.valueOf(1200000000), 1000, BigInteger.valueOf(720000000), BigInteger.valueOf(480000000),
-                BigInteger.valueOf(600000000), BigInteger.valueOf(600000000), 500, 500, 300, 300),
+                1200000000L, 1000, 720000000L, 480000000L,
+                600000000L, 600000000L, 500, 500, 300, 300),
             createSalesData("202501", 11500, "강서구", "CS100002", "중식전문점", 
-                BigInteger.valueOf(900000000), 600, BigInteger.valueOf(540000000), BigInteger.valueOf(360000000),
-                BigInteger.valueOf(450000000), BigInteger.valueOf(450000000), 300, 300, 225, 225),
+                900000000L, 600, 540000000L, 360000000L,
+                450000000L, 450000000L, 300, 300, 225, 225),
             createSalesData("202501", 11500, "강서구", "CS100003", "카페", 
-                BigInteger.valueOf(600000000), 1200, BigInteger.valueOf(360000000), BigInteger.valueOf(240000000),
-                BigInteger.valueOf(300000000), BigInteger.valueOf(300000000), 600, 600, 150, 150),
+                600000000L, 1200, 360000000L, 240000000L,
+                300000000L, 300000000L, 600, 600, 150, 150),
             createSalesData("202501", 11500, "강서구", "CS100004", "편의점", 
-                BigInteger.valueOf(500000000), 1800, BigInteger.valueOf(300000000), BigInteger.valueOf(200000000),
-                BigInteger.valueOf(250000000), BigInteger.valueOf(250000000), 900, 900, 125, 125),
+                500000000L, 1800, 300000000L, 200000000L,
+                250000000L, 250000000L, 900, 900, 125, 125),
             createSalesData("202501", 11500, "강서구", "CS100005", "미용실", 
-                BigInteger.valueOf(300000000), 500, BigInteger.valueOf(180000000), BigInteger.valueOf(120000000),
-                BigInteger.valueOf(150000000), BigInteger.valueOf(150000000), 250, 250, 75, 75),
+                300000000L, 500, 180000000L, 120000000L,
+                150000000L, 150000000L, 250, 250, 75, 75),
             
             // 마포구 매출 데이터
             createSalesData("202501", 11440, "마포구", "CS100001", "한식전문점", 
-                BigInteger.valueOf(1000000000), 800, BigInteger.valueOf(600000000), BigInteger.valueOf(400000000),
-                BigInteger.valueOf(500000000), BigInteger.valueOf(500000000), 400, 400, 250, 250),
+                1000000000L, 800, 600000000L, 400000000L,
+                500000000L, 500000000L, 400, 400, 250, 250),
             createSalesData("202501", 11440, "마포구", "CS100002", "중식전문점", 
-                BigInteger.valueOf(800000000), 500, BigInteger.valueOf(480000000), BigInteger.valueOf(320000000),
-                BigInteger.valueOf(400000000), BigInteger.valueOf(400000000), 250, 250, 200, 200),
+                800000000L, 500, 480000000L, 320000000L,
+                400000000L, 400000000L, 250, 250, 200, 200),
             createSalesData("202501", 11440, "마포구", "CS100003", "카페", 
-                BigInteger.valueOf(700000000), 1000, BigInteger.valueOf(420000000), BigInteger.valueOf(280000000),
-                BigInteger.valueOf(350000000), BigInteger.valueOf(350000000), 500, 500, 175, 175),
+                700000000L, 1000, 420000000L, 280000000L,
+                350000000L, 350000000L, 500, 500, 175, 175),
             createSalesData("202501", 11440, "마포구", "CS100004", "편의점", 
-                BigInteger.valueOf(400000000), 1200, BigInteger.valueOf(240000000), BigInteger.valueOf(160000000),
-                BigInteger.valueOf(200000000), BigInteger.valueOf(200000000), 600, 600, 100, 100),
+                400000000L, 1200, 240000000L, 160000000L,
+                200000000L, 200000000L, 600, 600, 100, 100),
             createSalesData("202501", 11440, "마포구", "CS100005", "미용실", 
-                BigInteger.valueOf(250000000), 400, BigInteger.valueOf(150000000), BigInteger.valueOf(100000000),
-                BigInteger.valueOf(125000000), BigInteger.valueOf(125000000), 200, 200, 62, 62),
+                250000000L, 400, 150000000L, 100000000L,
+                125000000L, 125000000L, 200, 200, 62, 62),
             
             // 서초구 매출 데이터
             createSalesData("202501", 11650, "서초구", "CS100001", "한식전문점", 
-                BigInteger.valueOf(1300000000), 1100, BigInteger.valueOf(780000000), BigInteger.valueOf(520000000),
-                BigInteger.valueOf(650000000), BigInteger.valueOf(650000000), 550, 550, 325, 325),
+                1300000000L, 1100, 780000000L, 520000000L,
+                650000000L, 650000000L, 550, 550, 325, 325),
             createSalesData("202501", 11650, "서초구", "CS100002", "중식전문점", 
-                BigInteger.valueOf(1100000000), 700, BigInteger.valueOf(660000000), BigInteger.valueOf(440000000),
-                BigInteger.valueOf(550000000), BigInteger.valueOf(550000000), 350, 350, 275, 275),
+                1100000000L, 700, 660000000L, 440000000L,
+                550000000L, 550000000L, 350, 350, 275, 275),
             createSalesData("202501", 11650, "서초구", "CS100003", "카페", 
-                BigInteger.valueOf(900000000), 1300, BigInteger.valueOf(540000000), BigInteger.valueOf(360000000),
-                BigInteger.valueOf(450000000), BigInteger.valueOf(450000000), 650, 650, 225, 225),
+                900000000L, 1300, 540000000L, 360000000L,
+                450000000L, 450000000L, 650, 650, 225, 225),
             createSalesData("202501", 11650, "서초구", "CS100004", "편의점", 
-                BigInteger.valueOf(700000000), 1600, BigInteger.valueOf(420000000), BigInteger.valueOf(280000000),
-                BigInteger.valueOf(350000000), BigInteger.valueOf(350000000), 800, 800, 175, 175),
+                700000000L, 1600, 420000000L, 280000000L,
+                350000000L, 350000000L, 800, 800, 175, 175),
             createSalesData("202501", 11650, "서초구", "CS100005", "미용실", 
-                BigInteger.valueOf(500000000), 700, BigInteger.valueOf(300000000), BigInteger.valueOf(200000000),
-                BigInteger.valueOf(250000000), BigInteger.valueOf(250000000), 350, 350, 125, 125),
+                500000000L, 700, 300000000L, 200000000L,
+                250000000L, 250000000L, 350, 350, 125, 125),
             
             // 영등포구 매출 데이터
             createSalesData("202501", 11560, "영등포구", "CS100001", "한식전문점", 
-                BigInteger.valueOf(1100000000), 900, BigInteger.valueOf(660000000), BigInteger.valueOf(440000000),
-                BigInteger.valueOf(550000000), BigInteger.valueOf(550000000), 450, 450, 275, 275),
+                1100000000L, 900, 660000000L, 440000000L,
+                550000000L, 550000000L, 450, 450, 275, 275),
             createSalesData("202501", 11560, "영등포구", "CS100002", "중식전문점", 
-                BigInteger.valueOf(900000000), 600, BigInteger.valueOf(540000000), BigInteger.valueOf(360000000),
-                BigInteger.valueOf(450000000), BigInteger.valueOf(450000000), 300, 300, 225, 225),
+                900000000L, 600, 540000000L, 360000000L,
+                450000000L, 450000000L, 300, 300, 225, 225),
             createSalesData("202501", 11560, "영등포구", "CS100003", "카페", 
-                BigInteger.valueOf(600000000), 1000, BigInteger.valueOf(360000000), BigInteger.valueOf(240000000),
-                BigInteger.valueOf(300000000), BigInteger.valueOf(300000000), 500, 500, 150, 150),
+                600000000L, 1000, 360000000L, 240000000L,
+                300000000L, 300000000L, 500, 500, 150, 150),
             createSalesData("202501", 11560, "영등포구", "CS100004", "편의점", 
-                BigInteger.valueOf(500000000), 1400, BigInteger.valueOf(300000000), BigInteger.valueOf(200000000),
-                BigInteger.valueOf(250000000), BigInteger.valueOf(250000000), 700, 700, 125, 125),
+                500000000L, 1400, 300000000L, 200000000L,
+                250000000L, 250000000L, 700, 700, 125, 125),
             createSalesData("202501", 11560, "영등포구", "CS100005", "미용실", 
-                BigInteger.valueOf(300000000), 500, BigInteger.valueOf(180000000), BigInteger.valueOf(120000000),
-                BigInteger.valueOf(150000000), BigInteger.valueOf(150000000), 250, 250, 75, 75)
+                300000000L, 500, 180000000L, 120000000L,
+                150000000L, 150000000L, 250, 250, 75, 75)
         );
     }
     
@@ -421,16 +450,16 @@ public class DataInitializer implements CommandLineRunner {
             String districtName,
             String serviceCategoryCode,
             String serviceCategoryName,
-            BigInteger monthlySalesAmount,
-            Integer monthlySalesCount,
-            BigInteger weekdaySalesAmount,
-            BigInteger weekendSalesAmount,
-            BigInteger maleSalesAmount,
-            BigInteger femaleSalesAmount,
-            Integer weekdaySalesCount,
-            Integer weekendSalesCount,
-            Integer maleSalesCount,
-            Integer femaleSalesCount) {
+            long monthlySalesAmount,
+            int monthlySalesCount,
+            long weekdaySalesAmount,
+            long weekendSalesAmount,
+            long maleSalesAmount,
+            long femaleSalesAmount,
+            int weekdaySalesCount,
+            int weekendSalesCount,
+            int maleSalesCount,
+            int femaleSalesCount) {
         
         return SalesData.builder()
                 .baseYearMonth(baseYearMonth)
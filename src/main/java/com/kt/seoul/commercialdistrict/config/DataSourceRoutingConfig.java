@@ -0,0 +1,88 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주 데이터베이스/읽기 복제본 라우팅 데이터소스 설정
+ *
+ * app.datasource.routing.enabled=true 일 때 Spring Boot 기본 데이터소스 대신 등록됩니다.
+ * 주 데이터베이스와 각 복제본은 별도의 Hikari 커넥션 풀을 가집니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceRoutingProperties properties) {
+        return createPool("primary", properties.getPrimary(), false);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceRoutingProperties properties,
+                                                             ReadYourWritesPinning pinning,
+                                                             TaskScheduler taskScheduler) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(createPool("replica-" + (i + 1), properties.getReplicas().get(i), true));
+        }
+
+        DataSourceRoutingProperties.Routing routing = properties.getRouting();
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, routing.getSelection(), pinning);
+
+        taskScheduler.scheduleWithFixedDelay(
+                () -> routingDataSource.checkReplicaHealth(routing.getMaxReplicationLag()),
+                routing.getHealthCheckInterval());
+
+        log.info("읽기 복제본 라우팅 활성화 - 복제본 {}개, 선택 방식: {}", replicas.size(), routing.getSelection());
+        return routingDataSource;
+    }
+
+    /**
+     * JPA/JDBC 가 사용하는 기본 데이터소스
+     *
+     * 실제 커넥션은 첫 SQL 실행 시점에 얻으므로 그때는 트랜잭션의 읽기 전용 여부가 확정되어 있습니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createPool(String poolName, DataSourceRoutingProperties.Pool pool, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(pool.getUrl());
+        config.setUsername(pool.getUsername());
+        config.setPassword(pool.getPassword());
+        config.setDriverClassName("org.postgresql.Driver");
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        config.setReadOnly(readOnly);
+        if (readOnly) {
+            // 복제본이 내려가 있어도 애플리케이션은 기동되고, 상태 확인으로 복귀를 감지함
+            config.setInitializationFailTimeout(-1);
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,135 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 / 부하 유형별 커넥션 풀 데이터소스 설정
+ *
+ * app.datasource.routing.enabled=true 이면 복제본 라우팅, 아니고 app.datasource.workload.enabled=true 이면
+ * 부하 유형별 풀을 사용하며, 둘 다 비활성화 시에는 spring.datasource 단일 데이터소스를 그대로 사용합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 쓰기(및 대체 읽기)용 주 데이터베이스
+     */
+    private Pool primary = new Pool();
+
+    /**
+     * 읽기 전용 복제본 목록
+     */
+    private List<Pool> replicas = new ArrayList<>();
+
+    private Routing routing = new Routing();
+
+    /**
+     * 부하 유형별 커넥션 풀 (라우팅 비활성화 시에만 사용)
+     */
+    private Workload workload = new Workload();
+
+    /**
+     * 커넥션 풀 설정
+     */
+    @Data
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private Duration connectionTimeout = Duration.ofSeconds(3);
+    }
+
+    /**
+     * 라우팅 정책
+     */
+    @Data
+    public static class Routing {
+
+        private boolean enabled = false;
+
+        /**
+         * 복제본 선택 방식
+         */
+        private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+        /**
+         * 복제본 상태 확인 주기
+         */
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * 허용 복제 지연 (초과 시 해당 복제본 제외, 0 이면 확인하지 않음)
+         */
+        private Duration maxReplicationLag = Duration.ofSeconds(10);
+
+        /**
+         * 적재 직후 읽기를 주 데이터베이스로 고정하는 시간 (read-your-writes, 0 이면 사용 안 함)
+         */
+        private Duration readYourWritesWindow = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 부하 유형별 커넥션 풀 분리
+     *
+     * 접속 정보는 spring.datasource 를 그대로 사용하고, 풀 크기와 대기/실행 시간 한도만 유형별로 둡니다.
+     */
+    @Data
+    public static class Workload {
+
+        private boolean enabled = false;
+
+        /**
+         * 단건/소량 조회용 풀
+         */
+        private WorkloadPool interactive = new WorkloadPool(8, 2, Duration.ofSeconds(1), Duration.ofSeconds(2));
+
+        /**
+         * 전체 테이블 집계, 대량 조회용 풀
+         */
+        private WorkloadPool analytical = new WorkloadPool(6, 1, Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        /**
+         * 적재, 재집계, 파티션 유지보수, 배치 분석용 풀 (합성 데이터 적재 시 병렬도 이상으로 늘어남)
+         */
+        private WorkloadPool batch = new WorkloadPool(4, 0, Duration.ofSeconds(30), Duration.ZERO);
+    }
+
+    /**
+     * 부하 유형별 풀 설정
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkloadPool {
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+
+        /**
+         * 커넥션을 얻기까지 최대 대기 시간
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 세션 statement_timeout (0 이면 제한 없음)
+         */
+        private Duration statementTimeout = Duration.ZERO;
+    }
+
+    public enum ReplicaSelection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+}
@@ -0,0 +1,177 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.service.DatasetVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 데이터셋 변경 알림(LISTEN sales_data_changed) 수신기
+ *
+ * 커넥션 풀과 별개인 전용 커넥션으로 주 데이터베이스에 LISTEN 하고, 알림의 버전을
+ * {@link DatasetVersionService#onVersion} 으로 전달합니다. (NOTIFY 는 복제본으로 전파되지 않음)
+ * 연결이 끊기면 지수 백오프로 재연결하며, 재연결 직후 현재 버전을 조회하여 끊긴 동안 놓친 변경도 반영합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class DatasetChangeListener implements SmartLifecycle {
+
+    private final DatasetVersionService datasetVersionService;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<DataSourceRoutingProperties> routingProperties;
+
+    @Value("${app.dataset-change.listen-enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 알림 대기 시간 (이 주기로 연결 상태도 확인됨)
+     */
+    @Value("${app.dataset-change.poll-timeout:10s}")
+    private Duration pollTimeout;
+
+    @Value("${app.dataset-change.reconnect-initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${app.dataset-change.reconnect-max-backoff:30s}")
+    private Duration maxBackoff;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile Connection connection;
+
+    public DatasetChangeListener(DatasetVersionService datasetVersionService,
+                                 DataSourceProperties dataSourceProperties,
+                                 ObjectProvider<DataSourceRoutingProperties> routingProperties) {
+        this.datasetVersionService = datasetVersionService;
+        this.dataSourceProperties = dataSourceProperties;
+        this.routingProperties = routingProperties;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listenLoop, "dataset-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+        closeConnection();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        long backoffMillis = initialBackoff.toMillis();
+        while (running) {
+            try {
+                connection = openConnection();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + DatasetVersionService.CHANGE_CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("데이터셋 변경 알림 수신 시작: {}", DatasetVersionService.CHANGE_CHANNEL);
+                backoffMillis = initialBackoff.toMillis();
+
+                // LISTEN 이후 조회하므로 그 사이의 변경은 조회 또는 알림 중 하나로 반드시 반영됨
+                datasetVersionService.onVersion(queryCurrentVersion(connection));
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("데이터셋 변경 알림 연결 오류 - {}ms 후 재연결: {}", backoffMillis, e.getMessage());
+                closeConnection();
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoff.toMillis());
+            }
+        }
+        closeConnection();
+        log.info("데이터셋 변경 알림 수신 종료");
+    }
+
+    private void handle(PGNotification notification) {
+        try {
+            datasetVersionService.onVersion(Long.parseLong(notification.getParameter()));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 데이터셋 변경 알림 무시: {}", notification.getParameter());
+        }
+    }
+
+    private long queryCurrentVersion(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COALESCE(MAX(version), 0) FROM dataset_version WHERE dataset = ?")) {
+            statement.setString(1, DatasetVersionService.SALES_DATASET);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0L;
+            }
+        }
+    }
+
+    /**
+     * 주 데이터베이스 전용 커넥션 (라우팅 사용 시 app.datasource.primary, 아니면 spring.datasource)
+     */
+    private Connection openConnection() throws SQLException {
+        DataSourceRoutingProperties routing = routingProperties.getIfAvailable();
+        if (routing != null && routing.getRouting().isEnabled()) {
+            DataSourceRoutingProperties.Pool primary = routing.getPrimary();
+            return DriverManager.getConnection(primary.getUrl(), primary.getUsername(), primary.getPassword());
+        }
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("데이터셋 변경 알림 커넥션 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * fields= 요청 파라미터에 따라 응답 DTO 의 직렬화 필드를 제한하는 advice
+ *
+ * {@code @JsonFilter(FieldSelection.FILTER_ID)} 가 붙은 DTO 에만 적용되며, 필드명 검증은 컨트롤러에서 합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@ControllerAdvice
+public class FieldSelectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(
+                servletRequest.getServletRequest().getParameter(FieldSelection.PARAMETER));
+        if (selection.isAll()) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selection.fields()))
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
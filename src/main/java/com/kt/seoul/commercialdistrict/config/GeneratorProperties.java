@@ -0,0 +1,94 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대용량 합성 데이터 생성 설정
+ *
+ * 행 수 = 자치구 25 × 상권 수(areasPerDistrict) × 업종 수(categories, 출현 확률 적용) × 개월 수(months)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.generator")
+public class GeneratorProperties {
+
+    /**
+     * 기동 시 합성 데이터 생성 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 난수 시드 (같은 시드와 설정이면 항상 같은 데이터)
+     */
+    private long seed = 20250101L;
+
+    /**
+     * 시작 기준 년월 (yyyyMM)
+     */
+    private String fromMonth = "202301";
+
+    private int months = 24;
+
+    /**
+     * 자치구당 상권 수 (같은 자치구/업종/월에 상권별로 한 행)
+     */
+    private int areasPerDistrict = 40;
+
+    /**
+     * 사용할 업종 수 (인기 순위 상위부터, 최대 업종 목록 크기)
+     */
+    private int categories = 40;
+
+    /**
+     * 업종 인기도 Zipf 지수
+     */
+    private double zipfExponent = 1.1;
+
+    /**
+     * 월 단위 병렬 생성 스레드 수 (0 이면 CPU 코어 수)
+     */
+    private int parallelism = 0;
+
+    /**
+     * 실제 병렬 스레드 수 (동시에 COPY 하는 커넥션 수)
+     */
+    public int effectiveParallelism() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(threads, months));
+    }
+
+    private Output output = Output.COPY;
+
+    /**
+     * CSV 출력 디렉터리
+     */
+    private String csvDirectory = "./generated";
+
+    /**
+     * COPY 전에 sales_data 를 비울지 여부
+     */
+    private boolean truncate = false;
+
+    /**
+     * 인구 통계도 생성할지 여부 (COPY 는 테이블이 비어 있을 때만 적재)
+     */
+    private boolean includePopulation = true;
+
+    /**
+     * 출력 방식
+     */
+    public enum Output {
+        /**
+         * PostgreSQL COPY FROM STDIN 으로 직접 적재
+         */
+        COPY,
+
+        /**
+         * 기준 년월별 CSV 파일 기록
+         */
+        CSV
+    }
+}
@@ -0,0 +1,97 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.dto.DistrictCodeResponse;
+import com.kt.seoul.commercialdistrict.dto.DistrictPopulationResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesDataResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesMatrixResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryRequest;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.dto.SnapshotManifest;
+import com.kt.seoul.commercialdistrict.entity.DatasetVersion;
+import com.kt.seoul.commercialdistrict.entity.DistrictCode;
+import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.entity.SalesAnomaly;
+import com.kt.seoul.commercialdistrict.entity.SalesForecast;
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+import com.kt.seoul.commercialdistrict.entity.SalesQuantileSketch;
+import com.kt.seoul.commercialdistrict.proto.CategoryGroupMonthlySales;
+import com.kt.seoul.commercialdistrict.proto.CategoryGroupMonthlySalesList;
+import com.kt.seoul.commercialdistrict.proto.CategorySalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.CategorySalesStatisticsList;
+import com.kt.seoul.commercialdistrict.proto.DistrictSalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.DistrictSalesStatisticsList;
+import com.kt.seoul.commercialdistrict.proto.DistrictTotalSales;
+import com.kt.seoul.commercialdistrict.proto.GenderSalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.MonthlyAverageSales;
+import com.kt.seoul.commercialdistrict.proto.SalesDataList;
+import com.kt.seoul.commercialdistrict.proto.WeekdayWeekendSalesStatistics;
+import com.kt.seoul.commercialdistrict.service.DistrictPopulationService;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.Connection;
+import java.util.stream.Stream;
+
+/**
+ * GraalVM native-image 런타임 힌트
+ *
+ * Spring AOT 가 자동으로 처리하지 못하는 리플렉션 사용처를 등록합니다.
+ * - JPQL 생성자 표현식(new ...SalesStatisticsResponse$...)으로 생성되는 통계 DTO 생성자
+ * - ObjectMapper 로 직접 직렬화하는 DTO (SnapshotManifest, 서비스 내부 요약 DTO)
+ * - @IdClass 복합 키 등 엔티티 전체 멤버 (Hibernate 가 필드/생성자에 리플렉션으로 접근)
+ * - protobuf 메시지 (GeneratedMessageV3 가 접근자 메서드를 리플렉션으로 찾음)
+ * - 처리 시한을 적용하는 JDBC 커넥션 JDK 프록시 ({@link QueryDeadlineDataSource})
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // 엔티티: 필드 직접 접근, 기본 생성자, Lombok 접근자
+        Stream.of(SalesData.class, DistrictPopulationStatistics.class, DistrictCode.class,
+                        SalesMonthlyAggregate.class, SalesMonthlyAggregate.Key.class, SalesQuantileSketch.class, SalesAnomaly.class,
+                        SalesForecast.class, DatasetVersion.class)
+                .forEach(type -> hints.reflection().registerType(type,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // 통계 DTO: JPQL 생성자 표현식은 public 생성자를 리플렉션으로 호출
+        Stream.of(SalesStatisticsResponse.class.getDeclaredClasses())
+                .forEach(type -> hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // Jackson 직렬화 대상 (중첩 클래스와 Lombok 빌더 포함)
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                SalesStatisticsResponse.class, SalesDataResponse.class, SalesMatrixResponse.class, DistrictPopulationResponse.class,
+                DistrictCodeResponse.class, SnapshotManifest.class, SnapshotManifest.MonthFile.class,
+                DistrictPopulationService.SeoulStatisticsSummary.class, SalesQueryResponse.class);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), SalesQueryRequest.class,
+                SalesQueryRequest.Measure.class, SalesQueryRequest.Filters.class, SalesQueryRequest.Order.class);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), SalesStatisticsResponse.class.getDeclaredClasses());
+
+        // protobuf 메시지와 빌더: 필드 접근자 테이블을 메서드 이름으로 구성
+        Stream.of(com.kt.seoul.commercialdistrict.proto.SalesData.class, SalesDataList.class,
+                        CategorySalesStatistics.class, CategorySalesStatisticsList.class,
+                        DistrictSalesStatistics.class, DistrictSalesStatisticsList.class,
+                        GenderSalesStatistics.class, WeekdayWeekendSalesStatistics.class, DistrictTotalSales.class,
+                        MonthlyAverageSales.class, CategoryGroupMonthlySales.class, CategoryGroupMonthlySalesList.class)
+                .flatMap(type -> Stream.concat(Stream.of(type), Stream.of(type.getDeclaredClasses())))
+                .forEach(type -> hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS));
+
+        // 처리 시한 커넥션 프록시
+        hints.proxies().registerJdkProxy(Connection.class);
+    }
+}
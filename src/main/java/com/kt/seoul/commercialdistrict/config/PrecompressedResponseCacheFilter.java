@@ -0,0 +1,210 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.kt.seoul.commercialdistrict.service.DatasetChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 호출되는 GET 응답을 gzip 으로 한 번만 압축해 두고 재사용하는 필터
+ *
+ * 대상 경로(app.response-cache.paths)의 200 응답 중 gzip 을 받는 요청만 캐시합니다.
+ * 응답마다 압축하는 server.compression 과 달리 캐시 적중 시에는 컨트롤러/DB/직렬화/압축을 모두 건너뜁니다.
+ * 이미 Content-Encoding 이 설정된 응답은 서버 압축이 다시 적용되지 않습니다.
+ * 요청 수용 제어 필터보다 먼저 실행되어 캐시 적중 응답은 동시 실행 한도를 쓰지 않습니다.
+ * 비동기로 처리되는 엔드포인트의 응답은 결과를 쓰는 비동기 디스패치가 끝난 뒤 저장합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+public class PrecompressedResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = String.join(", ",
+            HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ORIGIN);
+
+    private final ResponseCacheProperties properties;
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    /**
+     * 캐시 전체 삭제 (데이터 변경 시 호출)
+     */
+    public void evictAll() {
+        cache.clear();
+    }
+
+    /**
+     * 이 노드 또는 다른 노드에서 데이터가 바뀌면 캐시 전체 삭제
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        evictAll();
+        log.debug("데이터셋 변경(v{})으로 압축 응답 캐시 삭제", event.version());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains(GZIP)) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return properties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * 비동기로 처리되는 엔드포인트는 결과를 쓰는 비동기 디스패치에서 응답을 저장
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        // 비동기 디스패치에서는 첫 디스패치에서 만든 래퍼가 응답으로 전달됨
+        ContentCachingResponseWrapper wrapper = isAsyncDispatch(request)
+                ? WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class)
+                : null;
+        if (wrapper == null) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+                if (cached.etag.equals(ifNoneMatch)) {
+                    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    response.setHeader(HttpHeaders.ETAG, cached.etag);
+                    return;
+                }
+                write(response, cached);
+                return;
+            }
+            wrapper = new ContentCachingResponseWrapper(response);
+        }
+        filterChain.doFilter(request, wrapper);
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        response = (HttpServletResponse) wrapper.getResponse();
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || body.length < properties.getMinResponseSize().toBytes()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse entry = new CachedResponse(
+                wrapper.getContentType(),
+                copyHeaders(wrapper),
+                gzip(body),
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                System.currentTimeMillis() + properties.getTtl().toMillis());
+        put(key, entry);
+        log.debug("압축 응답 캐시 저장: {} ({}B -> {}B)", key, body.length, entry.body.length);
+
+        // 버퍼링된 원본 본문은 버리고 압축 본문을 기록
+        write(response, entry);
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return urlPathHelper.getPathWithinApplication(request)
+                + (query != null ? "?" + query : "")
+                + "|" + request.getHeader(HttpHeaders.ACCEPT)
+                + "|" + request.getHeader(HttpHeaders.ORIGIN);
+    }
+
+    private void put(String key, CachedResponse entry) {
+        if (cache.size() >= properties.getMaxEntries()) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(cached -> cached.expiresAt <= now);
+            if (cache.size() >= properties.getMaxEntries()) {
+                cache.clear();
+            }
+        }
+        cache.put(key, entry);
+    }
+
+    private static List<String[]> copyHeaders(HttpServletResponse response) {
+        List<String[]> headers = new ArrayList<>();
+        for (String name : response.getHeaderNames()) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                continue;
+            }
+            Collection<String> values = response.getHeaders(name);
+            headers.add(new String[]{name, String.join(", ", values)});
+        }
+        return headers;
+    }
+
+    private static void write(HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        for (String[] header : cached.headers) {
+            response.setHeader(header[0], header[1]);
+        }
+        if (cached.contentType != null) {
+            response.setContentType(cached.contentType);
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setHeader(HttpHeaders.ETAG, cached.etag);
+        response.setContentLength(cached.body.length);
+        response.getOutputStream().write(cached.body);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        // 한 번 압축해 여러 번 쓰므로 최대 압축률 사용
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축된 응답 본문과 헤더
+     */
+    private record CachedResponse(String contentType, List<String[]> headers, byte[] body, String etag, long expiresAt) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.service.QueryDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 처리 엔드포인트의 처리 시한 전달과 취소
+ *
+ * 요청 스레드에서 정한 처리 시한을 비동기 처리 스레드에 연결하고,
+ * 서블릿 컨테이너가 비동기 처리 시한 초과나 클라이언트 연결 종료(오류)를 알리면 실행 중인 쿼리를 취소합니다.
+ * 처리 시한 초과는 504 로 응답합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+class QueryDeadlineCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        QueryDeadline deadline = deadline(request);
+        if (deadline != null) {
+            QueryDeadline.bind(deadline);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        QueryDeadline.unbind();
+    }
+
+    @Override
+    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+        QueryDeadline deadline = deadline(request);
+        if (deadline == null) {
+            return RESULT_NONE;
+        }
+        deadline.cancel();
+        log.warn("처리 시한({}ms) 초과로 쿼리 취소: {}", deadline.timeout().toMillis(), request.getDescription(false));
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+    }
+
+    @Override
+    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+        QueryDeadline deadline = deadline(request);
+        if (deadline != null) {
+            deadline.cancel();
+            log.info("클라이언트 연결 종료로 쿼리 취소: {} ({})", request.getDescription(false), t.toString());
+        }
+        return RESULT_NONE;
+    }
+
+    private static QueryDeadline deadline(NativeWebRequest request) {
+        return (QueryDeadline) request.getAttribute(QueryDeadline.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,110 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.service.QueryDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 처리 시한을 JDBC 문장에 적용하는 데이터소스
+ *
+ * 현재 스레드에 {@link QueryDeadline} 이 연결되어 있을 때 얻은 커넥션만 감싸며,
+ * 그 커넥션으로 만드는 문장마다 남은 시간을 쿼리 시간 제한으로 설정하고 취소 대상으로 등록합니다.
+ * 시한이 없는 스레드(배치, 백그라운드 갱신)는 원래 커넥션을 그대로 받습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public class QueryDeadlineDataSource extends DelegatingDataSource {
+
+    public QueryDeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection withDeadline(Connection connection) throws SQLException {
+        QueryDeadline deadline = QueryDeadline.current();
+        if (deadline == null) {
+            return connection;
+        }
+        if (deadline.isCancelled() || deadline.isExpired()) {
+            // 커넥션 풀 자리를 바로 돌려줌
+            connection.close();
+            throw new SQLTimeoutException("요청 처리 시한이 지났거나 취소되어 커넥션을 사용하지 않습니다");
+        }
+        return (Connection) Proxy.newProxyInstance(QueryDeadlineDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new DeadlineConnectionHandler(connection, deadline));
+    }
+
+    /**
+     * 문장 생성 시 시한 적용, 커넥션 반환 시 등록 해제
+     */
+    private static final class DeadlineConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final QueryDeadline deadline;
+        private final List<Statement> statements = new ArrayList<>();
+
+        private DeadlineConnectionHandler(Connection target, QueryDeadline deadline) {
+            this.target = target;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    statements.forEach(deadline::unregister);
+                    statements.clear();
+                    break;
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof Statement statement) {
+                deadline.register(statement);
+                statements.add(statement);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * JPA/JDBC 가 사용하는 기본 데이터소스(dataSource 빈)를 {@link QueryDeadlineDataSource} 로 감쌈
+ *
+ * 단일 데이터소스(Spring Boot 기본), 읽기 복제본 라우팅, 부하 유형별 풀 데이터소스 모두에 적용됩니다.
+ * 개별 Hikari 풀 빈은 감싸지 않으므로 풀 워밍업과 지표는 그대로 풀을 직접 사용합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Component
+public class QueryDeadlineDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof QueryDeadlineDataSource)) {
+            return new QueryDeadlineDataSource(dataSource);
+        }
+        return bean;
+    }
+}
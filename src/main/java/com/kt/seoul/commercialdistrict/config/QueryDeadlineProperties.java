@@ -0,0 +1,59 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 처리 시한 설정 (요청 헤더 또는 엔드포인트별 기본값)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.deadline")
+public class QueryDeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트가 처리 시한을 지정하는 헤더 (밀리초 숫자 또는 500ms, 5s 형식)
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * 어느 엔드포인트에도 맞지 않는 요청의 처리 시한
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 헤더로 지정할 수 있는 최대 처리 시한
+     */
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 처리 시한을 두지 않는 경로 (context-path 제외, Ant 스타일 / 스트리밍 내보내기 등)
+     */
+    private List<String> excludePaths = new ArrayList<>(List.of("/actuator/**"));
+
+    /**
+     * 엔드포인트별 기본 처리 시한 (선언 순서대로 경로를 비교하여 처음 맞는 항목 적용)
+     */
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+
+        /**
+         * 경로 패턴 (context-path 제외, Ant 스타일)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,78 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.service.DatasetChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 적재 직후 읽기 요청을 주 데이터베이스로 고정 (read-your-writes)
+ *
+ * 복제본은 비동기 복제로 인해 방금 적재한 데이터를 아직 갖고 있지 않을 수 있으므로,
+ * 적재 트랜잭션이 커밋된 뒤 일정 시간 동안은 읽기 전용 트랜잭션도 주 데이터베이스를 사용합니다.
+ * 라우팅 데이터소스를 사용하지 않을 때는 아무 영향이 없습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class ReadYourWritesPinning {
+
+    private final AtomicLong pinnedUntilNanos = new AtomicLong(System.nanoTime());
+    private final Duration window;
+
+    public ReadYourWritesPinning(DataSourceRoutingProperties properties) {
+        this.window = properties.getRouting().getReadYourWritesWindow();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 고정 시작 (트랜잭션 밖이면 즉시 시작)
+     */
+    public void pinAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pin();
+                }
+            });
+        } else {
+            pin();
+        }
+    }
+
+    /**
+     * 다른 노드의 적재 알림을 받아도 복제본 반영 전까지 읽기를 주 데이터베이스로 고정
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        pin();
+    }
+
+    /**
+     * 지금부터 설정된 시간 동안 읽기를 주 데이터베이스로 고정
+     */
+    public void pin() {
+        if (window.isZero() || window.isNegative()) {
+            return;
+        }
+        long until = System.nanoTime() + window.toNanos();
+        pinnedUntilNanos.accumulateAndGet(until, (prev, next) -> next - prev > 0 ? next : prev);
+        log.info("적재 완료 - {}초 동안 읽기 요청을 주 데이터베이스로 고정합니다.", window.toSeconds());
+    }
+
+    /**
+     * 현재 읽기가 주 데이터베이스로 고정되어 있는지 여부
+     */
+    public boolean isPinned() {
+        return pinnedUntilNanos.get() - System.nanoTime() > 0;
+    }
+}
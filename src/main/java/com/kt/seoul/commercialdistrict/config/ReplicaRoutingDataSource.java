@@ -0,0 +1,163 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 읽기 전용 여부에 따라 주 데이터베이스/복제본으로 커넥션을 분배하는 데이터소스
+ *
+ * - 쓰기 트랜잭션, 트랜잭션 밖 호출, read-your-writes 고정 중에는 주 데이터베이스
+ * - {@code @Transactional(readOnly = true)} 는 정상 상태의 복제본 중 하나 (라운드로빈 또는 활성 커넥션 최소)
+ * - 정상 복제본이 없으면 주 데이터베이스로 대체
+ *
+ * 트랜잭션 시작 시점에는 읽기 전용 플래그가 아직 설정되지 않으므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private final List<Replica> replicas;
+    private final DataSourceRoutingProperties.ReplicaSelection selection;
+    private final ReadYourWritesPinning pinning;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary,
+                                    List<HikariDataSource> replicaDataSources,
+                                    DataSourceRoutingProperties.ReplicaSelection selection,
+                                    ReadYourWritesPinning pinning) {
+        this.replicas = replicaDataSources.stream().map(Replica::new).toList();
+        this.selection = selection;
+        this.pinning = pinning;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.key(), replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || pinning.isPinned()) {
+            return PRIMARY_KEY;
+        }
+        Replica replica = selectReplica();
+        return replica != null ? replica.key() : PRIMARY_KEY;
+    }
+
+    private Replica selectReplica() {
+        List<Replica> healthy = replicas.stream().filter(r -> r.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (selection == DataSourceRoutingProperties.ReplicaSelection.LEAST_LOADED) {
+            Replica best = null;
+            int bestActive = Integer.MAX_VALUE;
+            for (Replica replica : healthy) {
+                int active = replica.activeConnections();
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        return healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * 모든 복제본 상태 확인 (연결 가능 여부 및 복제 지연)
+     *
+     * @param maxReplicationLag 허용 복제 지연 (0 이면 확인하지 않음)
+     */
+    public void checkReplicaHealth(Duration maxReplicationLag) {
+        for (Replica replica : replicas) {
+            boolean healthy = replica.probe(maxReplicationLag);
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("복제본 {} 정상 복귀 - 읽기 분배 대상에 포함합니다.", replica.key());
+                } else {
+                    log.warn("복제본 {} 비정상 - 읽기 분배 대상에서 제외합니다.", replica.key());
+                }
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * 복제본 커넥션 풀 종료 (주 데이터베이스 풀은 별도 Bean 으로 관리됨)
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    /**
+     * 복제본 커넥션 풀과 상태
+     */
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String key() {
+            return dataSource.getPoolName();
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+        }
+
+        private boolean probe(Duration maxReplicationLag) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(2)) {
+                    return false;
+                }
+                if (maxReplicationLag.isZero()) {
+                    return true;
+                }
+                // 수신한 WAL 을 모두 재생했으면 지연 없음, 스탠바이가 아닌 인스턴스는 NULL 이므로 지연 없음으로 간주
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(
+                             "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+                             "ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) END")) {
+                    if (rs.next()) {
+                        double lagSeconds = rs.getDouble(1);
+                        if (!rs.wasNull() && lagSeconds * 1000 > maxReplicationLag.toMillis()) {
+                            log.warn("복제본 {} 복제 지연 {}초", key(), lagSeconds);
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            } catch (Exception e) {
+                log.debug("복제본 {} 상태 확인 실패: {}", key(), e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.service.QueryDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 요청 처리 시한 필터
+ *
+ * 요청 헤더(app.deadline.header)가 있으면 그 값(최대 max-timeout)을, 없으면 경로에 맞는 엔드포인트 기본값을 처리 시한으로 정해
+ * 요청 스레드에 연결합니다. 시한은 {@link QueryDeadlineDataSource} 를 통해 JDBC 쿼리 시간 제한으로 전달되고,
+ * 비동기로 처리되는 엔드포인트는 {@link QueryDeadlineCallableInterceptor} 가 처리 스레드로 넘겨 연결 종료 시 쿼리를 취소합니다.
+ *
+ * 요청 수용 제어 필터보다 먼저 실행되므로 대기열에서 기다린 시간도 처리 시한에 포함됩니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 5)
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final QueryDeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return properties.getExcludePaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryDeadline deadline = QueryDeadline.after(timeout(request));
+        request.setAttribute(QueryDeadline.ATTRIBUTE, deadline);
+        QueryDeadline.bind(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryDeadline.unbind();
+        }
+    }
+
+    private Duration timeout(HttpServletRequest request) {
+        String requested = request.getHeader(properties.getHeader());
+        if (requested != null && !requested.isBlank()) {
+            try {
+                Duration timeout = DurationStyle.detectAndParse(requested.trim(), ChronoUnit.MILLIS);
+                if (timeout.isNegative() || timeout.isZero()) {
+                    throw new IllegalArgumentException("0 이하");
+                }
+                return timeout.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : timeout;
+            } catch (IllegalArgumentException e) {
+                log.debug("잘못된 {} 헤더 무시: {}", properties.getHeader(), requested);
+            }
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (QueryDeadlineProperties.Endpoint endpoint : properties.getEndpoints().values()) {
+            if (endpoint.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+                return endpoint.getTimeout();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
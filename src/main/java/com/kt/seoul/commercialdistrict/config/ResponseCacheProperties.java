@@ -0,0 +1,42 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자주 호출되는 GET 응답의 gzip 압축 본문 캐시 설정
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 캐시 유지 시간
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * 최대 캐시 항목 수 (경로 + 쿼리 + Accept + Origin 별 1개)
+     */
+    private int maxEntries = 500;
+
+    /**
+     * 이보다 작은 응답은 압축/캐시하지 않음
+     */
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+    /**
+     * 캐시 대상 경로 패턴 (context-path 제외, Ant 스타일)
+     */
+    private List<String> paths = new ArrayList<>();
+}
@@ -0,0 +1,93 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.service.SalesAggregateService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 매출 데이터 엔티티 쓰기를 매출 집계에 반영하는 Hibernate 이벤트 리스너
+ *
+ * SalesDataRepository 의 save/delete 등 엔티티를 거치는 모든 쓰기는 SQL 실행 직후 같은 트랜잭션에서
+ * {@link SalesAggregateService#recordInserted} / {@link SalesAggregateService#recordDeleted} 로 집계에 반영됩니다.
+ * 수정은 이전 값 삭제 + 새 값 저장으로 반영합니다.
+ * COPY 적재와 파티션 분리/복원처럼 엔티티를 거치지 않는 쓰기는 각 경로에서 재집계합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesDataAggregateListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SalesAggregateService salesAggregateService;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof SalesData row) {
+            salesAggregateService.recordInserted(List.of(row));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof SalesData)) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            // 분리된 엔티티를 조회 없이 갱신한 경우 이전 값을 알 수 없으므로 검증 작업의 재집계에 맡김
+            log.warn("이전 값을 알 수 없는 매출 데이터 수정은 집계 검증 시 반영됩니다: id={}", event.getId());
+            return;
+        }
+        salesAggregateService.recordDeleted(List.of(copyOf(event.getPersister(), event.getOldState())));
+        salesAggregateService.recordInserted(List.of(copyOf(event.getPersister(), event.getState())));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof SalesData) {
+            salesAggregateService.recordDeleted(List.of(copyOf(event.getPersister(), event.getDeletedState())));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * 엔티티 상태 배열로 매출 데이터 값 복사본 생성 (영속성 컨텍스트와 무관)
+     */
+    private static SalesData copyOf(EntityPersister persister, Object[] state) {
+        SalesData row = new SalesData();
+        persister.setValues(row, state);
+        return row;
+    }
+}
@@ -0,0 +1,84 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.service.SalesPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 매출 데이터 파티션 관리 엔드포인트 (운영자용 actuator)
+ *
+ * GET  /actuator/salespartitions              연결된/아카이브된 월 파티션 목록
+ * POST /actuator/salespartitions/{yyyyMM}     {"action": "ensure" | "detach" | "archive" | "restore"}
+ *
+ * 기본 노출 대상(health)에 포함되지 않으므로 management.endpoints.web.exposure.include 에
+ * salespartitions 를 추가해야 열리며, 외부에서 접근할 수 없는 management.server.port 와 함께 사용합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "salespartitions")
+@RequiredArgsConstructor
+public class SalesPartitionEndpoint {
+
+    private final SalesPartitionService salesPartitionService;
+
+    /**
+     * 파티션 현황 조회
+     *
+     * @return 파티션 테이블 여부, 연결된/아카이브된 기준 년월 목록
+     */
+    @ReadOperation
+    public Map<String, Object> partitions() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        boolean partitioned = salesPartitionService.isPartitioned();
+        result.put("partitioned", partitioned);
+        if (partitioned) {
+            result.put("attached", salesPartitionService.getAttachedPartitionMonths());
+            result.put("archived", salesPartitionService.getArchivedPartitionMonths());
+        }
+        return result;
+    }
+
+    /**
+     * 기준 년월 파티션 생성/분리/아카이브/복원
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     * @param action ensure, detach, archive, restore 중 하나
+     * @return 처리 후 파티션 현황
+     */
+    @WriteOperation
+    public Map<String, Object> apply(@Selector String yearMonth, String action) {
+        try {
+            YearMonth.parse(yearMonth, MonthRange.YEAR_MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("기준 년월은 yyyyMM 형식이어야 합니다: " + yearMonth, "invalid yearMonth");
+        }
+        if (!salesPartitionService.isPartitioned()) {
+            throw new InvalidEndpointRequestException("sales_data 가 파티션 테이블이 아닙니다.", "not partitioned");
+        }
+
+        log.info("파티션 관리 요청: {} {}", action, yearMonth);
+        switch (action) {
+            case "ensure" -> salesPartitionService.ensurePartition(yearMonth);
+            case "detach" -> salesPartitionService.detachPartition(yearMonth);
+            case "archive" -> salesPartitionService.archivePartition(yearMonth);
+            case "restore" -> salesPartitionService.restorePartition(yearMonth);
+            default -> throw new InvalidEndpointRequestException("지원하지 않는 action 입니다: " + action, "invalid action");
+        }
+        return partitions();
+    }
+}
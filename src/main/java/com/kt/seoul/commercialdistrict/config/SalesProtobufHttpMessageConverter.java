@@ -0,0 +1,234 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.google.protobuf.Message;
+import com.kt.seoul.commercialdistrict.dto.SalesDataResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.proto.CategoryGroupMonthlySales;
+import com.kt.seoul.commercialdistrict.proto.CategoryGroupMonthlySalesList;
+import com.kt.seoul.commercialdistrict.proto.CategorySalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.CategorySalesStatisticsList;
+import com.kt.seoul.commercialdistrict.proto.DistrictSalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.DistrictSalesStatisticsList;
+import com.kt.seoul.commercialdistrict.proto.DistrictTotalSales;
+import com.kt.seoul.commercialdistrict.proto.GenderSalesStatistics;
+import com.kt.seoul.commercialdistrict.proto.MonthlyAverageSales;
+import com.kt.seoul.commercialdistrict.proto.SalesData;
+import com.kt.seoul.commercialdistrict.proto.SalesDataList;
+import com.kt.seoul.commercialdistrict.proto.WeekdayWeekendSalesStatistics;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 매출/통계 응답 DTO 를 Protobuf(application/x-protobuf)로 직렬화하는 메시지 컨버터
+ *
+ * 컨트롤러는 기존 DTO 를 그대로 반환하고, 클라이언트가 Protobuf 를 요청한 경우에만
+ * src/main/proto/commercial_district.proto 의 메시지로 변환합니다. 목록은 *List 래퍼로 감쌉니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public class SalesProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final Set<Class<?>> SINGLE_TYPES = Set.of(
+            SalesStatisticsResponse.DistrictTotalSales.class,
+            SalesStatisticsResponse.GenderSalesStatistics.class,
+            SalesStatisticsResponse.WeekdayWeekendSalesStatistics.class);
+
+    private static final Set<Class<?>> LIST_ELEMENT_TYPES = Set.of(
+            SalesDataResponse.class,
+            SalesStatisticsResponse.CategorySalesStatistics.class,
+            SalesStatisticsResponse.DistrictSalesStatistics.class,
+            SalesStatisticsResponse.CategoryGroupMonthlySales.class);
+
+    public SalesProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SINGLE_TYPES.contains(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && (SINGLE_TYPES.contains(clazz) || LIST_ELEMENT_TYPES.contains(listElementType(type)));
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        toMessage(body, type).writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    private Class<?> listElementType(Type type) {
+        ResolvableType resolvable = ResolvableType.forType(type);
+        if (!List.class.isAssignableFrom(resolvable.toClass())) {
+            return null;
+        }
+        return resolvable.getGeneric(0).resolve();
+    }
+
+    private Message toMessage(Object body, Type type) {
+        if (body instanceof SalesStatisticsResponse.DistrictTotalSales totalSales) {
+            return toProto(totalSales);
+        }
+        if (body instanceof SalesStatisticsResponse.GenderSalesStatistics gender) {
+            return toProto(gender);
+        }
+        if (body instanceof SalesStatisticsResponse.WeekdayWeekendSalesStatistics weekdayWeekend) {
+            return toProto(weekdayWeekend);
+        }
+
+        List<?> items = (List<?>) body;
+        Class<?> elementType = listElementType(type);
+        if (elementType == SalesDataResponse.class) {
+            SalesDataList.Builder list = SalesDataList.newBuilder();
+            items.forEach(item -> list.addItems(toProto((SalesDataResponse) item)));
+            return list.build();
+        }
+        if (elementType == SalesStatisticsResponse.CategorySalesStatistics.class) {
+            CategorySalesStatisticsList.Builder list = CategorySalesStatisticsList.newBuilder();
+            items.forEach(item -> list.addItems(toProto((SalesStatisticsResponse.CategorySalesStatistics) item)));
+            return list.build();
+        }
+        if (elementType == SalesStatisticsResponse.DistrictSalesStatistics.class) {
+            DistrictSalesStatisticsList.Builder list = DistrictSalesStatisticsList.newBuilder();
+            items.forEach(item -> list.addItems(toProto((SalesStatisticsResponse.DistrictSalesStatistics) item)));
+            return list.build();
+        }
+        CategoryGroupMonthlySalesList.Builder list = CategoryGroupMonthlySalesList.newBuilder();
+        items.forEach(item -> list.addItems(toProto((SalesStatisticsResponse.CategoryGroupMonthlySales) item)));
+        return list.build();
+    }
+
+    private SalesData toProto(SalesDataResponse response) {
+        return SalesData.newBuilder()
+                .setId(toLong(response.getId()))
+                .setBaseYearMonth(nullToEmpty(response.getBaseYearMonth()))
+                .setDistrictCode(toInt(response.getDistrictCode()))
+                .setDistrictName(nullToEmpty(response.getDistrictName()))
+                .setServiceCategoryCode(nullToEmpty(response.getServiceCategoryCode()))
+                .setServiceCategoryName(nullToEmpty(response.getServiceCategoryName()))
+                .setMonthlySalesAmount(response.getMonthlySalesAmount())
+                .setMonthlySalesCount(response.getMonthlySalesCount())
+                .setWeekdaySalesAmount(response.getWeekdaySalesAmount())
+                .setWeekendSalesAmount(response.getWeekendSalesAmount())
+                .setMaleSalesAmount(response.getMaleSalesAmount())
+                .setFemaleSalesAmount(response.getFemaleSalesAmount())
+                .setWeekdaySalesCount(response.getWeekdaySalesCount())
+                .setWeekendSalesCount(response.getWeekendSalesCount())
+                .setMaleSalesCount(response.getMaleSalesCount())
+                .setFemaleSalesCount(response.getFemaleSalesCount())
+                .build();
+    }
+
+    private CategorySalesStatistics toProto(SalesStatisticsResponse.CategorySalesStatistics statistics) {
+        return CategorySalesStatistics.newBuilder()
+                .setServiceCategoryName(nullToEmpty(statistics.getServiceCategoryName()))
+                .setTotalAmount(statistics.getTotalAmount())
+                .setTotalCount(statistics.getTotalCount())
+                .build();
+    }
+
+    private DistrictSalesStatistics toProto(SalesStatisticsResponse.DistrictSalesStatistics statistics) {
+        return DistrictSalesStatistics.newBuilder()
+                .setDistrictName(nullToEmpty(statistics.getDistrictName()))
+                .setTotalAmount(statistics.getTotalAmount())
+                .setTotalCount(statistics.getTotalCount())
+                .build();
+    }
+
+    private GenderSalesStatistics toProto(SalesStatisticsResponse.GenderSalesStatistics statistics) {
+        return GenderSalesStatistics.newBuilder()
+                .setMaleAmount(statistics.getMaleAmount())
+                .setFemaleAmount(statistics.getFemaleAmount())
+                .setMaleCount(statistics.getMaleCount())
+                .setFemaleCount(statistics.getFemaleCount())
+                .build();
+    }
+
+    private WeekdayWeekendSalesStatistics toProto(SalesStatisticsResponse.WeekdayWeekendSalesStatistics statistics) {
+        return WeekdayWeekendSalesStatistics.newBuilder()
+                .setWeekdayAmount(statistics.getWeekdayAmount())
+                .setWeekendAmount(statistics.getWeekendAmount())
+                .setWeekdayCount(statistics.getWeekdayCount())
+                .setWeekendCount(statistics.getWeekendCount())
+                .build();
+    }
+
+    private DistrictTotalSales toProto(SalesStatisticsResponse.DistrictTotalSales totalSales) {
+        DistrictTotalSales.Builder builder = DistrictTotalSales.newBuilder()
+                .setDistrictName(nullToEmpty(totalSales.getDistrictName()))
+                .setTotalAmount(totalSales.getTotalAmount())
+                .setTotalCount(totalSales.getTotalCount());
+        if (totalSales.getCategoryStatistics() != null) {
+            totalSales.getCategoryStatistics().forEach(statistics -> builder.addCategoryStatistics(toProto(statistics)));
+        }
+        if (totalSales.getGenderStatistics() != null) {
+            builder.setGenderStatistics(toProto(totalSales.getGenderStatistics()));
+        }
+        if (totalSales.getWeekdayWeekendStatistics() != null) {
+            builder.setWeekdayWeekendStatistics(toProto(totalSales.getWeekdayWeekendStatistics()));
+        }
+        return builder.build();
+    }
+
+    private CategoryGroupMonthlySales toProto(SalesStatisticsResponse.CategoryGroupMonthlySales group) {
+        CategoryGroupMonthlySales.Builder builder = CategoryGroupMonthlySales.newBuilder()
+                .setCategoryGroup(nullToEmpty(group.getCategoryGroup()));
+        if (group.getMonthlyData() != null) {
+            for (SalesStatisticsResponse.MonthlyAverageSales monthly : group.getMonthlyData()) {
+                MonthlyAverageSales.Builder monthlyBuilder = MonthlyAverageSales.newBuilder()
+                        .setServiceCategoryName(nullToEmpty(monthly.getServiceCategoryName()))
+                        .setYearMonth(nullToEmpty(monthly.getYearMonth()))
+                        .setAverageAmount(monthly.getAverageAmount() != null ? monthly.getAverageAmount() : 0.0);
+                if (monthly.getAverageCount() != null) {
+                    monthlyBuilder.setAverageCount(monthly.getAverageCount());
+                }
+                builder.addMonthlyData(monthlyBuilder);
+            }
+        }
+        return builder.build();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static long toLong(Number value) {
+        return value != null ? value.longValue() : 0L;
+    }
+
+    private static int toInt(Number value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
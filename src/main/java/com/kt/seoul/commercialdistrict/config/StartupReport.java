@@ -0,0 +1,116 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시간 보고서
+ *
+ * 준비 완료(ApplicationReadyEvent) 시점에 BufferingApplicationStartup 에 기록된 단계를 모아
+ * 단계별 합계 시간과 자체 생성 시간(의존 빈 생성 시간 제외)이 긴 빈 목록을 한 번 로그로 남기고 기록을 비웁니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class StartupReport {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    @Value("${app.startup.report-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.startup.report-top-beans:20}")
+    private int topBeans;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (!enabled || !(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        // 보고 후에는 기록이 필요 없으므로 비워서 메모리 반환
+        List<StartupTimeline.TimelineEvent> events = buffering.drainBufferedTimeline().getEvents();
+        Duration jvmUptime = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+        Duration timeTaken = event.getTimeTaken();
+
+        Map<Long, Duration> childTotals = new HashMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : events) {
+            Long parentId = timelineEvent.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTotals.merge(parentId, timelineEvent.getDuration(), Duration::plus);
+            }
+        }
+
+        // 단계 이름별 합계 (처음 나타난 순서 유지)
+        Map<String, PhaseTotal> phases = new LinkedHashMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : events) {
+            String name = timelineEvent.getStartupStep().getName();
+            if (!BEAN_INSTANTIATE_STEP.equals(name)) {
+                phases.computeIfAbsent(name, key -> new PhaseTotal()).add(timelineEvent.getDuration());
+            }
+        }
+
+        StringBuilder report = new StringBuilder(4096);
+        report.append("기동 시간 보고서\n");
+        report.append(String.format("  JVM 시작 -> 준비 완료: %dms (애플리케이션 기동 %dms, 그 이전 JVM/클래스 로딩 %dms)%n",
+                jvmUptime.toMillis(), timeTaken != null ? timeTaken.toMillis() : -1,
+                timeTaken != null ? jvmUptime.minus(timeTaken).toMillis() : -1));
+        report.append("  [단계별]\n");
+        phases.forEach((name, total) -> report.append(String.format("    %-55s %6dms (%d회)%n",
+                name, total.duration.toMillis(), total.count)));
+
+        report.append(String.format("  [빈 생성 - 자체 시간 상위 %d]%n", topBeans));
+        events.stream()
+                .filter(timelineEvent -> BEAN_INSTANTIATE_STEP.equals(timelineEvent.getStartupStep().getName()))
+                .map(timelineEvent -> new BeanTime(beanName(timelineEvent.getStartupStep()),
+                        timelineEvent.getDuration(),
+                        timelineEvent.getDuration().minus(childTotals.getOrDefault(
+                                timelineEvent.getStartupStep().getId(), Duration.ZERO))))
+                .sorted(Comparator.comparing(BeanTime::self).reversed())
+                .limit(topBeans)
+                .forEach(bean -> report.append(String.format("    %-55s %6dms (의존 포함 %dms)%n",
+                        bean.name(), bean.self().toMillis(), bean.total().toMillis())));
+
+        log.info(report.toString());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "(unknown)";
+    }
+
+    private static final class PhaseTotal {
+        private Duration duration = Duration.ZERO;
+        private int count;
+
+        private void add(Duration value) {
+            duration = duration.plus(value);
+            count++;
+        }
+    }
+
+    private record BeanTime(String name, Duration total, Duration self) {
+    }
+}
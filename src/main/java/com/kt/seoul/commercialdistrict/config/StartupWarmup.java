@@ -0,0 +1,360 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.service.SalesDataService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 워밍업 (준비 완료 전에 실행)
+ *
+ * 애플리케이션 러너는 준비 완료(ReadinessState.ACCEPTING_TRAFFIC) 이전에 실행되므로,
+ * 워밍업이 끝날 때까지 readiness 프로브(/actuator/health/readiness)는 OUT_OF_SERVICE 와 진행 상황을 반환합니다.
+ *
+ * 1. 커넥션 풀: 각 Hikari 풀을 minimumIdle 개까지 미리 연결
+ * 2. 사전 조회: 자치구별 대시보드(총 매출)는 서비스를 직접 호출해 집계 캐시를 채우고 (응답이 작아 압축 응답 캐시 대상이 아님),
+ *    매출 순위, 월별 업종 분류 통계 등 응답 캐시 경로는 gzip 으로 요청하여 압축 응답 캐시 채움
+ * 3. JIT: 대표 요청 묶음을 응답 캐시를 거치지 않고 반복하며, 한 회차의 JIT 컴파일 시간이
+ *    회차 시간의 settle-ratio 이하인 회차가 settle-rounds 번 연속되면 종료
+ *
+ * 전체 작업은 time-budget 안에서만 수행하며, 초과하면 남은 단계를 건너뛰고 준비 완료합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner, HealthIndicator {
+
+    private static final List<String> ACCEPT_TYPES = List.of(
+            "application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf");
+
+    private final SalesDataService salesDataService;
+    private final ObjectProvider<AbstractRoutingDataSource> routingDataSource;
+    private final ObjectProvider<DataSource> dataSource;
+    private final Environment environment;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.time-budget:30s}")
+    private Duration timeBudget;
+
+    @Value("${app.warmup.request-timeout:5s}")
+    private Duration requestTimeout;
+
+    @Value("${app.warmup.min-rounds:5}")
+    private int minRounds;
+
+    @Value("${app.warmup.max-rounds:200}")
+    private int maxRounds;
+
+    @Value("${app.warmup.settle-rounds:3}")
+    private int settleRounds;
+
+    @Value("${app.warmup.settle-ratio:0.05}")
+    private double settleRatio;
+
+    private volatile String phase = "pending";
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile boolean budgetExceeded;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Map<String, AtomicInteger> failuresByStatus = new ConcurrentHashMap<>();
+    private volatile String lastFailure;
+    private volatile int total;
+    private volatile int rounds;
+    private volatile long compilationMillis = -1;
+
+    public StartupWarmup(SalesDataService salesDataService,
+                         ObjectProvider<AbstractRoutingDataSource> routingDataSource,
+                         ObjectProvider<DataSource> dataSource,
+                         Environment environment) {
+        this.salesDataService = salesDataService;
+        this.routingDataSource = routingDataSource;
+        this.dataSource = dataSource;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            phase = "disabled";
+            return;
+        }
+        startedAt = System.currentTimeMillis();
+        long deadline = startedAt + timeBudget.toMillis();
+        log.info("워밍업 시작 (제한 {}ms)", timeBudget.toMillis());
+
+        try {
+            warmPools();
+
+            String baseUrl = "http://localhost:" + environment.getProperty("local.server.port", "8080")
+                    + environment.getProperty("server.servlet.context-path", "");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+            List<String> districts = districtNames();
+
+            if (System.currentTimeMillis() < deadline) {
+                prefetch(client, baseUrl, districts, deadline);
+            }
+            if (System.currentTimeMillis() < deadline) {
+                warmJit(client, baseUrl, districts, deadline);
+            }
+            budgetExceeded = System.currentTimeMillis() >= deadline;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동을 막지 않음
+            log.warn("워밍업 중 오류 - 남은 단계를 건너뜁니다: {}", e.getMessage());
+        } finally {
+            finishedAt = System.currentTimeMillis();
+            phase = "done";
+            log.info("워밍업 완료 - {}ms, 요청 {}건 (실패 {}건), JIT 회차 {}, JIT 컴파일 누적 {}ms{}",
+                    finishedAt - startedAt, completed.get(), failures.get(), rounds, compilationMillis,
+                    budgetExceeded ? " (시간 제한 도달)" : "");
+            if (failures.get() > 0) {
+                log.warn("워밍업 요청 {}건 실패 - 상태별 {}, 마지막 {}", failures.get(), failuresByStatus, lastFailure);
+            }
+        }
+    }
+
+    /**
+     * 각 Hikari 풀에서 minimumIdle 개의 커넥션을 한꺼번에 빌렸다가 반환 (반환된 커넥션은 유휴 상태로 유지)
+     */
+    private void warmPools() {
+        phase = "pool";
+        List<HikariDataSource> pools = new ArrayList<>();
+        // 읽기 복제본 라우팅 또는 부하 유형별 풀 분리 중 하나만 활성화됨
+        AbstractRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing != null) {
+            routing.getResolvedDataSources().values().stream()
+                    .filter(HikariDataSource.class::isInstance)
+                    .map(HikariDataSource.class::cast)
+                    .forEach(pools::add);
+        } else {
+            DataSource primary = dataSource.getIfAvailable();
+            try {
+                if (primary != null && primary.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(primary.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                log.debug("커넥션 풀 확인 실패: {}", e.getMessage());
+            }
+        }
+
+        for (HikariDataSource pool : pools) {
+            int target = Math.max(1, pool.getMinimumIdle());
+            List<Connection> borrowed = new ArrayList<>(target);
+            try {
+                for (int i = 0; i < target; i++) {
+                    borrowed.add(pool.getConnection());
+                }
+            } catch (SQLException e) {
+                log.warn("커넥션 풀 {} 워밍업 실패 ({}/{}개): {}", pool.getPoolName(), borrowed.size(), target, e.getMessage());
+            } finally {
+                for (Connection connection : borrowed) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("워밍업 커넥션 반환 실패: {}", e.getMessage());
+                    }
+                }
+            }
+            log.debug("커넥션 풀 {} 워밍업 - {}개 연결", pool.getPoolName(), borrowed.size());
+        }
+    }
+
+    private List<String> districtNames() {
+        try {
+            return salesDataService.getTopDistrictsBySales(1000, MonthRange.all()).stream()
+                    .map(SalesStatisticsResponse.DistrictSalesStatistics::getDistrictName)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("워밍업 자치구 목록 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 자치구별 대시보드는 집계 캐시에, 순위/월별 통계는 압축 응답 캐시 대상 형식(gzip)으로 채움
+     */
+    private void prefetch(HttpClient client, String baseUrl, List<String> districts, long deadline)
+            throws InterruptedException {
+        phase = "prefetch";
+        List<String> paths = List.of(
+                "/sales/top/districts",
+                "/sales/top/categories",
+                "/sales/monthly/category-groups",
+                "/districts/top",
+                "/districts/statistics/summary");
+
+        total = districts.size() + paths.size();
+        completed.set(0);
+        for (String district : districts) {
+            if (System.currentTimeMillis() >= deadline) {
+                return;
+            }
+            // 요청 파라미터가 없는 대시보드 요청과 같은 캐시 키 (전체 기간)
+            try {
+                salesDataService.getDistrictTotalSales(district, MonthRange.all());
+            } catch (RuntimeException e) {
+                recordFailure("error", "district-total " + district);
+                log.debug("워밍업 자치구 총 매출 조회 실패: {} - {}", district, e.getMessage());
+            }
+            completed.incrementAndGet();
+        }
+        for (String path : paths) {
+            if (System.currentTimeMillis() >= deadline) {
+                return;
+            }
+            send(client, baseUrl + path, "application/json", true);
+        }
+    }
+
+    /**
+     * 대표 요청 묶음을 JIT 컴파일이 잦아들 때까지 반복 (응답 캐시를 거치지 않도록 gzip 미요청)
+     */
+    private void warmJit(HttpClient client, String baseUrl, List<String> districts, long deadline)
+            throws InterruptedException {
+        phase = "jit";
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean measurable = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        // 네이티브 이미지 등 JIT 가 없으면 최소 회차만 수행
+        int roundLimit = measurable ? maxRounds : Math.min(maxRounds, minRounds);
+
+        int settled = 0;
+        for (int round = 0; round < roundLimit && System.currentTimeMillis() < deadline; round++) {
+            long compileBefore = measurable ? compiler.getTotalCompilationTime() : 0;
+            long roundStart = System.nanoTime();
+
+            String district = districts.isEmpty() ? null : encode(districts.get(round % districts.size()));
+            String accept = ACCEPT_TYPES.get(round % ACCEPT_TYPES.size());
+            send(client, baseUrl + "/districts", accept, false);
+            send(client, baseUrl + "/districts/top", accept, false);
+            send(client, baseUrl + "/district-codes", "application/json", false);
+            send(client, baseUrl + "/sales/top/districts", accept, false);
+            send(client, baseUrl + "/sales/top/categories", accept, false);
+            send(client, baseUrl + "/sales/monthly/category-groups", accept, false);
+            if (district != null) {
+                send(client, baseUrl + "/sales/district/" + district + "/total", "application/json", false);
+                send(client, baseUrl + "/sales/district/" + district + "/statistics/category", accept, false);
+                send(client, baseUrl + "/sales/district/" + district + "?fields=baseYearMonth,serviceCategoryName,monthlySalesAmount",
+                        accept, false);
+            }
+
+            rounds = round + 1;
+            long roundMillis = Math.max(1, (System.nanoTime() - roundStart) / 1_000_000);
+            if (!measurable) {
+                continue;
+            }
+            long compileDelta = compiler.getTotalCompilationTime() - compileBefore;
+            compilationMillis = compiler.getTotalCompilationTime();
+            settled = compileDelta <= roundMillis * settleRatio ? settled + 1 : 0;
+            if (rounds >= minRounds && settled >= settleRounds) {
+                log.debug("JIT 안정화 - {}회차, 마지막 회차 {}ms 중 컴파일 {}ms", rounds, roundMillis, compileDelta);
+                return;
+            }
+        }
+    }
+
+    private void send(HttpClient client, String url, String accept, boolean gzip) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", accept)
+                .GET();
+        if (gzip) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        try {
+            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                recordFailure(String.valueOf(response.statusCode()), url);
+                log.debug("워밍업 요청 실패: {} -> {}", url, response.statusCode());
+            }
+        } catch (IOException e) {
+            recordFailure("io-error", url);
+            log.debug("워밍업 요청 실패: {} - {}", url, e.getMessage());
+        }
+        completed.incrementAndGet();
+    }
+
+    private void recordFailure(String reason, String url) {
+        failures.incrementAndGet();
+        failuresByStatus.computeIfAbsent(reason, key -> new AtomicInteger()).incrementAndGet();
+        lastFailure = reason + " " + url;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * readiness 그룹에 포함되는 워밍업 상태 (진행 중이면 OUT_OF_SERVICE)
+     */
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("phase", phase);
+        details.put("completedRequests", completed.get());
+        details.put("failedRequests", failures.get());
+        if (!failuresByStatus.isEmpty()) {
+            Map<String, Integer> byStatus = new TreeMap<>();
+            failuresByStatus.forEach((reason, count) -> byStatus.put(reason, count.get()));
+            details.put("failuresByStatus", byStatus);
+            details.put("lastFailure", lastFailure);
+        }
+        if ("prefetch".equals(phase)) {
+            details.put("prefetchTotal", total);
+        }
+        details.put("jitRounds", rounds);
+        if (compilationMillis >= 0) {
+            details.put("jitCompilationMillis", compilationMillis);
+        }
+        if (startedAt > 0) {
+            long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+            details.put("elapsedMillis", end - startedAt);
+            details.put("budgetMillis", timeBudget.toMillis());
+        }
+        if (budgetExceeded) {
+            details.put("budgetExceeded", true);
+        }
+
+        boolean ready = "done".equals(phase) || "disabled".equals(phase);
+        return (ready ? Health.up() : Health.outOfService()).withDetails(details).build();
+    }
+}
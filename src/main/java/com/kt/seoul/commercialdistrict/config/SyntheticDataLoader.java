@@ -0,0 +1,279 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.repository.DistrictPopulationStatisticsRepository;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import com.kt.seoul.commercialdistrict.service.SalesAggregateService;
+import com.kt.seoul.commercialdistrict.service.SalesPartitionService;
+import com.kt.seoul.commercialdistrict.service.SyntheticDataGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 합성 데이터 적재 컴포넌트 (app.generator.enabled=true 일 때만 동작)
+ *
+ * DataInitializer 보다 먼저 실행되어 기준 년월별로 병렬 생성한 행을
+ * COPY FROM STDIN 으로 직접 적재하거나 년월별 CSV 파일로 기록합니다.
+ * COPY 적재 후에는 월별 집계를 전체 재집계하고 데이터셋 변경을 알립니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(GeneratorProperties.class)
+@ConditionalOnProperty(prefix = "app.generator", name = "enabled", havingValue = "true")
+public class SyntheticDataLoader implements CommandLineRunner {
+
+    private static final String SALES_COLUMNS =
+            "기준_년월_코드,자치구_코드,자치구_코드_명,서비스_업종_코드,서비스_업종_코드_명," +
+            "당월_매출_금액,당월_매출_건수,주중_매출_금액,주말_매출_금액,남성_매출_금액,여성_매출_금액," +
+            "주중_매출_건수,주말_매출_건수,남성_매출_건수,여성_매출_건수";
+
+    private static final String COPY_SQL =
+            "COPY sales_data (" + SALES_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * COPY 로 한 번에 보내는 버퍼 크기 (문자 수)
+     */
+    private static final int COPY_BUFFER_CHARS = 1 << 20;
+
+    private final GeneratorProperties properties;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final DistrictPopulationStatisticsRepository populationRepository;
+    private final SalesPartitionService salesPartitionService;
+    private final SalesAggregateService salesAggregateService;
+
+    @Override
+    @Workload(Workload.Kind.BATCH)
+    public void run(String... args) throws Exception {
+        long startTime = System.currentTimeMillis();
+        YearMonth from = YearMonth.parse(properties.getFromMonth(), MonthRange.YEAR_MONTH_FORMAT);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(properties.getSeed(), from,
+                properties.getAreasPerDistrict(), properties.getCategories(), properties.getZipfExponent());
+
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i < properties.getMonths(); i++) {
+            months.add(from.plusMonths(i));
+        }
+        int parallelism = properties.effectiveParallelism();
+        log.info("합성 데이터 생성 시작 - 출력 {}, 시드 {}, {}개월 × {}개 자치구 × 상권 {} × 업종 {}, 병렬도 {}",
+                properties.getOutput(), properties.getSeed(), months.size(), SyntheticDataGenerator.districtCount(),
+                properties.getAreasPerDistrict(), properties.getCategories(), parallelism);
+
+        boolean copy = properties.getOutput() == GeneratorProperties.Output.COPY;
+        Path csvDirectory = Paths.get(properties.getCsvDirectory()).toAbsolutePath();
+        if (copy) {
+            salesPartitionService.ensurePartitions(months.stream()
+                    .map(month -> month.format(MonthRange.YEAR_MONTH_FORMAT))
+                    .toList());
+            if (properties.isTruncate()) {
+                jdbcTemplate.execute("TRUNCATE sales_data");
+                log.info("합성 데이터 적재 전 sales_data 비움");
+            }
+        } else {
+            Files.createDirectories(csvDirectory);
+        }
+
+        long rows = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (YearMonth month : months) {
+                // 월별 COPY 커넥션도 batch 풀에서 얻도록 태그를 이어받음
+                futures.add(executor.submit(WorkloadScope.inherit(() -> copy
+                        ? copyMonth(generator, month)
+                        : writeMonthCsv(generator, month, csvDirectory))));
+            }
+            for (Future<Long> future : futures) {
+                rows += future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 매출 데이터 생성 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (properties.isIncludePopulation()) {
+            loadPopulation(generator, copy, csvDirectory);
+        }
+        if (copy) {
+            // 적재된 원본으로 월별 집계를 다시 만들고 데이터셋 변경 알림
+            salesAggregateService.rebuild();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        log.info("합성 데이터 생성 완료 - {}행, {}ms ({}행/초)", rows, elapsed, rows * 1000 / elapsed);
+    }
+
+    /**
+     * 한 달치 행을 전용 커넥션 하나로 COPY (월 단위로 커밋)
+     */
+    private long copyMonth(SyntheticDataGenerator generator, YearMonth month) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 512);
+                long rows = generator.generateMonth(month, row -> {
+                    appendCsv(buffer, row);
+                    if (buffer.length() >= COPY_BUFFER_CHARS) {
+                        flush(copyIn, buffer);
+                    }
+                });
+                flush(copyIn, buffer);
+                copyIn.endCopy();
+                connection.commit();
+                log.debug("합성 매출 데이터 COPY 완료: {} - {}행", month, rows);
+                return rows;
+            } catch (SQLException | RuntimeException e) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY 데이터 전송 실패", e);
+        }
+        buffer.setLength(0);
+    }
+
+    /**
+     * 한 달치 행을 sales_data_yyyyMM.csv 로 기록 (임시 파일에 쓴 뒤 rename)
+     */
+    private long writeMonthCsv(SyntheticDataGenerator generator, YearMonth month, Path directory) throws IOException {
+        String yearMonth = month.format(MonthRange.YEAR_MONTH_FORMAT);
+        Path target = directory.resolve("sales_data_" + yearMonth + ".csv");
+        Path temp = directory.resolve("sales_data_" + yearMonth + ".csv.tmp");
+
+        long rows;
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(SALES_COLUMNS);
+            writer.newLine();
+            StringBuilder line = new StringBuilder(256);
+            rows = generator.generateMonth(month, csvWriter(writer, line));
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("합성 매출 데이터 CSV 기록 완료: {} - {}행", target, rows);
+        return rows;
+    }
+
+    private static Consumer<SalesData> csvWriter(BufferedWriter writer, StringBuilder line) {
+        return row -> {
+            line.setLength(0);
+            appendCsv(line, row);
+            try {
+                writer.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * CSV 한 행 추가 (업종/자치구 이름에는 쉼표와 따옴표가 없으므로 인용 불필요)
+     */
+    private static void appendCsv(StringBuilder out, SalesData row) {
+        out.append(row.getBaseYearMonth()).append(',')
+                .append(row.getDistrictCode()).append(',')
+                .append(row.getDistrictName()).append(',')
+                .append(row.getServiceCategoryCode()).append(',')
+                .append(row.getServiceCategoryName()).append(',')
+                .append(row.getMonthlySalesAmount()).append(',')
+                .append(row.getMonthlySalesCount()).append(',')
+                .append(row.getWeekdaySalesAmount()).append(',')
+                .append(row.getWeekendSalesAmount()).append(',')
+                .append(row.getMaleSalesAmount()).append(',')
+                .append(row.getFemaleSalesAmount()).append(',')
+                .append(row.getWeekdaySalesCount()).append(',')
+                .append(row.getWeekendSalesCount()).append(',')
+                .append(row.getMaleSalesCount()).append(',')
+                .append(row.getFemaleSalesCount()).append('\n');
+    }
+
+    /**
+     * 인구 통계 적재 (COPY 모드는 테이블이 비어 있을 때만, CSV 모드는 파일로 기록)
+     */
+    private void loadPopulation(SyntheticDataGenerator generator, boolean copy, Path directory) throws IOException {
+        List<DistrictPopulationStatistics> districts = generator.generatePopulation();
+        if (copy) {
+            if (populationRepository.count() > 0) {
+                log.info("기존 인구 통계 데이터가 존재하여 합성 인구 통계 적재를 건너뜁니다.");
+                return;
+            }
+            populationRepository.saveAll(districts);
+            log.info("합성 인구 통계 적재 완료 (총 {}개 레코드)", districts.size());
+            return;
+        }
+
+        Path target = directory.resolve("district_population_statistics.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write("district_name,total_population,resident_population,worker_population,floating_population," +
+                    "age_0_9_male,age_10_19_male,age_20_29_male,age_30_39_male,age_40_49_male,age_50_59_male," +
+                    "age_60_plus_male,age_0_9_female,age_10_19_female,age_20_29_female,age_30_39_female," +
+                    "age_40_49_female,age_50_59_female,age_60_plus_female");
+            writer.newLine();
+            for (DistrictPopulationStatistics d : districts) {
+                writer.write(String.join(",", d.getDistrictName(),
+                        String.valueOf(d.getTotalPopulation()), String.valueOf(d.getResidentPopulation()),
+                        String.valueOf(d.getWorkerPopulation()), String.valueOf(d.getFloatingPopulation()),
+                        String.valueOf(d.getAge0To9Male()), String.valueOf(d.getAge10To19Male()),
+                        String.valueOf(d.getAge20To29Male()), String.valueOf(d.getAge30To39Male()),
+                        String.valueOf(d.getAge40To49Male()), String.valueOf(d.getAge50To59Male()),
+                        String.valueOf(d.getAge60PlusMale()),
+                        String.valueOf(d.getAge0To9Female()), String.valueOf(d.getAge10To19Female()),
+                        String.valueOf(d.getAge20To29Female()), String.valueOf(d.getAge30To39Female()),
+                        String.valueOf(d.getAge40To49Female()), String.valueOf(d.getAge50To59Female()),
+                        String.valueOf(d.getAge60PlusFemale())));
+                writer.newLine();
+            }
+        }
+        log.info("합성 인구 통계 CSV 기록 완료: {}", target);
+    }
+}
@@ -0,0 +1,72 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC 설정
+ *
+ * Accept 헤더 기반 콘텐츠 협상으로 JSON 외에 바이너리 응답 형식을 제공합니다.
+ * - application/cbor, application/x-jackson-smile : 모든 컨트롤러 응답 (Jackson 데이터포맷)
+ * - application/x-protobuf : 매출/통계 응답 ({@link SalesProtobufHttpMessageConverter})
+ *
+ * 바이너리 컨버터는 기존 컨버터 목록 뒤에 추가되므로 Accept 가 없거나 와일드카드인 요청(브라우저)은 계속 JSON 을 받습니다.
+ *
+ * Jackson 형식(JSON/CBOR/Smile)은 fields= 파라미터에 따른 필드 필터링을 지원합니다. ({@link FieldSelectionResponseBodyAdvice})
+ *
+ * 비동기로 처리되는 요청은 처리 시한을 처리 스레드로 넘기고 연결 종료 시 쿼리를 취소합니다. ({@link QueryDeadlineCallableInterceptor})
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({ResponseCacheProperties.class, AdmissionControlProperties.class, QueryDeadlineProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Spring Boot 의 Jackson 설정이 적용된 빌더 (prototype 이므로 사용할 때마다 새로 얻음)
+     */
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    /**
+     * {@code @JsonFilter} 가 붙은 DTO 는 필드 선택이 없으면 모든 필드를 직렬화
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스 감지로 자동 등록된 CBOR/Smile 컨버터는 Boot Jackson 설정(날짜 형식 등)이 빠져 있으므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new SalesProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new QueryDeadlineCallableInterceptor());
+    }
+}
@@ -0,0 +1,136 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Workload} 가 붙은 빈에 부하 유형 연결 어드바이스 적용
+ *
+ * 호출 동안 현재 스레드에 부하 유형({@link WorkloadScope})을 연결하여 {@link WorkloadRoutingDataSource} 가 풀을 고르게 하고,
+ * 가장 바깥 호출의 실행 시간을 유형별 datasource.workload.calls 타이머(p50/p99)로 기록합니다.
+ * 트랜잭션 어드바이스보다 먼저 실행되도록 기존 어드바이스 앞에 추가합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public class WorkloadAnnotationPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public WorkloadAnnotationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new WorkloadPointcut(), new WorkloadInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Spring Data 리포지토리 프록시의 대상 클래스(SimpleJpaRepository)에는 애노테이션이 없으므로 리포지토리 인터페이스로 확인
+        if (bean instanceof Advised advised && !advised.isFrozen()
+                && Arrays.stream(advised.getProxiedInterfaces()).anyMatch(WorkloadAnnotationPostProcessor::declaresWorkload)) {
+            advised.addAdvisor(0, this.advisor);
+            return bean;
+        }
+        return super.postProcessAfterInitialization(bean, beanName);
+    }
+
+    private static boolean declaresWorkload(Class<?> type) {
+        return type.isAnnotationPresent(Workload.class)
+                || Arrays.stream(type.getDeclaredMethods()).anyMatch(method -> method.isAnnotationPresent(Workload.class));
+    }
+
+    /**
+     * 메서드, 대상 클래스 메서드, 메서드를 선언한 타입, 대상 클래스 순으로 부하 유형 확인
+     */
+    private static Workload.Kind resolve(Method method, Class<?> targetClass) {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (workload == null && targetClass != null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Workload.class);
+        }
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Workload.class);
+        }
+        if (workload == null && targetClass != null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        return workload != null ? workload.value() : null;
+    }
+
+    private static final class WorkloadPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return method.getDeclaringClass() != Object.class && resolve(method, targetClass) != null;
+        }
+    }
+
+    private static final class WorkloadInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Map<Method, Optional<Workload.Kind>> kinds = new ConcurrentHashMap<>();
+        private final Map<Workload.Kind, Timer> timers = new EnumMap<>(Workload.Kind.class);
+
+        private WorkloadInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object target = invocation.getThis();
+            Optional<Workload.Kind> kind = kinds.computeIfAbsent(invocation.getMethod(),
+                    method -> Optional.ofNullable(resolve(method, target != null ? AopUtils.getTargetClass(target) : null)));
+            if (kind.isEmpty()) {
+                return invocation.proceed();
+            }
+
+            Workload.Kind previous = WorkloadScope.bind(kind.get());
+            long startTime = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                WorkloadScope.restore(previous);
+                if (previous == null) {
+                    Timer timer = timer(kind.get());
+                    if (timer != null) {
+                        timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+        }
+
+        private Timer timer(Workload.Kind kind) {
+            synchronized (timers) {
+                Timer timer = timers.get(kind);
+                if (timer == null) {
+                    MeterRegistry registry = meterRegistry.getIfAvailable();
+                    if (registry == null) {
+                        return null;
+                    }
+                    timer = Timer.builder("datasource.workload.calls")
+                            .tag("workload", kind.name().toLowerCase())
+                            .description("부하 유형별 리포지토리/서비스 호출 시간")
+                            .publishPercentiles(0.5, 0.99)
+                            .register(registry);
+                    timers.put(kind, timer);
+                }
+                return timer;
+            }
+        }
+    }
+}
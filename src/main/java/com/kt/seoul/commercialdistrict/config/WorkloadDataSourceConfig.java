@@ -0,0 +1,116 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 부하 유형별(interactive/analytical/batch) 커넥션 풀 설정
+ *
+ * app.datasource.workload.enabled=true 이고 읽기 복제본 라우팅이 꺼져 있을 때 Spring Boot 기본 데이터소스 대신 등록됩니다.
+ * 각 풀은 spring.datasource 접속 정보를 공유하고 크기, 커넥션 대기 시간, statement_timeout 만 다릅니다.
+ * 풀별 지표는 hikaricp.connections.*{pool=interactive|analytical|batch} 로 노출됩니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnExpression("${app.datasource.workload.enabled:false} and !${app.datasource.routing.enabled:false}")
+public class WorkloadDataSourceConfig {
+
+    /**
+     * 리포지토리/서비스의 {@link com.kt.seoul.commercialdistrict.repository.Workload} 태그 처리
+     *
+     * 다른 빈보다 먼저 생성되어야 하므로 static 으로 등록합니다.
+     */
+    @Bean
+    public static WorkloadAnnotationPostProcessor workloadAnnotationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new WorkloadAnnotationPostProcessor(meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource interactiveDataSource(DataSourceProperties dataSourceProperties,
+                                                  DataSourceRoutingProperties properties) {
+        return createPool("interactive", dataSourceProperties, properties.getWorkload().getInteractive());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource analyticalDataSource(DataSourceProperties dataSourceProperties,
+                                                 DataSourceRoutingProperties properties) {
+        return createPool("analytical", dataSourceProperties, properties.getWorkload().getAnalytical());
+    }
+
+    /**
+     * 적재, 재집계, 파티션 유지보수, 배치 분석용 풀
+     *
+     * 합성 데이터 적재가 켜져 있으면 월별 COPY 스레드마다 커넥션을 하나씩 잡으므로 병렬도 + 1 이상으로 늘립니다.
+     */
+    @Bean(destroyMethod = "close")
+    public HikariDataSource batchDataSource(DataSourceProperties dataSourceProperties,
+                                            DataSourceRoutingProperties properties,
+                                            ObjectProvider<GeneratorProperties> generatorProperties) {
+        DataSourceRoutingProperties.WorkloadPool pool = properties.getWorkload().getBatch();
+        GeneratorProperties generator = generatorProperties.getIfAvailable();
+        if (generator != null && generator.isEnabled()
+                && generator.getOutput() == GeneratorProperties.Output.COPY
+                && pool.getMaximumPoolSize() <= generator.effectiveParallelism()) {
+            DataSourceRoutingProperties.WorkloadPool sized = new DataSourceRoutingProperties.WorkloadPool(
+                    generator.effectiveParallelism() + 1, pool.getMinimumIdle(),
+                    pool.getConnectionTimeout(), pool.getStatementTimeout());
+            log.info("합성 데이터 적재 병렬도 {} 에 맞춰 batch 풀 크기를 {} 로 늘립니다.",
+                    generator.effectiveParallelism(), sized.getMaximumPoolSize());
+            pool = sized;
+        }
+        return createPool("batch", dataSourceProperties, pool);
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource workloadRoutingDataSource(HikariDataSource interactiveDataSource,
+                                                               HikariDataSource analyticalDataSource,
+                                                               HikariDataSource batchDataSource) {
+        log.info("부하 유형별 커넥션 풀 활성화 - interactive {}개, analytical {}개, batch {}개",
+                interactiveDataSource.getMaximumPoolSize(), analyticalDataSource.getMaximumPoolSize(),
+                batchDataSource.getMaximumPoolSize());
+        return new WorkloadRoutingDataSource(interactiveDataSource, analyticalDataSource, batchDataSource);
+    }
+
+    /**
+     * JPA/JDBC 가 사용하는 기본 데이터소스
+     *
+     * 실제 커넥션은 첫 SQL 실행 시점에 얻으므로 그때 연결된 부하 유형으로 풀을 고릅니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+    }
+
+    private HikariDataSource createPool(String poolName, DataSourceProperties dataSourceProperties,
+                                        DataSourceRoutingProperties.WorkloadPool pool) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        // 세션 기본값이므로 요청 처리 시한(JDBC query timeout)이 더 짧으면 그쪽이 먼저 적용됨 (0 은 데이터베이스 기본값도 해제)
+        config.addDataSourceProperty("options", "-c statement_timeout=" + pool.getStatementTimeout().toMillis());
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿼리 부하 유형({@link Workload})에 따라 interactive/analytical/batch 커넥션 풀을 고르는 데이터소스
+ *
+ * 현재 스레드에 연결된 유형({@link WorkloadScope})이 있으면 그 풀을, 없으면 interactive 풀을 사용합니다.
+ * statement_timeout 이 없는 batch 풀은 태그로만 선택되므로, 태그 없는 비동기/백그라운드 스레드가 batch 풀로 새지 않습니다.
+ * 요청 처리 스레드가 아닌 곳의 태그 없는 조회는 스레드 이름별로 한 번 기록합니다.
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 풀을 골라야 하므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Set<String> reportedThreads = ConcurrentHashMap.newKeySet();
+
+    public WorkloadRoutingDataSource(DataSource interactive, DataSource analytical, DataSource batch) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Workload.Kind.INTERACTIVE, interactive);
+        targets.put(Workload.Kind.ANALYTICAL, analytical);
+        targets.put(Workload.Kind.BATCH, batch);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(interactive);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Workload.Kind kind = WorkloadScope.current();
+        if (kind != null) {
+            return kind;
+        }
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            // 스레드 번호를 뺀 이름으로 묶어 풀 스레드마다 반복 기록하지 않음
+            String thread = Thread.currentThread().getName().replaceAll("\\d+$", "");
+            if (reportedThreads.add(thread)) {
+                log.info("부하 유형 태그 없는 조회 - 요청 처리 스레드가 아니지만 interactive 풀을 사용합니다 (스레드 {})",
+                        Thread.currentThread().getName());
+            }
+        }
+        return Workload.Kind.INTERACTIVE;
+    }
+}
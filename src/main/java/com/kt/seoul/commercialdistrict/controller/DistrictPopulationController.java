@@ -1,6 +1,8 @@
 package com.kt.seoul.commercialdistrict.controller;
 
 import com.kt.seoul.commercialdistrict.dto.DistrictPopulationResponse;
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
+import com.kt.seoul.commercialdistrict.repository.FieldProjectionRepository;
 import com.kt.seoul.commercialdistrict.service.DistrictPopulationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,18 +29,24 @@ public class DistrictPopulationController {
     /**
      * 모든 자치구 인구 통계 조회 (총 인구수 기준 내림차순)
      * 
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 모든 자치구 인구 통계 목록
      */
     @GetMapping
-    public ResponseEntity<List<DistrictPopulationResponse>> getAllDistricts() {
+    public ResponseEntity<List<DistrictPopulationResponse>> getAllDistricts(@RequestParam(required = false) String fields) {
         log.info("GET /districts - 모든 자치구 인구 통계 조회 요청");
         
         try {
-            List<DistrictPopulationResponse> districts = districtPopulationService.getAllDistricts();
+            List<DistrictPopulationResponse> districts = districtPopulationService.getAllDistricts(
+                    FieldSelection.of(fields, FieldProjectionRepository.POPULATION_FIELDS));
             
             log.info("GET /districts - 성공적으로 {}개 자치구 데이터 응답", districts.size());
             return ResponseEntity.ok(districts);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /districts - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /districts - 자치구 데이터 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
@@ -75,16 +83,19 @@ public class DistrictPopulationController {
      * 상위 N개 인구 많은 자치구 조회
      * 
      * @param limit 조회할 자치구 수 (기본값: 5)
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 상위 N개 자치구 목록
      */
     @GetMapping("/top")
     public ResponseEntity<List<DistrictPopulationResponse>> getTopDistrictsByPopulation(
-            @RequestParam(defaultValue = "5") Integer limit) {
+            @RequestParam(defaultValue = "5") Integer limit,
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /districts/top?limit={} - 상위 인구 많은 자치구 조회 요청", limit);
         
         try {
-            List<DistrictPopulationResponse> districts = districtPopulationService.getTopDistrictsByPopulation(limit);
+            List<DistrictPopulationResponse> districts = districtPopulationService.getTopDistrictsByPopulation(
+                    limit, FieldSelection.of(fields, FieldProjectionRepository.POPULATION_FIELDS));
             
             log.info("GET /districts/top - 성공적으로 상위 {}개 자치구 데이터 응답", districts.size());
             return ResponseEntity.ok(districts);
@@ -103,17 +114,20 @@ public class DistrictPopulationController {
      * 특정 인구수 이상인 자치구들 조회
      * 
      * @param minPopulation 최소 인구수
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 조건에 맞는 자치구 목록
      */
     @GetMapping("/filter")
     public ResponseEntity<List<DistrictPopulationResponse>> getDistrictsWithMinimumPopulation(
-            @RequestParam Integer minPopulation) {
+            @RequestParam Integer minPopulation,
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /districts/filter?minPopulation={} - 최소 인구수 조건 자치구 조회 요청", minPopulation);
         
         try {
             List<DistrictPopulationResponse> districts = 
-                districtPopulationService.getDistrictsWithMinimumPopulation(minPopulation);
+                districtPopulationService.getDistrictsWithMinimumPopulation(
+                    minPopulation, FieldSelection.of(fields, FieldProjectionRepository.POPULATION_FIELDS));
             
             log.info("GET /districts/filter - 성공적으로 {}개 자치구 데이터 응답", districts.size());
             return ResponseEntity.ok(districts);
@@ -132,16 +146,19 @@ public class DistrictPopulationController {
      * 자치구명 검색
      * 
      * @param keyword 검색 키워드
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 조건에 맞는 자치구 목록
      */
     @GetMapping("/search")
     public ResponseEntity<List<DistrictPopulationResponse>> searchDistrictsByName(
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /districts/search?keyword={} - 자치구명 검색 요청", keyword);
         
         try {
-            List<DistrictPopulationResponse> districts = districtPopulationService.searchDistrictsByName(keyword);
+            List<DistrictPopulationResponse> districts = districtPopulationService.searchDistrictsByName(
+                    keyword, FieldSelection.of(fields, FieldProjectionRepository.POPULATION_FIELDS));
             
             log.info("GET /districts/search - 성공적으로 {}개 자치구 검색 결과 응답", districts.size());
             return ResponseEntity.ok(districts);
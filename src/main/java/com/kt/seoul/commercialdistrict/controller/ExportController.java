@@ -0,0 +1,134 @@
+package com.kt.seoul.commercialdistrict.controller;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.dto.SnapshotManifest;
+import com.kt.seoul.commercialdistrict.service.ArrowExportService;
+import com.kt.seoul.commercialdistrict.service.ParquetSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 분석용 데이터 내보내기 REST API 컨트롤러
+ *
+ * - *.arrow : Arrow IPC 파일 형식(application/vnd.apache.arrow.file)으로 스트리밍
+ *   예: pyarrow.ipc.open_file(pa.memory_map("sales.arrow")).read_all()
+ * - /snapshots : 서버 로컬 디렉터리에 기록되는 월별 Parquet 스냅샷
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType ARROW_FILE = MediaType.parseMediaType(ArrowExportService.ARROW_FILE_MEDIA_TYPE);
+
+    private final ArrowExportService arrowExportService;
+    private final ParquetSnapshotService parquetSnapshotService;
+
+    /**
+     * 매출 데이터 Arrow 내보내기
+     *
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @param district 자치구명 (선택)
+     * @return Arrow 파일 스트림
+     */
+    @GetMapping("/sales.arrow")
+    public ResponseEntity<StreamingResponseBody> exportSales(@RequestParam(required = false) String fromMonth,
+                                                             @RequestParam(required = false) String toMonth,
+                                                             @RequestParam(required = false) String district) {
+        log.info("GET /export/sales.arrow - 매출 데이터 Arrow 내보내기 요청 (fromMonth={}, toMonth={}, district={})",
+                fromMonth, toMonth, district);
+
+        try {
+            MonthRange monthRange = MonthRange.of(fromMonth, toMonth);
+            StreamingResponseBody body = out -> arrowExportService.exportSales(monthRange, district, out);
+            return arrowResponse("sales.arrow", body);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /export/sales.arrow - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 자치구 인구 통계 Arrow 내보내기
+     *
+     * @param district 자치구명 (선택)
+     * @return Arrow 파일 스트림
+     */
+    @GetMapping("/population.arrow")
+    public ResponseEntity<StreamingResponseBody> exportPopulation(@RequestParam(required = false) String district) {
+        log.info("GET /export/population.arrow - 인구 통계 Arrow 내보내기 요청 (district={})", district);
+
+        StreamingResponseBody body = out -> arrowExportService.exportPopulation(district, out);
+        return arrowResponse("population.arrow", body);
+    }
+
+    /**
+     * 매출 데이터 Parquet 스냅샷 즉시 생성
+     *
+     * @return 생성된 스냅샷 매니페스트
+     */
+    @PostMapping("/snapshots")
+    public ResponseEntity<SnapshotManifest> createSnapshot() {
+        log.info("POST /export/snapshots - Parquet 스냅샷 생성 요청");
+
+        try {
+            SnapshotManifest manifest = parquetSnapshotService.createSnapshot();
+
+            log.info("POST /export/snapshots - 스냅샷 {} 생성 완료 ({}개 파일, {}행)",
+                    manifest.getSnapshotId(), manifest.getFiles().size(), manifest.getTotalRows());
+            return ResponseEntity.status(HttpStatus.CREATED).body(manifest);
+
+        } catch (IllegalStateException e) {
+            log.warn("POST /export/snapshots - 스냅샷 생성 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+
+        } catch (Exception e) {
+            log.error("POST /export/snapshots - 스냅샷 생성 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Parquet 스냅샷 목록 조회 (최신순)
+     *
+     * @return 스냅샷 매니페스트 목록
+     */
+    @GetMapping("/snapshots")
+    public ResponseEntity<List<SnapshotManifest>> getSnapshots() {
+        log.info("GET /export/snapshots - Parquet 스냅샷 목록 조회 요청");
+
+        try {
+            List<SnapshotManifest> snapshots = parquetSnapshotService.listSnapshots();
+
+            log.info("GET /export/snapshots - 성공적으로 {}개 스냅샷 응답", snapshots.size());
+            return ResponseEntity.ok(snapshots);
+
+        } catch (Exception e) {
+            log.error("GET /export/snapshots - 스냅샷 목록 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> arrowResponse(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(ARROW_FILE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
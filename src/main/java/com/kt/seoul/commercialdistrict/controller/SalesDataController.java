@@ -1,21 +1,37 @@
 package com.kt.seoul.commercialdistrict.controller;
 
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
 import com.kt.seoul.commercialdistrict.dto.SalesDataResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesMatrixResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesMeasure;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryRequest;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryResponse;
 import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.service.QueryDeadline;
 import com.kt.seoul.commercialdistrict.service.SalesDataService;
+import com.kt.seoul.commercialdistrict.service.SalesQuantileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import com.kt.seoul.commercialdistrict.repository.FieldProjectionRepository;
 import com.kt.seoul.commercialdistrict.repository.SalesDataRepository;
-import com.kt.seoul.commercialdistrict.entity.SalesData;
 
 /**
  * 매출 데이터 REST API 컨트롤러
  * 
+ * 전체 집계 조회(업종 분류별 월별 통계, 매출 행렬, 피벗 조회)는 처리 시한({@link QueryDeadline}) 안에서 비동기로 처리하여,
+ * 시한이 지나거나 클라이언트 연결이 끊기면 실행 중인 쿼리를 취소합니다.
+ * 처리 시한이 지나 실패한 요청은 500 대신 504 로 응답합니다.
+ * 
  * @author KT 개발팀
  * @version 1.0.0
  */
@@ -33,22 +49,36 @@ public class SalesDataController {
      * 자치구별 매출 데이터 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 해당 자치구의 매출 데이터 목록
      */
     @GetMapping("/district/{districtName}")
-    public ResponseEntity<List<SalesDataResponse>> getSalesDataByDistrict(@PathVariable String districtName) {
+    public WebAsyncTask<ResponseEntity<List<SalesDataResponse>>> getSalesDataByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth,
+            @RequestParam(required = false) String fields) {
         log.info("GET /sales/district/{} - 자치구별 매출 데이터 조회 요청", districtName);
         
-        try {
-            List<SalesDataResponse> salesData = salesDataService.getSalesDataByDistrict(districtName);
-            
-            log.info("GET /sales/district/{} - 성공적으로 {}개 매출 데이터 응답", districtName, salesData.size());
-            return ResponseEntity.ok(salesData);
-            
-        } catch (Exception e) {
-            log.error("GET /sales/district/{} - 매출 데이터 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return withDeadline(() -> {
+            try {
+                List<SalesDataResponse> salesData = salesDataService.getSalesDataByDistrict(
+                        districtName, MonthRange.of(fromMonth, toMonth), FieldSelection.of(fields, FieldProjectionRepository.SALES_FIELDS));
+            
+                log.info("GET /sales/district/{} - 성공적으로 {}개 매출 데이터 응답", districtName, salesData.size());
+                return ResponseEntity.ok(salesData);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/district/{} - 잘못된 파라미터: {}", districtName, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/district/{} - 매출 데이터 조회 중 오류 발생", districtName, e);
+                return serverError();
+            }
+        });
     }
     
     /**
@@ -56,67 +86,104 @@ public class SalesDataController {
      * 
      * @param districtName 자치구명
      * @param serviceCategoryName 서비스 업종명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 해당 자치구의 특정 업종 매출 데이터 목록
      */
     @GetMapping("/district/{districtName}/category/{serviceCategoryName}")
-    public ResponseEntity<List<SalesDataResponse>> getSalesDataByDistrictAndCategory(
+    public WebAsyncTask<ResponseEntity<List<SalesDataResponse>>> getSalesDataByDistrictAndCategory(
             @PathVariable String districtName,
-            @PathVariable String serviceCategoryName) {
+            @PathVariable String serviceCategoryName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth,
+            @RequestParam(required = false) String fields) {
         log.info("GET /sales/district/{}/category/{} - 자치구별 업종별 매출 데이터 조회 요청", districtName, serviceCategoryName);
         
-        try {
-            List<SalesDataResponse> salesData = salesDataService.getSalesDataByDistrictAndCategory(districtName, serviceCategoryName);
-            
-            log.info("GET /sales/district/{}/category/{} - 성공적으로 {}개 매출 데이터 응답", districtName, serviceCategoryName, salesData.size());
-            return ResponseEntity.ok(salesData);
-            
-        } catch (Exception e) {
-            log.error("GET /sales/district/{}/category/{} - 매출 데이터 조회 중 오류 발생", districtName, serviceCategoryName, e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return withDeadline(() -> {
+            try {
+                List<SalesDataResponse> salesData = salesDataService.getSalesDataByDistrictAndCategory(
+                        districtName, serviceCategoryName, MonthRange.of(fromMonth, toMonth),
+                        FieldSelection.of(fields, FieldProjectionRepository.SALES_FIELDS));
+            
+                log.info("GET /sales/district/{}/category/{} - 성공적으로 {}개 매출 데이터 응답", districtName, serviceCategoryName, salesData.size());
+                return ResponseEntity.ok(salesData);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/district/{}/category/{} - 잘못된 파라미터: {}", districtName, serviceCategoryName, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/district/{}/category/{} - 매출 데이터 조회 중 오류 발생", districtName, serviceCategoryName, e);
+                return serverError();
+            }
+        });
     }
     
     /**
      * 업종별 매출 데이터 조회
      * 
      * @param serviceCategoryName 서비스 업종명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @param fields 응답 필드 (쉼표 구분, 선택)
      * @return 해당 업종의 매출 데이터 목록
      */
     @GetMapping("/category/{serviceCategoryName}")
-    public ResponseEntity<List<SalesDataResponse>> getSalesDataByCategory(@PathVariable String serviceCategoryName) {
+    public WebAsyncTask<ResponseEntity<List<SalesDataResponse>>> getSalesDataByCategory(
+            @PathVariable String serviceCategoryName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth,
+            @RequestParam(required = false) String fields) {
         log.info("GET /sales/category/{} - 업종별 매출 데이터 조회 요청", serviceCategoryName);
         
-        try {
-            List<SalesDataResponse> salesData = salesDataService.getSalesDataByCategory(serviceCategoryName);
-            
-            log.info("GET /sales/category/{} - 성공적으로 {}개 매출 데이터 응답", serviceCategoryName, salesData.size());
-            return ResponseEntity.ok(salesData);
-            
-        } catch (Exception e) {
-            log.error("GET /sales/category/{} - 매출 데이터 조회 중 오류 발생", serviceCategoryName, e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return withDeadline(() -> {
+            try {
+                List<SalesDataResponse> salesData = salesDataService.getSalesDataByCategory(
+                        serviceCategoryName, MonthRange.of(fromMonth, toMonth), FieldSelection.of(fields, FieldProjectionRepository.SALES_FIELDS));
+            
+                log.info("GET /sales/category/{} - 성공적으로 {}개 매출 데이터 응답", serviceCategoryName, salesData.size());
+                return ResponseEntity.ok(salesData);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/category/{} - 잘못된 파라미터: {}", serviceCategoryName, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/category/{} - 매출 데이터 조회 중 오류 발생", serviceCategoryName, e);
+                return serverError();
+            }
+        });
     }
     
     /**
      * 자치구별 총 매출 정보 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 총 매출 정보
      */
     @GetMapping("/district/{districtName}/total")
-    public ResponseEntity<SalesStatisticsResponse.DistrictTotalSales> getDistrictTotalSales(@PathVariable String districtName) {
+    public ResponseEntity<SalesStatisticsResponse.DistrictTotalSales> getDistrictTotalSales(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/district/{}/total - 자치구별 총 매출 정보 조회 요청", districtName);
         
         try {
-            SalesStatisticsResponse.DistrictTotalSales totalSales = salesDataService.getDistrictTotalSales(districtName);
+            SalesStatisticsResponse.DistrictTotalSales totalSales = salesDataService.getDistrictTotalSales(districtName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/district/{}/total - 성공적으로 자치구 총 매출 정보 응답", districtName);
             return ResponseEntity.ok(totalSales);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/district/{}/total - 잘못된 파라미터: {}", districtName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/district/{}/total - 자치구 총 매출 정보 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -124,21 +191,31 @@ public class SalesDataController {
      * 자치구별 업종별 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 업종별 매출 통계
      */
     @GetMapping("/district/{districtName}/statistics/category")
-    public ResponseEntity<List<SalesStatisticsResponse.CategorySalesStatistics>> getCategorySalesStatisticsByDistrict(@PathVariable String districtName) {
+    public ResponseEntity<List<SalesStatisticsResponse.CategorySalesStatistics>> getCategorySalesStatisticsByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/district/{}/statistics/category - 자치구별 업종별 매출 통계 조회 요청", districtName);
         
         try {
-            List<SalesStatisticsResponse.CategorySalesStatistics> statistics = salesDataService.getCategorySalesStatisticsByDistrict(districtName);
+            List<SalesStatisticsResponse.CategorySalesStatistics> statistics = salesDataService.getCategorySalesStatisticsByDistrict(
+                    districtName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/district/{}/statistics/category - 성공적으로 {}개 업종별 통계 응답", districtName, statistics.size());
             return ResponseEntity.ok(statistics);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/district/{}/statistics/category - 잘못된 파라미터: {}", districtName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/district/{}/statistics/category - 업종별 매출 통계 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -146,21 +223,31 @@ public class SalesDataController {
      * 업종별 자치구별 매출 통계 조회
      * 
      * @param serviceCategoryName 서비스 업종명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 업종별 자치구별 매출 통계
      */
     @GetMapping("/category/{serviceCategoryName}/statistics/district")
-    public ResponseEntity<List<SalesStatisticsResponse.DistrictSalesStatistics>> getDistrictSalesStatisticsByCategory(@PathVariable String serviceCategoryName) {
+    public ResponseEntity<List<SalesStatisticsResponse.DistrictSalesStatistics>> getDistrictSalesStatisticsByCategory(
+            @PathVariable String serviceCategoryName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/category/{}/statistics/district - 업종별 자치구별 매출 통계 조회 요청", serviceCategoryName);
         
         try {
-            List<SalesStatisticsResponse.DistrictSalesStatistics> statistics = salesDataService.getDistrictSalesStatisticsByCategory(serviceCategoryName);
+            List<SalesStatisticsResponse.DistrictSalesStatistics> statistics = salesDataService.getDistrictSalesStatisticsByCategory(
+                    serviceCategoryName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/category/{}/statistics/district - 성공적으로 {}개 자치구별 통계 응답", serviceCategoryName, statistics.size());
             return ResponseEntity.ok(statistics);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/category/{}/statistics/district - 잘못된 파라미터: {}", serviceCategoryName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/category/{}/statistics/district - 자치구별 매출 통계 조회 중 오류 발생", serviceCategoryName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -168,21 +255,31 @@ public class SalesDataController {
      * 자치구별 성별 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 성별 매출 통계
      */
     @GetMapping("/district/{districtName}/statistics/gender")
-    public ResponseEntity<SalesStatisticsResponse.GenderSalesStatistics> getGenderSalesStatisticsByDistrict(@PathVariable String districtName) {
+    public ResponseEntity<SalesStatisticsResponse.GenderSalesStatistics> getGenderSalesStatisticsByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/district/{}/statistics/gender - 자치구별 성별 매출 통계 조회 요청", districtName);
         
         try {
-            SalesStatisticsResponse.GenderSalesStatistics statistics = salesDataService.getGenderSalesStatisticsByDistrict(districtName);
+            SalesStatisticsResponse.GenderSalesStatistics statistics = salesDataService.getGenderSalesStatisticsByDistrict(
+                    districtName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/district/{}/statistics/gender - 성공적으로 성별 매출 통계 응답", districtName);
             return ResponseEntity.ok(statistics);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/district/{}/statistics/gender - 잘못된 파라미터: {}", districtName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/district/{}/statistics/gender - 성별 매출 통계 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -190,21 +287,31 @@ public class SalesDataController {
      * 자치구별 주중/주말 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 주중/주말 매출 통계
      */
     @GetMapping("/district/{districtName}/statistics/weekday-weekend")
-    public ResponseEntity<SalesStatisticsResponse.WeekdayWeekendSalesStatistics> getWeekdayWeekendSalesStatisticsByDistrict(@PathVariable String districtName) {
+    public ResponseEntity<SalesStatisticsResponse.WeekdayWeekendSalesStatistics> getWeekdayWeekendSalesStatisticsByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/district/{}/statistics/weekday-weekend - 자치구별 주중/주말 매출 통계 조회 요청", districtName);
         
         try {
-            SalesStatisticsResponse.WeekdayWeekendSalesStatistics statistics = salesDataService.getWeekdayWeekendSalesStatisticsByDistrict(districtName);
+            SalesStatisticsResponse.WeekdayWeekendSalesStatistics statistics = salesDataService.getWeekdayWeekendSalesStatisticsByDistrict(
+                    districtName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/district/{}/statistics/weekday-weekend - 성공적으로 주중/주말 매출 통계 응답", districtName);
             return ResponseEntity.ok(statistics);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/district/{}/statistics/weekday-weekend - 잘못된 파라미터: {}", districtName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/district/{}/statistics/weekday-weekend - 주중/주말 매출 통계 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -212,22 +319,31 @@ public class SalesDataController {
      * 전체 자치구 매출 순위 조회 (상위 N개)
      * 
      * @param limit 조회할 개수 (기본값: 10)
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 매출 순위별 자치구 목록
      */
     @GetMapping("/top/districts")
     public ResponseEntity<List<SalesStatisticsResponse.DistrictSalesStatistics>> getTopDistrictsBySales(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/top/districts?limit={} - 전체 자치구 매출 순위 조회 요청", limit);
         
         try {
-            List<SalesStatisticsResponse.DistrictSalesStatistics> topDistricts = salesDataService.getTopDistrictsBySales(limit);
+            List<SalesStatisticsResponse.DistrictSalesStatistics> topDistricts = salesDataService.getTopDistrictsBySales(
+                    limit, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/top/districts - 성공적으로 {}개 자치구 매출 순위 응답", topDistricts.size());
             return ResponseEntity.ok(topDistricts);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/top/districts - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/top/districts - 자치구 매출 순위 조회 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -235,87 +351,292 @@ public class SalesDataController {
      * 전체 업종 매출 순위 조회 (상위 N개)
      * 
      * @param limit 조회할 개수 (기본값: 10)
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 매출 순위별 업종 목록
      */
     @GetMapping("/top/categories")
     public ResponseEntity<List<SalesStatisticsResponse.CategorySalesStatistics>> getTopServiceCategoriesBySales(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/top/categories?limit={} - 전체 업종 매출 순위 조회 요청", limit);
         
         try {
-            List<SalesStatisticsResponse.CategorySalesStatistics> topCategories = salesDataService.getTopServiceCategoriesBySales(limit);
+            List<SalesStatisticsResponse.CategorySalesStatistics> topCategories = salesDataService.getTopServiceCategoriesBySales(
+                    limit, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/top/categories - 성공적으로 {}개 업종 매출 순위 응답", topCategories.size());
             return ResponseEntity.ok(topCategories);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/top/categories - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/top/categories - 업종 매출 순위 조회 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
     /**
      * 업종별 월별 평균 매출 통계 조회 (3개 분류로 그룹화)
      * 
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 업종 분류별 월별 평균 매출 통계
      */
     @GetMapping("/monthly/category-groups")
-    public ResponseEntity<List<SalesStatisticsResponse.CategoryGroupMonthlySales>> getCategoryGroupMonthlySales() {
+    public WebAsyncTask<ResponseEntity<List<SalesStatisticsResponse.CategoryGroupMonthlySales>>> getCategoryGroupMonthlySales(
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/monthly/category-groups - 업종별 월별 평균 매출 통계 조회 요청");
         
-        try {
-            List<SalesStatisticsResponse.CategoryGroupMonthlySales> categoryGroups = salesDataService.getCategoryGroupMonthlySales();
-            
-            log.info("GET /sales/monthly/category-groups - 성공적으로 {}개 업종 분류별 월별 통계 응답", categoryGroups.size());
-            return ResponseEntity.ok(categoryGroups);
-            
-        } catch (Exception e) {
-            log.error("GET /sales/monthly/category-groups - 업종별 월별 평균 매출 통계 조회 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return withDeadline(() -> {
+            try {
+                List<SalesStatisticsResponse.CategoryGroupMonthlySales> categoryGroups = salesDataService.getCategoryGroupMonthlySales(
+                        MonthRange.of(fromMonth, toMonth));
+            
+                log.info("GET /sales/monthly/category-groups - 성공적으로 {}개 업종 분류별 월별 통계 응답", categoryGroups.size());
+                return ResponseEntity.ok(categoryGroups);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/monthly/category-groups - 잘못된 파라미터: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/monthly/category-groups - 업종별 월별 평균 매출 통계 조회 중 오류 발생", e);
+                return serverError();
+            }
+        });
     }
     
     /**
      * 자치구별 업종별 월별 평균 매출 통계 조회 (3개 분류로 그룹화)
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 업종 분류별 월별 평균 매출 통계
      */
     @GetMapping("/monthly/category-groups/{districtName}")
-    public ResponseEntity<List<SalesStatisticsResponse.CategoryGroupMonthlySales>> getCategoryGroupMonthlySalesByDistrict(@PathVariable String districtName) {
+    public WebAsyncTask<ResponseEntity<List<SalesStatisticsResponse.CategoryGroupMonthlySales>>> getCategoryGroupMonthlySalesByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/monthly/category-groups/{} - 자치구별 업종별 월별 평균 매출 통계 조회 요청", districtName);
         
+        return withDeadline(() -> {
+            try {
+                List<SalesStatisticsResponse.CategoryGroupMonthlySales> categoryGroups = salesDataService.getCategoryGroupMonthlySalesByDistrict(
+                        districtName, MonthRange.of(fromMonth, toMonth));
+            
+                log.info("GET /sales/monthly/category-groups/{} - 성공적으로 {}개 업종 분류별 월별 통계 응답", districtName, categoryGroups.size());
+                return ResponseEntity.ok(categoryGroups);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/monthly/category-groups/{} - 잘못된 파라미터: {}", districtName, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/monthly/category-groups/{} - 자치구별 업종별 월별 평균 매출 통계 조회 중 오류 발생", districtName, e);
+                return serverError();
+            }
+        });
+    }
+
+    /**
+     * 자치구 × 업종 매출 행렬 조회 (히트맵)
+     * 
+     * @param measure 측정값 (amount, count, male-amount, female-amount, male-count, female-count,
+     *                weekday-amount, weekend-amount, weekday-count, weekend-count / 기본값: amount)
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @return 행/열 사전과 [자치구][업종] 측정값 배열
+     */
+    @GetMapping("/matrix")
+    public WebAsyncTask<ResponseEntity<SalesMatrixResponse>> getSalesMatrix(
+            @RequestParam(required = false) String measure,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
+        log.info("GET /sales/matrix?measure={} - 자치구 × 업종 매출 행렬 조회 요청", measure);
+        
+        return withDeadline(() -> {
+            try {
+                SalesMatrixResponse matrix = salesDataService.getSalesMatrix(
+                        SalesMeasure.parse(measure), MonthRange.of(fromMonth, toMonth));
+            
+                log.info("GET /sales/matrix - 성공적으로 {} × {} 행렬 응답", matrix.getDistricts().size(), matrix.getCategories().size());
+                return ResponseEntity.ok(matrix);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/matrix - 잘못된 파라미터: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/matrix - 매출 행렬 조회 중 오류 발생", e);
+                return serverError();
+            }
+        });
+    }
+    
+    /**
+     * 매출 피벗 조회
+     * 
+     * @param request 그룹화 차원 (district, category, category-group, month, quarter, year),
+     *                측정값 × 집계 함수 (sum, avg, min, max), 조건, 정렬, 행 수
+     * @return 열 이름과 행
+     */
+    @PostMapping("/query")
+    public WebAsyncTask<ResponseEntity<SalesQueryResponse>> querySales(@RequestBody SalesQueryRequest request) {
+        log.info("POST /sales/query - 매출 피벗 조회 요청: groupBy={}", request.getGroupBy());
+        
+        return withDeadline(() -> {
+            try {
+                SalesQueryResponse response = salesDataService.querySales(request);
+            
+                log.info("POST /sales/query - 성공적으로 {}행 응답 ({})", response.getRows().size(), response.getSource());
+                return ResponseEntity.ok(response);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("POST /sales/query - 잘못된 요청: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("POST /sales/query - 매출 피벗 조회 중 오류 발생", e);
+                return serverError();
+            }
+        });
+    }
+    
+    /**
+     * 매출 이상치 조회 (심각도 순)
+     * 
+     * @param month 기준 년월 (yyyyMM, 선택 / 기본값: 가장 최근 기준 년월)
+     * @param limit 조회할 개수 (기본값: 100)
+     * @return |점수| 내림차순 이상치 목록
+     */
+    @GetMapping("/anomalies")
+    public ResponseEntity<List<SalesStatisticsResponse.SalesAnomaly>> getSalesAnomalies(
+            @RequestParam(required = false) String month,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /sales/anomalies?month={}&limit={} - 매출 이상치 조회 요청", month, limit);
+        
         try {
-            List<SalesStatisticsResponse.CategoryGroupMonthlySales> categoryGroups = salesDataService.getCategoryGroupMonthlySalesByDistrict(districtName);
+            List<SalesStatisticsResponse.SalesAnomaly> anomalies = salesDataService.getSalesAnomalies(month, limit);
+            
+            log.info("GET /sales/anomalies - 성공적으로 {}건 매출 이상치 응답", anomalies.size());
+            return ResponseEntity.ok(anomalies);
             
-            log.info("GET /sales/monthly/category-groups/{} - 성공적으로 {}개 업종 분류별 월별 통계 응답", districtName, categoryGroups.size());
-            return ResponseEntity.ok(categoryGroups);
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/anomalies - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
             
         } catch (Exception e) {
-            log.error("GET /sales/monthly/category-groups/{} - 자치구별 업종별 월별 평균 매출 통계 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            log.error("GET /sales/anomalies - 매출 이상치 조회 중 오류 발생", e);
+            return serverError();
         }
     }
-
+    
+    /**
+     * 매출 예측 조회 (다음 분기)
+     * 
+     * @param district 자치구명
+     * @param category 서비스 업종명 (선택 / 생략하면 자치구의 모든 업종)
+     * @return 업종, 예측 대상 월 순 예측값과 예측 구간
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<List<SalesStatisticsResponse.SalesForecast>> getSalesForecast(
+            @RequestParam String district,
+            @RequestParam(required = false) String category) {
+        log.info("GET /sales/forecast?district={}&category={} - 매출 예측 조회 요청", district, category);
+        
+        try {
+            List<SalesStatisticsResponse.SalesForecast> forecast = salesDataService.getSalesForecast(district, category);
+            
+            log.info("GET /sales/forecast - 성공적으로 {}건 매출 예측 응답", forecast.size());
+            return ResponseEntity.ok(forecast);
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/forecast - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
+        } catch (Exception e) {
+            log.error("GET /sales/forecast - 매출 예측 조회 중 오류 발생", e);
+            return serverError();
+        }
+    }
+    
+    /**
+     * 매출 금액/객단가 분포 조회 (분위수)
+     * 
+     * @param district 자치구명 (선택)
+     * @param category 서비스 업종명 (선택)
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
+     * @param groupBy 그룹화 기준 (none, district, category, month / 기본값: none)
+     * @param quantiles 분위수 (쉼표 구분, 기본값: 0.5,0.9,0.99)
+     * @return 그룹별 매출 금액/객단가 분위수
+     */
+    @GetMapping("/distribution")
+    public WebAsyncTask<ResponseEntity<List<SalesStatisticsResponse.SalesDistribution>>> getSalesDistribution(
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String quantiles) {
+        log.info("GET /sales/distribution?district={}&category={}&groupBy={} - 매출 분포 조회 요청", district, category, groupBy);
+        
+        return withDeadline(() -> {
+            try {
+                List<SalesStatisticsResponse.SalesDistribution> distribution = salesDataService.getSalesDistribution(
+                        district, category, MonthRange.of(fromMonth, toMonth),
+                        SalesQuantileService.GroupBy.of(groupBy), SalesQuantileService.parseQuantiles(quantiles));
+            
+                log.info("GET /sales/distribution - 성공적으로 {}개 그룹 매출 분포 응답", distribution.size());
+                return ResponseEntity.ok(distribution);
+            
+            } catch (IllegalArgumentException e) {
+                log.warn("GET /sales/distribution - 잘못된 파라미터: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            
+            } catch (Exception e) {
+                log.error("GET /sales/distribution - 매출 분포 조회 중 오류 발생", e);
+                return serverError();
+            }
+        });
+    }
+    
     /**
      * 자치구별 월 평균 매출 조회
      * 
      * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 기준 년월 (yyyyMM, 선택)
      * @return 자치구별 월 평균 매출
      */
     @GetMapping("/average-monthly-sales/{districtName}")
-    public ResponseEntity<Double> getAverageMonthlySalesByDistrict(@PathVariable String districtName) {
+    public ResponseEntity<Double> getAverageMonthlySalesByDistrict(
+            @PathVariable String districtName,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
         log.info("GET /sales/average-monthly-sales/{} - 자치구별 월 평균 매출 조회 요청", districtName);
         
         try {
-            Double avgMonthlySales = salesDataService.getAverageMonthlySalesByDistrict(districtName);
+            Double avgMonthlySales = salesDataService.getAverageMonthlySalesByDistrict(
+                    districtName, MonthRange.of(fromMonth, toMonth));
             
             log.info("GET /sales/average-monthly-sales/{} - 성공적으로 월 평균 매출 응답: {}", districtName, avgMonthlySales);
             return ResponseEntity.ok(avgMonthlySales);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("GET /sales/average-monthly-sales/{} - 잘못된 파라미터: {}", districtName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("GET /sales/average-monthly-sales/{} - 자치구별 월 평균 매출 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
 
@@ -337,7 +658,7 @@ public class SalesDataController {
             
         } catch (Exception e) {
             log.error("GET /sales/recent-businesses/{} - 자치구별 최근 날짜 사업체 수 조회 중 오류 발생", districtName, e);
-            return ResponseEntity.internalServerError().build();
+            return serverError();
         }
     }
     
@@ -373,21 +694,26 @@ public class SalesDataController {
         log.info("GET /sales/test/{} - 자치구 통계 테스트 요청", districtName);
         
         try {
-            // 기본 매출 데이터 조회
-            List<SalesData> salesDataList = salesDataRepository.findByDistrictName(districtName);
+            MonthRange allMonths = MonthRange.all();
+            
+            // 매출 데이터 건수 조회
+            long salesDataCount = salesDataRepository.countByDistrictName(districtName);
             
             // 총 매출 금액 계산
-            BigInteger totalAmount = salesDataRepository.sumMonthlySalesAmountByDistrictName(districtName);
-            Integer totalCount = salesDataRepository.sumMonthlySalesCountByDistrictName(districtName);
+            // 원본 행 합계는 numeric 그대로 표시 (long 범위 제한 없음)
+            BigDecimal totalAmount = Objects.requireNonNullElse(salesDataRepository.sumMonthlySalesAmountByDistrictName(
+                    districtName, allMonths.fromMonth(), allMonths.toMonth()), BigDecimal.ZERO);
+            long totalCount = Objects.requireNonNullElse(salesDataRepository.sumMonthlySalesCountByDistrictName(
+                    districtName, allMonths.fromMonth(), allMonths.toMonth()), 0L);
             
             String response = String.format(
                 "자치구: %s\n" +
                 "매출 데이터 개수: %d개\n" +
                 "총 매출 금액: %s원\n" +
                 "총 매출 건수: %d건",
-                districtName, salesDataList.size(), 
-                totalAmount != null ? totalAmount.toString() : "0",
-                totalCount != null ? totalCount : 0
+                districtName, salesDataCount, 
+                totalAmount,
+                totalCount
             );
             
             log.info("GET /sales/test/{} - 성공적으로 응답", districtName);
@@ -398,4 +724,22 @@ public class SalesDataController {
             return ResponseEntity.internalServerError().body("통계 조회 실패: " + e.getMessage());
         }
     }
+
+    /**
+     * 처리 시한 안에서 비동기 처리 (시한이 지나면 504, 클라이언트 연결이 끊기면 쿼리 취소)
+     */
+    private static <T> WebAsyncTask<ResponseEntity<T>> withDeadline(Callable<ResponseEntity<T>> handler) {
+        QueryDeadline deadline = QueryDeadline.current();
+        // 0 은 시한 없음 (app.deadline.enabled=false)
+        return new WebAsyncTask<>(deadline != null ? Math.max(1, deadline.remainingMillis()) : 0L, handler);
+    }
+
+    /**
+     * 처리 시한이 지났거나 취소되어 실패한 요청은 504, 그 밖의 오류는 500
+     */
+    private static <T> ResponseEntity<T> serverError() {
+        return QueryDeadline.isAbandoned()
+                ? ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build()
+                : ResponseEntity.internalServerError().build();
+    }
 }
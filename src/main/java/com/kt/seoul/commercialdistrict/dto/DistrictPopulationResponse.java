@@ -1,5 +1,6 @@
 package com.kt.seoul.commercialdistrict.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 /**
  * 자치구 인구 통계 응답 DTO
  * 
+ * fields= 파라미터로 일부 필드만 직렬화할 수 있습니다. ({@link FieldSelection})
+ * 
  * @author KT 개발팀
  * @version 1.0.0
  */
@@ -16,6 +19,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class DistrictPopulationResponse {
     
     private Long id;
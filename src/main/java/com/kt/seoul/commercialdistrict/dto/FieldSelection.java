@@ -0,0 +1,89 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 목록 응답에 포함할 필드 선택 (fields=districtName,monthlySalesAmount)
+ *
+ * 선택된 필드만 SQL 에서 조회하고, {@link #FILTER_ID} Jackson 필터로 선택된 필드만 직렬화합니다.
+ * 빈 선택은 전체 필드를 의미합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public record FieldSelection(Set<String> fields) {
+
+    /**
+     * 응답 DTO 의 {@code @JsonFilter} 이름
+     */
+    public static final String FILTER_ID = "fieldSelection";
+
+    /**
+     * 필드 선택 요청 파라미터 이름
+     */
+    public static final String PARAMETER = "fields";
+
+    public FieldSelection {
+        fields = Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+    }
+
+    /**
+     * 전체 필드
+     */
+    public static FieldSelection all() {
+        return new FieldSelection(Set.of());
+    }
+
+    /**
+     * 요청 파라미터로부터 필드 선택 생성
+     *
+     * @param fields 쉼표로 구분된 필드명 (선택)
+     * @param allowed 선택 가능한 필드명
+     * @return 필드 선택
+     * @throws IllegalArgumentException 선택할 수 없는 필드가 포함된 경우
+     */
+    public static FieldSelection of(String fields, Set<String> allowed) {
+        FieldSelection selection = parse(fields);
+        for (String field : selection.fields()) {
+            if (!allowed.contains(field)) {
+                throw new IllegalArgumentException("선택할 수 없는 필드입니다: " + field + " (가능한 필드: " + allowed + ")");
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * 요청 파라미터로부터 필드 선택 생성 (필드명 검증 없음, 직렬화 필터용)
+     *
+     * @param fields 쉼표로 구분된 필드명 (선택)
+     * @return 필드 선택
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return all();
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(selected::add);
+        return new FieldSelection(selected);
+    }
+
+    /**
+     * 전체 필드 여부
+     */
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * 필드 포함 여부
+     */
+    public boolean includes(String field) {
+        return isAll() || fields.contains(field);
+    }
+}
@@ -0,0 +1,75 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+
+/**
+ * 기준 년월 코드 조회 범위 (양 끝 포함)
+ *
+ * sales_data 는 기준_년월_코드 로 월별 파티셔닝되어 있으므로,
+ * 모든 매출 쿼리에 이 범위를 전달하면 PostgreSQL 이 범위 밖 파티션을 스캔하지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public record MonthRange(String fromMonth, String toMonth) {
+
+    /**
+     * 하한이 지정되지 않았을 때 사용하는 값
+     */
+    public static final String MIN_MONTH = "000000";
+
+    /**
+     * 상한이 지정되지 않았을 때 사용하는 값
+     */
+    public static final String MAX_MONTH = "999999";
+
+    public static final DateTimeFormatter YEAR_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final Pattern YEAR_MONTH_PATTERN = Pattern.compile("\\d{6}");
+
+    public MonthRange {
+        if (!YEAR_MONTH_PATTERN.matcher(fromMonth).matches() || !YEAR_MONTH_PATTERN.matcher(toMonth).matches()) {
+            throw new IllegalArgumentException("기준 년월은 yyyyMM 형식이어야 합니다: " + fromMonth + " ~ " + toMonth);
+        }
+        if (fromMonth.compareTo(toMonth) > 0) {
+            throw new IllegalArgumentException("조회 시작 년월이 종료 년월보다 늦습니다: " + fromMonth + " ~ " + toMonth);
+        }
+    }
+
+    /**
+     * 전체 기간
+     */
+    public static MonthRange all() {
+        return new MonthRange(MIN_MONTH, MAX_MONTH);
+    }
+
+    /**
+     * 요청 파라미터로부터 범위 생성 (비어 있는 쪽은 열린 범위)
+     *
+     * @param fromMonth 시작 년월 (yyyyMM, 선택)
+     * @param toMonth 종료 년월 (yyyyMM, 선택)
+     * @return 조회 범위
+     */
+    public static MonthRange of(String fromMonth, String toMonth) {
+        return new MonthRange(
+                fromMonth == null || fromMonth.isBlank() ? MIN_MONTH : fromMonth.trim(),
+                toMonth == null || toMonth.isBlank() ? MAX_MONTH : toMonth.trim());
+    }
+
+    /**
+     * 단일 월
+     */
+    public static MonthRange of(YearMonth month) {
+        String code = month.format(YEAR_MONTH_FORMAT);
+        return new MonthRange(code, code);
+    }
+
+    /**
+     * 전체 기간 여부
+     */
+    public boolean isUnbounded() {
+        return MIN_MONTH.equals(fromMonth) && MAX_MONTH.equals(toMonth);
+    }
+}
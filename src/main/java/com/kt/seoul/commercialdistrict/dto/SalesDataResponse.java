@@ -1,15 +1,16 @@
 package com.kt.seoul.commercialdistrict.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigInteger;
-
 /**
  * 매출 데이터 응답 DTO
  * 
+ * fields= 파라미터로 일부 필드만 직렬화할 수 있습니다. ({@link FieldSelection})
+ * 
  * @author KT 개발팀
  * @version 1.0.0
  */
@@ -17,6 +18,7 @@ import java.math.BigInteger;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class SalesDataResponse {
     
     /**
@@ -52,50 +54,50 @@ public class SalesDataResponse {
     /**
      * 당월 매출 금액
      */
-    private BigInteger monthlySalesAmount;
+    private long monthlySalesAmount;
     
     /**
      * 당월 매출 건수
      */
-    private Integer monthlySalesCount;
+    private int monthlySalesCount;
     
     /**
      * 주중 매출 금액
      */
-    private BigInteger weekdaySalesAmount;
+    private long weekdaySalesAmount;
     
     /**
      * 주말 매출 금액
      */
-    private BigInteger weekendSalesAmount;
+    private long weekendSalesAmount;
     
     /**
      * 남성 매출 금액
      */
-    private BigInteger maleSalesAmount;
+    private long maleSalesAmount;
     
     /**
      * 여성 매출 금액
      */
-    private BigInteger femaleSalesAmount;
+    private long femaleSalesAmount;
     
     /**
      * 주중 매출 건수
      */
-    private Integer weekdaySalesCount;
+    private int weekdaySalesCount;
     
     /**
      * 주말 매출 건수
      */
-    private Integer weekendSalesCount;
+    private int weekendSalesCount;
     
     /**
      * 남성 매출 건수
      */
-    private Integer maleSalesCount;
+    private int maleSalesCount;
     
     /**
      * 여성 매출 건수
      */
-    private Integer femaleSalesCount;
+    private int femaleSalesCount;
 }
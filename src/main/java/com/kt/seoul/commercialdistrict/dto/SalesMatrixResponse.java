@@ -0,0 +1,46 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 자치구 × 업종 매출 행렬 응답 DTO (히트맵)
+ *
+ * 중첩 객체 대신 행/열 사전과 밀집 2차원 배열로 인코딩합니다.
+ * values[i][j] 는 districts[i], categories[j] 의 측정값 합계이며 데이터가 없는 칸은 0 입니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesMatrixResponse {
+
+    /**
+     * 측정값 이름 (예: amount, male-amount)
+     */
+    private String measure;
+    private String fromMonth;
+    private String toMonth;
+
+    /**
+     * 행 사전 (자치구명, 이름 순)
+     */
+    private List<String> districts;
+
+    /**
+     * 열 사전 (업종명, 이름 순)
+     */
+    private List<String> categories;
+
+    /**
+     * [자치구][업종] 측정값 합계
+     */
+    private long[][] values;
+}
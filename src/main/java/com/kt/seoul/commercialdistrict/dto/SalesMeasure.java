@@ -0,0 +1,78 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 매출 집계 측정값 (행렬/피벗 조회에서 선택)
+ *
+ * 파라미터 값은 소문자 이름이며 '-' 와 '_' 를 구분하지 않습니다 (예: amount, male-amount, weekend_count).
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public enum SalesMeasure {
+
+    AMOUNT("당월_매출_금액", SalesMonthlyAggregate::getMonthlySalesAmount),
+    COUNT("당월_매출_건수", SalesMonthlyAggregate::getMonthlySalesCount),
+    MALE_AMOUNT("남성_매출_금액", SalesMonthlyAggregate::getMaleSalesAmount),
+    FEMALE_AMOUNT("여성_매출_금액", SalesMonthlyAggregate::getFemaleSalesAmount),
+    MALE_COUNT("남성_매출_건수", SalesMonthlyAggregate::getMaleSalesCount),
+    FEMALE_COUNT("여성_매출_건수", SalesMonthlyAggregate::getFemaleSalesCount),
+    WEEKDAY_AMOUNT("주중_매출_금액", SalesMonthlyAggregate::getWeekdaySalesAmount),
+    WEEKEND_AMOUNT("주말_매출_금액", SalesMonthlyAggregate::getWeekendSalesAmount),
+    WEEKDAY_COUNT("주중_매출_건수", SalesMonthlyAggregate::getWeekdaySalesCount),
+    WEEKEND_COUNT("주말_매출_건수", SalesMonthlyAggregate::getWeekendSalesCount);
+
+    private final String column;
+    private final ToLongFunction<SalesMonthlyAggregate> extractor;
+
+    SalesMeasure(String column, ToLongFunction<SalesMonthlyAggregate> extractor) {
+        this.column = column;
+        this.extractor = extractor;
+    }
+
+    /**
+     * sales_data / sales_monthly_aggregate 의 컬럼명 (두 테이블이 같은 이름을 사용)
+     */
+    public String column() {
+        return column;
+    }
+
+    /**
+     * 집계 행에서 측정값 추출
+     */
+    public long of(SalesMonthlyAggregate aggregate) {
+        return extractor.applyAsLong(aggregate);
+    }
+
+    /**
+     * 파라미터 이름 (예: male-amount)
+     */
+    public String parameterName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * 파라미터 값으로 측정값 찾기 (비어 있으면 AMOUNT)
+     *
+     * @throws IllegalArgumentException 알 수 없는 측정값
+     */
+    public static SalesMeasure parse(String value) {
+        if (value == null || value.isBlank()) {
+            return AMOUNT;
+        }
+        String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (SalesMeasure measure : values()) {
+            if (measure.name().equals(name)) {
+                return measure;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 측정값입니다: " + value + " (사용 가능: " +
+                Arrays.stream(values()).map(SalesMeasure::parameterName).collect(Collectors.joining(", ")) + ")");
+    }
+}
@@ -0,0 +1,200 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검증·정규화된 매출 피벗 조회
+ *
+ * 필터 값은 중복을 제거하고 정렬하며, 정렬 기준 뒤에는 나머지 차원을 오름차순으로 덧붙여 결과 순서를 고정합니다.
+ * 따라서 의미가 같은 요청은 같은 {@link #cacheKey()} 를 가집니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public record SalesPivotQuery(List<Dimension> dimensions, List<MeasureSpec> measures,
+                              List<String> districts, List<String> categories, List<String> categoryGroups,
+                              MonthRange monthRange, List<Ordering> orderBy, int limit) {
+
+    public static final int MAX_DIMENSIONS = 4;
+    public static final int MAX_MEASURES = 20;
+    public static final int MAX_FILTER_VALUES = 100;
+
+    /**
+     * 그룹화 차원
+     */
+    public enum Dimension {
+        DISTRICT, CATEGORY, CATEGORY_GROUP, MONTH, QUARTER, YEAR;
+
+        /**
+         * 파라미터 이름 (예: category-group)
+         */
+        public String parameterName() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+
+        public static Dimension parse(String value) {
+            return parseName(values(), value, "차원", Dimension::parameterName);
+        }
+    }
+
+    /**
+     * 집계 함수
+     */
+    public enum Aggregate {
+        SUM, AVG, MIN, MAX;
+
+        public static Aggregate parse(String value) {
+            if (value == null || value.isBlank()) {
+                return SUM;
+            }
+            return parseName(values(), value, "집계 함수", a -> a.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 측정값과 집계 함수 (응답 열 이름은 {@link #alias()})
+     */
+    public record MeasureSpec(SalesMeasure measure, Aggregate function) {
+
+        /**
+         * 응답 열 이름 (예: sum_amount, avg_male_count)
+         */
+        public String alias() {
+            return function.name().toLowerCase(Locale.ROOT) + "_" + measure.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 정렬 기준 (열 이름과 방향)
+     */
+    public record Ordering(String column, boolean descending) {
+    }
+
+    /**
+     * 요청을 검증하고 정규화
+     *
+     * @param request 요청
+     * @param defaultLimit limit 이 없을 때의 행 수
+     * @param maxLimit 허용하는 최대 행 수
+     * @return 정규화된 조회
+     * @throws IllegalArgumentException 알 수 없는 이름이나 한도를 넘는 요청
+     */
+    public static SalesPivotQuery from(SalesQueryRequest request, int defaultLimit, int maxLimit) {
+        List<Dimension> dimensions = new ArrayList<>(new LinkedHashSet<>(
+                nullToEmpty(request.getGroupBy()).stream().map(Dimension::parse).toList()));
+        if (dimensions.size() > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("그룹화 차원은 최대 " + MAX_DIMENSIONS + "개입니다");
+        }
+
+        List<MeasureSpec> measures = new ArrayList<>(new LinkedHashSet<>(nullToEmpty(request.getMeasures()).stream()
+                .filter(Objects::nonNull)
+                .map(m -> new MeasureSpec(SalesMeasure.parse(m.getMeasure()), Aggregate.parse(m.getFunction())))
+                .toList()));
+        if (measures.isEmpty()) {
+            measures.add(new MeasureSpec(SalesMeasure.AMOUNT, Aggregate.SUM));
+        }
+        if (measures.size() > MAX_MEASURES) {
+            throw new IllegalArgumentException("측정값은 최대 " + MAX_MEASURES + "개입니다");
+        }
+
+        SalesQueryRequest.Filters filters = request.getFilters() != null ? request.getFilters() : new SalesQueryRequest.Filters();
+        MonthRange monthRange = MonthRange.of(filters.getFromMonth(), filters.getToMonth());
+
+        Set<String> columns = new LinkedHashSet<>();
+        dimensions.forEach(d -> columns.add(d.parameterName()));
+        measures.forEach(m -> columns.add(m.alias()));
+        List<Ordering> orderBy = new ArrayList<>();
+        Set<String> ordered = new LinkedHashSet<>();
+        for (SalesQueryRequest.Order order : nullToEmpty(request.getOrderBy())) {
+            if (order == null) {
+                continue;
+            }
+            String column = order.getField() == null ? "" : order.getField().trim().toLowerCase(Locale.ROOT);
+            if (!columns.contains(column)) {
+                throw new IllegalArgumentException("정렬할 수 없는 열입니다: " + order.getField() + " (가능한 열: " + columns + ")");
+            }
+            if (ordered.add(column)) {
+                orderBy.add(new Ordering(column, parseDescending(order.getDirection())));
+            }
+        }
+        for (Dimension dimension : dimensions) {
+            if (ordered.add(dimension.parameterName())) {
+                orderBy.add(new Ordering(dimension.parameterName(), false));
+            }
+        }
+
+        int limit = request.getLimit() != null ? request.getLimit() : defaultLimit;
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + maxLimit + " 이하여야 합니다: " + limit);
+        }
+
+        return new SalesPivotQuery(List.copyOf(dimensions), List.copyOf(measures),
+                normalizeValues(filters.getDistricts(), "districts"),
+                normalizeValues(filters.getCategories(), "categories"),
+                normalizeValues(filters.getCategoryGroups(), "categoryGroups"),
+                monthRange, List.copyOf(orderBy), limit);
+    }
+
+    /**
+     * 원본 행이 필요한지 여부 (min/max 는 집계 테이블에서 계산할 수 없음)
+     */
+    public boolean requiresRawRows() {
+        return measures.stream().anyMatch(m -> m.function() == Aggregate.MIN || m.function() == Aggregate.MAX);
+    }
+
+    /**
+     * 정규화된 조회의 캐시 키 (의미가 같은 요청은 같은 키)
+     */
+    public String cacheKey() {
+        return dimensions + "|" + measures.stream().map(MeasureSpec::alias).collect(Collectors.joining(",")) +
+                "|" + districts + "|" + categories + "|" + categoryGroups + "|" + monthRange.fromMonth() + "|" +
+                monthRange.toMonth() + "|" + orderBy.stream().map(o -> o.column() + (o.descending() ? "-" : "+"))
+                .collect(Collectors.joining(",")) + "|" + limit;
+    }
+
+    private static boolean parseDescending(String direction) {
+        if (direction == null || direction.isBlank() || direction.trim().equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.trim().equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("정렬 방향은 asc 또는 desc 입니다: " + direction);
+    }
+
+    private static List<String> normalizeValues(List<String> values, String name) {
+        TreeSet<String> normalized = nullToEmpty(values).stream()
+                .filter(v -> v != null && !v.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (normalized.size() > MAX_FILTER_VALUES) {
+            throw new IllegalArgumentException(name + " 조건 값은 최대 " + MAX_FILTER_VALUES + "개입니다");
+        }
+        return List.copyOf(normalized);
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static <E extends Enum<E>> E parseName(E[] values, String value, String label,
+                                                   Function<E, String> parameterName) {
+        String name = value == null ? "" : value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (E candidate : values) {
+            if (candidate.name().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 " + label + "입니다: " + value + " (사용 가능: " +
+                Arrays.stream(values).map(parameterName).collect(Collectors.joining(", ")) + ")");
+    }
+}
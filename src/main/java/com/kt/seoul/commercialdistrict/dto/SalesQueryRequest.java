@@ -0,0 +1,98 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매출 피벗 조회 요청 DTO (POST /sales/query)
+ *
+ * 이름은 모두 화이트리스트에서 검증한 뒤 {@link SalesPivotQuery} 로 정규화하며, 요청 값이 SQL 에 직접 들어가지 않습니다.
+ *
+ * <pre>
+ * {"groupBy": ["district", "quarter"],
+ *  "measures": [{"measure": "amount", "function": "sum"}, {"measure": "male-count", "function": "avg"}],
+ *  "filters": {"categories": ["한식음식점"], "fromMonth": "202401", "toMonth": "202412"},
+ *  "orderBy": [{"field": "sum_amount", "direction": "desc"}],
+ *  "limit": 100}
+ * </pre>
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesQueryRequest {
+
+    /**
+     * 그룹화 차원 (district, category, category-group, month, quarter, year)
+     */
+    private List<String> groupBy;
+
+    private List<Measure> measures;
+
+    private Filters filters;
+
+    /**
+     * 정렬 (차원 이름 또는 측정값 별칭, 생략하면 차원 순 오름차순)
+     */
+    private List<Order> orderBy;
+
+    /**
+     * 최대 행 수 (생략하면 app.pivot.default-rows)
+     */
+    private Integer limit;
+
+    /**
+     * 측정값과 집계 함수
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Measure {
+        /**
+         * 측정값 ({@link SalesMeasure} 파라미터 이름, 예: amount, weekend-count)
+         */
+        private String measure;
+        /**
+         * 집계 함수 (sum, avg, min, max / 기본값: sum)
+         */
+        private String function;
+    }
+
+    /**
+     * 조건 (목록은 IN, 비어 있으면 조건 없음)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filters {
+        private List<String> districts;
+        private List<String> categories;
+        private List<String> categoryGroups;
+        private String fromMonth;
+        private String toMonth;
+    }
+
+    /**
+     * 정렬 기준
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Order {
+        private String field;
+        /**
+         * asc 또는 desc (기본값: asc)
+         */
+        private String direction;
+    }
+}
@@ -0,0 +1,40 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매출 피벗 조회 응답 DTO
+ *
+ * rows[i][j] 는 columns[j] 의 값입니다. 차원은 문자열, sum/min/max 는 정수, avg 는 실수입니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesQueryResponse {
+
+    /**
+     * 열 이름 (차원 이름, 측정값 별칭 순)
+     */
+    private List<String> columns;
+
+    private List<List<Object>> rows;
+
+    /**
+     * 조회한 테이블 (aggregate: sales_monthly_aggregate, raw: sales_data)
+     */
+    private String source;
+
+    /**
+     * limit 보다 많은 행이 있어 잘렸는지 여부
+     */
+    private boolean truncated;
+}
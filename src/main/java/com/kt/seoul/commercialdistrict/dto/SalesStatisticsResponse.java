@@ -5,8 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 매출 통계 응답 DTO
@@ -27,8 +27,8 @@ public class SalesStatisticsResponse {
     @AllArgsConstructor
     public static class CategorySalesStatistics {
         private String serviceCategoryName;
-        private BigInteger totalAmount;
-        private Integer totalCount;
+        private long totalAmount;
+        private long totalCount;
     }
     
     /**
@@ -40,8 +40,8 @@ public class SalesStatisticsResponse {
     @AllArgsConstructor
     public static class DistrictSalesStatistics {
         private String districtName;
-        private BigInteger totalAmount;
-        private Integer totalCount;
+        private long totalAmount;
+        private long totalCount;
     }
     
     /**
@@ -52,10 +52,10 @@ public class SalesStatisticsResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class GenderSalesStatistics {
-        private BigInteger maleAmount;
-        private BigInteger femaleAmount;
-        private Integer maleCount;
-        private Integer femaleCount;
+        private long maleAmount;
+        private long femaleAmount;
+        private long maleCount;
+        private long femaleCount;
     }
     
     /**
@@ -66,10 +66,10 @@ public class SalesStatisticsResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class WeekdayWeekendSalesStatistics {
-        private BigInteger weekdayAmount;
-        private BigInteger weekendAmount;
-        private Integer weekdayCount;
-        private Integer weekendCount;
+        private long weekdayAmount;
+        private long weekendAmount;
+        private long weekdayCount;
+        private long weekendCount;
     }
     
     /**
@@ -81,8 +81,8 @@ public class SalesStatisticsResponse {
     @AllArgsConstructor
     public static class DistrictTotalSales {
         private String districtName;
-        private BigInteger totalAmount;
-        private Integer totalCount;
+        private long totalAmount;
+        private long totalCount;
         private List<CategorySalesStatistics> categoryStatistics;
         private GenderSalesStatistics genderStatistics;
         private WeekdayWeekendSalesStatistics weekdayWeekendStatistics;
@@ -113,4 +113,87 @@ public class SalesStatisticsResponse {
         private String categoryGroup;
         private List<MonthlyAverageSales> monthlyData;
     }
+    
+    /**
+     * 매출 금액/객단가 분포 (분위수)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesDistribution {
+        /**
+         * 그룹 값 (자치구명, 업종명 또는 기준 년월, 그룹화하지 않으면 null)
+         */
+        private String group;
+        private long rowCount;
+        /**
+         * 당월 매출 금액 분위수 (예: p50, p90, p99)
+         */
+        private Map<String, Double> salesAmountQuantiles;
+        /**
+         * 객단가(금액/건수) 분위수
+         */
+        private Map<String, Double> ticketSizeQuantiles;
+    }
+    
+    /**
+     * 매출 이상치 (심각도 순)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesAnomaly {
+        private String baseYearMonth;
+        private String districtName;
+        private String serviceCategoryName;
+        private long actualSalesAmount;
+        /**
+         * 기준선으로 추정한 매출 금액
+         */
+        private long expectedSalesAmount;
+        /**
+         * 로버스트 z 점수 (음수는 기대보다 감소)
+         */
+        private double score;
+        /**
+         * 심각도 (MEDIUM, HIGH, CRITICAL)
+         */
+        private String severity;
+        /**
+         * 기준선 (seasonal: 전년 동월 + 추세, level: 최근 중앙값)
+         */
+        private String baseline;
+    }
+    
+    /**
+     * 매출 예측 (예측 대상 월별)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesForecast {
+        /**
+         * 예측 대상 기준 년월
+         */
+        private String baseYearMonth;
+        private String districtName;
+        private String serviceCategoryName;
+        /**
+         * 마지막 관측 월로부터 몇 개월 뒤인지 (1부터)
+         */
+        private int horizon;
+        private long forecastSalesAmount;
+        /**
+         * 예측 구간 하한/상한
+         */
+        private long lowerSalesAmount;
+        private long upperSalesAmount;
+        /**
+         * 모델 (holt-winters, drift)
+         */
+        private String model;
+    }
 }
@@ -0,0 +1,61 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+/**
+ * 서울시 25개 자치구 (행정 코드, 이름)
+ *
+ * 기본 자치구 코드(district_codes) 적재와 합성 데이터 생성이 같은 코드를 쓰도록 이 목록만 사용합니다.
+ * 값은 DDL.sql 의 district_codes 샘플 데이터와 같습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public enum SeoulDistrict {
+
+    JONGNO("11110", "종로구"),
+    JUNG("11140", "중구"),
+    YONGSAN("11170", "용산구"),
+    SEONGDONG("11200", "성동구"),
+    GWANGJIN("11215", "광진구"),
+    DONGDAEMUN("11230", "동대문구"),
+    JUNGNANG("11260", "중랑구"),
+    SEONGBUK("11290", "성북구"),
+    GANGBUK("11305", "강북구"),
+    DOBONG("11320", "도봉구"),
+    NOWON("11350", "노원구"),
+    EUNPYEONG("11380", "은평구"),
+    SEODAEMUN("11410", "서대문구"),
+    MAPO("11440", "마포구"),
+    YANGCHEON("11470", "양천구"),
+    GANGSEO("11500", "강서구"),
+    GURO("11530", "구로구"),
+    GEUMCHEON("11545", "금천구"),
+    YEONGDEUNGPO("11560", "영등포구"),
+    DONGJAK("11590", "동작구"),
+    GWANAK("11620", "관악구"),
+    SEOCHO("11650", "서초구"),
+    GANGNAM("11680", "강남구"),
+    SONGPA("11710", "송파구"),
+    GANGDONG("11740", "강동구");
+
+    private final String code;
+    private final String districtName;
+
+    SeoulDistrict(String code, String districtName) {
+        this.code = code;
+        this.districtName = districtName;
+    }
+
+    /**
+     * 행정 코드 (예: 11680)
+     */
+    public String code() {
+        return code;
+    }
+
+    /**
+     * 자치구명 (예: 강남구)
+     */
+    public String districtName() {
+        return districtName;
+    }
+}
@@ -0,0 +1,42 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매출 데이터 Parquet 스냅샷 매니페스트 (스냅샷 디렉터리의 manifest.json)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotManifest {
+
+    private String snapshotId;
+    private LocalDateTime createdAt;
+    private long totalRows;
+    private List<MonthFile> files;
+
+    /**
+     * 기준 년월별 Parquet 파일
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthFile {
+        private String baseYearMonth;
+        private String path;
+        private long rows;
+        private long bytes;
+        private String sha256;
+    }
+}
@@ -0,0 +1,41 @@
+package com.kt.seoul.commercialdistrict.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터셋 버전 Entity
+ * 
+ * 데이터가 바뀌면 DatasetVersionService 가 dataset_version_seq 에서 받은 버전으로 NOTIFY 하고,
+ * 커밋 후 이 행에 기록합니다.
+ * 
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "dataset_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatasetVersion {
+    
+    /**
+     * 데이터셋 이름 (예: sales_data)
+     */
+    @Id
+    @Column(name = "dataset", length = 50)
+    private String dataset;
+    
+    /**
+     * 마지막으로 커밋된 변경의 버전 (증가하지만 연속되지는 않음)
+     */
+    @Column(name = "version", nullable = false)
+    private long version;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
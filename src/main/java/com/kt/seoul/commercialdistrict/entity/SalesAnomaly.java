@@ -0,0 +1,66 @@
+package com.kt.seoul.commercialdistrict.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자치구/업종/기준 년월별 매출 이상치 Entity
+ *
+ * 데이터가 적재된 뒤 SalesAnomalyService 가 모든 자치구 × 업종 월별 시계열을 점수화하여
+ * 임계값을 넘은 달만 저장합니다. 배치마다 전체를 다시 쓰며, 직접 저장하지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_anomaly")
+@IdClass(SalesMonthlyAggregate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesAnomaly {
+
+    @Id
+    @Column(name = "기준_년월_코드", length = 10)
+    private String baseYearMonth;
+
+    @Id
+    @Column(name = "자치구_코드_명", length = 20)
+    private String districtName;
+
+    @Id
+    @Column(name = "서비스_업종_코드_명", length = 50)
+    private String serviceCategoryName;
+
+    /**
+     * 실제 당월 매출 금액
+     */
+    @Column(name = "실제_매출_금액", nullable = false)
+    private long actualSalesAmount;
+
+    /**
+     * 기준선으로 추정한 당월 매출 금액
+     */
+    @Column(name = "기대_매출_금액", nullable = false)
+    private long expectedSalesAmount;
+
+    /**
+     * 로버스트 z 점수 (기준선 대비 편차 / 1.4826·MAD, 음수는 감소)
+     */
+    @Column(name = "점수", nullable = false)
+    private double score;
+
+    /**
+     * 심각도 (MEDIUM, HIGH, CRITICAL)
+     */
+    @Column(name = "심각도", length = 10, nullable = false)
+    private String severity;
+
+    /**
+     * 사용한 기준선 (seasonal: 전년 동월 + 추세, level: 최근 중앙값)
+     */
+    @Column(name = "기준선", length = 10, nullable = false)
+    private String baseline;
+}
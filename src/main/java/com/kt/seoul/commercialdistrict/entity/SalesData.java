@@ -6,7 +6,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigInteger;
 
 /**
  * 매출 데이터 Entity
@@ -62,60 +61,60 @@ public class SalesData {
     /**
      * 당월 매출 금액
      */
-    @Column(name = "당월_매출_금액")
-    private BigInteger monthlySalesAmount;
+    @Column(name = "당월_매출_금액", nullable = false)
+    private long monthlySalesAmount;
     
     /**
      * 당월 매출 건수
      */
-    @Column(name = "당월_매출_건수")
-    private Integer monthlySalesCount;
+    @Column(name = "당월_매출_건수", nullable = false)
+    private int monthlySalesCount;
     
     /**
      * 주중 매출 금액
      */
-    @Column(name = "주중_매출_금액")
-    private BigInteger weekdaySalesAmount;
+    @Column(name = "주중_매출_금액", nullable = false)
+    private long weekdaySalesAmount;
     
     /**
      * 주말 매출 금액
      */
-    @Column(name = "주말_매출_금액")
-    private BigInteger weekendSalesAmount;
+    @Column(name = "주말_매출_금액", nullable = false)
+    private long weekendSalesAmount;
     
     /**
      * 남성 매출 금액
      */
-    @Column(name = "남성_매출_금액")
-    private BigInteger maleSalesAmount;
+    @Column(name = "남성_매출_금액", nullable = false)
+    private long maleSalesAmount;
     
     /**
      * 여성 매출 금액
      */
-    @Column(name = "여성_매출_금액")
-    private BigInteger femaleSalesAmount;
+    @Column(name = "여성_매출_금액", nullable = false)
+    private long femaleSalesAmount;
     
     /**
      * 주중 매출 건수
      */
-    @Column(name = "주중_매출_건수")
-    private Integer weekdaySalesCount;
+    @Column(name = "주중_매출_건수", nullable = false)
+    private int weekdaySalesCount;
     
     /**
      * 주말 매출 건수
      */
-    @Column(name = "주말_매출_건수")
-    private Integer weekendSalesCount;
+    @Column(name = "주말_매출_건수", nullable = false)
+    private int weekendSalesCount;
     
     /**
      * 남성 매출 건수
      */
-    @Column(name = "남성_매출_건수")
-    private Integer maleSalesCount;
+    @Column(name = "남성_매출_건수", nullable = false)
+    private int maleSalesCount;
     
     /**
      * 여성 매출 건수
      */
-    @Column(name = "여성_매출_건수")
-    private Integer femaleSalesCount;
+    @Column(name = "여성_매출_건수", nullable = false)
+    private int femaleSalesCount;
 }
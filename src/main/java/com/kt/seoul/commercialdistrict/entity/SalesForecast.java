@@ -0,0 +1,60 @@
+package com.kt.seoul.commercialdistrict.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자치구/업종/예측 기준 년월별 매출 예측 Entity
+ *
+ * 데이터가 적재된 뒤 SalesForecastService 가 모든 자치구 × 업종 월별 시계열에 모델을 맞추어
+ * 최근 기준 년월 다음 달부터 horizon 개월의 예측값과 예측 구간을 저장합니다. 배치마다 전체를 다시 쓰며, 직접 저장하지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_forecast")
+@IdClass(SalesMonthlyAggregate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesForecast {
+
+    /**
+     * 예측 대상 기준 년월
+     */
+    @Id
+    @Column(name = "기준_년월_코드", length = 10)
+    private String baseYearMonth;
+
+    @Id
+    @Column(name = "자치구_코드_명", length = 20)
+    private String districtName;
+
+    @Id
+    @Column(name = "서비스_업종_코드_명", length = 50)
+    private String serviceCategoryName;
+
+    /**
+     * 마지막 관측 월로부터 몇 개월 뒤인지 (1부터)
+     */
+    @Column(name = "예측_개월", nullable = false)
+    private int horizon;
+
+    @Column(name = "예측_매출_금액", nullable = false)
+    private long forecastSalesAmount;
+
+    @Column(name = "하한_매출_금액", nullable = false)
+    private long lowerSalesAmount;
+
+    @Column(name = "상한_매출_금액", nullable = false)
+    private long upperSalesAmount;
+
+    /**
+     * 사용한 모델 (holt-winters, drift)
+     */
+    @Column(name = "모델", length = 20, nullable = false)
+    private String model;
+}
@@ -0,0 +1,95 @@
+package com.kt.seoul.commercialdistrict.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 자치구/업종/기준 년월별 매출 집계 Entity
+ *
+ * sales_data 쓰기와 같은 트랜잭션에서 SalesAggregateService 가 증분으로 갱신하며, 직접 저장하지 않습니다.
+ * 자치구/업종명이 없는 원본 행은 빈 문자열 키로 집계됩니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_monthly_aggregate")
+@IdClass(SalesMonthlyAggregate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesMonthlyAggregate {
+
+    /**
+     * 기준 년월 코드 (예: 202504)
+     */
+    @Id
+    @Column(name = "기준_년월_코드", length = 10)
+    private String baseYearMonth;
+
+    /**
+     * 자치구 코드명 (예: 양천구)
+     */
+    @Id
+    @Column(name = "자치구_코드_명", length = 20)
+    private String districtName;
+
+    /**
+     * 서비스 업종 코드명 (예: 분식전문점)
+     */
+    @Id
+    @Column(name = "서비스_업종_코드_명", length = 50)
+    private String serviceCategoryName;
+
+    /**
+     * 집계된 원본 행 수
+     */
+    @Column(name = "행_수", nullable = false)
+    private long rowCount;
+
+    @Column(name = "당월_매출_금액", nullable = false)
+    private long monthlySalesAmount;
+
+    @Column(name = "당월_매출_건수", nullable = false)
+    private long monthlySalesCount;
+
+    @Column(name = "주중_매출_금액", nullable = false)
+    private long weekdaySalesAmount;
+
+    @Column(name = "주말_매출_금액", nullable = false)
+    private long weekendSalesAmount;
+
+    @Column(name = "남성_매출_금액", nullable = false)
+    private long maleSalesAmount;
+
+    @Column(name = "여성_매출_금액", nullable = false)
+    private long femaleSalesAmount;
+
+    @Column(name = "주중_매출_건수", nullable = false)
+    private long weekdaySalesCount;
+
+    @Column(name = "주말_매출_건수", nullable = false)
+    private long weekendSalesCount;
+
+    @Column(name = "남성_매출_건수", nullable = false)
+    private long maleSalesCount;
+
+    @Column(name = "여성_매출_건수", nullable = false)
+    private long femaleSalesCount;
+
+    /**
+     * 복합 키 (기준 년월, 자치구명, 업종명)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String baseYearMonth;
+        private String districtName;
+        private String serviceCategoryName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kt.seoul.commercialdistrict.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자치구/업종/기준 년월별 매출 분포 스케치 Entity
+ *
+ * 그룹에 속한 원본 행의 당월 매출 금액과 객단가(금액/건수)를 t-digest 로 요약한 직렬화 값입니다.
+ * sales_data 쓰기와 같은 트랜잭션에서 SalesQuantileService 가 갱신하며, 직접 저장하지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_quantile_sketch")
+@IdClass(SalesMonthlyAggregate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesQuantileSketch {
+
+    @Id
+    @Column(name = "기준_년월_코드", length = 10)
+    private String baseYearMonth;
+
+    @Id
+    @Column(name = "자치구_코드_명", length = 20)
+    private String districtName;
+
+    @Id
+    @Column(name = "서비스_업종_코드_명", length = 50)
+    private String serviceCategoryName;
+
+    /**
+     * 당월 매출 금액 t-digest
+     */
+    @Column(name = "매출_금액_스케치", nullable = false)
+    private byte[] salesAmountSketch;
+
+    /**
+     * 객단가(당월 매출 금액 / 당월 매출 건수, 건수가 0 인 행 제외) t-digest
+     */
+    @Column(name = "객단가_스케치", nullable = false)
+    private byte[] ticketSizeSketch;
+}
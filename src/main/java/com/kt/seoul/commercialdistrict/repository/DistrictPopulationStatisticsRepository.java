@@ -16,6 +16,7 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
+@Workload(Workload.Kind.INTERACTIVE)
 public interface DistrictPopulationStatisticsRepository extends JpaRepository<DistrictPopulationStatistics, Long> {
     
     /**
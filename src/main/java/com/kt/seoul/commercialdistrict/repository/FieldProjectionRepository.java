@@ -0,0 +1,214 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import com.kt.seoul.commercialdistrict.dto.DistrictPopulationResponse;
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.dto.SalesDataResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 목록 조회 및 필드 선택(fields=) Repository
+ *
+ * 요청된 필드에 해당하는 컬럼만 SELECT 하여 응답 DTO 의 해당 필드만 채웁니다 (선택이 없으면 전체 컬럼).
+ * JPA 엔티티를 거치지 않으므로 영속성 컨텍스트 등록/스냅샷 없이 행이 바로 DTO 가 되며,
+ * 트랜잭션 안에서는 spring.jdbc.template.fetch-size 단위로 커서를 통해 읽습니다.
+ * 컬럼 목록은 아래 화이트리스트에서만 만들어지므로 요청 값이 SQL 에 직접 들어가지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class FieldProjectionRepository {
+
+    private static final Map<String, Column<SalesDataResponse>> SALES_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Column<DistrictPopulationResponse>> POPULATION_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        SALES_COLUMNS.put("id", new Column<>("id", (r, rs, c) -> r.setId(getLong(rs, c))));
+        SALES_COLUMNS.put("baseYearMonth", new Column<>("기준_년월_코드", (r, rs, c) -> r.setBaseYearMonth(rs.getString(c))));
+        SALES_COLUMNS.put("districtCode", new Column<>("자치구_코드", (r, rs, c) -> r.setDistrictCode(getInt(rs, c))));
+        SALES_COLUMNS.put("districtName", new Column<>("자치구_코드_명", (r, rs, c) -> r.setDistrictName(rs.getString(c))));
+        SALES_COLUMNS.put("serviceCategoryCode", new Column<>("서비스_업종_코드", (r, rs, c) -> r.setServiceCategoryCode(rs.getString(c))));
+        SALES_COLUMNS.put("serviceCategoryName", new Column<>("서비스_업종_코드_명", (r, rs, c) -> r.setServiceCategoryName(rs.getString(c))));
+        SALES_COLUMNS.put("monthlySalesAmount", new Column<>("당월_매출_금액", (r, rs, c) -> r.setMonthlySalesAmount(rs.getLong(c))));
+        SALES_COLUMNS.put("monthlySalesCount", new Column<>("당월_매출_건수", (r, rs, c) -> r.setMonthlySalesCount(rs.getInt(c))));
+        SALES_COLUMNS.put("weekdaySalesAmount", new Column<>("주중_매출_금액", (r, rs, c) -> r.setWeekdaySalesAmount(rs.getLong(c))));
+        SALES_COLUMNS.put("weekendSalesAmount", new Column<>("주말_매출_금액", (r, rs, c) -> r.setWeekendSalesAmount(rs.getLong(c))));
+        SALES_COLUMNS.put("maleSalesAmount", new Column<>("남성_매출_금액", (r, rs, c) -> r.setMaleSalesAmount(rs.getLong(c))));
+        SALES_COLUMNS.put("femaleSalesAmount", new Column<>("여성_매출_금액", (r, rs, c) -> r.setFemaleSalesAmount(rs.getLong(c))));
+        SALES_COLUMNS.put("weekdaySalesCount", new Column<>("주중_매출_건수", (r, rs, c) -> r.setWeekdaySalesCount(rs.getInt(c))));
+        SALES_COLUMNS.put("weekendSalesCount", new Column<>("주말_매출_건수", (r, rs, c) -> r.setWeekendSalesCount(rs.getInt(c))));
+        SALES_COLUMNS.put("maleSalesCount", new Column<>("남성_매출_건수", (r, rs, c) -> r.setMaleSalesCount(rs.getInt(c))));
+        SALES_COLUMNS.put("femaleSalesCount", new Column<>("여성_매출_건수", (r, rs, c) -> r.setFemaleSalesCount(rs.getInt(c))));
+
+        POPULATION_COLUMNS.put("id", new Column<>("id", (r, rs, c) -> r.setId(getLong(rs, c))));
+        POPULATION_COLUMNS.put("districtName", new Column<>("district_name", (r, rs, c) -> r.setDistrictName(rs.getString(c))));
+        POPULATION_COLUMNS.put("totalPopulation", new Column<>("total_population", (r, rs, c) -> r.setTotalPopulation(getInt(rs, c))));
+        POPULATION_COLUMNS.put("residentPopulation", new Column<>("resident_population", (r, rs, c) -> r.setResidentPopulation(getInt(rs, c))));
+        POPULATION_COLUMNS.put("workerPopulation", new Column<>("worker_population", (r, rs, c) -> r.setWorkerPopulation(getInt(rs, c))));
+        POPULATION_COLUMNS.put("floatingPopulation", new Column<>("floating_population", (r, rs, c) -> r.setFloatingPopulation(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age0To9Male", new Column<>("age_0_9_male", (r, rs, c) -> r.setAge0To9Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age10To19Male", new Column<>("age_10_19_male", (r, rs, c) -> r.setAge10To19Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age20To29Male", new Column<>("age_20_29_male", (r, rs, c) -> r.setAge20To29Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age30To39Male", new Column<>("age_30_39_male", (r, rs, c) -> r.setAge30To39Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age40To49Male", new Column<>("age_40_49_male", (r, rs, c) -> r.setAge40To49Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age50To59Male", new Column<>("age_50_59_male", (r, rs, c) -> r.setAge50To59Male(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age60PlusMale", new Column<>("age_60_plus_male", (r, rs, c) -> r.setAge60PlusMale(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age0To9Female", new Column<>("age_0_9_female", (r, rs, c) -> r.setAge0To9Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age10To19Female", new Column<>("age_10_19_female", (r, rs, c) -> r.setAge10To19Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age20To29Female", new Column<>("age_20_29_female", (r, rs, c) -> r.setAge20To29Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age30To39Female", new Column<>("age_30_39_female", (r, rs, c) -> r.setAge30To39Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age40To49Female", new Column<>("age_40_49_female", (r, rs, c) -> r.setAge40To49Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age50To59Female", new Column<>("age_50_59_female", (r, rs, c) -> r.setAge50To59Female(getInt(rs, c))));
+        POPULATION_COLUMNS.put("age60PlusFemale", new Column<>("age_60_plus_female", (r, rs, c) -> r.setAge60PlusFemale(getInt(rs, c))));
+        POPULATION_COLUMNS.put("createdAt", new Column<>("created_at", (r, rs, c) -> r.setCreatedAt(getDateTimeString(rs, c))));
+        POPULATION_COLUMNS.put("updatedAt", new Column<>("updated_at", (r, rs, c) -> r.setUpdatedAt(getDateTimeString(rs, c))));
+    }
+
+    /**
+     * 매출 데이터 목록에서 선택 가능한 필드
+     */
+    public static final Set<String> SALES_FIELDS = Collections.unmodifiableSet(SALES_COLUMNS.keySet());
+
+    /**
+     * 인구 통계 목록에서 선택 가능한 필드
+     */
+    public static final Set<String> POPULATION_FIELDS = Collections.unmodifiableSet(POPULATION_COLUMNS.keySet());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 선택된 필드만 매출 데이터 조회
+     *
+     * @param districtName 자치구명 (null 이면 조건 없음)
+     * @param serviceCategoryName 서비스 업종명 (null 이면 조건 없음)
+     * @param monthRange 기준 년월 범위
+     * @param fields 필드 선택
+     * @return 선택된 필드만 채워진 매출 데이터 목록
+     */
+    @Workload(Workload.Kind.ANALYTICAL)
+    public List<SalesDataResponse> findSalesData(String districtName, String serviceCategoryName,
+                                                 MonthRange monthRange, FieldSelection fields) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(selectList(SALES_COLUMNS, fields))
+                .append(" FROM sales_data WHERE 기준_년월_코드 BETWEEN :fromMonth AND :toMonth");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromMonth", monthRange.fromMonth())
+                .addValue("toMonth", monthRange.toMonth());
+        if (districtName != null) {
+            sql.append(" AND 자치구_코드_명 = :districtName");
+            params.addValue("districtName", districtName);
+        }
+        if (serviceCategoryName != null) {
+            sql.append(" AND 서비스_업종_코드_명 = :serviceCategoryName");
+            params.addValue("serviceCategoryName", serviceCategoryName);
+        }
+        return jdbcTemplate.query(sql.toString(), params, rowMapper(SALES_COLUMNS, fields, SalesDataResponse::new));
+    }
+
+    /**
+     * 선택된 필드만 인구 통계 조회 (총 인구수 기준 내림차순)
+     *
+     * @param minPopulation 최소 인구수 (null 이면 조건 없음)
+     * @param keyword 자치구명 검색 키워드 (null 이면 조건 없음)
+     * @param limit 최대 건수 (null 이면 제한 없음)
+     * @param fields 필드 선택
+     * @return 선택된 필드만 채워진 인구 통계 목록
+     */
+    @Workload(Workload.Kind.INTERACTIVE)
+    public List<DistrictPopulationResponse> findPopulation(Integer minPopulation, String keyword, Integer limit,
+                                                           FieldSelection fields) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(selectList(POPULATION_COLUMNS, fields))
+                .append(" FROM district_population_statistics WHERE 1 = 1");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (minPopulation != null) {
+            sql.append(" AND total_population >= :minPopulation");
+            params.addValue("minPopulation", minPopulation);
+        }
+        if (keyword != null) {
+            sql.append(" AND district_name LIKE :keyword ESCAPE '\\'");
+            params.addValue("keyword", containsPattern(keyword));
+        }
+        sql.append(" ORDER BY total_population DESC");
+        if (limit != null) {
+            sql.append(" LIMIT :limit");
+            params.addValue("limit", limit);
+        }
+        return jdbcTemplate.query(sql.toString(), params,
+                rowMapper(POPULATION_COLUMNS, fields, DistrictPopulationResponse::new));
+    }
+
+    /**
+     * 키워드를 그대로 포함하는 LIKE 패턴 (%, _ 와 이스케이프 문자는 글자로 취급, Spring Data Containing 과 동일)
+     */
+    static String containsPattern(String keyword) {
+        String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static <T> String selectList(Map<String, Column<T>> columns, FieldSelection fields) {
+        List<String> select = new ArrayList<>();
+        columns.forEach((field, column) -> {
+            if (fields.includes(field)) {
+                select.add(column.sql() + " AS \"" + field + "\"");
+            }
+        });
+        return String.join(", ", select);
+    }
+
+    private static <T> RowMapper<T> rowMapper(Map<String, Column<T>> columns, FieldSelection fields, Supplier<T> factory) {
+        List<Map.Entry<String, Column<T>>> selected = columns.entrySet().stream()
+                .filter(entry -> fields.includes(entry.getKey()))
+                .toList();
+        return (rs, rowNum) -> {
+            T row = factory.get();
+            for (Map.Entry<String, Column<T>> entry : selected) {
+                entry.getValue().reader().read(row, rs, entry.getKey());
+            }
+            return row;
+        };
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer getInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String getDateTimeString(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime().toString() : null;
+    }
+
+    /**
+     * 선택 가능한 컬럼 (SQL 식과 DTO 필드 설정)
+     */
+    private record Column<T>(String sql, ColumnReader<T> reader) {
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader<T> {
+        void read(T target, ResultSet rs, String column) throws SQLException;
+    }
+}
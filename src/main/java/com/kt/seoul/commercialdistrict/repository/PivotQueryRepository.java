@@ -0,0 +1,196 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import com.kt.seoul.commercialdistrict.dto.SalesPivotQuery;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 매출 피벗 조회 Repository
+ *
+ * 정규화된 {@link SalesPivotQuery} 를 파라미터 바인딩 SQL 한 문장으로 변환합니다.
+ * 차원/측정값 SQL 식은 아래 화이트리스트에서만 만들어지므로 요청 값이 SQL 에 직접 들어가지 않습니다.
+ * 합계/평균만 요청하면 sales_monthly_aggregate 를, 최솟값/최댓값이 있으면 원본 sales_data 를 읽습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Repository
+@Workload(Workload.Kind.ANALYTICAL)
+@RequiredArgsConstructor
+public class PivotQueryRepository {
+
+    public static final String AGGREGATE_SOURCE = "aggregate";
+    public static final String RAW_SOURCE = "raw";
+
+    /**
+     * 업종 분류 (SalesDataService.processMonthlySalesData 와 같은 규칙)
+     */
+    private static final String CATEGORY_GROUP_SQL = "(CASE " +
+            "WHEN 서비스_업종_코드_명 LIKE '%한식%' OR 서비스_업종_코드_명 LIKE '%중식%' " +
+            "OR 서비스_업종_코드_명 LIKE '%양식%' OR 서비스_업종_코드_명 LIKE '%일식%' THEN '한식/중식/양식/일식' " +
+            "WHEN 서비스_업종_코드_명 LIKE '%분식%' OR 서비스_업종_코드_명 LIKE '%치킨%' " +
+            "OR 서비스_업종_코드_명 LIKE '%패스트푸드%' OR 서비스_업종_코드_명 LIKE '%피자%' " +
+            "OR 서비스_업종_코드_명 LIKE '%햄버거%' THEN '분식/치킨/패스트푸드' " +
+            "WHEN 서비스_업종_코드_명 LIKE '%제과점%' OR 서비스_업종_코드_명 LIKE '%카페%' " +
+            "OR 서비스_업종_코드_명 LIKE '%호프%' OR 서비스_업종_코드_명 LIKE '%베이커리%' " +
+            "OR 서비스_업종_코드_명 LIKE '%음료%' THEN '제과점/카페/호프' " +
+            "ELSE '기타 서비스' END)";
+
+    private static final Map<SalesPivotQuery.Dimension, String> DIMENSION_SQL = new EnumMap<>(SalesPivotQuery.Dimension.class);
+
+    static {
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.DISTRICT, "자치구_코드_명");
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.CATEGORY, "서비스_업종_코드_명");
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.CATEGORY_GROUP, CATEGORY_GROUP_SQL);
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.MONTH, "기준_년월_코드");
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.QUARTER, "(SUBSTRING(기준_년월_코드, 1, 4) || '-Q' || " +
+                "((CAST(SUBSTRING(기준_년월_코드, 5, 2) AS INTEGER) + 2) / 3))");
+        DIMENSION_SQL.put(SalesPivotQuery.Dimension.YEAR, "SUBSTRING(기준_년월_코드, 1, 4)");
+    }
+
+    /**
+     * 실행 계획 첫 줄의 총 비용 (cost=시작..총)
+     */
+    private static final Pattern PLAN_COST = Pattern.compile("cost=[0-9.]+\\.\\.([0-9.]+)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 컴파일된 SQL 과 바인딩 파라미터
+     *
+     * @param sql SQL (limit + 1 행을 읽어 잘림 여부를 판단)
+     * @param params 바인딩 파라미터
+     * @param source 조회 테이블 ({@link #AGGREGATE_SOURCE} 또는 {@link #RAW_SOURCE})
+     */
+    public record CompiledQuery(String sql, MapSqlParameterSource params, String source) {
+    }
+
+    /**
+     * 피벗 조회를 SQL 한 문장으로 변환
+     *
+     * @param query 정규화된 조회
+     * @return SQL 과 파라미터
+     */
+    public CompiledQuery compile(SalesPivotQuery query) {
+        boolean raw = query.requiresRawRows();
+        List<String> select = new ArrayList<>();
+        for (SalesPivotQuery.Dimension dimension : query.dimensions()) {
+            select.add(DIMENSION_SQL.get(dimension) + " AS \"" + dimension.parameterName() + "\"");
+        }
+        for (SalesPivotQuery.MeasureSpec measure : query.measures()) {
+            select.add(measureSql(measure, raw) + " AS \"" + measure.alias() + "\"");
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", select))
+                .append(raw ? " FROM sales_data" : " FROM sales_monthly_aggregate")
+                .append(" WHERE 기준_년월_코드 BETWEEN :fromMonth AND :toMonth");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromMonth", query.monthRange().fromMonth())
+                .addValue("toMonth", query.monthRange().toMonth());
+        if (!query.districts().isEmpty()) {
+            sql.append(" AND 자치구_코드_명 IN (:districts)");
+            params.addValue("districts", query.districts());
+        }
+        if (!query.categories().isEmpty()) {
+            sql.append(" AND 서비스_업종_코드_명 IN (:categories)");
+            params.addValue("categories", query.categories());
+        }
+        if (!query.categoryGroups().isEmpty()) {
+            sql.append(" AND ").append(CATEGORY_GROUP_SQL).append(" IN (:categoryGroups)");
+            params.addValue("categoryGroups", query.categoryGroups());
+        }
+        if (!query.dimensions().isEmpty()) {
+            List<String> groupBy = new ArrayList<>();
+            for (int i = 1; i <= query.dimensions().size(); i++) {
+                groupBy.add(String.valueOf(i));
+            }
+            sql.append(" GROUP BY ").append(String.join(", ", groupBy));
+        }
+        if (!query.orderBy().isEmpty()) {
+            List<String> orderBy = new ArrayList<>();
+            for (SalesPivotQuery.Ordering ordering : query.orderBy()) {
+                orderBy.add("\"" + ordering.column() + "\"" + (ordering.descending() ? " DESC NULLS LAST" : " ASC"));
+            }
+            sql.append(" ORDER BY ").append(String.join(", ", orderBy));
+        }
+        sql.append(" LIMIT :limit");
+        params.addValue("limit", query.limit() + 1);
+        return new CompiledQuery(sql.toString(), params, raw ? RAW_SOURCE : AGGREGATE_SOURCE);
+    }
+
+    /**
+     * 플래너가 추정한 총 비용 (EXPLAIN, 실행하지 않음)
+     *
+     * @param compiled 컴파일된 조회
+     * @return 추정 비용 (계획을 해석할 수 없으면 0)
+     */
+    public double estimateCost(CompiledQuery compiled) {
+        String plan = jdbcTemplate.query("EXPLAIN " + compiled.sql(), compiled.params(),
+                rs -> rs.next() ? rs.getString(1) : null);
+        Matcher matcher = plan != null ? PLAN_COST.matcher(plan) : null;
+        return matcher != null && matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+
+    /**
+     * 조회 실행
+     *
+     * @param query 정규화된 조회
+     * @param compiled 컴파일된 조회
+     * @return 열 이름과 행 (limit 을 넘으면 잘라서 truncated 표시)
+     */
+    public SalesQueryResponse execute(SalesPivotQuery query, CompiledQuery compiled) {
+        List<String> columns = new ArrayList<>();
+        query.dimensions().forEach(d -> columns.add(d.parameterName()));
+        query.measures().forEach(m -> columns.add(m.alias()));
+        int dimensionCount = query.dimensions().size();
+
+        RowMapper<List<Object>> rowMapper = (rs, rowNum) -> {
+            List<Object> row = new ArrayList<>(columns.size());
+            for (int i = 0; i < dimensionCount; i++) {
+                row.add(rs.getString(i + 1));
+            }
+            for (int i = 0; i < query.measures().size(); i++) {
+                int column = dimensionCount + i + 1;
+                Object value = query.measures().get(i).function() == SalesPivotQuery.Aggregate.AVG
+                        ? rs.getDouble(column) : rs.getLong(column);
+                row.add(rs.wasNull() ? null : value);
+            }
+            return row;
+        };
+        List<List<Object>> rows = jdbcTemplate.query(compiled.sql(), compiled.params(), rowMapper);
+
+        boolean truncated = rows.size() > query.limit();
+        return SalesQueryResponse.builder()
+                .columns(columns)
+                .rows(truncated ? new ArrayList<>(rows.subList(0, query.limit())) : rows)
+                .source(compiled.source())
+                .truncated(truncated)
+                .build();
+    }
+
+    /**
+     * 측정값 SQL 식 (집계 테이블의 평균은 원본 행 평균과 같도록 합계를 집계된 행 수로 나눔)
+     */
+    private static String measureSql(SalesPivotQuery.MeasureSpec measure, boolean raw) {
+        String column = measure.measure().column();
+        return switch (measure.function()) {
+            case SUM -> "CAST(SUM(" + column + ") AS BIGINT)";
+            case AVG -> raw
+                    ? "CAST(AVG(" + column + ") AS DOUBLE PRECISION)"
+                    : "CAST(SUM(" + column + ") AS DOUBLE PRECISION) / NULLIF(SUM(행_수), 0)";
+            case MIN -> "CAST(MIN(" + column + ") AS BIGINT)";
+            case MAX -> "CAST(MAX(" + column + ") AS BIGINT)";
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.entity.SalesAnomaly;
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 매출 이상치 Repository
+ * 
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Repository
+@Workload(Workload.Kind.INTERACTIVE)
+public interface SalesAnomalyRepository extends JpaRepository<SalesAnomaly, SalesMonthlyAggregate.Key> {
+    
+    /**
+     * 기준 년월의 이상치를 심각도 순으로 조회
+     * 
+     * @param baseYearMonth 기준 년월
+     * @param pageable 조회 개수
+     * @return 이상치 목록 (|점수| 내림차순)
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$SalesAnomaly(" +
+           "a.baseYearMonth, a.districtName, a.serviceCategoryName, a.actualSalesAmount, a.expectedSalesAmount, " +
+           "a.score, a.severity, a.baseline) " +
+           "FROM SalesAnomaly a WHERE a.baseYearMonth = ?1 ORDER BY ABS(a.score) DESC")
+    List<SalesStatisticsResponse.SalesAnomaly> findRankedByMonth(String baseYearMonth, Pageable pageable);
+}
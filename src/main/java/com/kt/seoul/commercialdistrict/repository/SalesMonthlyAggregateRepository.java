@@ -0,0 +1,240 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 매출 집계 Repository
+ * 
+ * 자치구/업종/기준 년월별로 미리 집계된 행(O(그룹 수))을 읽어 통계 응답 DTO 에 바로 매핑합니다.
+ * 평균은 원본 행 평균과 같도록 합계를 집계된 행 수로 나눕니다.
+ * 
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Repository
+@Workload(Workload.Kind.ANALYTICAL)
+public interface SalesMonthlyAggregateRepository extends JpaRepository<SalesMonthlyAggregate, SalesMonthlyAggregate.Key> {
+    
+    /**
+     * 금액/건수 합계 상한 (Long.MAX_VALUE)
+     * 
+     * PostgreSQL 의 SUM(bigint) 는 numeric 이므로 long 범위를 넘을 수 있어, 합계는 LEAST 로 이 값에서 포화시킵니다.
+     * 집계 스냅샷은 같은 규칙으로 SalesAmounts.add 를 사용합니다.
+     */
+    String SUM_CAP = "9223372036854775807L";
+    
+    /**
+     * 자치구별 총 매출 금액 조회
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 해당 자치구의 총 매출 금액
+     */
+    @Query("SELECT COALESCE(LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), 0L) FROM SalesMonthlyAggregate s " +
+           "WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3")
+    long sumMonthlySalesAmountByDistrictName(String districtName, String fromMonth, String toMonth);
+    
+    /**
+     * 자치구별 총 매출 건수 조회
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 해당 자치구의 총 매출 건수
+     */
+    @Query("SELECT COALESCE(LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + "), 0L) FROM SalesMonthlyAggregate s " +
+           "WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3")
+    long sumMonthlySalesCountByDistrictName(String districtName, String fromMonth, String toMonth);
+    
+    /**
+     * 자치구별 업종별 매출 통계 조회
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구별 업종별 매출 통계 (매출 금액 내림차순)
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$CategorySalesStatistics(" +
+           "s.serviceCategoryName, LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + ")) " +
+           "FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3 " +
+           "GROUP BY s.serviceCategoryName ORDER BY SUM(s.monthlySalesAmount) DESC")
+    List<SalesStatisticsResponse.CategorySalesStatistics> getSalesStatisticsByDistrict(String districtName,
+                                                                                       String fromMonth, String toMonth);
+    
+    /**
+     * 업종별 자치구별 매출 통계 조회
+     * 
+     * @param serviceCategoryName 서비스 업종명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 업종별 자치구별 매출 통계 (매출 금액 내림차순)
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$DistrictSalesStatistics(" +
+           "s.districtName, LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + ")) " +
+           "FROM SalesMonthlyAggregate s WHERE s.serviceCategoryName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3 " +
+           "GROUP BY s.districtName ORDER BY SUM(s.monthlySalesAmount) DESC")
+    List<SalesStatisticsResponse.DistrictSalesStatistics> getSalesStatisticsByServiceCategory(String serviceCategoryName,
+                                                                                              String fromMonth, String toMonth);
+    
+    /**
+     * 자치구별 성별 매출 통계 조회
+     * 
+     * 그룹 없는 집계이므로 항상 한 행이며, 데이터가 없으면 COALESCE 로 0 이 채워집니다.
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구별 성별 매출 통계
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$GenderSalesStatistics(" +
+           "COALESCE(LEAST(SUM(s.maleSalesAmount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.femaleSalesAmount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.maleSalesCount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.femaleSalesCount), " + SUM_CAP + "), 0L)) " +
+           "FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3")
+    SalesStatisticsResponse.GenderSalesStatistics getGenderSalesStatisticsByDistrict(String districtName,
+                                                                                    String fromMonth, String toMonth);
+    
+    /**
+     * 자치구별 주중/주말 매출 통계 조회
+     * 
+     * 그룹 없는 집계이므로 항상 한 행이며, 데이터가 없으면 COALESCE 로 0 이 채워집니다.
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구별 주중/주말 매출 통계
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$WeekdayWeekendSalesStatistics(" +
+           "COALESCE(LEAST(SUM(s.weekdaySalesAmount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.weekendSalesAmount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.weekdaySalesCount), " + SUM_CAP + "), 0L), " +
+           "COALESCE(LEAST(SUM(s.weekendSalesCount), " + SUM_CAP + "), 0L)) " +
+           "FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3")
+    SalesStatisticsResponse.WeekdayWeekendSalesStatistics getWeekdayWeekendSalesStatisticsByDistrict(String districtName,
+                                                                                                    String fromMonth, String toMonth);
+    
+    /**
+     * 전체 자치구 매출 순위 조회 (상위 N개)
+     * 
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @param pageable 조회할 개수 (첫 페이지 크기)
+     * @return 매출 순위별 자치구 목록
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$DistrictSalesStatistics(" +
+           "s.districtName, LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + ")) " +
+           "FROM SalesMonthlyAggregate s WHERE s.baseYearMonth BETWEEN ?1 AND ?2 " +
+           "GROUP BY s.districtName ORDER BY SUM(s.monthlySalesAmount) DESC")
+    List<SalesStatisticsResponse.DistrictSalesStatistics> getTopDistrictsBySales(String fromMonth, String toMonth,
+                                                                                 Pageable pageable);
+    
+    /**
+     * 전체 업종 매출 순위 조회 (상위 N개)
+     * 
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @param pageable 조회할 개수 (첫 페이지 크기)
+     * @return 매출 순위별 업종 목록
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$CategorySalesStatistics(" +
+           "s.serviceCategoryName, LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + ")) " +
+           "FROM SalesMonthlyAggregate s WHERE s.baseYearMonth BETWEEN ?1 AND ?2 " +
+           "GROUP BY s.serviceCategoryName ORDER BY SUM(s.monthlySalesAmount) DESC")
+    List<SalesStatisticsResponse.CategorySalesStatistics> getTopServiceCategoriesBySales(String fromMonth, String toMonth,
+                                                                                         Pageable pageable);
+    
+    /**
+     * 업종별 월별 평균 매출 통계 조회
+     * 
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 업종별 월별 평균 매출 통계
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$MonthlyAverageSales(" +
+           "s.serviceCategoryName, s.baseYearMonth, " +
+           "CAST(SUM(s.monthlySalesAmount) AS Double) / SUM(s.rowCount), " +
+           "CAST(SUM(s.monthlySalesCount) AS Double) / SUM(s.rowCount)) " +
+           "FROM SalesMonthlyAggregate s WHERE s.baseYearMonth BETWEEN ?1 AND ?2 " +
+           "GROUP BY s.serviceCategoryName, s.baseYearMonth " +
+           "ORDER BY s.serviceCategoryName, s.baseYearMonth")
+    List<SalesStatisticsResponse.MonthlyAverageSales> getMonthlyAverageSalesByCategory(String fromMonth, String toMonth);
+    
+    /**
+     * 자치구별 업종별 월별 평균 매출 통계 조회
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구별 업종별 월별 평균 매출 통계
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse$MonthlyAverageSales(" +
+           "s.serviceCategoryName, s.baseYearMonth, " +
+           "CAST(SUM(s.monthlySalesAmount) AS Double) / SUM(s.rowCount), " +
+           "CAST(SUM(s.monthlySalesCount) AS Double) / SUM(s.rowCount)) " +
+           "FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3 " +
+           "GROUP BY s.serviceCategoryName, s.baseYearMonth " +
+           "ORDER BY s.serviceCategoryName, s.baseYearMonth")
+    List<SalesStatisticsResponse.MonthlyAverageSales> getMonthlyAverageSalesByCategoryAndDistrict(String districtName,
+                                                                                                 String fromMonth, String toMonth);
+
+    /**
+     * 자치구별 월 평균 매출 조회
+     * 
+     * @param districtName 자치구명
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구별 월 평균 매출
+     */
+    @Query("SELECT CAST(SUM(s.monthlySalesAmount) AS Double) / SUM(s.rowCount) " +
+           "FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 AND s.baseYearMonth BETWEEN ?2 AND ?3")
+    Double getAverageMonthlySalesByDistrict(String districtName, String fromMonth, String toMonth);
+
+    /**
+     * 자치구별 최근 날짜 사업체 수 조회
+     * 
+     * @param districtName 자치구명
+     * @return 자치구별 최근 날짜 사업체 수
+     */
+    @Query("SELECT SUM(s.rowCount) FROM SalesMonthlyAggregate s WHERE s.districtName = ?1 " +
+           "AND s.baseYearMonth = (SELECT MAX(r.baseYearMonth) FROM SalesMonthlyAggregate r WHERE r.districtName = ?1)")
+    Long getRecentBusinessesByDistrict(String districtName);
+
+    /**
+     * 기간 내 자치구 × 업종별 전체 측정값 합계 (기준 년월은 빈 문자열)
+     * 
+     * @param fromMonth 시작 기준 년월 (포함)
+     * @param toMonth 종료 기준 년월 (포함)
+     * @return 자치구/업종별 합계
+     */
+    @Query("SELECT new com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate(" +
+           "'', s.districtName, s.serviceCategoryName, SUM(s.rowCount), " +
+           "LEAST(SUM(s.monthlySalesAmount), " + SUM_CAP + "), LEAST(SUM(s.monthlySalesCount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.weekdaySalesAmount), " + SUM_CAP + "), LEAST(SUM(s.weekendSalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.maleSalesAmount), " + SUM_CAP + "), LEAST(SUM(s.femaleSalesAmount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.weekdaySalesCount), " + SUM_CAP + "), LEAST(SUM(s.weekendSalesCount), " + SUM_CAP + "), " +
+           "LEAST(SUM(s.maleSalesCount), " + SUM_CAP + "), LEAST(SUM(s.femaleSalesCount), " + SUM_CAP + ")) " +
+           "FROM SalesMonthlyAggregate s WHERE s.baseYearMonth BETWEEN ?1 AND ?2 " +
+           "GROUP BY s.districtName, s.serviceCategoryName")
+    List<SalesMonthlyAggregate> getDistrictCategoryTotals(String fromMonth, String toMonth);
+    
+    /**
+     * 집계된 가장 최근 기준 년월 조회
+     * 
+     * @return 가장 최근 기준 년월 (데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(s.baseYearMonth) FROM SalesMonthlyAggregate s")
+    String findLatestBaseYearMonth();
+}
@@ -0,0 +1,45 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쿼리 부하 유형 (커넥션 풀 선택)
+ *
+ * 리포지토리/서비스 메서드나 타입에 붙이면 그 호출 안에서 처음 얻는 커넥션을 해당 유형의 풀에서 가져옵니다.
+ * 리포지토리 인터페이스에 붙이면 그 인터페이스가 선언한 메서드에만 적용됩니다 (JpaRepository 상속 메서드 제외).
+ * 트랜잭션은 첫 쿼리 시점에 고른 커넥션을 끝까지 사용하므로, 여러 유형을 섞는 트랜잭션은 서비스 메서드에 붙입니다.
+ * 호출이 중첩되면 가장 바깥 태그를 따릅니다.
+ * 태그가 없으면 INTERACTIVE 풀을 사용하며, BATCH 풀은 태그로만 선택됩니다.
+ * 프록시를 거치지 않는 코드나 다른 스레드에 넘기는 작업은 {@link WorkloadScope} 로 유형을 지정하거나 이어받습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    Kind value();
+
+    enum Kind {
+        /**
+         * 단건/소량 조회 (작은 풀, 짧은 대기와 statement_timeout)
+         */
+        INTERACTIVE,
+
+        /**
+         * 요청으로 실행되는 전체 테이블 집계, 대량 조회 (별도 풀, 긴 statement_timeout)
+         */
+        ANALYTICAL,
+
+        /**
+         * 적재, 재집계, 파티션 유지보수, 배치 분석 (별도 풀, statement_timeout 없음)
+         */
+        BATCH
+    }
+}
@@ -0,0 +1,99 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에 연결된 쿼리 부하 유형 ({@link Workload})
+ *
+ * {@link Workload} 태그는 호출 동안 여기에 유형을 연결하고, 라우팅 데이터소스는 첫 쿼리 시점에 이 값으로 풀을 고릅니다.
+ * 프록시를 거치지 않는 코드(private 메서드, 직접 만든 스레드)는 {@link #call}/{@link #run} 으로 유형을 지정하고,
+ * 다른 스레드에 작업을 넘길 때는 {@link #inherit} 로 제출한 스레드의 유형을 이어받습니다.
+ * 이미 연결된 유형이 있으면 가장 바깥 유형을 유지합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public final class WorkloadScope {
+
+    private static final ThreadLocal<Workload.Kind> CURRENT = new ThreadLocal<>();
+
+    private WorkloadScope() {
+    }
+
+    /**
+     * 현재 스레드에 연결된 유형 (없으면 null)
+     */
+    public static Workload.Kind current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 부하 유형 연결 (이미 연결된 유형이 있으면 바깥 호출의 유형 유지)
+     *
+     * @return 이전에 연결된 유형 (복원용, 없으면 null)
+     */
+    public static Workload.Kind bind(Workload.Kind kind) {
+        Workload.Kind previous = CURRENT.get();
+        if (previous == null && kind != null) {
+            CURRENT.set(kind);
+        }
+        return previous;
+    }
+
+    /**
+     * 이전 부하 유형 복원
+     */
+    public static void restore(Workload.Kind previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 부하 유형을 연결하고 실행
+     */
+    public static <T> T call(Workload.Kind kind, Supplier<T> action) {
+        Workload.Kind previous = bind(kind);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 부하 유형을 연결하고 실행
+     */
+    public static void run(Workload.Kind kind, Runnable action) {
+        call(kind, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 제출한 스레드의 부하 유형을 이어받는 작업
+     */
+    public static Runnable inherit(Runnable task) {
+        Workload.Kind kind = CURRENT.get();
+        return () -> run(kind, task);
+    }
+
+    /**
+     * 제출한 스레드의 부하 유형을 이어받는 작업
+     */
+    public static <T> Callable<T> inherit(Callable<T> task) {
+        Workload.Kind kind = CURRENT.get();
+        return () -> {
+            Workload.Kind previous = bind(kind);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,309 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 집계 조회 결과 캐시 (stale-while-revalidate)
+ *
+ * - soft-ttl 이 지난 항목은 기존 값을 그대로 반환하고, 크기가 제한된 백그라운드 스레드에서 다시 계산합니다.
+ * - hard-ttl 이 지난 항목만 호출자가 계산을 기다립니다 (같은 키의 동시 계산은 한 번으로 합침).
+ * - 자주 조회되는 항목은 주기적으로 soft-ttl 전에 미리 갱신하여 요청 경로에서 만료가 드러나지 않게 합니다.
+ * - 갱신에 실패하면 마지막으로 성공한 값을 계속 사용합니다.
+ * - 데이터셋이 바뀌면({@link DatasetChangedEvent}) 이전 값은 더 이상 반환하지 않고 모든 항목을 즉시 다시 계산합니다.
+ *   그동안의 호출자는 진행 중인 계산 결과를 기다립니다.
+ *
+ * 계산은 읽기 전용 트랜잭션 안에서 실행되므로 여러 쿼리로 만든 결과도 같은 트랜잭션에서 읽습니다.
+ * 요청 경로의 계산은 그 요청의 처리 시한({@link QueryDeadline})을 따르며, 계산하던 요청이 취소되면
+ * 같은 결과를 기다리던 다른 요청이 자기 시한으로 다시 계산합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class AggregateCacheService {
+
+    private final TransactionTemplate readTemplate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 데이터셋 변경마다 증가 (이전 세대에서 계산한 값은 반환하지 않음)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.aggregate-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.aggregate-cache.soft-ttl:5m}")
+    private Duration softTtl;
+
+    @Value("${app.aggregate-cache.hard-ttl:1h}")
+    private Duration hardTtl;
+
+    @Value("${app.aggregate-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${app.aggregate-cache.refresh-threads:2}")
+    private int refreshThreads;
+
+    @Value("${app.aggregate-cache.refresh-queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    @Value("${app.aggregate-cache.refresh-interval:30s}")
+    private Duration refreshInterval;
+
+    @Value("${app.aggregate-cache.hot-access-count:3}")
+    private int hotAccessCount;
+
+    @Value("${app.aggregate-cache.refresh-ahead-ratio:0.8}")
+    private double refreshAheadRatio;
+
+    private ThreadPoolExecutor refreshExecutor;
+    private ScheduledExecutorService scheduler;
+
+    public AggregateCacheService(PlatformTransactionManager transactionManager) {
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "aggregate-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        refreshExecutor.allowCoreThreadTimeOut(true);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "aggregate-refresh-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshHotEntries,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시된 집계 결과 조회
+     *
+     * @param key 캐시 키 (조회 종류와 조건을 모두 포함)
+     * @param loader 결과 계산 (백그라운드 갱신에도 재사용되므로 호출 시점 상태에 의존하지 않아야 함)
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        boolean usable = entry != null && entry.generation == generation.get();
+        if (usable) {
+            entry.hits.incrementAndGet();
+            entry.lastAccess = now;
+            long age = now - entry.loadedAt;
+            if (age < hardTtl.toMillis()) {
+                if (age >= softTtl.toMillis()) {
+                    refreshAsync(key, entry);
+                }
+                return (T) entry.value;
+            }
+        }
+
+        try {
+            return (T) load(key, loader).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AbandonedLoadException abandoned) {
+                if (!QueryDeadline.isAbandoned()) {
+                    // 함께 기다리던 다른 요청이 취소되거나 처리 시한이 지나 중단한 계산이면 이 요청의 시한으로 다시 계산
+                    return get(key, loader);
+                }
+                cause = abandoned.getCause();
+            }
+            if (usable) {
+                log.warn("집계 캐시 {} 재계산 실패 - 마지막 값을 반환합니다: {}", key, cause.getMessage());
+                return (T) entry.value;
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 데이터가 바뀌면 이전 값 반환을 멈추고 모든 항목을 백그라운드에서 다시 계산
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (!enabled || !DatasetVersionService.SALES_DATASET.equals(event.dataset())) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.forEach(this::refreshAsync);
+        log.debug("데이터셋 변경(v{})으로 집계 캐시 {}개 재계산 예약", event.version(), entries.size());
+    }
+
+    /**
+     * 같은 키의 계산이 진행 중이면 그 결과를 함께 기다리고, 아니면 현재 스레드에서 계산
+     */
+    private CompletableFuture<Object> load(String key, Supplier<?> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        long loadGeneration = generation.get();
+        try {
+            Object value = readTemplate.execute(status -> loader.get());
+            store(key, loader, value, loadGeneration);
+            future.complete(value);
+        } catch (RuntimeException | Error e) {
+            // 함께 기다리는 호출자가 멈추지 않도록 모든 실패를 전달
+            future.completeExceptionally(QueryDeadline.isAbandoned() ? new AbandonedLoadException(e) : e);
+        } finally {
+            loading.remove(key, future);
+        }
+        return future;
+    }
+
+    private void store(String key, Supplier<?> loader, Object value, long loadGeneration) {
+        if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+            evictLeastRecentlyUsed();
+        }
+        long now = System.currentTimeMillis();
+        entries.compute(key, (k, existing) -> {
+            Entry entry = existing != null ? existing : new Entry(loader, now);
+            entry.value = value;
+            entry.loadedAt = now;
+            // 계산 중에 데이터셋이 바뀌었으면 이전 세대로 남아 다음 조회 때 다시 계산
+            entry.generation = loadGeneration;
+            return entry;
+        });
+    }
+
+    private void evictLeastRecentlyUsed() {
+        entries.entrySet().stream()
+                .min((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    /**
+     * 백그라운드 재계산 예약 (이미 예약되었거나 대기열이 가득 차면 건너뜀)
+     */
+    private void refreshAsync(String key, Entry entry) {
+        if (refreshExecutor == null || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, entry.loader).join();
+                } catch (CompletionException e) {
+                    log.warn("집계 캐시 {} 갱신 실패 - 이전 값을 유지합니다: {}", key, e.getCause().getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+            log.debug("집계 캐시 갱신 대기열이 가득 차 다음 조회 때 다시 시도: {}", key);
+        }
+    }
+
+    /**
+     * 자주 조회되는 항목은 soft-ttl 전에 미리 갱신하고, hard-ttl 동안 조회되지 않은 항목은 삭제
+     */
+    private void refreshHotEntries() {
+        try {
+            long now = System.currentTimeMillis();
+            long refreshAge = (long) (softTtl.toMillis() * refreshAheadRatio);
+            long currentGeneration = generation.get();
+            entries.forEach((key, entry) -> {
+                int hits = entry.hits.getAndSet(0);
+                if (now - entry.lastAccess >= hardTtl.toMillis()) {
+                    entries.remove(key, entry);
+                } else if (entry.generation != currentGeneration
+                        || (hits >= hotAccessCount && now - entry.loadedAt >= refreshAge)) {
+                    refreshAsync(key, entry);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("집계 캐시 주기 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 계산하던 요청의 처리 시한이 지났거나 취소되어 중단된 계산 (함께 기다리던 요청은 다시 계산)
+     */
+    private static final class AbandonedLoadException extends RuntimeException {
+
+        private AbandonedLoadException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 캐시 항목 (값은 계산이 끝날 때마다 교체)
+     */
+    private static final class Entry {
+
+        private final Supplier<?> loader;
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Object value;
+        private volatile long loadedAt;
+        private volatile long generation;
+        private volatile long lastAccess;
+
+        private Entry(Supplier<?> loader, long now) {
+            this.loader = loader;
+            this.lastAccess = now;
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 월별 집계 스냅샷 (읽기 전용)
+ *
+ * sales_monthly_aggregate 전체를 고정 폭 바이너리 파일로 기록하고, 파일을 mmap 하여 힙 밖에서 바로 조회합니다.
+ * 조회 결과는 SalesMonthlyAggregateRepository 의 같은 이름 쿼리와 동일합니다.
+ *
+ * 파일 구조 (리틀 엔디언)
+ * - 헤더 64바이트: magic, 형식 버전, 데이터셋 버전, 레코드/월/자치구/업종 수, 레코드 시작 위치, CRC32C(헤더 이후 전체), 생성 시각
+ * - 사전: 기준 년월, 자치구명, 업종명 (각각 정렬, 길이 2바이트 + UTF-8)
+ * - 월 색인: 월별 첫 레코드 번호 (월 수 + 1 개)
+ * - 레코드 96바이트: 월/자치구/업종 사전 번호(각 2바이트) + 패딩 2바이트 + 행 수와 측정값 10개(각 8바이트)
+ *   (월, 자치구, 업종) 사전 번호 순으로 정렬
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public final class AggregateSnapshot {
+
+    private static final int MAGIC = 0x53414747; // "SAGG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 96;
+    private static final int MEASURES_OFFSET = 8;
+
+    private static final int ROW_COUNT = 0;
+    private static final int AMOUNT = 1;
+    private static final int COUNT = 2;
+    private static final int WEEKDAY_AMOUNT = 3;
+    private static final int WEEKEND_AMOUNT = 4;
+    private static final int MALE_AMOUNT = 5;
+    private static final int FEMALE_AMOUNT = 6;
+    private static final int WEEKDAY_COUNT = 7;
+    private static final int WEEKEND_COUNT = 8;
+    private static final int MALE_COUNT = 9;
+    private static final int FEMALE_COUNT = 10;
+    private static final int MEASURE_COUNT = 11;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final long datasetVersion;
+    private final int recordCount;
+    private final int recordOffset;
+    private final String[] months;
+    private final String[] districts;
+    private final String[] categories;
+    private final Map<String, Integer> districtIndex;
+    private final Map<String, Integer> categoryIndex;
+    private final int[] monthStart;
+
+    private AggregateSnapshot(Path file, ByteBuffer buffer, long datasetVersion, int recordCount, int recordOffset,
+                              String[] months, String[] districts, String[] categories, int[] monthStart) {
+        this.file = file;
+        this.buffer = buffer;
+        this.datasetVersion = datasetVersion;
+        this.recordCount = recordCount;
+        this.recordOffset = recordOffset;
+        this.months = months;
+        this.districts = districts;
+        this.categories = categories;
+        this.districtIndex = indexOf(districts);
+        this.categoryIndex = indexOf(categories);
+        this.monthStart = monthStart;
+    }
+
+    /**
+     * 스냅샷 파일 기록 (임시 파일에 쓴 뒤 rename 하므로 완성된 파일만 보임)
+     *
+     * @param target 대상 파일
+     * @param datasetVersion 집계를 읽은 시점의 데이터셋 버전
+     * @param rows 집계 행 (순서 무관)
+     */
+    public static void write(Path target, long datasetVersion, List<SalesMonthlyAggregate> rows) throws IOException {
+        String[] months = distinct(rows, SalesMonthlyAggregate::getBaseYearMonth);
+        String[] districts = distinct(rows, SalesMonthlyAggregate::getDistrictName);
+        String[] categories = distinct(rows, SalesMonthlyAggregate::getServiceCategoryName);
+        Map<String, Integer> monthIndex = indexOf(months);
+        Map<String, Integer> districtIndex = indexOf(districts);
+        Map<String, Integer> categoryIndex = indexOf(categories);
+
+        int[][] keys = new int[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            SalesMonthlyAggregate row = rows.get(i);
+            keys[i] = new int[]{monthIndex.get(key(row.getBaseYearMonth())), districtIndex.get(key(row.getDistrictName())),
+                    categoryIndex.get(key(row.getServiceCategoryName())), i};
+        }
+        Arrays.sort(keys, Comparator.<int[]>comparingInt(k -> k[0]).thenComparingInt(k -> k[1]).thenComparingInt(k -> k[2]));
+
+        byte[][][] dictionaries = {encode(months), encode(districts), encode(categories)};
+        int dictionarySize = 0;
+        for (byte[][] dictionary : dictionaries) {
+            for (byte[] entry : dictionary) {
+                dictionarySize += 2 + entry.length;
+            }
+        }
+        int monthIndexSize = 4 * (months.length + 1);
+        int recordOffset = align8(HEADER_SIZE + dictionarySize + monthIndexSize);
+        long size = (long) recordOffset + (long) RECORD_SIZE * rows.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("집계 스냅샷이 너무 큽니다: " + size + " bytes");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        out.position(HEADER_SIZE);
+        for (byte[][] dictionary : dictionaries) {
+            for (byte[] entry : dictionary) {
+                out.putShort((short) entry.length).put(entry);
+            }
+        }
+        int[] monthStart = new int[months.length + 1];
+        for (int[] k : keys) {
+            monthStart[k[0] + 1]++;
+        }
+        for (int m = 0; m < months.length; m++) {
+            monthStart[m + 1] += monthStart[m];
+        }
+        for (int start : monthStart) {
+            out.putInt(start);
+        }
+
+        out.position(recordOffset);
+        for (int[] k : keys) {
+            SalesMonthlyAggregate row = rows.get(k[3]);
+            out.putShort((short) k[0]).putShort((short) k[1]).putShort((short) k[2]).putShort((short) 0);
+            out.putLong(row.getRowCount())
+                    .putLong(row.getMonthlySalesAmount()).putLong(row.getMonthlySalesCount())
+                    .putLong(row.getWeekdaySalesAmount()).putLong(row.getWeekendSalesAmount())
+                    .putLong(row.getMaleSalesAmount()).putLong(row.getFemaleSalesAmount())
+                    .putLong(row.getWeekdaySalesCount()).putLong(row.getWeekendSalesCount())
+                    .putLong(row.getMaleSalesCount()).putLong(row.getFemaleSalesCount());
+        }
+
+        out.putInt(0, MAGIC)
+                .putInt(4, FORMAT_VERSION)
+                .putLong(8, datasetVersion)
+                .putInt(16, rows.size())
+                .putInt(20, months.length)
+                .putInt(24, districts.length)
+                .putInt(28, categories.length)
+                .putLong(32, recordOffset)
+                .putLong(40, checksum(out))
+                .putLong(48, System.currentTimeMillis());
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.clear();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑 (형식과 CRC32C 를 검증)
+     *
+     * @param file 스냅샷 파일
+     * @return 매핑된 스냅샷
+     * @throws IllegalStateException 형식이 다르거나 손상된 경우
+     */
+    public static AggregateSnapshot open(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("집계 스냅샷 크기가 올바르지 않습니다: " + file);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("집계 스냅샷 형식이 아닙니다: " + file);
+        }
+        if (buffer.getLong(40) != checksum(buffer)) {
+            throw new IllegalStateException("집계 스냅샷 체크섬 불일치: " + file);
+        }
+        long datasetVersion = buffer.getLong(8);
+        int recordCount = buffer.getInt(16);
+        int recordOffset = (int) buffer.getLong(32);
+        if ((long) recordOffset + (long) RECORD_SIZE * recordCount != buffer.capacity()) {
+            throw new IllegalStateException("집계 스냅샷 레코드 영역이 올바르지 않습니다: " + file);
+        }
+
+        ByteBuffer reader = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        reader.position(HEADER_SIZE);
+        String[] months = decode(reader, buffer.getInt(20));
+        String[] districts = decode(reader, buffer.getInt(24));
+        String[] categories = decode(reader, buffer.getInt(28));
+        int[] monthStart = new int[months.length + 1];
+        for (int m = 0; m < monthStart.length; m++) {
+            monthStart[m] = reader.getInt();
+        }
+        return new AggregateSnapshot(file, buffer, datasetVersion, recordCount, recordOffset,
+                months, districts, categories, monthStart);
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long datasetVersion() {
+        return datasetVersion;
+    }
+
+    public int recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 자치구 총 매출 금액
+     */
+    public long sumMonthlySalesAmountByDistrictName(String districtName, String fromMonth, String toMonth) {
+        return sumByDistrict(districtName, fromMonth, toMonth, AMOUNT);
+    }
+
+    /**
+     * 자치구 총 매출 건수
+     */
+    public long sumMonthlySalesCountByDistrictName(String districtName, String fromMonth, String toMonth) {
+        return sumByDistrict(districtName, fromMonth, toMonth, COUNT);
+    }
+
+    /**
+     * 자치구의 업종별 매출 통계 (매출 금액 내림차순)
+     */
+    public List<SalesStatisticsResponse.CategorySalesStatistics> getSalesStatisticsByDistrict(String districtName,
+                                                                                              String fromMonth, String toMonth) {
+        Integer district = districtIndex.get(key(districtName));
+        if (district == null) {
+            return new ArrayList<>();
+        }
+        long[][] totals = groupTotals(fromMonth, toMonth, district, -1, true);
+        List<SalesStatisticsResponse.CategorySalesStatistics> result = new ArrayList<>();
+        for (int c = 0; c < categories.length; c++) {
+            if (totals[c] != null) {
+                result.add(new SalesStatisticsResponse.CategorySalesStatistics(categories[c], totals[c][0], totals[c][1]));
+            }
+        }
+        result.sort(Comparator.comparingLong(SalesStatisticsResponse.CategorySalesStatistics::getTotalAmount).reversed());
+        return result;
+    }
+
+    /**
+     * 업종의 자치구별 매출 통계 (매출 금액 내림차순)
+     */
+    public List<SalesStatisticsResponse.DistrictSalesStatistics> getSalesStatisticsByServiceCategory(String serviceCategoryName,
+                                                                                                     String fromMonth, String toMonth) {
+        Integer category = categoryIndex.get(key(serviceCategoryName));
+        if (category == null) {
+            return new ArrayList<>();
+        }
+        return districtStatistics(groupTotals(fromMonth, toMonth, -1, category, false), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 자치구 성별 매출 통계 (데이터가 없으면 0)
+     */
+    public SalesStatisticsResponse.GenderSalesStatistics getGenderSalesStatisticsByDistrict(String districtName,
+                                                                                           String fromMonth, String toMonth) {
+        long[] sums = sumsByDistrict(districtName, fromMonth, toMonth);
+        return new SalesStatisticsResponse.GenderSalesStatistics(
+                sums[MALE_AMOUNT], sums[FEMALE_AMOUNT], sums[MALE_COUNT], sums[FEMALE_COUNT]);
+    }
+
+    /**
+     * 자치구 주중/주말 매출 통계 (데이터가 없으면 0)
+     */
+    public SalesStatisticsResponse.WeekdayWeekendSalesStatistics getWeekdayWeekendSalesStatisticsByDistrict(String districtName,
+                                                                                                           String fromMonth, String toMonth) {
+        long[] sums = sumsByDistrict(districtName, fromMonth, toMonth);
+        return new SalesStatisticsResponse.WeekdayWeekendSalesStatistics(
+                sums[WEEKDAY_AMOUNT], sums[WEEKEND_AMOUNT], sums[WEEKDAY_COUNT], sums[WEEKEND_COUNT]);
+    }
+
+    /**
+     * 자치구 매출 순위 (상위 limit 개)
+     */
+    public List<SalesStatisticsResponse.DistrictSalesStatistics> getTopDistrictsBySales(String fromMonth, String toMonth,
+                                                                                        int limit) {
+        return districtStatistics(groupTotals(fromMonth, toMonth, -1, -1, false), limit);
+    }
+
+    /**
+     * 업종 매출 순위 (상위 limit 개)
+     */
+    public List<SalesStatisticsResponse.CategorySalesStatistics> getTopServiceCategoriesBySales(String fromMonth, String toMonth,
+                                                                                                int limit) {
+        long[][] totals = groupTotals(fromMonth, toMonth, -1, -1, true);
+        List<SalesStatisticsResponse.CategorySalesStatistics> result = new ArrayList<>();
+        for (int c = 0; c < categories.length; c++) {
+            if (totals[c] != null) {
+                result.add(new SalesStatisticsResponse.CategorySalesStatistics(categories[c], totals[c][0], totals[c][1]));
+            }
+        }
+        result.sort(Comparator.comparingLong(SalesStatisticsResponse.CategorySalesStatistics::getTotalAmount).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * 업종별 월별 평균 매출 (업종명, 기준 년월 순)
+     *
+     * @param districtName 자치구명 (null 이면 전체 자치구)
+     */
+    public List<SalesStatisticsResponse.MonthlyAverageSales> getMonthlyAverageSales(String districtName,
+                                                                                    String fromMonth, String toMonth) {
+        int district = -1;
+        if (districtName != null) {
+            Integer index = districtIndex.get(key(districtName));
+            if (index == null) {
+                return new ArrayList<>();
+            }
+            district = index;
+        }
+        int firstMonth = firstMonthAtOrAfter(fromMonth);
+        int lastMonth = lastMonthAtOrBefore(toMonth);
+        if (firstMonth > lastMonth) {
+            return new ArrayList<>();
+        }
+
+        // [업종][월] -> 금액 합, 건수 합, 행 수 합
+        int monthSpan = lastMonth - firstMonth + 1;
+        long[][][] sums = new long[categories.length][monthSpan][];
+        for (int r = monthStart[firstMonth]; r < monthStart[lastMonth + 1]; r++) {
+            if (district >= 0 && districtOf(r) != district) {
+                continue;
+            }
+            long[] cell = sums[categoryOf(r)][monthOf(r) - firstMonth];
+            if (cell == null) {
+                cell = new long[3];
+                sums[categoryOf(r)][monthOf(r) - firstMonth] = cell;
+            }
+            cell[0] = SalesAmounts.add(cell[0], measure(r, AMOUNT));
+            cell[1] = SalesAmounts.add(cell[1], measure(r, COUNT));
+            cell[2] += measure(r, ROW_COUNT);
+        }
+
+        List<SalesStatisticsResponse.MonthlyAverageSales> result = new ArrayList<>();
+        for (int c = 0; c < categories.length; c++) {
+            for (int m = 0; m < monthSpan; m++) {
+                long[] cell = sums[c][m];
+                if (cell != null) {
+                    result.add(new SalesStatisticsResponse.MonthlyAverageSales(categories[c], months[firstMonth + m],
+                            (double) cell[0] / cell[2], (double) cell[1] / cell[2]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 자치구 × 업종별 전체 측정값 합계 (기준 년월은 빈 문자열)
+     */
+    public List<SalesMonthlyAggregate> getDistrictCategoryTotals(String fromMonth, String toMonth) {
+        List<SalesMonthlyAggregate> result = new ArrayList<>();
+        int firstMonth = firstMonthAtOrAfter(fromMonth);
+        int lastMonth = lastMonthAtOrBefore(toMonth);
+        if (firstMonth > lastMonth) {
+            return result;
+        }
+
+        long[][][] sums = new long[districts.length][categories.length][];
+        for (int r = monthStart[firstMonth]; r < monthStart[lastMonth + 1]; r++) {
+            long[] cell = sums[districtOf(r)][categoryOf(r)];
+            if (cell == null) {
+                cell = new long[MEASURE_COUNT];
+                sums[districtOf(r)][categoryOf(r)] = cell;
+            }
+            for (int field = 0; field < MEASURE_COUNT; field++) {
+                cell[field] = SalesAmounts.add(cell[field], measure(r, field));
+            }
+        }
+
+        for (int d = 0; d < districts.length; d++) {
+            for (int c = 0; c < categories.length; c++) {
+                long[] cell = sums[d][c];
+                if (cell != null) {
+                    result.add(new SalesMonthlyAggregate("", districts[d], categories[c], cell[ROW_COUNT],
+                            cell[AMOUNT], cell[COUNT], cell[WEEKDAY_AMOUNT], cell[WEEKEND_AMOUNT],
+                            cell[MALE_AMOUNT], cell[FEMALE_AMOUNT], cell[WEEKDAY_COUNT], cell[WEEKEND_COUNT],
+                            cell[MALE_COUNT], cell[FEMALE_COUNT]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 자치구 월 평균 매출 (데이터가 없으면 null)
+     */
+    public Double getAverageMonthlySalesByDistrict(String districtName, String fromMonth, String toMonth) {
+        long[] sums = sumsByDistrict(districtName, fromMonth, toMonth);
+        return sums[ROW_COUNT] > 0 ? (double) sums[AMOUNT] / sums[ROW_COUNT] : null;
+    }
+
+    /**
+     * 자치구의 가장 최근 기준 년월 원본 행 수 (데이터가 없으면 null)
+     */
+    public Long getRecentBusinessesByDistrict(String districtName) {
+        Integer district = districtIndex.get(key(districtName));
+        if (district == null) {
+            return null;
+        }
+        for (int m = months.length - 1; m >= 0; m--) {
+            long rows = 0;
+            boolean found = false;
+            for (int r = monthStart[m]; r < monthStart[m + 1]; r++) {
+                if (districtOf(r) == district) {
+                    rows += measure(r, ROW_COUNT);
+                    found = true;
+                }
+            }
+            if (found) {
+                return rows;
+            }
+        }
+        return null;
+    }
+
+    private long sumByDistrict(String districtName, String fromMonth, String toMonth, int measure) {
+        return sumsByDistrict(districtName, fromMonth, toMonth)[measure];
+    }
+
+    private long[] sumsByDistrict(String districtName, String fromMonth, String toMonth) {
+        long[] sums = new long[MEASURE_COUNT];
+        Integer district = districtIndex.get(key(districtName));
+        if (district == null) {
+            return sums;
+        }
+        int firstMonth = firstMonthAtOrAfter(fromMonth);
+        int lastMonth = lastMonthAtOrBefore(toMonth);
+        if (firstMonth > lastMonth) {
+            return sums;
+        }
+        for (int r = monthStart[firstMonth]; r < monthStart[lastMonth + 1]; r++) {
+            if (districtOf(r) == district) {
+                for (int field = 0; field < MEASURE_COUNT; field++) {
+                    sums[field] = SalesAmounts.add(sums[field], measure(r, field));
+                }
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * 기간 내 레코드를 업종(byCategory) 또는 자치구별로 합산 -> [그룹] = {금액, 건수}, 레코드가 없으면 null
+     */
+    private long[][] groupTotals(String fromMonth, String toMonth, int districtFilter, int categoryFilter, boolean byCategory) {
+        long[][] totals = new long[byCategory ? categories.length : districts.length][];
+        int firstMonth = firstMonthAtOrAfter(fromMonth);
+        int lastMonth = lastMonthAtOrBefore(toMonth);
+        if (firstMonth > lastMonth) {
+            return totals;
+        }
+        for (int r = monthStart[firstMonth]; r < monthStart[lastMonth + 1]; r++) {
+            if ((districtFilter >= 0 && districtOf(r) != districtFilter)
+                    || (categoryFilter >= 0 && categoryOf(r) != categoryFilter)) {
+                continue;
+            }
+            int group = byCategory ? categoryOf(r) : districtOf(r);
+            if (totals[group] == null) {
+                totals[group] = new long[2];
+            }
+            totals[group][0] = SalesAmounts.add(totals[group][0], measure(r, AMOUNT));
+            totals[group][1] = SalesAmounts.add(totals[group][1], measure(r, COUNT));
+        }
+        return totals;
+    }
+
+    private List<SalesStatisticsResponse.DistrictSalesStatistics> districtStatistics(long[][] totals, int limit) {
+        List<SalesStatisticsResponse.DistrictSalesStatistics> result = new ArrayList<>();
+        for (int d = 0; d < districts.length; d++) {
+            if (totals[d] != null) {
+                result.add(new SalesStatisticsResponse.DistrictSalesStatistics(districts[d], totals[d][0], totals[d][1]));
+            }
+        }
+        result.sort(Comparator.comparingLong(SalesStatisticsResponse.DistrictSalesStatistics::getTotalAmount).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private int firstMonthAtOrAfter(String fromMonth) {
+        int index = Arrays.binarySearch(months, fromMonth);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int lastMonthAtOrBefore(String toMonth) {
+        int index = Arrays.binarySearch(months, toMonth);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int monthOf(int record) {
+        return Short.toUnsignedInt(buffer.getShort(recordOffset + record * RECORD_SIZE));
+    }
+
+    private int districtOf(int record) {
+        return Short.toUnsignedInt(buffer.getShort(recordOffset + record * RECORD_SIZE + 2));
+    }
+
+    private int categoryOf(int record) {
+        return Short.toUnsignedInt(buffer.getShort(recordOffset + record * RECORD_SIZE + 4));
+    }
+
+    private long measure(int record, int field) {
+        return buffer.getLong(recordOffset + record * RECORD_SIZE + MEASURES_OFFSET + field * 8);
+    }
+
+    /**
+     * 집계 테이블은 이름이 없는 원본 행을 빈 문자열 키로 저장함
+     */
+    private static String key(String name) {
+        return name != null ? name : "";
+    }
+
+    private static String[] distinct(List<SalesMonthlyAggregate> rows,
+                                     Function<SalesMonthlyAggregate, String> getter) {
+        TreeSet<String> values = new TreeSet<>();
+        for (SalesMonthlyAggregate row : rows) {
+            values.add(key(getter.apply(row)));
+        }
+        if (values.size() > 0xFFFF) {
+            throw new IllegalArgumentException("집계 스냅샷 사전 크기 초과: " + values.size());
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private static Map<String, Integer> indexOf(String[] values) {
+        Map<String, Integer> index = new HashMap<>(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            index.put(values[i], i);
+        }
+        return index;
+    }
+
+    private static byte[][] encode(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static String[] decode(ByteBuffer reader, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[Short.toUnsignedInt(reader.getShort())];
+            reader.get(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.capacity()));
+        return crc.getValue();
+    }
+
+    private static int align8(int offset) {
+        return (offset + 7) & ~7;
+    }
+}
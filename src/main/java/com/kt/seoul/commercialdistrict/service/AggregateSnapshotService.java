@@ -0,0 +1,272 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 월별 집계 스냅샷 관리 서비스
+ *
+ * 기동 시 디렉터리의 최신 스냅샷 파일을 데이터베이스 조회 없이 메모리 매핑하여 바로 통계 조회에 사용하고,
+ * 백그라운드에서 파일의 데이터셋 버전을 데이터베이스와 비교합니다.
+ * 버전이 다르거나 더 새로운 변경 알림({@link DatasetChangedEvent})을 받으면 스냅샷 사용을 멈추고
+ * (그동안 조회는 sales_monthly_aggregate 로 처리) 새 파일을 만들어 교체합니다.
+ *
+ * 파일 이름: {directory}/aggregates-v{데이터셋 버전}.bin
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@Lazy(false)
+public class AggregateSnapshotService {
+
+    private static final String FILE_PREFIX = "aggregates-v";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private static final String SELECT_AGGREGATES =
+            "SELECT 기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명, 행_수, " +
+            "당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액, " +
+            "주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수 FROM sales_monthly_aggregate";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotReadTemplate;
+    private final DatasetVersionService datasetVersionService;
+    private final AtomicReference<AggregateSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    @Value("${app.aggregate-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.aggregate-snapshot.directory:./aggregate-snapshot}")
+    private String directory;
+
+    /**
+     * 데이터베이스 버전 확인 주기 (알림을 놓쳤거나 복제본이 뒤처져 교체하지 못한 경우 재시도)
+     */
+    @Value("${app.aggregate-snapshot.check-interval:60s}")
+    private Duration checkInterval;
+
+    private ScheduledExecutorService executor;
+
+    public AggregateSnapshotService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    DatasetVersionService datasetVersionService) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 버전과 집계 행을 같은 스냅샷에서 읽기 위해 REPEATABLE READ
+        this.snapshotReadTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotReadTemplate.setReadOnly(true);
+        this.snapshotReadTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.datasetVersionService = datasetVersionService;
+    }
+
+    /**
+     * 최신 스냅샷 파일 매핑 후 백그라운드 버전 확인 시작
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Path latest = findLatestFile();
+        if (latest != null) {
+            try {
+                AggregateSnapshot snapshot = AggregateSnapshot.open(latest);
+                current.set(snapshot);
+                log.info("집계 스냅샷 v{} 매핑 완료 - {}개 그룹, {}ms", snapshot.datasetVersion(), snapshot.recordCount(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            } catch (IOException | RuntimeException e) {
+                log.warn("집계 스냅샷을 사용할 수 없어 데이터베이스 집계로 조회합니다: {} - {}", latest, e.getMessage());
+            }
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "aggregate-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::checkVersion, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 조회에 사용할 스냅샷
+     *
+     * @return 현재 데이터셋 버전과 일치하는 스냅샷 (없으면 null - 데이터베이스 집계로 조회)
+     */
+    public AggregateSnapshot current() {
+        return enabled ? current.get() : null;
+    }
+
+    /**
+     * 더 새로운 데이터셋 버전이 알려지면 스냅샷 사용을 멈추고 재생성 예약
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (!enabled || !DatasetVersionService.SALES_DATASET.equals(event.dataset())) {
+            return;
+        }
+        AggregateSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.datasetVersion() >= event.version()) {
+            return;
+        }
+        if (snapshot != null && current.compareAndSet(snapshot, null)) {
+            log.info("집계 스냅샷 v{} 사용 중지 - 데이터셋 v{} 변경", snapshot.datasetVersion(), event.version());
+        }
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (executor != null && refreshQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                refreshQueued.set(false);
+                refresh();
+            });
+        }
+    }
+
+    /**
+     * 데이터베이스 버전과 비교하여 다르면 사용을 멈추고 다시 생성
+     */
+    private void checkVersion() {
+        try {
+            long databaseVersion = datasetVersionService.currentVersion();
+            AggregateSnapshot snapshot = current.get();
+            if (snapshot != null && snapshot.datasetVersion() == databaseVersion) {
+                return;
+            }
+            if (snapshot != null && current.compareAndSet(snapshot, null)) {
+                log.info("집계 스냅샷 v{} 이 데이터셋 v{} 과 달라 사용 중지", snapshot.datasetVersion(), databaseVersion);
+            }
+            refresh();
+        } catch (RuntimeException e) {
+            // 데이터베이스에 연결할 수 없으면 기존 스냅샷을 계속 사용
+            log.warn("집계 스냅샷 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 테이블을 읽어 새 스냅샷 파일을 만들고 교체 (스냅샷 스레드에서만 실행)
+     */
+    private void refresh() {
+        long startTime = System.currentTimeMillis();
+        try {
+            // 집계 테이블 전체를 읽으므로 batch 풀 사용
+            SnapshotSource source = WorkloadScope.call(Workload.Kind.BATCH, () -> snapshotReadTemplate.execute(
+                    status -> new SnapshotSource(
+                            datasetVersionService.currentVersion(),
+                            jdbcTemplate.query(SELECT_AGGREGATES, (rs, rowNum) -> new SalesMonthlyAggregate(
+                                    rs.getString(1), rs.getString(2), rs.getString(3), rs.getLong(4),
+                                    rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getLong(9),
+                                    rs.getLong(10), rs.getLong(11), rs.getLong(12), rs.getLong(13), rs.getLong(14))))));
+            if (source == null) {
+                return;
+            }
+            // 읽은 곳(복제본)이 이 노드가 이미 본 버전보다 뒤처졌으면 다음 확인 때 다시 시도
+            if (source.version() < datasetVersionService.lastSeenVersion()) {
+                log.debug("집계 스냅샷 생성 보류 - 읽은 버전 v{} < 알려진 버전 v{}",
+                        source.version(), datasetVersionService.lastSeenVersion());
+                return;
+            }
+
+            Path dir = Paths.get(directory).toAbsolutePath();
+            Files.createDirectories(dir);
+            Path target = dir.resolve(FILE_PREFIX + source.version() + FILE_SUFFIX);
+            AggregateSnapshot.write(target, source.version(), source.rows());
+            AggregateSnapshot snapshot = AggregateSnapshot.open(target);
+
+            if (snapshot.datasetVersion() < datasetVersionService.lastSeenVersion()) {
+                // 생성하는 동안 다시 바뀜
+                scheduleRefresh();
+                return;
+            }
+            current.set(snapshot);
+            if (snapshot.datasetVersion() < datasetVersionService.lastSeenVersion()
+                    && current.compareAndSet(snapshot, null)) {
+                // 교체 직전에 변경 알림이 처리된 경우
+                scheduleRefresh();
+                return;
+            }
+            deleteOtherFiles(dir, target);
+            log.info("집계 스냅샷 v{} 생성 완료 - {}개 그룹, {}ms",
+                    snapshot.datasetVersion(), snapshot.recordCount(), System.currentTimeMillis() - startTime);
+        } catch (IOException | RuntimeException e) {
+            log.warn("집계 스냅샷 생성 실패 - 데이터베이스 집계로 조회합니다: {}", e.getMessage());
+        }
+    }
+
+    private Path findLatestFile() {
+        Path dir = Paths.get(directory).toAbsolutePath();
+        if (!Files.isDirectory(dir)) {
+            return null;
+        }
+        Path latest = null;
+        long latestVersion = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    long version = Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+                    if (version > latestVersion) {
+                        latestVersion = version;
+                        latest = file;
+                    }
+                } catch (NumberFormatException e) {
+                    log.debug("집계 스냅샷 파일 이름 무시: {}", name);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("집계 스냅샷 디렉터리 조회 실패: {}", e.getMessage());
+        }
+        return latest;
+    }
+
+    /**
+     * 이전 스냅샷 파일 삭제 (매핑 중인 파일도 삭제해도 매핑은 유지됨)
+     */
+    private void deleteOtherFiles(Path dir, Path keep) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!file.equals(keep)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("이전 집계 스냅샷 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private record SnapshotSource(long version, List<SalesMonthlyAggregate> rows) {
+    }
+}
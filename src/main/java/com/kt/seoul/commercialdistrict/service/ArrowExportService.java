@@ -0,0 +1,369 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Apache Arrow 컬럼 형식 내보내기 서비스
+ *
+ * JDBC 결과를 fetch size 단위로 읽어 Arrow 레코드 배치로 바로 채우고 응답 스트림에 기록하므로
+ * 테이블 전체를 힙에 올리지 않습니다. 자치구명/업종명은 사전(dictionary) 인코딩되며,
+ * 사전과 행을 같은 스냅샷에서 읽도록 REPEATABLE READ 읽기 전용 트랜잭션에서 실행합니다.
+ *
+ * 결과는 Arrow IPC 파일 형식이므로 pyarrow/Polars 에서 memory-map 으로 바로 열 수 있습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@Workload(Workload.Kind.ANALYTICAL)
+public class ArrowExportService {
+
+    public static final String ARROW_FILE_MEDIA_TYPE = "application/vnd.apache.arrow.file";
+
+    private static final ArrowType.Int DICTIONARY_INDEX_TYPE = new ArrowType.Int(32, true);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ArrowExportService(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.export.arrow.batch-size:8192}") int batchSize) {
+        this.batchSize = batchSize;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(batchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 매출 데이터를 Arrow 파일로 내보내기
+     *
+     * @param monthRange 기준 년월 범위
+     * @param districtName 자치구명 (선택)
+     * @param out 응답 스트림
+     */
+    public void exportSales(MonthRange monthRange, String districtName, OutputStream out) {
+        List<Object> args = new ArrayList<>(List.of(monthRange.fromMonth(), monthRange.toMonth()));
+        String where = " WHERE 기준_년월_코드 BETWEEN ? AND ?";
+        if (districtName != null && !districtName.isBlank()) {
+            where += " AND 자치구_코드_명 = ?";
+            args.add(districtName);
+        }
+        String condition = where;
+
+        List<Column> columns = List.of(
+                Column.bigint("id", "id"),
+                Column.utf8("baseYearMonth", "기준_년월_코드"),
+                Column.integer("districtCode", "자치구_코드"),
+                Column.dictionary("districtName", "자치구_코드_명", 1L),
+                Column.utf8("serviceCategoryCode", "서비스_업종_코드"),
+                Column.dictionary("serviceCategoryName", "서비스_업종_코드_명", 2L),
+                Column.bigint("monthlySalesAmount", "당월_매출_금액"),
+                Column.integer("monthlySalesCount", "당월_매출_건수"),
+                Column.bigint("weekdaySalesAmount", "주중_매출_금액"),
+                Column.bigint("weekendSalesAmount", "주말_매출_금액"),
+                Column.bigint("maleSalesAmount", "남성_매출_금액"),
+                Column.bigint("femaleSalesAmount", "여성_매출_금액"),
+                Column.integer("weekdaySalesCount", "주중_매출_건수"),
+                Column.integer("weekendSalesCount", "주말_매출_건수"),
+                Column.integer("maleSalesCount", "남성_매출_건수"),
+                Column.integer("femaleSalesCount", "여성_매출_건수"));
+
+        transactionTemplate.executeWithoutResult(status -> export("sales_data", columns, condition,
+                " ORDER BY 기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명", args.toArray(), out));
+    }
+
+    /**
+     * 자치구 인구 통계를 Arrow 파일로 내보내기
+     *
+     * @param districtName 자치구명 (선택)
+     * @param out 응답 스트림
+     */
+    public void exportPopulation(String districtName, OutputStream out) {
+        Object[] args = new Object[0];
+        String where = "";
+        if (districtName != null && !districtName.isBlank()) {
+            where = " WHERE district_name = ?";
+            args = new Object[]{districtName};
+        }
+        String condition = where;
+        Object[] queryArgs = args;
+
+        List<Column> columns = List.of(
+                Column.bigint("id", "id"),
+                Column.dictionary("districtName", "district_name", 1L),
+                Column.integer("totalPopulation", "total_population"),
+                Column.integer("residentPopulation", "resident_population"),
+                Column.integer("workerPopulation", "worker_population"),
+                Column.integer("floatingPopulation", "floating_population"),
+                Column.integer("age0To9Male", "age_0_9_male"),
+                Column.integer("age10To19Male", "age_10_19_male"),
+                Column.integer("age20To29Male", "age_20_29_male"),
+                Column.integer("age30To39Male", "age_30_39_male"),
+                Column.integer("age40To49Male", "age_40_49_male"),
+                Column.integer("age50To59Male", "age_50_59_male"),
+                Column.integer("age60PlusMale", "age_60_plus_male"),
+                Column.integer("age0To9Female", "age_0_9_female"),
+                Column.integer("age10To19Female", "age_10_19_female"),
+                Column.integer("age20To29Female", "age_20_29_female"),
+                Column.integer("age30To39Female", "age_30_39_female"),
+                Column.integer("age40To49Female", "age_40_49_female"),
+                Column.integer("age50To59Female", "age_50_59_female"),
+                Column.integer("age60PlusFemale", "age_60_plus_female"),
+                Column.timestamp("createdAt", "created_at"),
+                Column.timestamp("updatedAt", "updated_at"));
+
+        transactionTemplate.executeWithoutResult(status -> export("district_population_statistics", columns, condition,
+                " ORDER BY district_name", queryArgs, out));
+    }
+
+    private void export(String table, List<Column> columns, String where, String orderBy, Object[] args, OutputStream out) {
+        long startTime = System.currentTimeMillis();
+
+        try (BufferAllocator allocator = new RootAllocator()) {
+            DictionaryProvider.MapDictionaryProvider provider = new DictionaryProvider.MapDictionaryProvider();
+            List<Field> fields = new ArrayList<>();
+            try {
+                for (Column column : columns) {
+                    if (column.kind == Kind.DICTIONARY) {
+                        String notNull = (where.isEmpty() ? " WHERE " : " AND ") + column.sqlColumn + " IS NOT NULL";
+                        List<String> values = jdbcTemplate.queryForList(
+                                "SELECT DISTINCT " + column.sqlColumn + " FROM " + table + where + notNull + " ORDER BY 1",
+                                String.class, args);
+                        column.dictionaryIndex = new HashMap<>();
+                        VarCharVector dictionaryVector = new VarCharVector(column.name, allocator);
+                        dictionaryVector.allocateNew(values.size());
+                        for (int i = 0; i < values.size(); i++) {
+                            dictionaryVector.setSafe(i, values.get(i).getBytes(StandardCharsets.UTF_8));
+                            column.dictionaryIndex.put(values.get(i), i);
+                        }
+                        dictionaryVector.setValueCount(values.size());
+                        provider.put(new Dictionary(dictionaryVector, column.encoding()));
+                    }
+                    fields.add(column.field());
+                }
+
+                try (VectorSchemaRoot root = VectorSchemaRoot.create(new Schema(fields), allocator);
+                     ArrowFileWriter writer = new ArrowFileWriter(root, provider, Channels.newChannel(out))) {
+                    writer.start();
+
+                    List<FieldVector> vectors = root.getFieldVectors();
+                    BatchWriter batchWriter = new BatchWriter(root, writer, columns, vectors);
+                    String select = columns.stream().map(c -> c.sqlColumn).reduce((a, b) -> a + ", " + b).orElseThrow();
+                    jdbcTemplate.query("SELECT " + select + " FROM " + table + where + orderBy,
+                            batchWriter::addRow, args);
+                    batchWriter.flush();
+
+                    writer.end();
+                    log.info("Arrow 내보내기 완료 - {}: {}행, {}개 배치, {}ms",
+                            table, batchWriter.totalRows, batchWriter.batches, System.currentTimeMillis() - startTime);
+                }
+            } finally {
+                for (long id : provider.getDictionaryIds()) {
+                    provider.lookup(id).getVector().close();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Arrow 내보내기 실패: " + table, e);
+        }
+    }
+
+    /**
+     * 결과 행을 배치 크기만큼 채운 뒤 레코드 배치로 기록
+     */
+    private final class BatchWriter {
+
+        private final VectorSchemaRoot root;
+        private final ArrowFileWriter writer;
+        private final List<Column> columns;
+        private final List<FieldVector> vectors;
+        private int rowInBatch;
+        private long totalRows;
+        private int batches;
+
+        private BatchWriter(VectorSchemaRoot root, ArrowFileWriter writer, List<Column> columns, List<FieldVector> vectors) {
+            this.root = root;
+            this.writer = writer;
+            this.columns = columns;
+            this.vectors = vectors;
+            root.allocateNew();
+        }
+
+        private void addRow(ResultSet rs) throws SQLException {
+            for (int c = 0; c < columns.size(); c++) {
+                columns.get(c).write(vectors.get(c), rowInBatch, rs, c + 1);
+            }
+            rowInBatch++;
+            totalRows++;
+            if (rowInBatch == batchSize) {
+                flush();
+                root.allocateNew();
+            }
+        }
+
+        private void flush() {
+            if (rowInBatch == 0 && batches > 0) {
+                return;
+            }
+            root.setRowCount(rowInBatch);
+            try {
+                writer.writeBatch();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            batches++;
+            rowInBatch = 0;
+        }
+    }
+
+    private enum Kind {
+        BIGINT,
+        INTEGER,
+        UTF8,
+        DICTIONARY,
+        TIMESTAMP
+    }
+
+    /**
+     * 내보내기 컬럼 정의 (Arrow 필드명, SQL 컬럼, 타입)
+     */
+    private static final class Column {
+
+        private final String name;
+        private final String sqlColumn;
+        private final Kind kind;
+        private final long dictionaryId;
+        private Map<String, Integer> dictionaryIndex;
+
+        private Column(String name, String sqlColumn, Kind kind, long dictionaryId) {
+            this.name = name;
+            this.sqlColumn = sqlColumn;
+            this.kind = kind;
+            this.dictionaryId = dictionaryId;
+        }
+
+        static Column bigint(String name, String sqlColumn) {
+            return new Column(name, sqlColumn, Kind.BIGINT, 0L);
+        }
+
+        static Column integer(String name, String sqlColumn) {
+            return new Column(name, sqlColumn, Kind.INTEGER, 0L);
+        }
+
+        static Column utf8(String name, String sqlColumn) {
+            return new Column(name, sqlColumn, Kind.UTF8, 0L);
+        }
+
+        static Column dictionary(String name, String sqlColumn, long dictionaryId) {
+            return new Column(name, sqlColumn, Kind.DICTIONARY, dictionaryId);
+        }
+
+        static Column timestamp(String name, String sqlColumn) {
+            return new Column(name, sqlColumn, Kind.TIMESTAMP, 0L);
+        }
+
+        DictionaryEncoding encoding() {
+            return new DictionaryEncoding(dictionaryId, false, DICTIONARY_INDEX_TYPE);
+        }
+
+        Field field() {
+            return switch (kind) {
+                case BIGINT -> Field.nullable(name, new ArrowType.Int(64, true));
+                case INTEGER -> Field.nullable(name, new ArrowType.Int(32, true));
+                case UTF8 -> Field.nullable(name, ArrowType.Utf8.INSTANCE);
+                case DICTIONARY -> new Field(name, new FieldType(true, DICTIONARY_INDEX_TYPE, encoding()), null);
+                case TIMESTAMP -> Field.nullable(name, new ArrowType.Timestamp(TimeUnit.MILLISECOND, null));
+            };
+        }
+
+        void write(FieldVector vector, int index, ResultSet rs, int columnIndex) throws SQLException {
+            switch (kind) {
+                case BIGINT -> {
+                    long value = rs.getLong(columnIndex);
+                    if (rs.wasNull()) {
+                        ((BigIntVector) vector).setNull(index);
+                    } else {
+                        ((BigIntVector) vector).setSafe(index, value);
+                    }
+                }
+                case INTEGER -> {
+                    int value = rs.getInt(columnIndex);
+                    if (rs.wasNull()) {
+                        ((IntVector) vector).setNull(index);
+                    } else {
+                        ((IntVector) vector).setSafe(index, value);
+                    }
+                }
+                case UTF8 -> {
+                    String value = rs.getString(columnIndex);
+                    if (value == null) {
+                        ((VarCharVector) vector).setNull(index);
+                    } else {
+                        ((VarCharVector) vector).setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                case DICTIONARY -> {
+                    String value = rs.getString(columnIndex);
+                    Integer code = value != null ? dictionaryIndex.get(value) : null;
+                    if (code == null) {
+                        ((IntVector) vector).setNull(index);
+                    } else {
+                        ((IntVector) vector).setSafe(index, code);
+                    }
+                }
+                case TIMESTAMP -> {
+                    Timestamp value = rs.getTimestamp(columnIndex);
+                    if (value == null) {
+                        ((TimeStampMilliVector) vector).setNull(index);
+                    } else {
+                        ((TimeStampMilliVector) vector).setSafe(index,
+                                value.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+                    }
+                }
+            }
+        }
+    }
+}
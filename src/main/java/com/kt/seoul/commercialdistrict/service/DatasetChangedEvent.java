@@ -0,0 +1,14 @@
+package com.kt.seoul.commercialdistrict.service;
+
+/**
+ * 데이터셋 변경 이벤트
+ *
+ * 이 노드 또는 다른 노드에서 데이터가 바뀌었을 때 발행됩니다. 로컬 캐시와 사전 계산 결과를 무효화하는 데 사용합니다.
+ *
+ * @param dataset 데이터셋 이름
+ * @param version 변경 후 버전
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public record DatasetChangedEvent(String dataset, long version) {
+}
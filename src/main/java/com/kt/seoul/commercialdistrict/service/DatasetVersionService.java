@@ -0,0 +1,196 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터셋 버전 관리 및 변경 알림 서비스
+ *
+ * 데이터가 바뀌면 dataset_version_seq 에서 새 버전을 받아 같은 트랜잭션에서 {@code NOTIFY sales_data_changed, '<버전>'} 을 보냅니다.
+ * 시퀀스는 행 잠금을 잡지 않으므로 동시 적재가 버전 때문에 서로 기다리지 않으며,
+ * dataset_version 행은 커밋 후 짧은 별도 트랜잭션에서 갱신합니다 (재연결 시 확인, 파생 데이터셋 비교용).
+ * PostgreSQL 은 커밋 시점에만 알림을 전달하므로 롤백된 변경은 알려지지 않습니다.
+ * 모든 노드(자신 포함)는 DatasetChangeListener 로 알림을 받아 {@link DatasetChangedEvent} 를 발행하며,
+ * 같은 버전은 한 번만 발행됩니다.
+ *
+ * 조회는 단건이고 쓰기는 적재 트랜잭션에 참여하므로 부하 유형 태그를 붙이지 않고 호출한 쪽의 풀을 따릅니다.
+ * (태그를 붙이면 버전 조회로 시작하는 배치 트랜잭션 전체가 그 풀로 옮겨짐)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class DatasetVersionService {
+
+    /**
+     * 매출 데이터셋 이름
+     */
+    public static final String SALES_DATASET = "sales_data";
+
+    /**
+     * 변경 알림 채널
+     */
+    public static final String CHANGE_CHANNEL = "sales_data_changed";
+
+    /**
+     * 매출 데이터셋 버전 시퀀스
+     */
+    private static final String VERSION_SEQUENCE = "dataset_version_seq";
+
+    /**
+     * 현재 트랜잭션에서 이미 받은 버전 (트랜잭션 리소스 키)
+     */
+    private static final Object PUBLISHED_VERSION_KEY = DatasetVersionService.class.getName() + ".publishedVersion";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate recordTemplate;
+    private final AtomicLong lastSeenVersion = new AtomicLong(-1);
+
+    public DatasetVersionService(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.recordTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 후 콜백에서 실행되므로 끝난 트랜잭션과 분리
+        this.recordTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 버전 시퀀스 준비 (스키마 생성 후, 데이터 적재 전)
+     *
+     * 시퀀스가 기록된 버전보다 뒤처져 있으면 (최초 생성, 복원 등) 기록된 버전 다음부터 발급하도록 맞춥니다.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void prepareSequence() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + VERSION_SEQUENCE);
+        jdbcTemplate.queryForList(
+                "SELECT setval('" + VERSION_SEQUENCE + "', v.version) " +
+                "FROM dataset_version v, " + VERSION_SEQUENCE + " s " +
+                "WHERE v.dataset = ? AND v.version > s.last_value - CASE WHEN s.is_called THEN 0 ELSE 1 END",
+                SALES_DATASET);
+    }
+
+    /**
+     * 매출 데이터셋 새 버전을 받아 변경 알림 (현재 트랜잭션에 참여, 커밋 시 전달)
+     *
+     * 한 트랜잭션에서 여러 번 호출해도 (적재 배치마다) 버전은 한 번만 올리고 알림도 한 번만 보냅니다.
+     *
+     * @return 이 트랜잭션의 새 버전
+     */
+    @Transactional
+    public long publishChange() {
+        Long published = (Long) TransactionSynchronizationManager.getResource(PUBLISHED_VERSION_KEY);
+        if (published != null) {
+            return published;
+        }
+
+        Long version = jdbcTemplate.queryForObject("SELECT nextval('" + VERSION_SEQUENCE + "')", Long.class);
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANGE_CHANNEL, String.valueOf(version));
+        log.debug("데이터셋 변경 알림 등록: {} v{}", SALES_DATASET, version);
+
+        TransactionSynchronizationManager.bindResource(PUBLISHED_VERSION_KEY, version);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordVersion(version);
+                // 알림 수신이 꺼져 있어도 이 노드의 캐시는 커밋 후 바로 무효화
+                onVersion(version);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PUBLISHED_VERSION_KEY);
+            }
+        });
+        return version;
+    }
+
+    /**
+     * 커밋된 버전을 dataset_version 에 기록 (행 잠금은 이 짧은 트랜잭션 동안만 유지)
+     *
+     * 동시에 커밋된 적재가 순서를 바꿔 기록해도 더 높은 버전이 남습니다.
+     * 실패해도 알림은 이미 전달되었으므로 다음 변경 때 다시 맞춰집니다.
+     */
+    private void recordVersion(long version) {
+        try {
+            recordTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO dataset_version (dataset, version, updated_at) VALUES (?, ?, now()) " +
+                    "ON CONFLICT (dataset) DO UPDATE SET version = GREATEST(dataset_version.version, EXCLUDED.version), " +
+                    "updated_at = now()",
+                    SALES_DATASET, version));
+        } catch (RuntimeException e) {
+            log.warn("데이터셋 버전 기록 실패: {} v{} - {}", SALES_DATASET, version, e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스에 기록된 현재 매출 데이터셋 버전
+     *
+     * @return 현재 버전 (변경 이력이 없으면 0)
+     */
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(version), 0) FROM dataset_version WHERE dataset = ?", Long.class, SALES_DATASET);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * 파생 데이터셋(배치 분석 결과 등)이 마지막으로 반영한 매출 데이터셋 버전
+     *
+     * @param dataset 파생 데이터셋 이름
+     * @return 반영한 버전 (기록이 없으면 -1)
+     */
+    public long derivedVersion(String dataset) {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(version), -1) FROM dataset_version WHERE dataset = ?", Long.class, dataset);
+        return version != null ? version : -1L;
+    }
+
+    /**
+     * 파생 데이터셋이 반영한 매출 데이터셋 버전 기록 (현재 트랜잭션에 참여, 변경 알림은 보내지 않음)
+     *
+     * @param dataset 파생 데이터셋 이름
+     * @param version 반영한 매출 데이터셋 버전
+     */
+    @Transactional
+    public void recordDerivedVersion(String dataset, long version) {
+        jdbcTemplate.update(
+                "INSERT INTO dataset_version (dataset, version, updated_at) VALUES (?, ?, now()) " +
+                "ON CONFLICT (dataset) DO UPDATE SET version = EXCLUDED.version, updated_at = now()",
+                dataset, version);
+    }
+
+    /**
+     * 이 노드가 마지막으로 반영한 버전 (아직 없으면 -1)
+     */
+    public long lastSeenVersion() {
+        return lastSeenVersion.get();
+    }
+
+    /**
+     * 알림 또는 재연결 확인으로 받은 버전 반영 (처음 보는 더 높은 버전일 때만 이벤트 발행)
+     *
+     * @param version 받은 버전
+     */
+    public void onVersion(long version) {
+        long previous = lastSeenVersion.getAndAccumulate(version, Math::max);
+        if (version > previous) {
+            log.info("데이터셋 변경 감지: {} v{} -> v{}", SALES_DATASET, previous, version);
+            eventPublisher.publishEvent(new DatasetChangedEvent(SALES_DATASET, version));
+        }
+    }
+}
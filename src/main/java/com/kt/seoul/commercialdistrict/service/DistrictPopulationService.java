@@ -1,8 +1,10 @@
 package com.kt.seoul.commercialdistrict.service;
 
 import com.kt.seoul.commercialdistrict.dto.DistrictPopulationResponse;
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
 import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
 import com.kt.seoul.commercialdistrict.repository.DistrictPopulationStatisticsRepository;
+import com.kt.seoul.commercialdistrict.repository.FieldProjectionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,15 +26,21 @@ import java.util.stream.Collectors;
 public class DistrictPopulationService {
     
     private final DistrictPopulationStatisticsRepository repository;
+    private final FieldProjectionRepository fieldProjectionRepository;
     
     /**
      * 모든 자치구 인구 통계 조회 (총 인구수 기준 내림차순)
      * 
+     * @param fields 응답 필드 선택
      * @return 모든 자치구 인구 통계 목록
      */
-    public List<DistrictPopulationResponse> getAllDistricts() {
+    public List<DistrictPopulationResponse> getAllDistricts(FieldSelection fields) {
         log.info("모든 자치구 인구 통계 조회 요청");
         
+        if (!fields.isAll()) {
+            return fieldProjectionRepository.findPopulation(null, null, null, fields);
+        }
+        
         List<DistrictPopulationStatistics> districts = repository.findAllByOrderByTotalPopulationDesc();
         
         log.info("총 {}개 자치구 데이터 조회 완료", districts.size());
@@ -63,15 +71,20 @@ public class DistrictPopulationService {
      * 상위 N개 인구 많은 자치구 조회
      * 
      * @param limit 조회할 자치구 수
+     * @param fields 응답 필드 선택
      * @return 상위 N개 자치구 목록
      */
-    public List<DistrictPopulationResponse> getTopDistrictsByPopulation(Integer limit) {
+    public List<DistrictPopulationResponse> getTopDistrictsByPopulation(Integer limit, FieldSelection fields) {
         log.info("상위 {}개 인구 많은 자치구 조회 요청", limit);
         
         if (limit <= 0 || limit > 25) {
             throw new IllegalArgumentException("조회 개수는 1~25 사이여야 합니다.");
         }
         
+        if (!fields.isAll()) {
+            return fieldProjectionRepository.findPopulation(null, null, limit, fields);
+        }
+        
         List<DistrictPopulationStatistics> districts = repository.findTopDistrictsByPopulation(limit);
         
         log.info("상위 {}개 자치구 데이터 조회 완료", districts.size());
@@ -85,15 +98,20 @@ public class DistrictPopulationService {
      * 특정 인구수 이상인 자치구들 조회
      * 
      * @param minPopulation 최소 인구수
+     * @param fields 응답 필드 선택
      * @return 조건에 맞는 자치구 목록
      */
-    public List<DistrictPopulationResponse> getDistrictsWithMinimumPopulation(Integer minPopulation) {
+    public List<DistrictPopulationResponse> getDistrictsWithMinimumPopulation(Integer minPopulation, FieldSelection fields) {
         log.info("최소 인구수 {} 이상인 자치구 조회 요청", minPopulation);
         
         if (minPopulation < 0) {
             throw new IllegalArgumentException("최소 인구수는 0 이상이어야 합니다.");
         }
         
+        if (!fields.isAll()) {
+            return fieldProjectionRepository.findPopulation(minPopulation, null, null, fields);
+        }
+        
         List<DistrictPopulationStatistics> districts = repository.findDistrictsWithMinimumPopulation(minPopulation);
         
         log.info("조건에 맞는 {}개 자치구 데이터 조회 완료", districts.size());
@@ -107,15 +125,20 @@ public class DistrictPopulationService {
      * 자치구명 검색
      * 
      * @param keyword 검색 키워드
+     * @param fields 응답 필드 선택
      * @return 조건에 맞는 자치구 목록
      */
-    public List<DistrictPopulationResponse> searchDistrictsByName(String keyword) {
+    public List<DistrictPopulationResponse> searchDistrictsByName(String keyword, FieldSelection fields) {
         log.info("키워드 '{}'로 자치구 검색 요청", keyword);
         
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new IllegalArgumentException("검색 키워드는 비어있을 수 없습니다.");
         }
         
+        if (!fields.isAll()) {
+            return fieldProjectionRepository.findPopulation(null, keyword.trim(), null, fields);
+        }
+        
         List<DistrictPopulationStatistics> districts = repository.findByDistrictNameContaining(keyword.trim());
         
         log.info("키워드 '{}'로 {}개 자치구 검색 완료", keyword, districts.size());
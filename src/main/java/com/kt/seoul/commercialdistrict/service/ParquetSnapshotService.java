@@ -0,0 +1,395 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.seoul.commercialdistrict.dto.SnapshotManifest;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalOutputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 매출 데이터 Parquet 스냅샷 서비스
+ *
+ * 기준_년월_코드별로 Parquet 파일 하나씩을 병렬로 기록하고 manifest.json 에 행 수와 SHA-256 을 남깁니다.
+ * 파일과 스냅샷 디렉터리는 임시 이름으로 쓴 뒤 rename 하므로 완성된 스냅샷만 보이며, 만들어진 스냅샷은 수정하지 않습니다.
+ *
+ * 디렉터리 구조: {directory}/{snapshotId}/baseYearMonth=yyyyMM/sales_data.parquet
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ParquetSnapshotService {
+
+    public static final String MANIFEST_FILE = "manifest.json";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String DATA_FILE = "sales_data.parquet";
+    private static final DateTimeFormatter SNAPSHOT_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final MessageType SCHEMA = Types.buildMessage()
+            .required(PrimitiveTypeName.INT64).named("id")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("baseYearMonth")
+            .optional(PrimitiveTypeName.INT32).named("districtCode")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("districtName")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("serviceCategoryCode")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("serviceCategoryName")
+            .optional(PrimitiveTypeName.INT64).named("monthlySalesAmount")
+            .optional(PrimitiveTypeName.INT32).named("monthlySalesCount")
+            .optional(PrimitiveTypeName.INT64).named("weekdaySalesAmount")
+            .optional(PrimitiveTypeName.INT64).named("weekendSalesAmount")
+            .optional(PrimitiveTypeName.INT64).named("maleSalesAmount")
+            .optional(PrimitiveTypeName.INT64).named("femaleSalesAmount")
+            .optional(PrimitiveTypeName.INT32).named("weekdaySalesCount")
+            .optional(PrimitiveTypeName.INT32).named("weekendSalesCount")
+            .optional(PrimitiveTypeName.INT32).named("maleSalesCount")
+            .optional(PrimitiveTypeName.INT32).named("femaleSalesCount")
+            .named("sales_data");
+
+    /**
+     * 자치구/업종 순으로 정렬해 사전 인코딩 인덱스가 긴 런(RLE)을 이루도록 함
+     */
+    private static final String SELECT_MONTH =
+            "SELECT id, 기준_년월_코드, 자치구_코드, 자치구_코드_명, 서비스_업종_코드, 서비스_업종_코드_명, " +
+            "당월_매출_금액, 당월_매출_건수, 주중_매출_금액, 주말_매출_금액, 남성_매출_금액, 여성_매출_금액, " +
+            "주중_매출_건수, 주말_매출_건수, 남성_매출_건수, 여성_매출_건수 " +
+            "FROM sales_data WHERE 기준_년월_코드 = ? " +
+            "ORDER BY 자치구_코드_명, 서비스_업종_코드_명, id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    /**
+     * 스냅샷 저장 디렉터리
+     */
+    @Value("${app.snapshot.directory:./snapshots}")
+    private String directory;
+
+    /**
+     * 동시에 기록할 월 파일 수
+     */
+    @Value("${app.snapshot.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * 보관할 스냅샷 개수 (0 이면 삭제하지 않음)
+     */
+    @Value("${app.snapshot.retain:7}")
+    private int retain;
+
+    /**
+     * 정기 스냅샷 사용 여부
+     */
+    @Value("${app.snapshot.enabled:false}")
+    private boolean scheduledEnabled;
+
+    public ParquetSnapshotService(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.snapshot.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 정기 스냅샷 생성
+     */
+    @Scheduled(cron = "${app.snapshot.cron:0 30 3 * * *}")
+    @Workload(Workload.Kind.BATCH)
+    public void scheduledSnapshot() {
+        if (!scheduledEnabled) {
+            return;
+        }
+        try {
+            createSnapshot();
+        } catch (Exception e) {
+            log.error("정기 Parquet 스냅샷 생성 실패", e);
+        }
+    }
+
+    /**
+     * 스냅샷 생성
+     *
+     * @return 생성된 스냅샷 매니페스트
+     * @throws IllegalStateException 다른 스냅샷을 생성 중인 경우
+     */
+    @Workload(Workload.Kind.BATCH)
+    public SnapshotManifest createSnapshot() {
+        if (!snapshotLock.tryLock()) {
+            throw new IllegalStateException("이미 스냅샷을 생성 중입니다.");
+        }
+        try {
+            return doCreateSnapshot();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 완료된 스냅샷 매니페스트 목록 (최신순)
+     *
+     * @return 스냅샷 매니페스트 목록
+     */
+    public List<SnapshotManifest> listSnapshots() {
+        List<SnapshotManifest> manifests = new ArrayList<>();
+        for (Path snapshotDir : completedSnapshotDirs()) {
+            try {
+                manifests.add(objectMapper.readValue(snapshotDir.resolve(MANIFEST_FILE).toFile(), SnapshotManifest.class));
+            } catch (IOException e) {
+                log.warn("스냅샷 매니페스트 읽기 실패: {}", snapshotDir, e);
+            }
+        }
+        manifests.sort(Comparator.comparing(SnapshotManifest::getSnapshotId).reversed());
+        return manifests;
+    }
+
+    private SnapshotManifest doCreateSnapshot() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime createdAt = LocalDateTime.now();
+        String snapshotId = createdAt.format(SNAPSHOT_ID_FORMAT);
+        Path root = Paths.get(directory).toAbsolutePath();
+        Path workDir = root.resolve(snapshotId + TEMP_SUFFIX);
+        Path finalDir = root.resolve(snapshotId);
+
+        List<String> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT 기준_년월_코드 FROM sales_data WHERE 기준_년월_코드 IS NOT NULL ORDER BY 1", String.class);
+        log.info("Parquet 스냅샷 {} 생성 시작 - {}개월, 병렬도 {}", snapshotId, months.size(), parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, months.size())));
+        try {
+            Files.createDirectories(workDir);
+
+            List<Future<SnapshotManifest.MonthFile>> futures = new ArrayList<>();
+            for (String month : months) {
+                futures.add(executor.submit(() -> writeMonth(workDir, month)));
+            }
+            List<SnapshotManifest.MonthFile> files = new ArrayList<>();
+            for (Future<SnapshotManifest.MonthFile> future : futures) {
+                files.add(future.get());
+            }
+
+            SnapshotManifest manifest = SnapshotManifest.builder()
+                    .snapshotId(snapshotId)
+                    .createdAt(createdAt)
+                    .totalRows(files.stream().mapToLong(SnapshotManifest.MonthFile::getRows).sum())
+                    .files(files)
+                    .build();
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(workDir.resolve(MANIFEST_FILE).toFile(), manifest);
+
+            // 디렉터리 rename 으로 스냅샷 전체를 한 번에 공개
+            Files.move(workDir, finalDir, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("Parquet 스냅샷 {} 생성 완료 - {}행, {}ms",
+                    snapshotId, manifest.getTotalRows(), System.currentTimeMillis() - startTime);
+            pruneOldSnapshots();
+            return manifest;
+
+        } catch (ExecutionException e) {
+            deleteQuietly(workDir);
+            throw new IllegalStateException("Parquet 스냅샷 생성 실패: " + snapshotId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(workDir);
+            throw new IllegalStateException("Parquet 스냅샷 생성 중단: " + snapshotId, e);
+        } catch (IOException e) {
+            deleteQuietly(workDir);
+            throw new UncheckedIOException("Parquet 스냅샷 생성 실패: " + snapshotId, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SnapshotManifest.MonthFile writeMonth(Path workDir, String month) throws IOException {
+        Path monthDir = workDir.resolve("baseYearMonth=" + month);
+        Files.createDirectories(monthDir);
+        Path tempFile = monthDir.resolve(DATA_FILE + TEMP_SUFFIX);
+        Path dataFile = monthDir.resolve(DATA_FILE);
+
+        long rows;
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new LocalOutputFile(tempFile))
+                .withType(SCHEMA)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .withWriterVersion(ParquetProperties.WriterVersion.PARQUET_2_0)
+                .withCompressionCodec(CompressionCodecName.SNAPPY)
+                .withDictionaryEncoding(true)
+                .withDictionaryEncoding("id", false)
+                .build()) {
+            SimpleGroupFactory groups = new SimpleGroupFactory(SCHEMA);
+            long[] count = new long[1];
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(SELECT_MONTH, rs -> {
+                        write(writer, toGroup(groups, rs));
+                        count[0]++;
+                    }, month));
+            rows = count[0];
+        }
+
+        Files.move(tempFile, dataFile, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Parquet 스냅샷 {} 기록 완료 - {}행", month, rows);
+
+        return SnapshotManifest.MonthFile.builder()
+                .baseYearMonth(month)
+                .path(workDir.relativize(dataFile).toString())
+                .rows(rows)
+                .bytes(Files.size(dataFile))
+                .sha256(sha256(dataFile))
+                .build();
+    }
+
+    private static Group toGroup(SimpleGroupFactory groups, ResultSet rs) throws SQLException {
+        Group group = groups.newGroup();
+        group.append("id", rs.getLong(1));
+        group.append("baseYearMonth", rs.getString(2));
+        appendInt(group, "districtCode", rs, 3);
+        appendString(group, "districtName", rs, 4);
+        appendString(group, "serviceCategoryCode", rs, 5);
+        appendString(group, "serviceCategoryName", rs, 6);
+        appendLong(group, "monthlySalesAmount", rs, 7);
+        appendInt(group, "monthlySalesCount", rs, 8);
+        appendLong(group, "weekdaySalesAmount", rs, 9);
+        appendLong(group, "weekendSalesAmount", rs, 10);
+        appendLong(group, "maleSalesAmount", rs, 11);
+        appendLong(group, "femaleSalesAmount", rs, 12);
+        appendInt(group, "weekdaySalesCount", rs, 13);
+        appendInt(group, "weekendSalesCount", rs, 14);
+        appendInt(group, "maleSalesCount", rs, 15);
+        appendInt(group, "femaleSalesCount", rs, 16);
+        return group;
+    }
+
+    private static void appendLong(Group group, String field, ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        if (!rs.wasNull()) {
+            group.append(field, value);
+        }
+    }
+
+    private static void appendInt(Group group, String field, ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        if (!rs.wasNull()) {
+            group.append(field, value);
+        }
+    }
+
+    private static void appendString(Group group, String field, ResultSet rs, int column) throws SQLException {
+        String value = rs.getString(column);
+        if (value != null) {
+            group.append(field, value);
+        }
+    }
+
+    private static void write(ParquetWriter<Group> writer, Group group) {
+        try {
+            writer.write(group);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Path> completedSnapshotDirs() {
+        Path root = Paths.get(directory).toAbsolutePath();
+        List<Path> dirs = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return dirs;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root,
+                path -> Files.isDirectory(path) && Files.exists(path.resolve(MANIFEST_FILE))
+                        && !path.getFileName().toString().endsWith(TEMP_SUFFIX))) {
+            stream.forEach(dirs::add);
+        } catch (IOException e) {
+            log.warn("스냅샷 디렉터리 조회 실패: {}", root, e);
+        }
+        dirs.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return dirs;
+    }
+
+    private void pruneOldSnapshots() {
+        if (retain <= 0) {
+            return;
+        }
+        List<Path> dirs = completedSnapshotDirs();
+        for (int i = 0; i < dirs.size() - retain; i++) {
+            log.info("오래된 Parquet 스냅샷 삭제: {}", dirs.get(i).getFileName());
+            deleteQuietly(dirs.get(i));
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("파일 삭제 실패: {}", p);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("디렉터리 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 시한
+ *
+ * 요청마다 하나를 만들어 처리 중인 스레드에 연결합니다. 데이터소스는 이 스레드에서 만드는 JDBC 문장마다
+ * 남은 시간을 쿼리 시간 제한으로 적용하고, 시한이 지났거나 취소된 뒤에는 문장을 만들지 않고 바로 실패합니다.
+ * 클라이언트 연결이 끊기거나 비동기 처리 시한이 지나면 {@link #cancel()} 로 실행 중인 문장을 취소하여
+ * 버려진 요청이 커넥션을 계속 잡고 있지 않게 합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+public final class QueryDeadline {
+
+    /**
+     * 요청 속성 이름 (비동기 처리 스레드로 시한을 넘길 때 사용)
+     */
+    public static final String ATTRIBUTE = QueryDeadline.class.getName();
+
+    private static final ThreadLocal<QueryDeadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    private QueryDeadline(Duration timeout) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * 지금부터 timeout 뒤가 시한인 처리 시한 생성
+     */
+    public static QueryDeadline after(Duration timeout) {
+        return new QueryDeadline(timeout);
+    }
+
+    /**
+     * 현재 스레드의 처리 시한 (없으면 null)
+     */
+    public static QueryDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 처리 시한 연결
+     */
+    public static void bind(QueryDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    /**
+     * 현재 스레드의 처리 시한 연결 해제
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 처리 시한이 지났거나 취소되었는지 여부 (처리 시한이 없으면 false)
+     */
+    public static boolean isAbandoned() {
+        QueryDeadline deadline = CURRENT.get();
+        return deadline != null && (deadline.cancelled || deadline.isExpired());
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * 남은 시간 (밀리초, 지났으면 0 이하)
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 새 JDBC 문장에 남은 시간을 쿼리 시간 제한으로 적용하고 취소 대상으로 등록
+     *
+     * @throws SQLTimeoutException 시한이 지났거나 취소된 경우 (문장은 닫힘)
+     */
+    public void register(Statement statement) throws SQLException {
+        statements.add(statement);
+        long remaining = remainingMillis();
+        if (cancelled || remaining <= 0) {
+            statements.remove(statement);
+            statement.close();
+            throw new SQLTimeoutException(cancelled
+                    ? "요청이 취소되어 쿼리를 실행하지 않습니다"
+                    : "요청 처리 시한(" + timeout.toMillis() + "ms)이 지나 쿼리를 실행하지 않습니다");
+        }
+        // JDBC 시간 제한은 초 단위이므로 올림 (정확한 시한의 취소는 비동기 처리 시한이 담당)
+        statement.setQueryTimeout((int) Math.max(1, (remaining + 999) / 1000));
+    }
+
+    /**
+     * 닫힌 문장 등록 해제
+     */
+    public void unregister(Statement statement) {
+        statements.remove(statement);
+    }
+
+    /**
+     * 처리 시한 취소 - 실행 중인 문장을 취소하고 이후의 문장 생성을 막음
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.debug("쿼리 취소 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 매출 집계(sales_monthly_aggregate) 증분 유지 서비스
+ *
+ * sales_data 에 행을 쓰는 모든 경로는 같은 트랜잭션에서 {@link #recordInserted} / {@link #recordDeleted} 를 호출합니다.
+ * 엔티티 저장/수정/삭제는 Hibernate 이벤트 리스너(SalesDataAggregateListener)가 호출하며, COPY 적재는 재집계합니다.
+ * 변경분은 (기준 년월, 자치구, 업종) 그룹별로 메모리에서 합산한 뒤 그룹당 한 번의 원자적 upsert
+ * (INSERT ... ON CONFLICT DO UPDATE) 로 더하므로, 동시에 적재해도 서로 다른 그룹은 대기하지 않고
+ * 같은 그룹만 행 잠금으로 직렬화됩니다. 그룹은 항상 같은 순서로 갱신되어 적재 간 교착 상태가 생기지 않습니다.
+ *
+ * 검증 작업은 원본 전체 재집계와 비교하여 불일치가 있는 기준 년월을 다시 만듭니다.
+ * 매출 분포 스케치({@link SalesQuantileService})도 같은 트랜잭션에서 함께 갱신/재생성합니다.
+ * 집계가 바뀌는 모든 작업은 같은 트랜잭션에서 데이터셋 버전을 올려 다른 노드에 알립니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@Workload(Workload.Kind.BATCH)
+public class SalesAggregateService {
+
+    private static final String AGGREGATE_TABLE = "sales_monthly_aggregate";
+    private static final String KEY_COLUMNS = "기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명";
+    private static final List<String> MEASURE_COLUMNS = List.of(
+            "당월_매출_금액", "당월_매출_건수",
+            "주중_매출_금액", "주말_매출_금액", "남성_매출_금액", "여성_매출_금액",
+            "주중_매출_건수", "주말_매출_건수", "남성_매출_건수", "여성_매출_건수");
+    private static final String ROW_COUNT_COLUMN = "행_수";
+    private static final int MAX_LOGGED_MISMATCHES = 10;
+
+    private static final String UPSERT_SQL;
+    private static final String SOURCE_SQL;
+    private static final String VERIFY_SQL;
+
+    static {
+        List<String> valueColumns = new ArrayList<>();
+        valueColumns.add(ROW_COUNT_COLUMN);
+        valueColumns.addAll(MEASURE_COLUMNS);
+
+        List<String> increments = valueColumns.stream()
+                .map(column -> column + " = a." + column + " + EXCLUDED." + column)
+                .toList();
+        UPSERT_SQL = "INSERT INTO " + AGGREGATE_TABLE + " AS a (" + KEY_COLUMNS + ", " + String.join(", ", valueColumns) + ") " +
+                "VALUES (?, ?, ?" + ", ?".repeat(valueColumns.size()) + ") " +
+                "ON CONFLICT (" + KEY_COLUMNS + ") DO UPDATE SET " + String.join(", ", increments);
+
+        List<String> sums = MEASURE_COLUMNS.stream()
+                .map(column -> "SUM(" + column + ") AS " + column)
+                .toList();
+        SOURCE_SQL = "SELECT 기준_년월_코드, COALESCE(자치구_코드_명, '') AS 자치구_코드_명, " +
+                "COALESCE(서비스_업종_코드_명, '') AS 서비스_업종_코드_명, COUNT(*) AS " + ROW_COUNT_COLUMN + ", " +
+                String.join(", ", sums) + " FROM sales_data";
+
+        String sourceValues = String.join(", ", valueColumns.stream().map(column -> "s." + column).toList());
+        String aggregateValues = String.join(", ", valueColumns.stream().map(column -> "a." + column).toList());
+        VERIFY_SQL = "SELECT " + KEY_COLUMNS + " FROM (" + SOURCE_SQL + " GROUP BY 1, 2, 3) s " +
+                "FULL OUTER JOIN " + AGGREGATE_TABLE + " a USING (" + KEY_COLUMNS + ") " +
+                "WHERE (" + sourceValues + ") IS DISTINCT FROM (" + aggregateValues + ") " +
+                "ORDER BY " + KEY_COLUMNS;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetVersionService datasetVersionService;
+    private final SalesQuantileService salesQuantileService;
+
+    /**
+     * 검증에서 불일치가 발견되면 해당 기준 년월을 다시 집계할지 여부
+     */
+    @Value("${app.aggregate.repair-on-mismatch:true}")
+    private boolean repairOnMismatch;
+
+    public SalesAggregateService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 DatasetVersionService datasetVersionService, SalesQuantileService salesQuantileService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.datasetVersionService = datasetVersionService;
+        this.salesQuantileService = salesQuantileService;
+    }
+
+    /**
+     * 새로 저장된 매출 데이터를 집계에 더함 (저장과 같은 트랜잭션에서 호출)
+     *
+     * @param rows 저장된 매출 데이터
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordInserted(Collection<SalesData> rows) {
+        apply(rows, 1);
+        salesQuantileService.recordInserted(rows);
+    }
+
+    /**
+     * 삭제된 매출 데이터를 집계에서 뺌 (삭제와 같은 트랜잭션에서 호출, 수정은 이전 값 삭제 + 새 값 저장)
+     *
+     * @param rows 삭제된 매출 데이터
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Collection<SalesData> rows) {
+        apply(rows, -1);
+        jdbcTemplate.update("DELETE FROM " + AGGREGATE_TABLE + " WHERE " + ROW_COUNT_COLUMN + " = 0");
+        salesQuantileService.recordDeleted(rows);
+    }
+
+    private void apply(Collection<SalesData> rows, long sign) {
+        // 같은 그룹은 먼저 합산하고, 키 순서대로 갱신하여 동시 적재 간 잠금 순서를 고정
+        Map<GroupKey, long[]> deltas = new TreeMap<>();
+        for (SalesData row : rows) {
+            long[] delta = deltas.computeIfAbsent(GroupKey.of(row), key -> new long[MEASURE_COLUMNS.size() + 1]);
+            delta[0] += sign;
+            delta[1] += sign * row.getMonthlySalesAmount();
+            delta[2] += sign * row.getMonthlySalesCount();
+            delta[3] += sign * row.getWeekdaySalesAmount();
+            delta[4] += sign * row.getWeekendSalesAmount();
+            delta[5] += sign * row.getMaleSalesAmount();
+            delta[6] += sign * row.getFemaleSalesAmount();
+            delta[7] += sign * row.getWeekdaySalesCount();
+            delta[8] += sign * row.getWeekendSalesCount();
+            delta[9] += sign * row.getMaleSalesCount();
+            delta[10] += sign * row.getFemaleSalesCount();
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            Object[] args = new Object[3 + delta.length];
+            args[0] = key.baseYearMonth();
+            args[1] = key.districtName();
+            args[2] = key.serviceCategoryName();
+            for (int i = 0; i < delta.length; i++) {
+                args[3 + i] = delta[i];
+            }
+            batch.add(args);
+        });
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        datasetVersionService.publishChange();
+        log.debug("매출 집계 증분 반영: {}개 행 -> {}개 그룹", rows.size(), deltas.size());
+    }
+
+    /**
+     * 집계 테이블(또는 분포 스케치)이 비어 있고 원본 데이터가 있으면 전체 재집계 (기존 데이터베이스 최초 기동 시)
+     */
+    public void rebuildIfEmpty() {
+        Boolean empty = jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM " + AGGREGATE_TABLE + ") AND EXISTS (SELECT 1 FROM sales_data)",
+                Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            log.info("매출 집계 테이블이 비어 있어 전체 재집계를 시작합니다.");
+            rebuild();
+            return;
+        }
+
+        Boolean sketchesEmpty = jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM sales_quantile_sketch) AND EXISTS (SELECT 1 FROM sales_data)",
+                Boolean.class);
+        if (Boolean.TRUE.equals(sketchesEmpty)) {
+            log.info("매출 분포 스케치가 비어 있어 전체 생성을 시작합니다.");
+            transactionTemplate.executeWithoutResult(status -> {
+                lockAggregates();
+                salesQuantileService.rebuild();
+                datasetVersionService.publishChange();
+            });
+        }
+    }
+
+    /**
+     * 원본 데이터로부터 전체 집계를 다시 생성
+     *
+     * @return 생성된 집계 그룹 수
+     */
+    public int rebuild() {
+        Integer groups = transactionTemplate.execute(status -> {
+            lockAggregates();
+            jdbcTemplate.update("DELETE FROM " + AGGREGATE_TABLE);
+            int inserted = jdbcTemplate.update(insertFromSource("") + " GROUP BY 1, 2, 3");
+            salesQuantileService.rebuild();
+            datasetVersionService.publishChange();
+            return inserted;
+        });
+        log.info("매출 집계 전체 재집계 완료: {}개 그룹", groups);
+        return groups != null ? groups : 0;
+    }
+
+    /**
+     * 기준 년월의 집계를 원본 데이터로부터 다시 생성 (파티션 복원, 검증 불일치 복구)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void rebuildMonth(String yearMonth) {
+        Integer groups = transactionTemplate.execute(status -> {
+            lockAggregates();
+            jdbcTemplate.update("DELETE FROM " + AGGREGATE_TABLE + " WHERE 기준_년월_코드 = ?", yearMonth);
+            int inserted = jdbcTemplate.update(insertFromSource(" WHERE 기준_년월_코드 = ?") + " GROUP BY 1, 2, 3", yearMonth);
+            salesQuantileService.rebuildMonth(yearMonth);
+            datasetVersionService.publishChange();
+            return inserted;
+        });
+        log.info("매출 집계 재집계 완료: {} ({}개 그룹)", yearMonth, groups);
+    }
+
+    /**
+     * 기준 년월의 집계 삭제 (파티션 분리 시)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void removeMonth(String yearMonth) {
+        Integer groups = transactionTemplate.execute(status -> {
+            int deleted = jdbcTemplate.update("DELETE FROM " + AGGREGATE_TABLE + " WHERE 기준_년월_코드 = ?", yearMonth);
+            salesQuantileService.removeMonth(yearMonth);
+            datasetVersionService.publishChange();
+            return deleted;
+        });
+        log.info("매출 집계 삭제 완료: {} ({}개 그룹)", yearMonth, groups);
+    }
+
+    /**
+     * 유지 중인 집계를 원본 전체 재집계와 비교
+     *
+     * 한 문장으로 비교하므로 두 테이블은 같은 스냅샷에서 읽히며, 진행 중인 적재는 결과에 영향을 주지 않습니다.
+     *
+     * @return 불일치 그룹 수
+     */
+    public int verify() {
+        List<GroupKey> mismatches = jdbcTemplate.query(VERIFY_SQL, (rs, rowNum) -> new GroupKey(
+                rs.getString("기준_년월_코드"), rs.getString("자치구_코드_명"), rs.getString("서비스_업종_코드_명")));
+        if (mismatches.isEmpty()) {
+            log.info("매출 집계 검증 완료: 불일치 없음");
+            return 0;
+        }
+
+        log.warn("매출 집계 검증 불일치 {}개 그룹 (예: {})", mismatches.size(),
+                mismatches.subList(0, Math.min(MAX_LOGGED_MISMATCHES, mismatches.size())));
+        if (repairOnMismatch) {
+            Set<String> months = new TreeSet<>();
+            mismatches.forEach(key -> months.add(key.baseYearMonth()));
+            months.forEach(this::rebuildMonth);
+        }
+        return mismatches.size();
+    }
+
+    /**
+     * 정기 집계 검증
+     */
+    @Scheduled(cron = "${app.aggregate.verify-cron:0 45 3 * * *}")
+    public void scheduledVerify() {
+        try {
+            verify();
+        } catch (Exception e) {
+            log.error("매출 집계 정기 검증 실패", e);
+        }
+    }
+
+    private void lockAggregates() {
+        // 재집계 중 증분 upsert 가 끼어들지 않도록 대기시키고, 진행 중인 적재는 커밋 후 재집계에 포함
+        jdbcTemplate.execute("LOCK TABLE " + AGGREGATE_TABLE + " IN SHARE ROW EXCLUSIVE MODE");
+    }
+
+    private static String insertFromSource(String where) {
+        return "INSERT INTO " + AGGREGATE_TABLE + " (" + KEY_COLUMNS + ", " + ROW_COUNT_COLUMN + ", " +
+                String.join(", ", MEASURE_COLUMNS) + ") " + SOURCE_SQL + where;
+    }
+
+    /**
+     * 집계 그룹 키 (자치구/업종명이 없으면 빈 문자열)
+     */
+    private record GroupKey(String baseYearMonth, String districtName, String serviceCategoryName)
+            implements Comparable<GroupKey> {
+
+        private static final Comparator<GroupKey> ORDER = Comparator.comparing(GroupKey::baseYearMonth)
+                .thenComparing(GroupKey::districtName)
+                .thenComparing(GroupKey::serviceCategoryName);
+
+        static GroupKey of(SalesData row) {
+            return new GroupKey(row.getBaseYearMonth(),
+                    row.getDistrictName() != null ? row.getDistrictName() : "",
+                    row.getServiceCategoryName() != null ? row.getServiceCategoryName() : "");
+        }
+
+        @Override
+        public int compareTo(GroupKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
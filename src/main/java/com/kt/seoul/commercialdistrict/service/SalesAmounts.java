@@ -0,0 +1,46 @@
+package com.kt.seoul.commercialdistrict.service;
+
+/**
+ * 매출 금액/건수 합계의 long 범위 처리
+ *
+ * PostgreSQL 에서 SUM(bigint) 는 numeric 이므로 데이터베이스 합계는 넘치지 않고,
+ * 집계 쿼리는 LEAST(SUM(..), Long.MAX_VALUE) 로 long 에 맞춥니다 (SalesMonthlyAggregateRepository.SUM_CAP).
+ * 메모리에서 합산하는 경로(집계 스냅샷, 매출 행렬)는 {@link #add} 로 같은 값에서 포화시키므로,
+ * 어느 경로든 응답 JSON 의 숫자 형식은 그대로이고 범위를 넘은 합계는 {@link #SATURATED} 로 표시됩니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public final class SalesAmounts {
+
+    /**
+     * 범위를 넘은 합계 값
+     */
+    public static final long SATURATED = Long.MAX_VALUE;
+
+    private SalesAmounts() {
+    }
+
+    /**
+     * 포화 덧셈 (음수가 없는 측정값용, 결과가 long 범위를 넘으면 {@link #SATURATED})
+     *
+     * @param sum 누적 합계
+     * @param value 더할 값
+     * @return 합계
+     */
+    public static long add(long sum, long value) {
+        long result = sum + value;
+        // 같은 부호끼리 더해 결과 부호가 바뀌면 넘침
+        if (((sum ^ result) & (value ^ result)) < 0) {
+            return result < 0 ? SATURATED : Long.MIN_VALUE;
+        }
+        return result;
+    }
+
+    /**
+     * 범위를 넘어 포화된 합계인지 여부
+     */
+    public static boolean isSaturated(long sum) {
+        return sum == SATURATED;
+    }
+}
@@ -0,0 +1,328 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 매출 이상치 탐지 배치 서비스
+ *
+ * 매출 데이터셋이 바뀌면({@link DatasetChangedEvent}, debounce 후) 모든 자치구 × 업종 월별 당월 매출 금액 시계열을
+ * 로그 척도에서 로버스트 z 점수로 평가하고, 임계값을 넘은 달을 sales_anomaly 에 다시 씁니다.
+ *
+ * - 계절 기준선: 전년 동월 값 + 최근 window 개월 전년 대비 변화의 중앙값, 척도는 그 변화의 MAD
+ * - 수준 기준선: 전년 동월 이력이 부족하면 최근 window 개월 값의 중앙값과 MAD
+ *
+ * 시계열은 {@link SalesSeriesCube} 의 기본형 배열에서 구간별로 병렬 처리하며, 각 작업은 미리 할당한 작업 배열만 사용합니다.
+ * 여러 노드가 동시에 이벤트를 받아도 advisory lock 과 dataset_version 의 처리 버전으로 한 번만 계산합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class SalesAnomalyService {
+
+    /**
+     * 처리한 매출 데이터셋 버전을 기록하는 dataset_version 이름
+     */
+    public static final String ANOMALY_DATASET = "sales_anomaly";
+
+    public static final String SEASONAL_BASELINE = "seasonal";
+    public static final String LEVEL_BASELINE = "level";
+
+    /**
+     * 정규분포에서 MAD 를 표준편차로 환산하는 계수
+     */
+    private static final double MAD_SCALE = 1.4826;
+    private static final int SEASON = 12;
+    private static final double HIGH_SCORE = 5.0;
+    private static final double CRITICAL_SCORE = 8.0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetVersionService datasetVersionService;
+    private final TransactionTemplate writeTemplate;
+    private final AtomicReference<ScheduledFuture<?>> pending = new AtomicReference<>();
+
+    @Value("${app.anomaly.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.anomaly.debounce:30s}")
+    private Duration debounce;
+
+    @Value("${app.anomaly.window:12}")
+    private int window;
+
+    @Value("${app.anomaly.min-history:6}")
+    private int minHistory;
+
+    @Value("${app.anomaly.threshold:3.5}")
+    private double threshold;
+
+    @Value("${app.anomaly.min-scale:0.05}")
+    private double minScale;
+
+    @Value("${app.anomaly.parallelism:0}")
+    private int parallelism;
+
+    private ScheduledExecutorService scheduler;
+
+    public SalesAnomalyService(JdbcTemplate jdbcTemplate, DatasetVersionService datasetVersionService,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.datasetVersionService = datasetVersionService;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        // 시계열과 데이터셋 버전을 같은 시점으로 읽음
+        this.writeTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sales-anomaly");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 기동 시 중단된 동안의 변경 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        schedule(Duration.ZERO);
+    }
+
+    /**
+     * 적재가 이어지는 동안은 미루고, 마지막 변경 후 debounce 가 지나면 한 번 계산
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (DatasetVersionService.SALES_DATASET.equals(event.dataset())) {
+            schedule(debounce);
+        }
+    }
+
+    private void schedule(Duration delay) {
+        if (scheduler == null) {
+            return;
+        }
+        ScheduledFuture<?> next = scheduler.schedule(this::detectQuietly, delay.toMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = pending.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void detectQuietly() {
+        try {
+            // 스케줄러 스레드에서 직접 호출하므로 프록시의 태그 대신 여기서 batch 풀 지정
+            WorkloadScope.run(Workload.Kind.BATCH, this::detect);
+        } catch (RuntimeException e) {
+            log.warn("매출 이상치 탐지 실패 - 다음 변경 때 다시 시도합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 데이터셋 버전으로 이상치 재계산
+     *
+     * @return 저장한 이상치 수 (이미 반영된 버전이거나 다른 노드가 계산 중이면 -1)
+     */
+    @Workload(Workload.Kind.BATCH)
+    public int detect() {
+        Integer stored = writeTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, ANOMALY_DATASET);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("다른 노드가 매출 이상치를 계산 중이므로 건너뜁니다");
+                return -1;
+            }
+            long version = datasetVersionService.currentVersion();
+            if (datasetVersionService.derivedVersion(ANOMALY_DATASET) >= version) {
+                return -1;
+            }
+
+            long startTime = System.currentTimeMillis();
+            SalesSeriesCube cube = SalesSeriesCube.load(jdbcTemplate);
+            long loadedTime = System.currentTimeMillis();
+            List<Object[]> anomalies = score(cube);
+
+            jdbcTemplate.update("DELETE FROM sales_anomaly");
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO sales_anomaly (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명, " +
+                    "실제_매출_금액, 기대_매출_금액, 점수, 심각도, 기준선) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    anomalies);
+            datasetVersionService.recordDerivedVersion(ANOMALY_DATASET, version);
+
+            log.info("매출 이상치 탐지 완료 (v{}) - 시계열 {}개 × {}개월, 이상치 {}건, 적재 {}ms, 계산·저장 {}ms",
+                    version, cube.seriesCount(), cube.monthCount(), anomalies.size(),
+                    loadedTime - startTime, System.currentTimeMillis() - loadedTime);
+            return anomalies.size();
+        });
+        return stored != null ? stored : -1;
+    }
+
+    /**
+     * 시계열 구간을 나누어 병렬 평가
+     */
+    private List<Object[]> score(SalesSeriesCube cube) {
+        int seriesCount = cube.seriesCount();
+        if (seriesCount == 0 || cube.monthCount() <= minHistory) {
+            return List.of();
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        // 시계열마다 이력 길이가 달라 작업량이 고르지 않으므로 스레드보다 잘게 나눔
+        int chunks = Math.min(seriesCount, threads * 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, chunks)));
+        try {
+            List<Future<List<Object[]>>> futures = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = (int) ((long) seriesCount * chunk / chunks);
+                int to = (int) ((long) seriesCount * (chunk + 1) / chunks);
+                futures.add(executor.submit(() -> scoreRange(cube, from, to)));
+            }
+            List<Object[]> anomalies = new ArrayList<>();
+            for (Future<List<Object[]>> future : futures) {
+                anomalies.addAll(future.get());
+            }
+            return anomalies;
+
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("매출 이상치 계산 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("매출 이상치 계산 중단", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * [from, to) 시계열의 모든 달을 평가하여 임계값을 넘은 달을 INSERT 파라미터로 반환
+     */
+    private List<Object[]> scoreRange(SalesSeriesCube cube, int from, int to) {
+        double[] values = cube.values();
+        int months = cube.monthCount();
+        double[] logs = new double[months];
+        double[] sample = new double[window];
+        double[] deviations = new double[window];
+        List<Object[]> anomalies = new ArrayList<>();
+
+        for (int series = from; series < to; series++) {
+            int offset = cube.offset(series);
+            for (int month = 0; month < months; month++) {
+                double value = values[offset + month];
+                logs[month] = Double.isNaN(value) ? Double.NaN : Math.log1p(Math.max(value, 0));
+            }
+
+            for (int t = minHistory; t < months; t++) {
+                double y = logs[t];
+                if (Double.isNaN(y)) {
+                    continue;
+                }
+
+                // 계절 기준선: 최근 전년 대비 변화(로그 차)의 중앙값만큼 전년 동월에서 이동
+                int n = 0;
+                if (t >= SEASON && !Double.isNaN(logs[t - SEASON])) {
+                    for (int k = Math.max(SEASON, t - window); k < t; k++) {
+                        if (!Double.isNaN(logs[k]) && !Double.isNaN(logs[k - SEASON])) {
+                            sample[n++] = logs[k] - logs[k - SEASON];
+                        }
+                    }
+                }
+                double expected;
+                double spread;
+                String baseline;
+                if (n >= minHistory) {
+                    double drift = median(sample, n);
+                    expected = logs[t - SEASON] + drift;
+                    spread = medianAbsoluteDeviation(sample, n, drift, deviations);
+                    baseline = SEASONAL_BASELINE;
+                } else {
+                    n = 0;
+                    for (int k = Math.max(0, t - window); k < t; k++) {
+                        if (!Double.isNaN(logs[k])) {
+                            sample[n++] = logs[k];
+                        }
+                    }
+                    if (n < minHistory) {
+                        continue;
+                    }
+                    expected = median(sample, n);
+                    spread = medianAbsoluteDeviation(sample, n, expected, deviations);
+                    baseline = LEVEL_BASELINE;
+                }
+
+                // 변동이 거의 없는 시계열은 MAD 가 0 에 가까우므로 최소 척도로 점수 폭주를 막음
+                double score = (y - expected) / Math.max(MAD_SCALE * spread, minScale);
+                if (Math.abs(score) >= threshold) {
+                    anomalies.add(new Object[]{
+                            cube.monthCode(t), cube.district(series), cube.category(series),
+                            (long) values[offset + t], Math.round(Math.expm1(expected)),
+                            score, severity(score), baseline});
+                }
+            }
+        }
+        return anomalies;
+    }
+
+    /**
+     * 앞 n 개 값의 중앙값 (값 순서를 바꿈)
+     */
+    private static double median(double[] values, int n) {
+        Arrays.sort(values, 0, n);
+        return (n & 1) == 1 ? values[n / 2] : (values[n / 2 - 1] + values[n / 2]) / 2;
+    }
+
+    private static double medianAbsoluteDeviation(double[] values, int n, double center, double[] deviations) {
+        for (int i = 0; i < n; i++) {
+            deviations[i] = Math.abs(values[i] - center);
+        }
+        return median(deviations, n);
+    }
+
+    /**
+     * |점수| 로 심각도 분류 (임계값 이상 MEDIUM, 5 이상 HIGH, 8 이상 CRITICAL)
+     */
+    private static String severity(double score) {
+        double magnitude = Math.abs(score);
+        if (magnitude >= CRITICAL_SCORE) {
+            return "CRITICAL";
+        }
+        return magnitude >= HIGH_SCORE ? "HIGH" : "MEDIUM";
+    }
+}
@@ -1,15 +1,24 @@
 package com.kt.seoul.commercialdistrict.service;
 
+import com.kt.seoul.commercialdistrict.dto.FieldSelection;
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
 import com.kt.seoul.commercialdistrict.dto.SalesDataResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesMatrixResponse;
+import com.kt.seoul.commercialdistrict.dto.SalesMeasure;
+import com.kt.seoul.commercialdistrict.dto.SalesPivotQuery;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryRequest;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryResponse;
 import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
-import com.kt.seoul.commercialdistrict.entity.SalesData;
-import com.kt.seoul.commercialdistrict.repository.SalesDataRepository;
+import com.kt.seoul.commercialdistrict.entity.SalesMonthlyAggregate;
+import com.kt.seoul.commercialdistrict.repository.FieldProjectionRepository;
+import com.kt.seoul.commercialdistrict.repository.SalesAnomalyRepository;
+import com.kt.seoul.commercialdistrict.repository.SalesMonthlyAggregateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -17,10 +26,18 @@ import java.util.ArrayList;
 import java.util.stream.Collectors;
 import java.util.Comparator;
 import java.util.Arrays;
+import java.util.TreeSet;
 
 /**
  * 매출 데이터 서비스
  * 
+ * 매출 목록은 엔티티/영속성 컨텍스트를 거치지 않고 JDBC 로 응답 DTO 에 바로 매핑합니다.
+ * 통계는 원본 행 대신 쓰기 시 증분 반영되는 sales_monthly_aggregate 를 읽으며,
+ * 현재 데이터셋 버전의 메모리 매핑 집계 스냅샷이 있으면 데이터베이스 대신 스냅샷에서 계산합니다.
+ * 자치구 총 매출, 매출 순위, 업종 분류별 월별 통계, 자치구 × 업종 행렬, 피벗 조회는 결과를 {@link AggregateCacheService} 에 보관하고 백그라운드에서 갱신합니다.
+ * 매출 이상치는 적재 후 {@link SalesAnomalyService} 가 계산해 둔 sales_anomaly 를 읽고,
+ * 매출 예측은 {@link SalesForecastService} 의 메모리 색인에서 조회합니다.
+ * 
  * @author KT 개발팀
  * @version 1.0.0
  */
@@ -30,22 +47,27 @@ import java.util.Arrays;
 @Transactional(readOnly = true)
 public class SalesDataService {
     
-    private final SalesDataRepository salesDataRepository;
+    private final SalesMonthlyAggregateRepository salesMonthlyAggregateRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final AggregateSnapshotService aggregateSnapshotService;
+    private final AggregateCacheService aggregateCacheService;
+    private final SalesQuantileService salesQuantileService;
+    private final SalesAnomalyRepository salesAnomalyRepository;
+    private final SalesForecastService salesForecastService;
+    private final SalesPivotService salesPivotService;
     
     /**
      * 자치구별 매출 데이터 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
+     * @param fields 응답 필드 선택
      * @return 해당 자치구의 매출 데이터 목록
      */
-    public List<SalesDataResponse> getSalesDataByDistrict(String districtName) {
-        log.info("자치구별 매출 데이터 조회: {}", districtName);
-        
-        List<SalesData> salesDataList = salesDataRepository.findByDistrictName(districtName);
+    public List<SalesDataResponse> getSalesDataByDistrict(String districtName, MonthRange monthRange, FieldSelection fields) {
+        log.info("자치구별 매출 데이터 조회: {} ({} ~ {})", districtName, monthRange.fromMonth(), monthRange.toMonth());
         
-        return salesDataList.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return fieldProjectionRepository.findSalesData(districtName, null, monthRange, fields);
     }
     
     /**
@@ -53,66 +75,80 @@ public class SalesDataService {
      * 
      * @param districtName 자치구명
      * @param serviceCategoryName 서비스 업종명
+     * @param monthRange 기준 년월 범위
+     * @param fields 응답 필드 선택
      * @return 해당 자치구의 특정 업종 매출 데이터 목록
      */
-    public List<SalesDataResponse> getSalesDataByDistrictAndCategory(String districtName, String serviceCategoryName) {
+    public List<SalesDataResponse> getSalesDataByDistrictAndCategory(String districtName, String serviceCategoryName,
+                                                                      MonthRange monthRange, FieldSelection fields) {
         log.info("자치구별 업종별 매출 데이터 조회: {} - {}", districtName, serviceCategoryName);
         
-        List<SalesData> salesDataList = salesDataRepository.findByDistrictNameAndServiceCategoryName(districtName, serviceCategoryName);
-        
-        return salesDataList.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return fieldProjectionRepository.findSalesData(districtName, serviceCategoryName, monthRange, fields);
     }
     
     /**
      * 업종별 매출 데이터 조회
      * 
      * @param serviceCategoryName 서비스 업종명
+     * @param monthRange 기준 년월 범위
+     * @param fields 응답 필드 선택
      * @return 해당 업종의 매출 데이터 목록
      */
-    public List<SalesDataResponse> getSalesDataByCategory(String serviceCategoryName) {
+    public List<SalesDataResponse> getSalesDataByCategory(String serviceCategoryName, MonthRange monthRange, FieldSelection fields) {
         log.info("업종별 매출 데이터 조회: {}", serviceCategoryName);
         
-        List<SalesData> salesDataList = salesDataRepository.findByServiceCategoryName(serviceCategoryName);
-        
-        return salesDataList.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return fieldProjectionRepository.findSalesData(null, serviceCategoryName, monthRange, fields);
     }
     
     /**
      * 자치구별 총 매출 정보 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 총 매출 정보
      */
-    public SalesStatisticsResponse.DistrictTotalSales getDistrictTotalSales(String districtName) {
+    public SalesStatisticsResponse.DistrictTotalSales getDistrictTotalSales(String districtName, MonthRange monthRange) {
         log.info("자치구별 총 매출 정보 조회: {}", districtName);
         
+        return aggregateCacheService.get(cacheKey("district-total", districtName, monthRange),
+                () -> loadDistrictTotalSales(districtName, monthRange));
+    }
+    
+    private SalesStatisticsResponse.DistrictTotalSales loadDistrictTotalSales(String districtName, MonthRange monthRange) {
         try {
             // 총 매출 금액과 건수 조회
-            BigInteger totalAmount = salesDataRepository.sumMonthlySalesAmountByDistrictName(districtName);
-            Integer totalCount = salesDataRepository.sumMonthlySalesCountByDistrictName(districtName);
+            AggregateSnapshot snapshot = aggregateSnapshotService.current();
+            long totalAmount = snapshot != null
+                    ? snapshot.sumMonthlySalesAmountByDistrictName(districtName, monthRange.fromMonth(), monthRange.toMonth())
+                    : salesMonthlyAggregateRepository.sumMonthlySalesAmountByDistrictName(
+                            districtName, monthRange.fromMonth(), monthRange.toMonth());
+            long totalCount = snapshot != null
+                    ? snapshot.sumMonthlySalesCountByDistrictName(districtName, monthRange.fromMonth(), monthRange.toMonth())
+                    : salesMonthlyAggregateRepository.sumMonthlySalesCountByDistrictName(
+                            districtName, monthRange.fromMonth(), monthRange.toMonth());
             
             log.info("자치구 {} - 총 매출 금액: {}, 총 매출 건수: {}", districtName, totalAmount, totalCount);
+            if (SalesAmounts.isSaturated(totalAmount) || SalesAmounts.isSaturated(totalCount)) {
+                log.warn("자치구 {} 매출 합계가 long 범위를 넘어 최댓값으로 제한되었습니다 ({} ~ {})",
+                        districtName, monthRange.fromMonth(), monthRange.toMonth());
+            }
             
             // 업종별 통계 조회
             List<SalesStatisticsResponse.CategorySalesStatistics> categoryStatistics = 
-                getCategorySalesStatisticsByDistrict(districtName);
+                getCategorySalesStatisticsByDistrict(districtName, monthRange);
             
             // 성별 통계 조회
             SalesStatisticsResponse.GenderSalesStatistics genderStatistics = 
-                getGenderSalesStatisticsByDistrict(districtName);
+                getGenderSalesStatisticsByDistrict(districtName, monthRange);
             
             // 주중/주말 통계 조회
             SalesStatisticsResponse.WeekdayWeekendSalesStatistics weekdayWeekendStatistics = 
-                getWeekdayWeekendSalesStatisticsByDistrict(districtName);
+                getWeekdayWeekendSalesStatisticsByDistrict(districtName, monthRange);
             
             SalesStatisticsResponse.DistrictTotalSales result = SalesStatisticsResponse.DistrictTotalSales.builder()
                     .districtName(districtName)
-                    .totalAmount(totalAmount != null ? totalAmount : BigInteger.ZERO)
-                    .totalCount(totalCount != null ? totalCount : 0)
+                    .totalAmount(totalAmount)
+                    .totalCount(totalCount)
                     .categoryStatistics(categoryStatistics)
                     .genderStatistics(genderStatistics)
                     .weekdayWeekendStatistics(weekdayWeekendStatistics)
@@ -135,216 +171,144 @@ public class SalesDataService {
      * 자치구별 업종별 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 업종별 매출 통계
      */
-    public List<SalesStatisticsResponse.CategorySalesStatistics> getCategorySalesStatisticsByDistrict(String districtName) {
+    public List<SalesStatisticsResponse.CategorySalesStatistics> getCategorySalesStatisticsByDistrict(String districtName,
+                                                                                                      MonthRange monthRange) {
         log.info("자치구별 업종별 매출 통계 조회: {}", districtName);
         
-        try {
-            List<Object[]> results = salesDataRepository.getSalesStatisticsByDistrict(districtName);
-            
-            if (results == null || results.isEmpty()) {
-                log.warn("자치구 {}의 매출 데이터가 없습니다. 기본값을 반환합니다.", districtName);
-                return createDefaultCategoryStatistics();
-            }
-            
-            return results.stream()
-                    .map(result -> SalesStatisticsResponse.CategorySalesStatistics.builder()
-                            .serviceCategoryName(result[0] != null ? (String) result[0] : "")
-                            .totalAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                            .totalCount(result[2] != null ? (Integer) result[2] : 0)
-                            .build())
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("자치구별 업종별 매출 통계 조회 중 오류 발생: {}", districtName, e);
-            return createDefaultCategoryStatistics();
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getSalesStatisticsByDistrict(districtName, monthRange.fromMonth(), monthRange.toMonth());
         }
-    }
-    
-    /**
-     * 기본 업종별 통계 데이터 생성
-     */
-    private List<SalesStatisticsResponse.CategorySalesStatistics> createDefaultCategoryStatistics() {
-        return Arrays.asList(
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("한식전문점")
-                .totalAmount(BigInteger.valueOf(1500000000))
-                .totalCount(1200)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("중식전문점")
-                .totalAmount(BigInteger.valueOf(1200000000))
-                .totalCount(800)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("양식전문점")
-                .totalAmount(BigInteger.valueOf(1000000000))
-                .totalCount(600)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("일식전문점")
-                .totalAmount(BigInteger.valueOf(800000000))
-                .totalCount(500)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("분식전문점")
-                .totalAmount(BigInteger.valueOf(600000000))
-                .totalCount(1000)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("치킨전문점")
-                .totalAmount(BigInteger.valueOf(500000000))
-                .totalCount(800)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("패스트푸드")
-                .totalAmount(BigInteger.valueOf(400000000))
-                .totalCount(600)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("카페")
-                .totalAmount(BigInteger.valueOf(800000000))
-                .totalCount(1500)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("제과점")
-                .totalAmount(BigInteger.valueOf(600000000))
-                .totalCount(1000)
-                .build(),
-            SalesStatisticsResponse.CategorySalesStatistics.builder()
-                .serviceCategoryName("호프")
-                .totalAmount(BigInteger.valueOf(400000000))
-                .totalCount(500)
-                .build()
-        );
+        return salesMonthlyAggregateRepository.getSalesStatisticsByDistrict(
+                districtName, monthRange.fromMonth(), monthRange.toMonth());
     }
     
     /**
      * 업종별 자치구별 매출 통계 조회
      * 
      * @param serviceCategoryName 서비스 업종명
+     * @param monthRange 기준 년월 범위
      * @return 업종별 자치구별 매출 통계
      */
-    public List<SalesStatisticsResponse.DistrictSalesStatistics> getDistrictSalesStatisticsByCategory(String serviceCategoryName) {
+    public List<SalesStatisticsResponse.DistrictSalesStatistics> getDistrictSalesStatisticsByCategory(String serviceCategoryName,
+                                                                                                      MonthRange monthRange) {
         log.info("업종별 자치구별 매출 통계 조회: {}", serviceCategoryName);
         
-        List<Object[]> results = salesDataRepository.getSalesStatisticsByServiceCategory(serviceCategoryName);
-        
-        return results.stream()
-                .map(result -> SalesStatisticsResponse.DistrictSalesStatistics.builder()
-                        .districtName(result[0] != null ? (String) result[0] : "")
-                        .totalAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                        .totalCount(result[2] != null ? (Integer) result[2] : 0)
-                        .build())
-                .collect(Collectors.toList());
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getSalesStatisticsByServiceCategory(serviceCategoryName, monthRange.fromMonth(), monthRange.toMonth());
+        }
+        return salesMonthlyAggregateRepository.getSalesStatisticsByServiceCategory(
+                serviceCategoryName, monthRange.fromMonth(), monthRange.toMonth());
     }
     
     /**
      * 자치구별 성별 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 성별 매출 통계
      */
-    public SalesStatisticsResponse.GenderSalesStatistics getGenderSalesStatisticsByDistrict(String districtName) {
+    public SalesStatisticsResponse.GenderSalesStatistics getGenderSalesStatisticsByDistrict(String districtName,
+                                                                                            MonthRange monthRange) {
         log.info("자치구별 성별 매출 통계 조회: {}", districtName);
         
-        Object[] result = salesDataRepository.getGenderSalesStatisticsByDistrict(districtName);
-        
-        if (result != null && result.length >= 4) {
-            return SalesStatisticsResponse.GenderSalesStatistics.builder()
-                    .maleAmount(result[0] != null ? (BigInteger) result[0] : BigInteger.ZERO)
-                    .femaleAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                    .maleCount(result[2] != null ? (Integer) result[2] : 0)
-                    .femaleCount(result[3] != null ? (Integer) result[3] : 0)
-                    .build();
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getGenderSalesStatisticsByDistrict(districtName, monthRange.fromMonth(), monthRange.toMonth());
         }
-        
-        return SalesStatisticsResponse.GenderSalesStatistics.builder()
-                .maleAmount(BigInteger.ZERO)
-                .femaleAmount(BigInteger.ZERO)
-                .maleCount(0)
-                .femaleCount(0)
-                .build();
+        return salesMonthlyAggregateRepository.getGenderSalesStatisticsByDistrict(
+                districtName, monthRange.fromMonth(), monthRange.toMonth());
     }
     
     /**
      * 자치구별 주중/주말 매출 통계 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 주중/주말 매출 통계
      */
-    public SalesStatisticsResponse.WeekdayWeekendSalesStatistics getWeekdayWeekendSalesStatisticsByDistrict(String districtName) {
+    public SalesStatisticsResponse.WeekdayWeekendSalesStatistics getWeekdayWeekendSalesStatisticsByDistrict(String districtName,
+                                                                                                            MonthRange monthRange) {
         log.info("자치구별 주중/주말 매출 통계 조회: {}", districtName);
         
-        Object[] result = salesDataRepository.getWeekdayWeekendSalesStatisticsByDistrict(districtName);
-        
-        if (result != null && result.length >= 4) {
-            return SalesStatisticsResponse.WeekdayWeekendSalesStatistics.builder()
-                    .weekdayAmount(result[0] != null ? (BigInteger) result[0] : BigInteger.ZERO)
-                    .weekendAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                    .weekdayCount(result[2] != null ? (Integer) result[2] : 0)
-                    .weekendCount(result[3] != null ? (Integer) result[3] : 0)
-                    .build();
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getWeekdayWeekendSalesStatisticsByDistrict(districtName, monthRange.fromMonth(), monthRange.toMonth());
         }
-        
-        return SalesStatisticsResponse.WeekdayWeekendSalesStatistics.builder()
-                .weekdayAmount(BigInteger.ZERO)
-                .weekendAmount(BigInteger.ZERO)
-                .weekdayCount(0)
-                .weekendCount(0)
-                .build();
+        return salesMonthlyAggregateRepository.getWeekdayWeekendSalesStatisticsByDistrict(
+                districtName, monthRange.fromMonth(), monthRange.toMonth());
     }
     
     /**
      * 전체 자치구 매출 순위 조회 (상위 N개)
      * 
      * @param limit 조회할 개수
+     * @param monthRange 기준 년월 범위
      * @return 매출 순위별 자치구 목록
      */
-    public List<SalesStatisticsResponse.DistrictSalesStatistics> getTopDistrictsBySales(int limit) {
+    public List<SalesStatisticsResponse.DistrictSalesStatistics> getTopDistrictsBySales(int limit, MonthRange monthRange) {
         log.info("전체 자치구 매출 순위 조회 (상위 {}개)", limit);
         
-        List<Object[]> results = salesDataRepository.getTopDistrictsBySales(limit);
-        
-        return results.stream()
-                .map(result -> SalesStatisticsResponse.DistrictSalesStatistics.builder()
-                        .districtName(result[0] != null ? (String) result[0] : "")
-                        .totalAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                        .totalCount(result[2] != null ? (Integer) result[2] : 0)
-                        .build())
-                .collect(Collectors.toList());
+        return aggregateCacheService.get(cacheKey("top-districts", String.valueOf(limit), monthRange),
+                () -> loadTopDistrictsBySales(limit, monthRange));
+    }
+    
+    private List<SalesStatisticsResponse.DistrictSalesStatistics> loadTopDistrictsBySales(int limit, MonthRange monthRange) {
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getTopDistrictsBySales(monthRange.fromMonth(), monthRange.toMonth(), limit);
+        }
+        return salesMonthlyAggregateRepository.getTopDistrictsBySales(
+                monthRange.fromMonth(), monthRange.toMonth(), PageRequest.of(0, limit));
     }
     
     /**
      * 전체 업종 매출 순위 조회 (상위 N개)
      * 
      * @param limit 조회할 개수
+     * @param monthRange 기준 년월 범위
      * @return 매출 순위별 업종 목록
      */
-    public List<SalesStatisticsResponse.CategorySalesStatistics> getTopServiceCategoriesBySales(int limit) {
+    public List<SalesStatisticsResponse.CategorySalesStatistics> getTopServiceCategoriesBySales(int limit, MonthRange monthRange) {
         log.info("전체 업종 매출 순위 조회 (상위 {}개)", limit);
         
-        List<Object[]> results = salesDataRepository.getTopServiceCategoriesBySales(limit);
-        
-        return results.stream()
-                .map(result -> SalesStatisticsResponse.CategorySalesStatistics.builder()
-                        .serviceCategoryName(result[0] != null ? (String) result[0] : "")
-                        .totalAmount(result[1] != null ? (BigInteger) result[1] : BigInteger.ZERO)
-                        .totalCount(result[2] != null ? (Integer) result[2] : 0)
-                        .build())
-                .collect(Collectors.toList());
+        return aggregateCacheService.get(cacheKey("top-categories", String.valueOf(limit), monthRange),
+                () -> loadTopServiceCategoriesBySales(limit, monthRange));
+    }
+    
+    private List<SalesStatisticsResponse.CategorySalesStatistics> loadTopServiceCategoriesBySales(int limit, MonthRange monthRange) {
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getTopServiceCategoriesBySales(monthRange.fromMonth(), monthRange.toMonth(), limit);
+        }
+        return salesMonthlyAggregateRepository.getTopServiceCategoriesBySales(
+                monthRange.fromMonth(), monthRange.toMonth(), PageRequest.of(0, limit));
     }
     
     /**
      * 업종별 월별 평균 매출 통계 조회 (3개 분류로 그룹화)
      * 
+     * @param monthRange 기준 년월 범위
      * @return 업종 분류별 월별 평균 매출 통계
      */
-    public List<SalesStatisticsResponse.CategoryGroupMonthlySales> getCategoryGroupMonthlySales() {
+    public List<SalesStatisticsResponse.CategoryGroupMonthlySales> getCategoryGroupMonthlySales(MonthRange monthRange) {
         log.info("업종별 월별 평균 매출 통계 조회");
         
+        return aggregateCacheService.get(cacheKey("category-groups", "", monthRange),
+                () -> loadCategoryGroupMonthlySales(monthRange));
+    }
+    
+    private List<SalesStatisticsResponse.CategoryGroupMonthlySales> loadCategoryGroupMonthlySales(MonthRange monthRange) {
         try {
-            List<Object[]> results = salesDataRepository.getMonthlyAverageSalesByCategory();
+            AggregateSnapshot snapshot = aggregateSnapshotService.current();
+            List<SalesStatisticsResponse.MonthlyAverageSales> results = snapshot != null
+                    ? snapshot.getMonthlyAverageSales(null, monthRange.fromMonth(), monthRange.toMonth())
+                    : salesMonthlyAggregateRepository.getMonthlyAverageSalesByCategory(
+                            monthRange.fromMonth(), monthRange.toMonth());
             
             return processMonthlySalesData(results);
             
@@ -358,13 +322,25 @@ public class SalesDataService {
      * 자치구별 업종별 월별 평균 매출 통계 조회 (3개 분류로 그룹화)
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 업종 분류별 월별 평균 매출 통계
      */
-    public List<SalesStatisticsResponse.CategoryGroupMonthlySales> getCategoryGroupMonthlySalesByDistrict(String districtName) {
+    public List<SalesStatisticsResponse.CategoryGroupMonthlySales> getCategoryGroupMonthlySalesByDistrict(String districtName,
+                                                                                                          MonthRange monthRange) {
         log.info("자치구별 업종별 월별 평균 매출 통계 조회: {}", districtName);
         
+        return aggregateCacheService.get(cacheKey("category-groups", districtName, monthRange),
+                () -> loadCategoryGroupMonthlySalesByDistrict(districtName, monthRange));
+    }
+    
+    private List<SalesStatisticsResponse.CategoryGroupMonthlySales> loadCategoryGroupMonthlySalesByDistrict(String districtName,
+                                                                                                            MonthRange monthRange) {
         try {
-            List<Object[]> results = salesDataRepository.getMonthlyAverageSalesByCategoryAndDistrict(districtName);
+            AggregateSnapshot snapshot = aggregateSnapshotService.current();
+            List<SalesStatisticsResponse.MonthlyAverageSales> results = snapshot != null
+                    ? snapshot.getMonthlyAverageSales(districtName, monthRange.fromMonth(), monthRange.toMonth())
+                    : salesMonthlyAggregateRepository.getMonthlyAverageSalesByCategoryAndDistrict(
+                            districtName, monthRange.fromMonth(), monthRange.toMonth());
             
             return processMonthlySalesData(results);
             
@@ -374,19 +350,156 @@ public class SalesDataService {
         }
     }
     
+    /**
+     * 자치구 × 업종 매출 행렬 조회 (히트맵)
+     * 
+     * 기간별 자치구 × 업종 합계(전체 측정값)를 한 번의 GROUP BY 또는 집계 스냅샷으로 계산해 캐시하고,
+     * 요청한 측정값만 밀집 배열로 옮깁니다.
+     * 
+     * @param measure 측정값
+     * @param monthRange 기준 년월 범위
+     * @return 행/열 사전과 [자치구][업종] 측정값 배열
+     */
+    public SalesMatrixResponse getSalesMatrix(SalesMeasure measure, MonthRange monthRange) {
+        log.info("자치구 × 업종 매출 행렬 조회: {} ({} ~ {})", measure.parameterName(), monthRange.fromMonth(), monthRange.toMonth());
+        
+        List<SalesMonthlyAggregate> cells = aggregateCacheService.get(cacheKey("district-category", "", monthRange),
+                () -> loadDistrictCategoryTotals(monthRange));
+        
+        TreeSet<String> districtNames = new TreeSet<>();
+        TreeSet<String> categoryNames = new TreeSet<>();
+        for (SalesMonthlyAggregate cell : cells) {
+            districtNames.add(cell.getDistrictName());
+            categoryNames.add(cell.getServiceCategoryName());
+        }
+        List<String> districts = new ArrayList<>(districtNames);
+        List<String> categories = new ArrayList<>(categoryNames);
+        Map<String, Integer> districtIndex = new HashMap<>();
+        Map<String, Integer> categoryIndex = new HashMap<>();
+        for (int i = 0; i < districts.size(); i++) {
+            districtIndex.put(districts.get(i), i);
+        }
+        for (int i = 0; i < categories.size(); i++) {
+            categoryIndex.put(categories.get(i), i);
+        }
+        
+        long[][] values = new long[districts.size()][categories.size()];
+        for (SalesMonthlyAggregate cell : cells) {
+            int d = districtIndex.get(cell.getDistrictName());
+            int c = categoryIndex.get(cell.getServiceCategoryName());
+            values[d][c] = SalesAmounts.add(values[d][c], measure.of(cell));
+        }
+        
+        return SalesMatrixResponse.builder()
+                .measure(measure.parameterName())
+                .fromMonth(monthRange.fromMonth())
+                .toMonth(monthRange.toMonth())
+                .districts(districts)
+                .categories(categories)
+                .values(values)
+                .build();
+    }
+    
+    private List<SalesMonthlyAggregate> loadDistrictCategoryTotals(MonthRange monthRange) {
+        AggregateSnapshot snapshot = aggregateSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.getDistrictCategoryTotals(monthRange.fromMonth(), monthRange.toMonth());
+        }
+        return salesMonthlyAggregateRepository.getDistrictCategoryTotals(monthRange.fromMonth(), monthRange.toMonth());
+    }
+    
+    /**
+     * 매출 금액/객단가 분위수 조회 (그룹별 t-digest 스케치 병합)
+     * 
+     * @param districtName 자치구명 (null 이면 전체)
+     * @param serviceCategoryName 서비스 업종명 (null 이면 전체)
+     * @param monthRange 기준 년월 범위
+     * @param groupBy 결과 그룹화 기준
+     * @param quantiles 분위수 (0 ~ 1)
+     * @return 그룹별 매출 분포
+     */
+    public List<SalesStatisticsResponse.SalesDistribution> getSalesDistribution(String districtName, String serviceCategoryName,
+                                                                              MonthRange monthRange,
+                                                                              SalesQuantileService.GroupBy groupBy,
+                                                                              double[] quantiles) {
+        log.info("매출 분포 조회: 자치구 {}, 업종 {}, 그룹 {}", districtName, serviceCategoryName, groupBy);
+        
+        String condition = districtName + "|" + serviceCategoryName + "|" + groupBy + "|" + Arrays.toString(quantiles);
+        return aggregateCacheService.get(cacheKey("distribution", condition, monthRange),
+                () -> salesQuantileService.getDistribution(districtName, serviceCategoryName, monthRange, groupBy, quantiles));
+    }
+    
+    /**
+     * 기준 년월의 매출 이상치 조회 (심각도 순)
+     * 
+     * @param baseYearMonth 기준 년월 (yyyyMM, null 이면 가장 최근 기준 년월)
+     * @param limit 조회할 개수
+     * @return 이상치 목록 (|점수| 내림차순)
+     */
+    public List<SalesStatisticsResponse.SalesAnomaly> getSalesAnomalies(String baseYearMonth, int limit) {
+        String month = baseYearMonth == null || baseYearMonth.isBlank()
+                ? salesMonthlyAggregateRepository.findLatestBaseYearMonth()
+                : MonthRange.of(baseYearMonth, baseYearMonth).fromMonth();
+        log.info("매출 이상치 조회: {} (상위 {}개)", month, limit);
+        
+        if (month == null) {
+            return List.of();
+        }
+        return salesAnomalyRepository.findRankedByMonth(month, PageRequest.of(0, limit));
+    }
+    
+    /**
+     * 자치구(와 업종)의 다음 분기 매출 예측 조회
+     * 
+     * @param districtName 자치구명
+     * @param serviceCategoryName 서비스 업종명 (null 이면 자치구의 모든 업종)
+     * @return 업종, 예측 대상 월 순 예측 목록
+     */
+    public List<SalesStatisticsResponse.SalesForecast> getSalesForecast(String districtName, String serviceCategoryName) {
+        if (districtName == null || districtName.isBlank()) {
+            throw new IllegalArgumentException("자치구명은 필수입니다");
+        }
+        log.info("매출 예측 조회: 자치구 {}, 업종 {}", districtName, serviceCategoryName);
+        
+        return salesForecastService.getForecast(districtName.trim(),
+                serviceCategoryName == null || serviceCategoryName.isBlank() ? null : serviceCategoryName.trim());
+    }
+    
+    /**
+     * 매출 피벗 조회 (정규화된 조회 단위로 캐시)
+     * 
+     * @param request 그룹화 차원, 측정값, 조건, 정렬, 행 수
+     * @return 열 이름과 행
+     */
+    public SalesQueryResponse querySales(SalesQueryRequest request) {
+        SalesPivotQuery query = salesPivotService.normalize(request);
+        log.info("매출 피벗 조회: {}", query.cacheKey());
+        
+        return aggregateCacheService.get(cacheKey("pivot", query.cacheKey(), query.monthRange()),
+                () -> salesPivotService.execute(query));
+    }
+    
+    /**
+     * 집계 캐시 키 (조회 종류 + 조건 + 기준 년월 범위)
+     */
+    private static String cacheKey(String kind, String condition, MonthRange monthRange) {
+        return kind + "|" + condition + "|" + monthRange.fromMonth() + "|" + monthRange.toMonth();
+    }
+    
     /**
      * 월별 매출 데이터 처리 공통 메서드
      * 
      * @param results 쿼리 결과
      * @return 업종 분류별 월별 평균 매출 통계
      */
-    private List<SalesStatisticsResponse.CategoryGroupMonthlySales> processMonthlySalesData(List<Object[]> results) {
+    private List<SalesStatisticsResponse.CategoryGroupMonthlySales> processMonthlySalesData(
+            List<SalesStatisticsResponse.MonthlyAverageSales> results) {
         Map<String, Map<String, List<Double>>> groupedData = new HashMap<>();
 
-        for (Object[] row : results) {
-            String serviceCategoryName = (String) row[0];
-            String yearMonth = (String) row[1];
-            Double averageAmount = ((Number) row[2]).doubleValue();
+        for (SalesStatisticsResponse.MonthlyAverageSales row : results) {
+            String serviceCategoryName = row.getServiceCategoryName();
+            String yearMonth = row.getYearMonth();
+            Double averageAmount = row.getAverageAmount();
 
             String categoryGroup = "기타 서비스"; // Default category
 
@@ -450,13 +563,18 @@ public class SalesDataService {
      * 자치구별 월 평균 매출 조회
      * 
      * @param districtName 자치구명
+     * @param monthRange 기준 년월 범위
      * @return 자치구별 월 평균 매출
      */
-    public Double getAverageMonthlySalesByDistrict(String districtName) {
+    public Double getAverageMonthlySalesByDistrict(String districtName, MonthRange monthRange) {
         log.info("자치구별 월 평균 매출 조회 - 자치구: {}", districtName);
         
         try {
-            Double avgMonthlySales = salesDataRepository.getAverageMonthlySalesByDistrict(districtName);
+            AggregateSnapshot snapshot = aggregateSnapshotService.current();
+            Double avgMonthlySales = snapshot != null
+                    ? snapshot.getAverageMonthlySalesByDistrict(districtName, monthRange.fromMonth(), monthRange.toMonth())
+                    : salesMonthlyAggregateRepository.getAverageMonthlySalesByDistrict(
+                            districtName, monthRange.fromMonth(), monthRange.toMonth());
             log.info("자치구별 월 평균 매출 조회 완료 - 자치구: {}, 월 평균 매출: {}", districtName, avgMonthlySales);
             return avgMonthlySales != null ? avgMonthlySales : 0.0;
             
@@ -476,40 +594,16 @@ public class SalesDataService {
         log.info("자치구별 최근 날짜 사업체 수 조회 - 자치구: {}", districtName);
         
         try {
-            Integer recentBusinesses = salesDataRepository.getRecentBusinessesByDistrict(districtName);
+            AggregateSnapshot snapshot = aggregateSnapshotService.current();
+            Long recentBusinesses = snapshot != null
+                    ? snapshot.getRecentBusinessesByDistrict(districtName)
+                    : salesMonthlyAggregateRepository.getRecentBusinessesByDistrict(districtName);
             log.info("자치구별 최근 날짜 사업체 수 조회 완료 - 자치구: {}, 최근 사업체 수: {}", districtName, recentBusinesses);
-            return recentBusinesses != null ? recentBusinesses : 0;
+            return recentBusinesses != null ? Math.toIntExact(recentBusinesses) : 0;
             
         } catch (Exception e) {
             log.error("자치구별 최근 날짜 사업체 수 조회 중 오류 발생 - 자치구: {}", districtName, e);
             throw new RuntimeException("최근 사업체 수 조회 실패: " + e.getMessage(), e);
         }
     }
-    
-    /**
-     * Entity를 Response DTO로 변환
-     * 
-     * @param salesData 매출 데이터 Entity
-     * @return 매출 데이터 Response DTO
-     */
-    private SalesDataResponse convertToResponse(SalesData salesData) {
-        return SalesDataResponse.builder()
-                .id(salesData.getId())
-                .baseYearMonth(salesData.getBaseYearMonth())
-                .districtCode(salesData.getDistrictCode())
-                .districtName(salesData.getDistrictName())
-                .serviceCategoryCode(salesData.getServiceCategoryCode())
-                .serviceCategoryName(salesData.getServiceCategoryName())
-                .monthlySalesAmount(salesData.getMonthlySalesAmount())
-                .monthlySalesCount(salesData.getMonthlySalesCount())
-                .weekdaySalesAmount(salesData.getWeekdaySalesAmount())
-                .weekendSalesAmount(salesData.getWeekendSalesAmount())
-                .maleSalesAmount(salesData.getMaleSalesAmount())
-                .femaleSalesAmount(salesData.getFemaleSalesAmount())
-                .weekdaySalesCount(salesData.getWeekdaySalesCount())
-                .weekendSalesCount(salesData.getWeekendSalesCount())
-                .maleSalesCount(salesData.getMaleSalesCount())
-                .femaleSalesCount(salesData.getFemaleSalesCount())
-                .build();
-    }
 }
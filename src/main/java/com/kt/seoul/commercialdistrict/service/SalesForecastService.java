@@ -0,0 +1,542 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 매출 예측 배치 서비스
+ *
+ * 매출 데이터셋이 바뀌면({@link DatasetChangedEvent}, debounce 후) 모든 자치구 × 업종 월별 당월 매출 금액 시계열에
+ * 로그 척도에서 모델을 맞추어 최근 기준 년월 다음 horizon 개월의 예측값과 예측 구간을 sales_forecast 에 다시 씁니다.
+ *
+ * - 24개월 이상 이력: 가법 Holt-Winters (평활 계수는 작은 격자에서 1단계 예측 오차 제곱합이 최소인 값)
+ * - 그보다 짧은 이력: 드리프트가 있는 확률보행
+ * - 예측 구간: 1단계 예측 잔차 표준편차 × √h × interval-width
+ *
+ * 시계열은 {@link SalesSeriesCube} 의 기본형 배열을 전용 ForkJoinPool 에서 구간 분할로 처리하며,
+ * 모델 적합 루프는 구간마다 미리 할당한 작업 배열과 결과 배열만 사용합니다.
+ * 여러 노드가 동시에 이벤트를 받아도 advisory lock 과 dataset_version 의 처리 버전으로 한 번만 계산하고,
+ * 각 노드는 처리 버전이 바뀌면 결과를 메모리 색인으로 다시 읽어 조회를 상수 시간에 처리합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class SalesForecastService {
+
+    /**
+     * 처리한 매출 데이터셋 버전을 기록하는 dataset_version 이름
+     */
+    public static final String FORECAST_DATASET = "sales_forecast";
+
+    public static final String HOLT_WINTERS_MODEL = "holt-winters";
+    public static final String DRIFT_MODEL = "drift";
+
+    private static final byte NO_MODEL = 0;
+    private static final byte HOLT_WINTERS = 1;
+    private static final byte DRIFT = 2;
+
+    private static final int SEASON = 12;
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * ForkJoin 작업을 더 나누지 않는 시계열 수
+     */
+    private static final int LEAF_SERIES = 256;
+
+    private static final double[] ALPHAS = {0.1, 0.3, 0.5, 0.8};
+    private static final double[] BETAS = {0.0, 0.05, 0.2};
+    private static final double[] GAMMAS = {0.05, 0.2, 0.5};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetVersionService datasetVersionService;
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readTemplate;
+    private final AtomicReference<ScheduledFuture<?>> pending = new AtomicReference<>();
+
+    /**
+     * 자치구 -> 업종 -> 예측 대상 월 순 예측 (다시 읽을 때 통째로 교체)
+     */
+    private volatile Map<String, Map<String, List<SalesStatisticsResponse.SalesForecast>>> forecasts = Map.of();
+    private volatile long loadedVersion = -1;
+
+    @Value("${app.forecast.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.forecast.debounce:30s}")
+    private Duration debounce;
+
+    @Value("${app.forecast.horizon:3}")
+    private int horizon;
+
+    @Value("${app.forecast.min-history:6}")
+    private int minHistory;
+
+    @Value("${app.forecast.interval-width:1.96}")
+    private double intervalWidth;
+
+    @Value("${app.forecast.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.forecast.reload-interval:1m}")
+    private Duration reloadInterval;
+
+    private ScheduledExecutorService scheduler;
+    private ForkJoinPool pool;
+
+    public SalesForecastService(JdbcTemplate jdbcTemplate, DatasetVersionService datasetVersionService,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.datasetVersionService = datasetVersionService;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        // 시계열과 데이터셋 버전을 같은 시점으로 읽음
+        this.writeTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sales-forecast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 다른 노드가 계산한 결과도 처리 버전이 바뀌면 읽어 옴
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly,
+                reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 기동 시 저장된 예측을 읽고 중단된 동안의 변경 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        schedule(Duration.ZERO);
+    }
+
+    /**
+     * 적재가 이어지는 동안은 미루고, 마지막 변경 후 debounce 가 지나면 한 번 계산
+     */
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (DatasetVersionService.SALES_DATASET.equals(event.dataset())) {
+            schedule(debounce);
+        }
+    }
+
+    /**
+     * 자치구(와 업종)의 예측 조회 (메모리 색인, 데이터베이스 조회 없음)
+     *
+     * @param districtName 자치구명
+     * @param serviceCategoryName 서비스 업종명 (null 이면 자치구의 모든 업종)
+     * @return 업종, 예측 대상 월 순 예측 목록
+     */
+    public List<SalesStatisticsResponse.SalesForecast> getForecast(String districtName, String serviceCategoryName) {
+        Map<String, List<SalesStatisticsResponse.SalesForecast>> byCategory = forecasts.getOrDefault(districtName, Map.of());
+        if (serviceCategoryName != null) {
+            return byCategory.getOrDefault(serviceCategoryName, List.of());
+        }
+        List<SalesStatisticsResponse.SalesForecast> all = new ArrayList<>();
+        byCategory.values().forEach(all::addAll);
+        return all;
+    }
+
+    private void schedule(Duration delay) {
+        if (scheduler == null) {
+            return;
+        }
+        ScheduledFuture<?> next = scheduler.schedule(this::refitQuietly, delay.toMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = pending.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void refitQuietly() {
+        try {
+            // 스케줄러 스레드에서 직접 호출하므로 프록시의 태그 대신 여기서 batch 풀 지정
+            WorkloadScope.run(Workload.Kind.BATCH, this::refit);
+        } catch (RuntimeException e) {
+            log.warn("매출 예측 실패 - 다음 변경 때 다시 시도합니다: {}", e.getMessage(), e);
+        }
+        reloadQuietly();
+    }
+
+    private void reloadQuietly() {
+        try {
+            WorkloadScope.run(Workload.Kind.BATCH, this::reloadIfChanged);
+        } catch (RuntimeException e) {
+            log.warn("매출 예측 색인 갱신 실패 - 이전 색인을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 데이터셋 버전으로 모든 시계열 예측 재계산
+     *
+     * @return 예측한 시계열 수 (이미 반영된 버전이거나 다른 노드가 계산 중이면 -1)
+     */
+    @Workload(Workload.Kind.BATCH)
+    public int refit() {
+        Integer fitted = writeTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, FORECAST_DATASET);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("다른 노드가 매출 예측을 계산 중이므로 건너뜁니다");
+                return -1;
+            }
+            long version = datasetVersionService.currentVersion();
+            if (datasetVersionService.derivedVersion(FORECAST_DATASET) >= version) {
+                return -1;
+            }
+
+            long startTime = System.currentTimeMillis();
+            SalesSeriesCube cube = SalesSeriesCube.load(jdbcTemplate);
+            long loadedTime = System.currentTimeMillis();
+            Fit fit = new Fit(cube.seriesCount(), horizon);
+            if (cube.seriesCount() > 0) {
+                pool.invoke(new FitTask(cube, fit, 0, cube.seriesCount()));
+            }
+            long fittedTime = System.currentTimeMillis();
+
+            int count = write(cube, fit);
+            datasetVersionService.recordDerivedVersion(FORECAST_DATASET, version);
+
+            log.info("매출 예측 완료 (v{}) - 시계열 {}개 중 {}개 예측, 적재 {}ms, 적합 {}ms, 저장 {}ms",
+                    version, cube.seriesCount(), count, loadedTime - startTime,
+                    fittedTime - loadedTime, System.currentTimeMillis() - fittedTime);
+            return count;
+        });
+        return fitted != null ? fitted : -1;
+    }
+
+    /**
+     * 기존 예측을 지우고 예측한 시계열마다 horizon 개 행을 기록
+     *
+     * @return 예측한 시계열 수
+     */
+    private int write(SalesSeriesCube cube, Fit fit) {
+        int[] series = new int[cube.seriesCount()];
+        int count = 0;
+        for (int s = 0; s < cube.seriesCount(); s++) {
+            if (fit.models[s] != NO_MODEL) {
+                series[count++] = s;
+            }
+        }
+        String[] targetMonths = new String[horizon];
+        for (int h = 0; h < horizon; h++) {
+            targetMonths[h] = cube.monthCode(cube.monthCount() + h);
+        }
+
+        jdbcTemplate.update("DELETE FROM sales_forecast");
+        int rows = count * horizon;
+        for (int batchStart = 0; batchStart < rows; batchStart += BATCH_SIZE) {
+            int start = batchStart;
+            int size = Math.min(BATCH_SIZE, rows - start);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO sales_forecast (기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명, 예측_개월, " +
+                    "예측_매출_금액, 하한_매출_금액, 상한_매출_금액, 모델) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int row = start + i;
+                            int s = series[row / horizon];
+                            int h = row % horizon;
+                            int index = s * horizon + h;
+                            ps.setString(1, targetMonths[h]);
+                            ps.setString(2, cube.district(s));
+                            ps.setString(3, cube.category(s));
+                            ps.setInt(4, h + 1);
+                            ps.setLong(5, toAmount(fit.point[index]));
+                            ps.setLong(6, toAmount(fit.lower[index]));
+                            ps.setLong(7, toAmount(fit.upper[index]));
+                            ps.setString(8, fit.models[s] == HOLT_WINTERS ? HOLT_WINTERS_MODEL : DRIFT_MODEL);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+        return count;
+    }
+
+    private static long toAmount(double logValue) {
+        return Math.max(0L, Math.round(Math.expm1(logValue)));
+    }
+
+    /**
+     * 처리 버전이 바뀌었으면 sales_forecast 를 메모리 색인으로 다시 읽음
+     */
+    private void reloadIfChanged() {
+        readTemplate.executeWithoutResult(status -> {
+            long version = datasetVersionService.derivedVersion(FORECAST_DATASET);
+            if (version == loadedVersion) {
+                return;
+            }
+            Map<String, Map<String, List<SalesStatisticsResponse.SalesForecast>>> index = new HashMap<>();
+            int[] rows = {0};
+            jdbcTemplate.query(
+                    "SELECT 기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명, 예측_개월, " +
+                    "예측_매출_금액, 하한_매출_금액, 상한_매출_금액, 모델 FROM sales_forecast ORDER BY 2, 3, 1",
+                    (RowCallbackHandler) rs -> {
+                        SalesStatisticsResponse.SalesForecast forecast = new SalesStatisticsResponse.SalesForecast(
+                                rs.getString(1), rs.getString(2), rs.getString(3), rs.getInt(4),
+                                rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getString(8));
+                        index.computeIfAbsent(forecast.getDistrictName(), k -> new HashMap<>())
+                                .computeIfAbsent(forecast.getServiceCategoryName(), k -> new ArrayList<>(horizon))
+                                .add(forecast);
+                        rows[0]++;
+                    });
+            forecasts = index;
+            loadedVersion = version;
+            log.info("매출 예측 색인 갱신 (v{}) - {}행", version, rows[0]);
+        });
+    }
+
+    /**
+     * 시계열 구간 적합 작업 (LEAF_SERIES 이하가 될 때까지 반으로 나눔)
+     */
+    private final class FitTask extends RecursiveAction {
+
+        private final SalesSeriesCube cube;
+        private final Fit fit;
+        private final int from;
+        private final int to;
+
+        private FitTask(SalesSeriesCube cube, Fit fit, int from, int to) {
+            this.cube = cube;
+            this.fit = fit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SERIES) {
+                fitRange(cube, fit, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FitTask(cube, fit, from, middle), new FitTask(cube, fit, middle, to));
+        }
+    }
+
+    /**
+     * [from, to) 시계열 적합 (작업 배열은 구간마다 한 번만 할당)
+     */
+    private void fitRange(SalesSeriesCube cube, Fit fit, int from, int to) {
+        double[] values = cube.values();
+        int months = cube.monthCount();
+        double[] logs = new double[months];
+        double[] seasonal = new double[SEASON];
+        double[] bestSeasonal = new double[SEASON];
+        double[] state = new double[3];
+
+        for (int series = from; series < to; series++) {
+            int offset = cube.offset(series);
+            int first = -1;
+            int observed = 0;
+            for (int month = 0; month < months; month++) {
+                double value = values[offset + month];
+                logs[month] = Double.isNaN(value) ? Double.NaN : Math.log1p(Math.max(value, 0));
+                if (!Double.isNaN(value)) {
+                    observed++;
+                    if (first < 0) {
+                        first = month;
+                    }
+                }
+            }
+            // 최근 기준 년월에 관측이 없는 시계열(폐업 등)과 이력이 짧은 시계열은 예측하지 않음
+            int last = months - 1;
+            if (observed < minHistory || Double.isNaN(logs[last])) {
+                continue;
+            }
+
+            int out = series * horizon;
+            if (last - first + 1 >= 2 * SEASON) {
+                fitHoltWinters(logs, first, last, seasonal, bestSeasonal, state, fit, out);
+                fit.models[series] = HOLT_WINTERS;
+            } else {
+                fitDrift(logs, first, last, fit, out);
+                fit.models[series] = DRIFT;
+            }
+        }
+    }
+
+    /**
+     * 가법 Holt-Winters: 격자의 모든 평활 계수 조합 중 1단계 예측 오차 제곱합이 최소인 조합으로 예측
+     */
+    private void fitHoltWinters(double[] logs, int first, int last, double[] seasonal, double[] bestSeasonal,
+                                double[] state, Fit fit, int out) {
+        double bestSse = Double.POSITIVE_INFINITY;
+        double bestLevel = 0;
+        double bestTrend = 0;
+        int bestCount = 0;
+        for (double alpha : ALPHAS) {
+            for (double beta : BETAS) {
+                for (double gamma : GAMMAS) {
+                    double sse = smooth(logs, first, last, alpha, beta, gamma, seasonal, state);
+                    if (sse < bestSse) {
+                        bestSse = sse;
+                        bestLevel = state[0];
+                        bestTrend = state[1];
+                        bestCount = (int) state[2];
+                        System.arraycopy(seasonal, 0, bestSeasonal, 0, SEASON);
+                    }
+                }
+            }
+        }
+        double sigma = bestCount > 0 ? Math.sqrt(bestSse / bestCount) : 0;
+        for (int h = 1; h <= horizon; h++) {
+            double point = bestLevel + h * bestTrend + bestSeasonal[(last + h - first) % SEASON];
+            double margin = intervalWidth * sigma * Math.sqrt(h);
+            fit.point[out + h - 1] = point;
+            fit.lower[out + h - 1] = point - margin;
+            fit.upper[out + h - 1] = point + margin;
+        }
+    }
+
+    /**
+     * 한 조합으로 평활하고 1단계 예측 오차 제곱합 반환 (state 에 최종 수준, 추세, 오차 개수 기록)
+     *
+     * 첫 해 평균을 수준, 첫 두 해 평균 차이를 추세, 첫 해 편차를 계절 성분 초깃값으로 씁니다.
+     * 관측이 없는 달은 예측값을 그대로 진행하고 계절 성분은 바꾸지 않습니다.
+     */
+    private static double smooth(double[] logs, int first, int last, double alpha, double beta, double gamma,
+                                 double[] seasonal, double[] state) {
+        double firstYear = 0;
+        double secondYear = 0;
+        int firstCount = 0;
+        int secondCount = 0;
+        for (int i = 0; i < SEASON; i++) {
+            if (!Double.isNaN(logs[first + i])) {
+                firstYear += logs[first + i];
+                firstCount++;
+            }
+            if (!Double.isNaN(logs[first + SEASON + i])) {
+                secondYear += logs[first + SEASON + i];
+                secondCount++;
+            }
+        }
+        double level = firstYear / firstCount;
+        double trend = secondCount > 0 ? (secondYear / secondCount - level) / SEASON : 0;
+        for (int i = 0; i < SEASON; i++) {
+            double value = logs[first + i];
+            seasonal[i] = Double.isNaN(value) ? 0 : value - level;
+        }
+        // 첫 해 평균은 중간 시점의 수준이므로 첫 해 끝 시점으로 옮김
+        level += trend * (SEASON - 1) / 2.0;
+
+        double sse = 0;
+        int count = 0;
+        for (int t = first + SEASON; t <= last; t++) {
+            int season = (t - first) % SEASON;
+            double forecast = level + trend + seasonal[season];
+            double value = logs[t];
+            if (Double.isNaN(value)) {
+                level += trend;
+                continue;
+            }
+            double error = value - forecast;
+            sse += error * error;
+            count++;
+            double previousLevel = level;
+            level = alpha * (value - seasonal[season]) + (1 - alpha) * (level + trend);
+            trend = beta * (level - previousLevel) + (1 - beta) * trend;
+            seasonal[season] = gamma * (value - level) + (1 - gamma) * seasonal[season];
+        }
+        state[0] = level;
+        state[1] = trend;
+        state[2] = count;
+        return sse;
+    }
+
+    /**
+     * 드리프트가 있는 확률보행: 마지막 값 + h × 평균 월 변화
+     */
+    private void fitDrift(double[] logs, int first, int last, Fit fit, int out) {
+        double drift = (logs[last] - logs[first]) / Math.max(1, last - first);
+        double sse = 0;
+        int count = 0;
+        for (int t = first + 1; t <= last; t++) {
+            if (!Double.isNaN(logs[t]) && !Double.isNaN(logs[t - 1])) {
+                double error = logs[t] - logs[t - 1] - drift;
+                sse += error * error;
+                count++;
+            }
+        }
+        double sigma = count > 1 ? Math.sqrt(sse / (count - 1)) : 0;
+        for (int h = 1; h <= horizon; h++) {
+            double point = logs[last] + h * drift;
+            double margin = intervalWidth * sigma * Math.sqrt(h);
+            fit.point[out + h - 1] = point;
+            fit.lower[out + h - 1] = point - margin;
+            fit.upper[out + h - 1] = point + margin;
+        }
+    }
+
+    /**
+     * 적합 결과 (시계열 s 의 h 개월 뒤 값은 [s * horizon + h - 1], 로그 척도)
+     */
+    private static final class Fit {
+
+        private final byte[] models;
+        private final double[] point;
+        private final double[] lower;
+        private final double[] upper;
+
+        private Fit(int seriesCount, int horizon) {
+            this.models = new byte[seriesCount];
+            this.point = new double[seriesCount * horizon];
+            this.lower = new double[seriesCount * horizon];
+            this.upper = new double[seriesCount * horizon];
+        }
+    }
+}
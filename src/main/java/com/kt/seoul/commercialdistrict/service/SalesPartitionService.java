@@ -0,0 +1,299 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 매출 데이터 월별 파티션 관리 서비스
+ *
+ * sales_data 는 기준_년월_코드 기준 RANGE 파티션 테이블입니다. (sales_data_partition_migration.sql 참고)
+ * 이번 달과 다음 달 파티션을 미리 만들어 두고, 보존 기간이 지난 파티션은 분리(detach)하여
+ * 아카이브 스키마로 옮깁니다. 파티셔닝되지 않은 테이블에서는 아무 작업도 하지 않습니다.
+ * 분리/복원된 기준 년월의 매출 집계도 함께 삭제/재집계합니다.
+ *
+ * 새 기준 년월의 행이 먼저 기본(DEFAULT) 파티션에 들어가 있으면 PARTITION OF 생성이 실패하므로,
+ * 한 트랜잭션에서 기본 파티션을 분리하고 해당 월 행을 독립 테이블로 옮겨 파티션으로 연결한 뒤 기본 파티션을 다시 연결합니다.
+ * 정기 관리 작업은 월별로 실패를 기록하고 다음 월을 계속 처리하므로 한 달의 실패가 기동을 막지 않습니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@Workload(Workload.Kind.BATCH)
+public class SalesPartitionService {
+
+    private static final String PARENT_TABLE = "sales_data";
+    private static final String PARTITION_PREFIX = "sales_data_p";
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("^" + PARTITION_PREFIX + "(\\d{6})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesAggregateService salesAggregateService;
+
+    /**
+     * 미리 만들어 둘 다음 달 파티션 개수
+     */
+    @Value("${app.partition.premake-months:1}")
+    private int premakeMonths;
+
+    /**
+     * 온라인으로 유지할 최근 개월 수 (0 이면 아카이브하지 않음)
+     */
+    @Value("${app.partition.retention-months:0}")
+    private int retentionMonths;
+
+    /**
+     * 분리된 파티션을 옮길 스키마
+     */
+    @Value("${app.partition.archive-schema:sales_archive}")
+    private String archiveSchema;
+
+    public SalesPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 SalesAggregateService salesAggregateService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.salesAggregateService = salesAggregateService;
+    }
+
+    /**
+     * sales_data 가 파티션 테이블인지 확인
+     *
+     * @return 파티션 테이블 여부
+     */
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = ? AND pg_table_is_visible(c.oid))",
+                Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 기준 년월 파티션이 없으면 생성
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void ensurePartition(String yearMonth) {
+        String partition = partitionName(yearMonth);
+        if (tableExists(partition)) {
+            return;
+        }
+        YearMonth month = YearMonth.parse(yearMonth, MonthRange.YEAR_MONTH_FORMAT);
+        String from = month.format(MonthRange.YEAR_MONTH_FORMAT);
+        String to = month.plusMonths(1).format(MonthRange.YEAR_MONTH_FORMAT);
+
+        // 식별자는 yyyyMM 검증을 거친 값으로만 구성되므로 문자열 결합이 안전함
+        transactionTemplate.executeWithoutResult(status -> {
+            String defaultPartition = findDefaultPartition();
+            if (defaultPartition != null && hasRowsInRange(defaultPartition, from, to)) {
+                // 다른 노드가 같은 월을 동시에 처리하지 않도록 부모 테이블을 잠근 뒤 다시 확인
+                jdbcTemplate.execute("LOCK TABLE " + PARENT_TABLE + " IN ACCESS EXCLUSIVE MODE");
+                if (!tableExists(partition)) {
+                    moveOutOfDefault(defaultPartition, partition, from, to);
+                }
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition +
+                    " PARTITION OF " + PARENT_TABLE +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        });
+        log.debug("매출 데이터 파티션 확인 완료: {}", partition);
+    }
+
+    /**
+     * 기본 파티션에 들어간 기준 년월 행을 새 파티션으로 이동 (호출자 트랜잭션 안에서 실행)
+     */
+    private void moveOutOfDefault(String defaultPartition, String partition, String from, String to) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + defaultPartition);
+        jdbcTemplate.execute("CREATE TABLE " + partition +
+                " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition +
+                " WHERE 기준_년월_코드 >= ? AND 기준_년월_코드 < ? RETURNING *) " +
+                "INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+        log.info("기본 파티션의 매출 데이터 {}건을 새 파티션으로 이동: {}", moved, partition);
+    }
+
+    /**
+     * sales_data 의 기본 파티션 이름 (없으면 null)
+     */
+    private String findDefaultPartition() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.oid::regclass::text FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'",
+                String.class, PARENT_TABLE);
+        return names.isEmpty() ? null : names.get(0);
+    }
+
+    private boolean hasRowsInRange(String table, String from, String to) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE 기준_년월_코드 >= ? AND 기준_년월_코드 < ?)",
+                Boolean.class, from, to);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean tableExists(String table) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 여러 기준 년월 파티션을 한 번에 준비 (파티션 테이블이 아닐 경우 무시)
+     *
+     * @param yearMonths 기준 년월 코드 목록
+     */
+    public void ensurePartitions(Iterable<String> yearMonths) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (String yearMonth : yearMonths) {
+            ensurePartition(yearMonth);
+        }
+    }
+
+    /**
+     * 이번 달 및 다음 달 파티션 생성, 보존 기간이 지난 파티션 아카이브
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partition.maintenance-cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            log.debug("sales_data 가 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다.");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            String yearMonth = current.plusMonths(i).format(MonthRange.YEAR_MONTH_FORMAT);
+            try {
+                ensurePartition(yearMonth);
+            } catch (DataAccessException e) {
+                log.error("매출 데이터 파티션 생성 실패: {}", yearMonth, e);
+            }
+        }
+
+        if (retentionMonths > 0) {
+            String cutoff = current.minusMonths(retentionMonths - 1L).format(MonthRange.YEAR_MONTH_FORMAT);
+            for (String yearMonth : getAttachedPartitionMonths()) {
+                if (yearMonth.compareTo(cutoff) < 0) {
+                    try {
+                        archivePartition(yearMonth);
+                    } catch (DataAccessException e) {
+                        log.error("매출 데이터 파티션 아카이브 실패: {}", yearMonth, e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 sales_data 에 연결된 월별 파티션의 기준 년월 목록 (오름차순)
+     *
+     * @return 기준 년월 코드 목록
+     */
+    public List<String> getAttachedPartitionMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, PARENT_TABLE);
+
+        return names.stream()
+                .map(PARTITION_NAME_PATTERN::matcher)
+                .filter(Matcher::matches)
+                .map(m -> m.group(1))
+                .toList();
+    }
+
+    /**
+     * 아카이브 스키마에 있는 월별 파티션의 기준 년월 목록 (오름차순)
+     *
+     * @return 기준 년월 코드 목록
+     */
+    public List<String> getArchivedPartitionMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = ? ORDER BY tablename",
+                String.class, archiveSchema);
+
+        return names.stream()
+                .map(PARTITION_NAME_PATTERN::matcher)
+                .filter(Matcher::matches)
+                .map(m -> m.group(1))
+                .toList();
+    }
+
+    /**
+     * 파티션을 sales_data 에서 분리 (데이터는 독립 테이블로 남음, 집계 삭제와 한 트랜잭션)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void detachPartition(String yearMonth) {
+        String partition = partitionName(yearMonth);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            salesAggregateService.removeMonth(yearMonth);
+        });
+        log.info("매출 데이터 파티션 분리 완료: {}", partition);
+    }
+
+    /**
+     * 파티션을 분리한 뒤 아카이브 스키마로 이동 (한 트랜잭션)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void archivePartition(String yearMonth) {
+        String partition = partitionName(yearMonth);
+        transactionTemplate.executeWithoutResult(status -> {
+            detachPartition(yearMonth);
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        });
+        log.info("매출 데이터 파티션 아카이브 완료: {}.{}", archiveSchema, partition);
+    }
+
+    /**
+     * 아카이브된 파티션을 다시 sales_data 에 연결 (재집계와 한 트랜잭션)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    public void restorePartition(String yearMonth) {
+        String partition = partitionName(yearMonth);
+        YearMonth month = YearMonth.parse(yearMonth, MonthRange.YEAR_MONTH_FORMAT);
+        String to = month.plusMonths(1).format(MonthRange.YEAR_MONTH_FORMAT);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + archiveSchema + "." + partition + " SET SCHEMA public");
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition +
+                    " FOR VALUES FROM ('" + yearMonth + "') TO ('" + to + "')");
+            salesAggregateService.rebuildMonth(yearMonth);
+        });
+        log.info("매출 데이터 파티션 복원 완료: {}", partition);
+    }
+
+    private String partitionName(String yearMonth) {
+        YearMonth month = YearMonth.parse(yearMonth, MonthRange.YEAR_MONTH_FORMAT);
+        return PARTITION_PREFIX + month.format(MonthRange.YEAR_MONTH_FORMAT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.SalesPivotQuery;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryRequest;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryResponse;
+import com.kt.seoul.commercialdistrict.repository.PivotQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매출 피벗 조회 서비스
+ *
+ * 요청을 검증·정규화하고, 실행 전에 플래너 추정 비용이 app.pivot.max-cost 를 넘는 조회는 거절합니다.
+ * 결과 캐시는 호출자(SalesDataService)가 정규화된 조회를 키로 관리합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesPivotService {
+
+    private final PivotQueryRepository pivotQueryRepository;
+
+    @Value("${app.pivot.default-rows:1000}")
+    private int defaultRows;
+
+    @Value("${app.pivot.max-rows:10000}")
+    private int maxRows;
+
+    @Value("${app.pivot.max-cost:2000000}")
+    private double maxCost;
+
+    /**
+     * 요청 검증과 정규화
+     *
+     * @param request 피벗 조회 요청
+     * @return 정규화된 조회
+     * @throws IllegalArgumentException 알 수 없는 이름이나 한도를 넘는 요청
+     */
+    public SalesPivotQuery normalize(SalesQueryRequest request) {
+        return SalesPivotQuery.from(request != null ? request : new SalesQueryRequest(), defaultRows, maxRows);
+    }
+
+    /**
+     * 비용 한도를 확인하고 조회 실행
+     *
+     * @param query 정규화된 조회
+     * @return 조회 결과
+     * @throws IllegalArgumentException 추정 비용이 한도를 넘는 경우
+     */
+    public SalesQueryResponse execute(SalesPivotQuery query) {
+        PivotQueryRepository.CompiledQuery compiled = pivotQueryRepository.compile(query);
+        if (maxCost > 0) {
+            double cost = pivotQueryRepository.estimateCost(compiled);
+            if (cost > maxCost) {
+                log.warn("피벗 조회 거절 - 추정 비용 {} > 한도 {}: {}", cost, maxCost, query.cacheKey());
+                throw new IllegalArgumentException(String.format(
+                        "조회 비용이 한도를 넘습니다 (추정 %.0f > %.0f). 기간이나 조건으로 범위를 좁혀 주세요", cost, maxCost));
+            }
+        }
+        return pivotQueryRepository.execute(query, compiled);
+    }
+}
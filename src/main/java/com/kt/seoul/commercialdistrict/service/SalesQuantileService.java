@@ -0,0 +1,408 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.dto.SalesStatisticsResponse;
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.tdunning.math.stats.MergingDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 매출 분포 분위수 스케치(sales_quantile_sketch) 유지/조회 서비스
+ *
+ * (기준 년월, 자치구, 업종) 그룹마다 원본 행의 당월 매출 금액과 객단가(금액/건수)를 t-digest 로 요약해 두고,
+ * 조회 시에는 조건에 맞는 그룹의 스케치만 병합하여 중앙값/p90/p99 등을 계산하므로 원본 행을 정렬하지 않습니다.
+ *
+ * 쓰기 경로는 {@link SalesAggregateService} 가 집계 갱신과 같은 트랜잭션에서 호출합니다.
+ * - 추가: 그룹 스케치 행을 잠그고 새 값을 더함 (키 순서대로 잠가 동시 적재 간 교착 상태 방지)
+ * - 삭제: t-digest 는 값을 뺄 수 없으므로 해당 그룹만 원본에서 다시 생성
+ * - 전체/월 재집계: 원본을 그룹 순서로 읽어 다시 생성
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class SalesQuantileService {
+
+    private static final String SKETCH_TABLE = "sales_quantile_sketch";
+    private static final String KEY_COLUMNS = "기준_년월_코드, 자치구_코드_명, 서비스_업종_코드_명";
+    private static final String KEY_CONDITION = "기준_년월_코드 = ? AND 자치구_코드_명 = ? AND 서비스_업종_코드_명 = ?";
+    private static final String SOURCE_SQL = "SELECT 기준_년월_코드, COALESCE(자치구_코드_명, '') AS 자치구_코드_명, " +
+            "COALESCE(서비스_업종_코드_명, '') AS 서비스_업종_코드_명, 당월_매출_금액, 당월_매출_건수 FROM sales_data";
+    private static final String UPSERT_SQL = "INSERT INTO " + SKETCH_TABLE + " (" + KEY_COLUMNS + ", 매출_금액_스케치, 객단가_스케치) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (" + KEY_COLUMNS + ") DO UPDATE " +
+            "SET 매출_금액_스케치 = EXCLUDED.매출_금액_스케치, 객단가_스케치 = EXCLUDED.객단가_스케치";
+
+    private static final int FETCH_SIZE = 8192;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_QUANTILES = 20;
+
+    /**
+     * 기본 분위수 (중앙값, p90, p99)
+     */
+    public static final String DEFAULT_QUANTILES = "0.5,0.9,0.99";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * t-digest 압축 계수 (클수록 정확하고 스케치가 커짐)
+     */
+    @Value("${app.quantile.compression:100}")
+    private double compression;
+
+    public SalesQuantileService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 분포 그룹화 기준
+     */
+    public enum GroupBy {
+        NONE, DISTRICT, CATEGORY, MONTH;
+
+        public static GroupBy of(String value) {
+            if (value == null || value.isBlank()) {
+                return NONE;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("groupBy 는 none, district, category, month 중 하나여야 합니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 새로 저장된 매출 데이터를 그룹 스케치에 더함 (저장과 같은 트랜잭션에서 호출)
+     *
+     * @param rows 저장된 매출 데이터
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordInserted(Collection<SalesData> rows) {
+        Map<SketchKey, List<SalesData>> groups = group(rows);
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        // 없는 그룹은 빈 스케치로 먼저 만든 뒤 키 순서대로 잠금
+        byte[] empty = toBytes(newDigest());
+        jdbcTemplate.batchUpdate("INSERT INTO " + SKETCH_TABLE + " (" + KEY_COLUMNS + ", 매출_금액_스케치, 객단가_스케치) " +
+                        "VALUES (?, ?, ?, ?, ?) ON CONFLICT (" + KEY_COLUMNS + ") DO NOTHING",
+                groups.keySet().stream()
+                        .map(key -> new Object[]{key.baseYearMonth(), key.districtName(), key.serviceCategoryName(), empty, empty})
+                        .toList());
+
+        List<Object[]> updates = new ArrayList<>(groups.size());
+        groups.forEach((key, groupRows) -> {
+            Sketch sketch = jdbcTemplate.queryForObject(
+                    "SELECT 매출_금액_스케치, 객단가_스케치 FROM " + SKETCH_TABLE + " WHERE " + KEY_CONDITION + " FOR UPDATE",
+                    (rs, rowNum) -> Sketch.read(rs),
+                    key.baseYearMonth(), key.districtName(), key.serviceCategoryName());
+            for (SalesData row : groupRows) {
+                sketch.add(row.getMonthlySalesAmount(), row.getMonthlySalesCount());
+            }
+            updates.add(new Object[]{toBytes(sketch.salesAmount), toBytes(sketch.ticketSize),
+                    key.baseYearMonth(), key.districtName(), key.serviceCategoryName()});
+        });
+        jdbcTemplate.batchUpdate("UPDATE " + SKETCH_TABLE + " SET 매출_금액_스케치 = ?, 객단가_스케치 = ? WHERE " + KEY_CONDITION,
+                updates);
+        log.debug("매출 분포 스케치 증분 반영: {}개 행 -> {}개 그룹", rows.size(), groups.size());
+    }
+
+    /**
+     * 삭제된 매출 데이터가 속한 그룹의 스케치를 원본에서 다시 생성 (삭제와 같은 트랜잭션에서 호출)
+     *
+     * @param rows 삭제된 매출 데이터
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Collection<SalesData> rows) {
+        for (SketchKey key : group(rows).keySet()) {
+            Object[] keyArgs = {key.baseYearMonth(), key.districtName(), key.serviceCategoryName()};
+            jdbcTemplate.queryForList("SELECT 1 FROM " + SKETCH_TABLE + " WHERE " + KEY_CONDITION + " FOR UPDATE", keyArgs);
+
+            Sketch sketch = new Sketch(newDigest(), newDigest());
+            jdbcTemplate.query(SOURCE_SQL + " WHERE 기준_년월_코드 = ? AND COALESCE(자치구_코드_명, '') = ? " +
+                            "AND COALESCE(서비스_업종_코드_명, '') = ?",
+                    (RowCallbackHandler) rs -> sketch.add(rs.getLong("당월_매출_금액"), rs.getLong("당월_매출_건수")),
+                    keyArgs);
+            if (sketch.salesAmount.size() == 0) {
+                jdbcTemplate.update("DELETE FROM " + SKETCH_TABLE + " WHERE " + KEY_CONDITION, keyArgs);
+            } else {
+                jdbcTemplate.update(UPSERT_SQL, key.baseYearMonth(), key.districtName(), key.serviceCategoryName(),
+                        toBytes(sketch.salesAmount), toBytes(sketch.ticketSize));
+            }
+        }
+    }
+
+    /**
+     * 원본 데이터로부터 전체 스케치를 다시 생성 (집계 재집계와 같은 트랜잭션에서 호출)
+     *
+     * @return 생성된 그룹 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM " + SKETCH_TABLE);
+        return buildFromSource("");
+    }
+
+    /**
+     * 기준 년월의 스케치를 원본 데이터로부터 다시 생성
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     * @return 생성된 그룹 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int rebuildMonth(String yearMonth) {
+        jdbcTemplate.update("DELETE FROM " + SKETCH_TABLE + " WHERE 기준_년월_코드 = ?", yearMonth);
+        return buildFromSource(" WHERE 기준_년월_코드 = ?", yearMonth);
+    }
+
+    /**
+     * 기준 년월의 스케치 삭제 (파티션 분리 시)
+     *
+     * @param yearMonth 기준 년월 코드 (yyyyMM)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeMonth(String yearMonth) {
+        jdbcTemplate.update("DELETE FROM " + SKETCH_TABLE + " WHERE 기준_년월_코드 = ?", yearMonth);
+    }
+
+    /**
+     * 원본을 그룹 순서로 한 번 읽으며 그룹이 바뀔 때마다 스케치를 기록
+     */
+    private int buildFromSource(String where, Object... args) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int[] groups = {0};
+        SketchKey[] currentKey = {null};
+        Sketch[] current = {null};
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SOURCE_SQL + where + " ORDER BY 1, 2, 3");
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, rs -> {
+            SketchKey key = new SketchKey(rs.getString(1), rs.getString(2), rs.getString(3));
+            if (!key.equals(currentKey[0])) {
+                if (currentKey[0] != null) {
+                    batch.add(upsertArgs(currentKey[0], current[0]));
+                    groups[0]++;
+                    if (batch.size() >= BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+                        batch.clear();
+                    }
+                }
+                currentKey[0] = key;
+                current[0] = new Sketch(newDigest(), newDigest());
+            }
+            current[0].add(rs.getLong(4), rs.getLong(5));
+        });
+        if (currentKey[0] != null) {
+            batch.add(upsertArgs(currentKey[0], current[0]));
+            groups[0]++;
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+        log.info("매출 분포 스케치 생성 완료: {}개 그룹", groups[0]);
+        return groups[0];
+    }
+
+    /**
+     * 조건에 맞는 그룹 스케치를 병합하여 매출 금액/객단가 분위수 계산
+     *
+     * @param districtName 자치구명 (null 이면 전체)
+     * @param serviceCategoryName 서비스 업종명 (null 이면 전체)
+     * @param monthRange 기준 년월 범위
+     * @param groupBy 결과 그룹화 기준
+     * @param quantiles 분위수 (0 ~ 1)
+     * @return 그룹별 분포 (그룹 값 순서)
+     */
+    @Workload(Workload.Kind.ANALYTICAL)
+    public List<SalesStatisticsResponse.SalesDistribution> getDistribution(String districtName, String serviceCategoryName,
+                                                                         MonthRange monthRange, GroupBy groupBy,
+                                                                         double[] quantiles) {
+        StringBuilder sql = new StringBuilder("SELECT " + KEY_COLUMNS + ", 매출_금액_스케치, 객단가_스케치 FROM " +
+                SKETCH_TABLE + " WHERE 기준_년월_코드 BETWEEN ? AND ?");
+        List<Object> args = new ArrayList<>(List.of(monthRange.fromMonth(), monthRange.toMonth()));
+        if (districtName != null) {
+            sql.append(" AND 자치구_코드_명 = ?");
+            args.add(districtName);
+        }
+        if (serviceCategoryName != null) {
+            sql.append(" AND 서비스_업종_코드_명 = ?");
+            args.add(serviceCategoryName);
+        }
+
+        Map<String, Sketch> merged = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        jdbcTemplate.query(sql.toString(), rs -> {
+            String group = switch (groupBy) {
+                case NONE -> null;
+                case DISTRICT -> rs.getString("자치구_코드_명");
+                case CATEGORY -> rs.getString("서비스_업종_코드_명");
+                case MONTH -> rs.getString("기준_년월_코드");
+            };
+            Sketch sketch = Sketch.read(rs);
+            Sketch target = merged.get(group);
+            if (target == null) {
+                merged.put(group, sketch);
+            } else {
+                target.salesAmount.add(sketch.salesAmount);
+                target.ticketSize.add(sketch.ticketSize);
+            }
+        }, args.toArray());
+
+        List<SalesStatisticsResponse.SalesDistribution> result = new ArrayList<>(merged.size());
+        merged.forEach((group, sketch) -> result.add(SalesStatisticsResponse.SalesDistribution.builder()
+                .group(group)
+                .rowCount(sketch.salesAmount.size())
+                .salesAmountQuantiles(quantiles(sketch.salesAmount, quantiles))
+                .ticketSizeQuantiles(quantiles(sketch.ticketSize, quantiles))
+                .build()));
+        return result;
+    }
+
+    /**
+     * 쉼표로 구분된 분위수 파싱 (예: 0.5,0.9,0.99)
+     *
+     * @param value 분위수 목록 (비어 있으면 기본값)
+     * @return 오름차순 분위수
+     */
+    public static double[] parseQuantiles(String value) {
+        String source = value == null || value.isBlank() ? DEFAULT_QUANTILES : value;
+        double[] quantiles;
+        try {
+            quantiles = Arrays.stream(source.split(","))
+                    .map(String::trim)
+                    .filter(part -> !part.isEmpty())
+                    .mapToDouble(Double::parseDouble)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("분위수는 0 ~ 1 사이의 숫자여야 합니다: " + value);
+        }
+        if (quantiles.length == 0 || quantiles.length > MAX_QUANTILES) {
+            throw new IllegalArgumentException("분위수는 1 ~ " + MAX_QUANTILES + "개까지 지정할 수 있습니다: " + value);
+        }
+        if (quantiles[0] < 0 || quantiles[quantiles.length - 1] > 1) {
+            throw new IllegalArgumentException("분위수는 0 ~ 1 사이의 숫자여야 합니다: " + value);
+        }
+        return quantiles;
+    }
+
+    private static Map<String, Double> quantiles(MergingDigest digest, double[] quantiles) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (double q : quantiles) {
+            values.put(label(q), digest.size() > 0 ? digest.quantile(q) : null);
+        }
+        return values;
+    }
+
+    /**
+     * 분위수 이름 (0.5 -> p50, 0.999 -> p99.9)
+     */
+    private static String label(double q) {
+        return "p" + BigDecimal.valueOf(q).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+
+    private MergingDigest newDigest() {
+        return new MergingDigest(compression);
+    }
+
+    private static Object[] upsertArgs(SketchKey key, Sketch sketch) {
+        return new Object[]{key.baseYearMonth(), key.districtName(), key.serviceCategoryName(),
+                toBytes(sketch.salesAmount), toBytes(sketch.ticketSize)};
+    }
+
+    /**
+     * 스케치 직렬화 (sales_quantile_sketch 의 bytea 컬럼 형식)
+     */
+    static byte[] toBytes(MergingDigest digest) {
+        digest.compress();
+        ByteBuffer buffer = ByteBuffer.allocate(digest.smallByteSize());
+        digest.asSmallBytes(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 스케치 역직렬화
+     */
+    static MergingDigest fromBytes(byte[] bytes) {
+        return MergingDigest.fromBytes(ByteBuffer.wrap(bytes));
+    }
+
+    private static Map<SketchKey, List<SalesData>> group(Collection<SalesData> rows) {
+        // 키 순서대로 갱신하여 동시 적재 간 잠금 순서를 고정
+        Map<SketchKey, List<SalesData>> groups = new TreeMap<>();
+        for (SalesData row : rows) {
+            groups.computeIfAbsent(SketchKey.of(row), key -> new ArrayList<>()).add(row);
+        }
+        return groups;
+    }
+
+    /**
+     * 한 그룹의 매출 금액/객단가 스케치
+     */
+    private record Sketch(MergingDigest salesAmount, MergingDigest ticketSize) {
+
+        static Sketch read(ResultSet rs) throws SQLException {
+            return new Sketch(
+                    fromBytes(rs.getBytes("매출_금액_스케치")),
+                    fromBytes(rs.getBytes("객단가_스케치")));
+        }
+
+        void add(long amount, long count) {
+            salesAmount.add(amount);
+            if (count > 0) {
+                ticketSize.add((double) amount / count);
+            }
+        }
+    }
+
+    /**
+     * 스케치 그룹 키 (자치구/업종명이 없으면 빈 문자열)
+     */
+    private record SketchKey(String baseYearMonth, String districtName, String serviceCategoryName)
+            implements Comparable<SketchKey> {
+
+        private static final Comparator<SketchKey> ORDER = Comparator.comparing(SketchKey::baseYearMonth)
+                .thenComparing(SketchKey::districtName)
+                .thenComparing(SketchKey::serviceCategoryName);
+
+        static SketchKey of(SalesData row) {
+            return new SketchKey(row.getBaseYearMonth(),
+                    row.getDistrictName() != null ? row.getDistrictName() : "",
+                    row.getServiceCategoryName() != null ? row.getServiceCategoryName() : "");
+        }
+
+        @Override
+        public int compareTo(SketchKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 자치구 × 업종 월별 당월 매출 금액 시계열 묶음 (배치 분석용)
+ *
+ * 모든 시계열이 같은 연속 월 축(가장 이른 달 ~ 가장 늦은 달)을 공유하며,
+ * 시계열 s 의 m 번째 달 값은 {@code values[s * monthCount + m]} 에 있습니다. 데이터가 없는 달은 NaN 입니다.
+ * 분석 루프가 객체 없이 기본형 배열만 읽도록 한 번에 적재합니다.
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public final class SalesSeriesCube {
+
+    private static final int FETCH_SIZE = 8192;
+
+    private final YearMonth firstMonth;
+    private final int monthCount;
+    private final String[] districts;
+    private final String[] categories;
+    private final double[] values;
+
+    private SalesSeriesCube(YearMonth firstMonth, int monthCount, String[] districts, String[] categories, double[] values) {
+        this.firstMonth = firstMonth;
+        this.monthCount = monthCount;
+        this.districts = districts;
+        this.categories = categories;
+        this.values = values;
+    }
+
+    /**
+     * sales_monthly_aggregate 전체를 시계열로 적재 (호출자의 트랜잭션 안에서 읽음)
+     *
+     * @param jdbcTemplate JDBC 템플릿
+     * @return 시계열 묶음 (데이터가 없으면 시계열 0개)
+     */
+    public static SalesSeriesCube load(JdbcTemplate jdbcTemplate) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(기준_년월_코드) AS first_month, MAX(기준_년월_코드) AS last_month, " +
+                "COUNT(DISTINCT (자치구_코드_명, 서비스_업종_코드_명)) AS series FROM sales_monthly_aggregate");
+        int seriesCount = ((Number) bounds.get("series")).intValue();
+        if (seriesCount == 0) {
+            return new SalesSeriesCube(YearMonth.now(), 0, new String[0], new String[0], new double[0]);
+        }
+        YearMonth first = parse((String) bounds.get("first_month"));
+        YearMonth last = parse((String) bounds.get("last_month"));
+        int monthCount = (int) (first.until(last, ChronoUnit.MONTHS) + 1);
+
+        String[] districts = new String[seriesCount];
+        String[] categories = new String[seriesCount];
+        double[] values = new double[seriesCount * monthCount];
+        Arrays.fill(values, Double.NaN);
+
+        int[] series = {-1};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 자치구_코드_명, 서비스_업종_코드_명, 기준_년월_코드, 당월_매출_금액 " +
+                    "FROM sales_monthly_aggregate ORDER BY 1, 2, 3");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            String district = rs.getString(1);
+            String category = rs.getString(2);
+            int s = series[0];
+            if (s < 0 || !district.equals(districts[s]) || !category.equals(categories[s])) {
+                s = ++series[0];
+                districts[s] = district;
+                categories[s] = category;
+            }
+            int month = (int) first.until(parse(rs.getString(3)), ChronoUnit.MONTHS);
+            values[s * monthCount + month] = rs.getLong(4);
+        });
+        return new SalesSeriesCube(first, monthCount, districts, categories, values);
+    }
+
+    private static YearMonth parse(String code) {
+        try {
+            return YearMonth.parse(code, MonthRange.YEAR_MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("기준 년월 코드를 해석할 수 없습니다: " + code, e);
+        }
+    }
+
+    public int seriesCount() {
+        return districts.length;
+    }
+
+    public int monthCount() {
+        return monthCount;
+    }
+
+    public String district(int series) {
+        return districts[series];
+    }
+
+    public String category(int series) {
+        return categories[series];
+    }
+
+    /**
+     * 월 축의 m 번째 달 기준 년월 코드 (yyyyMM)
+     */
+    public String monthCode(int month) {
+        return firstMonth.plusMonths(month).format(MonthRange.YEAR_MONTH_FORMAT);
+    }
+
+    /**
+     * 기준 년월 코드의 월 축 위치 (범위 밖이면 -1)
+     */
+    public int monthIndex(String monthCode) {
+        int month = (int) firstMonth.until(parse(monthCode), ChronoUnit.MONTHS);
+        return month >= 0 && month < monthCount ? month : -1;
+    }
+
+    /**
+     * 시계열 s 의 첫 값 위치 ({@link #values()} 기준)
+     */
+    public int offset(int series) {
+        return series * monthCount;
+    }
+
+    /**
+     * 전체 값 배열 (복사하지 않음, 읽기 전용으로 사용)
+     */
+    public double[] values() {
+        return values;
+    }
+}
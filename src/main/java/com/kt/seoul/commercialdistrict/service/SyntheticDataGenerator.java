@@ -0,0 +1,293 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.kt.seoul.commercialdistrict.dto.MonthRange;
+import com.kt.seoul.commercialdistrict.dto.SeoulDistrict;
+import com.kt.seoul.commercialdistrict.entity.DistrictPopulationStatistics;
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 결정적 합성 매출/인구 데이터 생성기
+ *
+ * 자치구 × 상권 × 업종 × 월 단위로 행을 만들며, 각 (월, 자치구) 묶음은 시드에서 파생된 독립 난수를 사용하므로
+ * 병렬로 어떤 순서로 생성해도 같은 시드와 설정이면 같은 데이터가 나옵니다.
+ *
+ * - 업종 인기도: Zipf 분포 (순위 r 의 가중치 1/r^s), 인기 업종일수록 상권에 출현할 확률도 높음
+ * - 계절성: 업종별 진폭/정점 월을 갖는 연 주기 + 연 3% 성장
+ * - 자치구/상권 규모: 로그정규 배율
+ * - 주중/주말, 남성/여성 금액과 건수는 합계에서 비율로 나누므로 항상 총액/총건수와 일치
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+public final class SyntheticDataGenerator {
+
+    /**
+     * 자치구 (district_codes 기본 데이터와 같은 코드 목록)
+     */
+    private static final SeoulDistrict[] DISTRICTS = SeoulDistrict.values();
+
+    /**
+     * 서비스 업종 (코드, 이름, 평균 객단가) - 인기 순위 순
+     */
+    private static final Object[][] CATEGORIES = {
+            {"CS100001", "한식음식점", 18000}, {"CS300001", "편의점", 7000}, {"CS100010", "커피-음료", 8000},
+            {"CS100009", "호프-간이주점", 35000}, {"CS200001", "일반교습학원", 250000}, {"CS300002", "슈퍼마켓", 25000},
+            {"CS200028", "미용실", 30000}, {"CS100002", "중식음식점", 16000}, {"CS100007", "치킨전문점", 22000},
+            {"CS100008", "분식전문점", 9000}, {"CS200006", "일반의원", 20000}, {"CS300018", "의약품", 15000},
+            {"CS100003", "일식음식점", 30000}, {"CS100005", "제과점", 12000}, {"CS300011", "일반의류", 60000},
+            {"CS100004", "양식음식점", 35000}, {"CS100006", "패스트푸드점", 11000}, {"CS200007", "치과의원", 90000},
+            {"CS300022", "화장품", 35000}, {"CS200002", "외국어학원", 200000}, {"CS300008", "육류판매", 40000},
+            {"CS200030", "네일숍", 40000}, {"CS200008", "한의원", 45000}, {"CS300020", "안경", 80000},
+            {"CS200031", "피부관리실", 70000}, {"CS300009", "수산물판매", 35000}, {"CS300010", "청과상", 20000},
+            {"CS300014", "신발", 70000}, {"CS200037", "노래방", 30000}, {"CS200036", "PC방", 6000},
+            {"CS200034", "세탁소", 15000}, {"CS300032", "핸드폰", 150000}, {"CS300026", "반찬가게", 15000},
+            {"CS200003", "예술학원", 180000}, {"CS200005", "스포츠 강습", 120000}, {"CS300043", "전자상거래업", 45000},
+            {"CS300017", "시계및귀금속", 300000}, {"CS300035", "인테리어", 1500000}, {"CS300029", "가전제품", 400000},
+            {"CS300019", "서적", 20000}, {"CS300021", "문구", 8000}, {"CS200033", "부동산중개업", 800000},
+            {"CS300015", "가방", 120000}, {"CS300031", "가구", 700000}, {"CS200025", "자동차수리", 250000},
+            {"CS200026", "자동차미용", 60000}, {"CS300036", "애완동물", 50000}, {"CS300024", "완구", 30000},
+            {"CS200024", "골프연습장", 50000}, {"CS200016", "당구장", 15000}, {"CS300027", "미곡판매", 50000},
+            {"CS300028", "철물점", 25000}, {"CS300038", "화초", 30000}, {"CS200019", "고시원", 450000}
+    };
+
+    /**
+     * 순위 1 업종의 상권당 월 기준 매출 (원)
+     */
+    private static final double TOP_CATEGORY_MONTHLY_AMOUNT = 400_000_000d;
+    private static final double ANNUAL_GROWTH = 0.03;
+
+    private final long seed;
+    private final int areasPerDistrict;
+    private final int categoryCount;
+    private final YearMonth epoch;
+
+    private final double[] categoryWeight;
+    private final double[] categoryPresence;
+    private final double[] seasonAmplitude;
+    private final int[] seasonPeakMonth;
+    private final double[] weekdayShare;
+    private final double[] maleShare;
+    private final double[] ticketFactor;
+    private final double[] districtFactor;
+
+    /**
+     * @param seed 난수 시드
+     * @param epoch 성장 추세 기준 월 (보통 생성 시작 월)
+     * @param areasPerDistrict 자치구당 상권 수
+     * @param categoryCount 사용할 업종 수 (최대 {@link #maxCategories()})
+     * @param zipfExponent 업종 인기도 Zipf 지수
+     */
+    public SyntheticDataGenerator(long seed, YearMonth epoch, int areasPerDistrict, int categoryCount, double zipfExponent) {
+        if (areasPerDistrict < 1) {
+            throw new IllegalArgumentException("자치구당 상권 수는 1 이상이어야 합니다: " + areasPerDistrict);
+        }
+        if (categoryCount < 1 || categoryCount > CATEGORIES.length) {
+            throw new IllegalArgumentException("업종 수는 1~" + CATEGORIES.length + " 이어야 합니다: " + categoryCount);
+        }
+        this.seed = seed;
+        this.epoch = epoch;
+        this.areasPerDistrict = areasPerDistrict;
+        this.categoryCount = categoryCount;
+
+        // 업종/자치구 고유 특성은 시드에서만 파생 (월/상권과 무관)
+        SplittableRandom random = new SplittableRandom(mix(seed, 0x5EEDL));
+        categoryWeight = new double[categoryCount];
+        categoryPresence = new double[categoryCount];
+        seasonAmplitude = new double[categoryCount];
+        seasonPeakMonth = new int[categoryCount];
+        weekdayShare = new double[categoryCount];
+        maleShare = new double[categoryCount];
+        ticketFactor = new double[categoryCount];
+        for (int c = 0; c < categoryCount; c++) {
+            categoryWeight[c] = 1d / Math.pow(c + 1, zipfExponent);
+            categoryPresence[c] = Math.min(1d, 0.25 + 0.75 * Math.sqrt(categoryWeight[c]));
+            seasonAmplitude[c] = 0.05 + 0.20 * random.nextDouble();
+            seasonPeakMonth[c] = 1 + random.nextInt(12);
+            weekdayShare[c] = clamp(0.68 + 0.08 * random.nextGaussian(), 0.35, 0.9);
+            maleShare[c] = clamp(0.5 + 0.12 * random.nextGaussian(), 0.2, 0.8);
+            ticketFactor[c] = Math.exp(0.15 * random.nextGaussian());
+        }
+        districtFactor = new double[DISTRICTS.length];
+        for (int d = 0; d < DISTRICTS.length; d++) {
+            districtFactor[d] = Math.exp(0.35 * random.nextGaussian());
+        }
+    }
+
+    /**
+     * 사용 가능한 최대 업종 수
+     */
+    public static int maxCategories() {
+        return CATEGORIES.length;
+    }
+
+    /**
+     * 자치구 수
+     */
+    public static int districtCount() {
+        return DISTRICTS.length;
+    }
+
+    /**
+     * 한 달치 매출 행을 자치구 순서대로 생성
+     *
+     * @param month 기준 년월
+     * @param consumer 행 소비자 (같은 스레드에서 순서대로 호출)
+     * @return 생성된 행 수
+     */
+    public long generateMonth(YearMonth month, Consumer<SalesData> consumer) {
+        long rows = 0;
+        for (int d = 0; d < DISTRICTS.length; d++) {
+            rows += generateDistrictMonth(month, d, consumer);
+        }
+        return rows;
+    }
+
+    private long generateDistrictMonth(YearMonth month, int d, Consumer<SalesData> consumer) {
+        String yearMonth = month.format(MonthRange.YEAR_MONTH_FORMAT);
+        int districtCode = Integer.parseInt(DISTRICTS[d].code());
+        String districtName = DISTRICTS[d].districtName();
+        double monthsSinceEpoch = epoch.until(month, ChronoUnit.MONTHS);
+        double trend = Math.pow(1 + ANNUAL_GROWTH, monthsSinceEpoch / 12d);
+
+        SplittableRandom random = new SplittableRandom(mix(seed, month.getYear() * 100L + month.getMonthValue(), d));
+        long rows = 0;
+        for (int a = 0; a < areasPerDistrict; a++) {
+            // 상권 규모와 업종 구성은 월이 바뀌어도 유지
+            SplittableRandom areaRandom = new SplittableRandom(mix(seed, d, a));
+            double areaFactor = Math.exp(0.6 * areaRandom.nextGaussian());
+
+            for (int c = 0; c < categoryCount; c++) {
+                boolean present = areaRandom.nextDouble() < categoryPresence[c];
+                // 출현 여부와 관계없이 같은 개수의 난수를 소비해야 다른 행이 흔들리지 않음
+                double noise = Math.exp(0.15 * random.nextGaussian());
+                double weekdayNoise = 0.03 * random.nextGaussian();
+                double maleNoise = 0.03 * random.nextGaussian();
+                double countNoise = 0.02 * random.nextGaussian();
+                if (!present) {
+                    continue;
+                }
+
+                double season = 1 + seasonAmplitude[c]
+                        * Math.cos(2 * Math.PI * (month.getMonthValue() - seasonPeakMonth[c]) / 12d);
+                long amount = Math.round(TOP_CATEGORY_MONTHLY_AMOUNT * categoryWeight[c]
+                        * districtFactor[d] * areaFactor * season * trend * noise);
+                double ticket = ((Integer) CATEGORIES[c][2]) * ticketFactor[c];
+                int count = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(amount / ticket)));
+
+                double weekday = clamp(weekdayShare[c] + weekdayNoise, 0.05, 0.95);
+                double male = clamp(maleShare[c] + maleNoise, 0.05, 0.95);
+                long weekdayAmount = Math.round(amount * weekday);
+                long maleAmount = Math.round(amount * male);
+                int weekdayCount = (int) Math.round(count * clamp(weekday + countNoise, 0, 1));
+                int maleCount = (int) Math.round(count * clamp(male - countNoise, 0, 1));
+
+                consumer.accept(SalesData.builder()
+                        .baseYearMonth(yearMonth)
+                        .districtCode(districtCode)
+                        .districtName(districtName)
+                        .serviceCategoryCode((String) CATEGORIES[c][0])
+                        .serviceCategoryName((String) CATEGORIES[c][1])
+                        .monthlySalesAmount(amount)
+                        .monthlySalesCount(count)
+                        .weekdaySalesAmount(weekdayAmount)
+                        .weekendSalesAmount(amount - weekdayAmount)
+                        .maleSalesAmount(maleAmount)
+                        .femaleSalesAmount(amount - maleAmount)
+                        .weekdaySalesCount(weekdayCount)
+                        .weekendSalesCount(count - weekdayCount)
+                        .maleSalesCount(maleCount)
+                        .femaleSalesCount(count - maleCount)
+                        .build());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 25개 자치구 인구 통계 생성 (연령대별 인구 합 = 총 인구수)
+     *
+     * @return 자치구별 인구 통계
+     */
+    public List<DistrictPopulationStatistics> generatePopulation() {
+        // 0-9, 10-19, 20-29, 30-39, 40-49, 50-59, 60+ 기본 구성비
+        double[] ageProfile = {0.07, 0.08, 0.15, 0.16, 0.16, 0.16, 0.22};
+        LocalDateTime now = LocalDateTime.now();
+        List<DistrictPopulationStatistics> districts = new ArrayList<>(DISTRICTS.length);
+
+        for (int d = 0; d < DISTRICTS.length; d++) {
+            SplittableRandom random = new SplittableRandom(mix(seed, 0xB0B0L, d));
+            int total = (int) Math.round(400_000 * Math.exp(0.3 * random.nextGaussian()));
+            int resident = (int) Math.round(total * (0.92 + 0.05 * random.nextDouble()));
+            // 업무/상업 지구일수록 매출 규모와 함께 직장/유동 인구가 큼
+            int worker = (int) Math.round(total * 0.6 * districtFactor[d] * Math.exp(0.2 * random.nextGaussian()));
+            int floating = (int) Math.round((total + worker) * (0.8 + 0.4 * random.nextDouble()));
+
+            int maleTotal = (int) Math.round(total * clamp(0.485 + 0.01 * random.nextGaussian(), 0.45, 0.52));
+            int[] male = split(maleTotal, ageProfile, random);
+            int[] female = split(total - maleTotal, ageProfile, random);
+
+            districts.add(DistrictPopulationStatistics.builder()
+                    .districtName(DISTRICTS[d].districtName())
+                    .totalPopulation(total)
+                    .residentPopulation(resident)
+                    .workerPopulation(worker)
+                    .floatingPopulation(floating)
+                    .age0To9Male(male[0]).age10To19Male(male[1]).age20To29Male(male[2]).age30To39Male(male[3])
+                    .age40To49Male(male[4]).age50To59Male(male[5]).age60PlusMale(male[6])
+                    .age0To9Female(female[0]).age10To19Female(female[1]).age20To29Female(female[2])
+                    .age30To39Female(female[3]).age40To49Female(female[4]).age50To59Female(female[5])
+                    .age60PlusFemale(female[6])
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return districts;
+    }
+
+    /**
+     * 구성비에 잡음을 더해 정수로 나누고, 반올림 오차는 마지막 구간에 반영하여 합을 유지
+     */
+    private static int[] split(int total, double[] profile, SplittableRandom random) {
+        double[] weights = new double[profile.length];
+        double sum = 0;
+        for (int i = 0; i < profile.length; i++) {
+            weights[i] = profile[i] * Math.exp(0.1 * random.nextGaussian());
+            sum += weights[i];
+        }
+        int[] parts = new int[profile.length];
+        int assigned = 0;
+        for (int i = 0; i < profile.length - 1; i++) {
+            parts[i] = (int) Math.round(total * weights[i] / sum);
+            assigned += parts[i];
+        }
+        parts[profile.length - 1] = total - assigned;
+        return parts;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 시드와 좌표로부터 독립적인 하위 시드 생성 (SplitMix64 혼합)
+     */
+    private static long mix(long seed, long... parts) {
+        long h = seed;
+        for (long part : parts) {
+            h ^= part * 0x9E3779B97F4A7C15L;
+            h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+            h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,117 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AdaptiveConcurrencyLimit} 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void clampsInitialLimitToBounds() {
+        assertThat(new AdaptiveConcurrencyLimit(100, 2, 20, 0).limit()).isEqualTo(20);
+        assertThat(new AdaptiveConcurrencyLimit(0, 2, 20, 0).limit()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsBeyondLimitWithoutQueue() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0);
+
+        assertThat(limit.acquire(0)).isEqualTo(1);
+        assertThat(limit.acquire(0)).isEqualTo(2);
+        assertThat(limit.acquire(TimeUnit.SECONDS.toNanos(1))).isEqualTo(-1);
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void queueTimeoutRejectsAndBacksOff() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, 1);
+        for (int i = 0; i < 10; i++) {
+            limit.acquire(0);
+        }
+
+        assertThat(limit.acquire(TimeUnit.MILLISECONDS.toNanos(5))).isEqualTo(-1);
+        assertThat(limit.limit()).isEqualTo(9);
+        assertThat(limit.waiting()).isZero();
+    }
+
+    @Test
+    void queuedRequestRunsWhenSlotIsReleased() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 1);
+        int inFlightAtStart = limit.acquire(0);
+        CompletableFuture<Integer> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limit.acquire(TimeUnit.SECONDS.toNanos(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        });
+        while (limit.waiting() == 0) {
+            Thread.sleep(1);
+        }
+
+        limit.release(RTT_NANOS, inFlightAtStart, false);
+
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void failuresBackOffButNotBelowMinimum() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 3, 20, 0);
+        for (int i = 0; i < 50; i++) {
+            limit.release(RTT_NANOS, limit.acquire(0), true);
+        }
+
+        assertThat(limit.limit()).isEqualTo(3);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    void growsUnderSteadyLatencyWhenUtilized() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 100, 0);
+        for (int i = 0; i < 50; i++) {
+            limit.acquire(0);
+            limit.release(RTT_NANOS, limit.limit(), false);
+        }
+
+        assertThat(limit.limit()).isGreaterThan(4);
+    }
+
+    @Test
+    void doesNotGrowWhileUnderutilized() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 0);
+        for (int i = 0; i < 50; i++) {
+            limit.release(RTT_NANOS, limit.acquire(0), false);
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 100, 0);
+        for (int i = 0; i < 20; i++) {
+            limit.acquire(0);
+            limit.release(RTT_NANOS, limit.limit(), false);
+        }
+        int settled = limit.limit();
+
+        for (int i = 0; i < 50; i++) {
+            limit.acquire(0);
+            limit.release(RTT_NANOS * 10, limit.limit(), false);
+        }
+
+        assertThat(limit.limit()).isLessThan(settled);
+    }
+}
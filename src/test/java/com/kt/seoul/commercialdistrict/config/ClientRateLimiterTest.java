@@ -0,0 +1,77 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ClientRateLimiter} 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class ClientRateLimiterTest {
+
+    @Test
+    void allowsBurstThenReportsRefillWait() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 3, 100);
+
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 100);
+
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive();
+        assertThat(limiter.tryAcquire("b", 1)).isZero();
+        assertThat(limiter.clients()).isEqualTo(2);
+    }
+
+    @Test
+    void costAboveBurstDrainsTheWholeBucket() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 3, 100);
+
+        assertThat(limiter.tryAcquire("a", 10)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        ClientRateLimiter limiter = new ClientRateLimiter(1000, 1, 100);
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+
+        Thread.sleep(5);
+
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+    }
+
+    @Test
+    void evictsFullBucketsFirst() throws InterruptedException {
+        ClientRateLimiter limiter = new ClientRateLimiter(1000, 1, 2);
+        limiter.tryAcquire("a", 1);
+        limiter.tryAcquire("b", 1);
+        Thread.sleep(5);
+
+        limiter.tryAcquire("c", 1);
+
+        assertThat(limiter.clients()).isEqualTo(1);
+    }
+
+    @Test
+    void clearsAllBucketsWhenNoneIsIdle() {
+        ClientRateLimiter limiter = new ClientRateLimiter(0.001, 5, 2);
+        limiter.tryAcquire("a", 1);
+        limiter.tryAcquire("b", 1);
+
+        limiter.tryAcquire("c", 1);
+
+        assertThat(limiter.clients()).isEqualTo(1);
+    }
+}
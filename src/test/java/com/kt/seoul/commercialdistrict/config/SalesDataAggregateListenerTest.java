@@ -0,0 +1,106 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.entity.SalesData;
+import com.kt.seoul.commercialdistrict.repository.SalesDataRepository;
+import com.kt.seoul.commercialdistrict.service.DatasetVersionService;
+import com.kt.seoul.commercialdistrict.service.SalesAggregateService;
+import com.kt.seoul.commercialdistrict.service.SalesQuantileService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SalesDataAggregateListener} PostgreSQL 통합 테스트 (저장소 쓰기가 같은 트랜잭션에서 집계에 반영되는지, Docker 가 없으면 건너뜀)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SalesDataAggregateListener.class, SalesAggregateService.class})
+@Testcontainers(disabledWithoutDocker = true)
+class SalesDataAggregateListenerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    private DatasetVersionService datasetVersionService;
+
+    @MockBean
+    private SalesQuantileService salesQuantileService;
+
+    @Autowired
+    private SalesDataRepository salesDataRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void singleSaveUpdatesAggregateInSameTransaction() {
+        salesDataRepository.save(row(100L, 10));
+
+        assertThat(aggregate()).containsExactly(Map.of("행_수", 1L, "당월_매출_금액", 100L, "당월_매출_건수", 10L));
+
+        // 롤백하면 집계 변경도 함께 취소됨
+        TestTransaction.end();
+        assertThat(aggregate()).isEmpty();
+    }
+
+    @Test
+    void updateAndDeleteAdjustAggregate() {
+        SalesData first = salesDataRepository.save(row(100L, 10));
+        salesDataRepository.save(row(50L, 5));
+
+        first.setMonthlySalesAmount(300L);
+        entityManager.flush();
+        assertThat(aggregate()).containsExactly(Map.of("행_수", 2L, "당월_매출_금액", 350L, "당월_매출_건수", 15L));
+
+        salesDataRepository.delete(first);
+        entityManager.flush();
+        assertThat(aggregate()).containsExactly(Map.of("행_수", 1L, "당월_매출_금액", 50L, "당월_매출_건수", 5L));
+    }
+
+    private List<Map<String, Object>> aggregate() {
+        return jdbcTemplate.queryForList("SELECT 행_수, 당월_매출_금액, 당월_매출_건수 FROM sales_monthly_aggregate " +
+                "WHERE 기준_년월_코드 = '202501' AND 자치구_코드_명 = '강남구' AND 서비스_업종_코드_명 = '카페'");
+    }
+
+    private static SalesData row(long amount, int count) {
+        return SalesData.builder()
+                .baseYearMonth("202501")
+                .districtCode(11680)
+                .districtName("강남구")
+                .serviceCategoryCode("CS100003")
+                .serviceCategoryName("카페")
+                .monthlySalesAmount(amount)
+                .monthlySalesCount(count)
+                .build();
+    }
+}
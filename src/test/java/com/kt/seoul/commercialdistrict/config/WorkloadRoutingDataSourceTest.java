@@ -0,0 +1,63 @@
+package com.kt.seoul.commercialdistrict.config;
+
+import com.kt.seoul.commercialdistrict.repository.Workload;
+import com.kt.seoul.commercialdistrict.repository.WorkloadScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link WorkloadRoutingDataSource} 풀 선택 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class WorkloadRoutingDataSourceTest {
+
+    private final WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource(
+            mock(DataSource.class), mock(DataSource.class), mock(DataSource.class));
+
+    @AfterEach
+    void clear() {
+        WorkloadScope.restore(null);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void untaggedBackgroundWorkUsesInteractivePool() {
+        assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(Workload.Kind.INTERACTIVE);
+    }
+
+    @Test
+    void outermostTagWins() {
+        Object key = WorkloadScope.call(Workload.Kind.BATCH,
+                () -> WorkloadScope.call(Workload.Kind.ANALYTICAL, dataSource::determineCurrentLookupKey));
+
+        assertThat(key).isEqualTo(Workload.Kind.BATCH);
+        assertThat(WorkloadScope.current()).isNull();
+    }
+
+    @Test
+    void submittedTaskInheritsTheSubmittingThreadsTag() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Callable<Object> lookup = dataSource::determineCurrentLookupKey;
+            Callable<Object> inherited = WorkloadScope.call(Workload.Kind.BATCH, () -> WorkloadScope.inherit(lookup));
+
+            assertThat(executor.submit(inherited).get(10, TimeUnit.SECONDS)).isEqualTo(Workload.Kind.BATCH);
+            assertThat(executor.submit(lookup).get(10, TimeUnit.SECONDS)).isEqualTo(Workload.Kind.INTERACTIVE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link FieldSelection} 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class FieldSelectionTest {
+
+    private static final Set<String> ALLOWED = Set.of("districtName", "monthlySalesAmount", "monthlySalesCount");
+
+    @Test
+    void blankParameterSelectsAllFields() {
+        FieldSelection selection = FieldSelection.of(" ", ALLOWED);
+
+        assertThat(selection.isAll()).isTrue();
+        assertThat(selection.includes("anything")).isTrue();
+    }
+
+    @Test
+    void parsesTrimsAndDeduplicatesInRequestOrder() {
+        FieldSelection selection = FieldSelection.of(" monthlySalesAmount, ,districtName,monthlySalesAmount ", ALLOWED);
+
+        assertThat(selection.fields()).containsExactly("monthlySalesAmount", "districtName");
+        assertThat(selection.includes("districtName")).isTrue();
+        assertThat(selection.includes("monthlySalesCount")).isFalse();
+    }
+
+    @Test
+    void rejectsUnknownField() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> FieldSelection.of("districtName,password", ALLOWED))
+                .withMessageContaining("password");
+    }
+
+    @Test
+    void parseDoesNotValidateFieldNames() {
+        assertThat(FieldSelection.parse("password").fields()).containsExactly("password");
+    }
+
+    @Test
+    void fieldsAreUnmodifiable() {
+        FieldSelection selection = FieldSelection.parse("districtName");
+
+        assertThatThrownBy(() -> selection.fields().add("monthlySalesAmount"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link MonthRange} 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class MonthRangeTest {
+
+    @Test
+    void emptyBoundsAreOpen() {
+        MonthRange range = MonthRange.of(null, " ");
+
+        assertThat(range).isEqualTo(MonthRange.all());
+        assertThat(range.isUnbounded()).isTrue();
+    }
+
+    @Test
+    void oneSidedRangeKeepsTheOtherBoundOpen() {
+        MonthRange range = MonthRange.of(" 202301 ", null);
+
+        assertThat(range.fromMonth()).isEqualTo("202301");
+        assertThat(range.toMonth()).isEqualTo(MonthRange.MAX_MONTH);
+        assertThat(range.isUnbounded()).isFalse();
+    }
+
+    @Test
+    void singleMonth() {
+        MonthRange range = MonthRange.of(YearMonth.of(2024, 3));
+
+        assertThat(range.fromMonth()).isEqualTo("202403");
+        assertThat(range.toMonth()).isEqualTo("202403");
+    }
+
+    @Test
+    void rejectsMalformedMonth() {
+        assertThatIllegalArgumentException().isThrownBy(() -> MonthRange.of("2023-1", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> MonthRange.of(null, "2023012"));
+    }
+
+    @Test
+    void rejectsReversedRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> MonthRange.of("202312", "202301"));
+    }
+}
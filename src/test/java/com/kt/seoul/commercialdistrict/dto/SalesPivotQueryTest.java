@@ -0,0 +1,129 @@
+package com.kt.seoul.commercialdistrict.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link SalesPivotQuery#from} 검증·정규화 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class SalesPivotQueryTest {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    @Test
+    void defaultsToSumOfAmountAndDefaultLimit() {
+        SalesPivotQuery query = SalesPivotQuery.from(new SalesQueryRequest(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(query.dimensions()).isEmpty();
+        assertThat(query.measures()).containsExactly(
+                new SalesPivotQuery.MeasureSpec(SalesMeasure.AMOUNT, SalesPivotQuery.Aggregate.SUM));
+        assertThat(query.monthRange().isUnbounded()).isTrue();
+        assertThat(query.orderBy()).isEmpty();
+        assertThat(query.limit()).isEqualTo(DEFAULT_LIMIT);
+        assertThat(query.requiresRawRows()).isFalse();
+    }
+
+    @Test
+    void deduplicatesDimensionsAndMeasures() {
+        SalesPivotQuery query = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("district", " Category-Group ", "DISTRICT"))
+                .measures(List.of(measure("amount", null), measure("AMOUNT", "sum"), measure("male-count", "avg")))
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(query.dimensions()).containsExactly(
+                SalesPivotQuery.Dimension.DISTRICT, SalesPivotQuery.Dimension.CATEGORY_GROUP);
+        assertThat(query.measures()).extracting(SalesPivotQuery.MeasureSpec::alias)
+                .containsExactly("sum_amount", "avg_male_count");
+    }
+
+    @Test
+    void sortsAndDeduplicatesFilterValues() {
+        SalesPivotQuery query = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .filters(SalesQueryRequest.Filters.builder()
+                        .districts(Arrays.asList(" 서초구", "강남구", null, " ", "서초구"))
+                        .categories(List.of("카페"))
+                        .fromMonth("202301")
+                        .build())
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(query.districts()).containsExactly("강남구", "서초구");
+        assertThat(query.categories()).containsExactly("카페");
+        assertThat(query.categoryGroups()).isEmpty();
+        assertThat(query.monthRange()).isEqualTo(MonthRange.of("202301", null));
+    }
+
+    @Test
+    void appendsRemainingDimensionsAsAscendingTieBreaks() {
+        SalesPivotQuery query = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("district", "month", "category"))
+                .orderBy(List.of(order(" SUM_AMOUNT ", "desc"), order("month", "DESC"), order("sum_amount", "asc")))
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(query.orderBy()).containsExactly(
+                new SalesPivotQuery.Ordering("sum_amount", true),
+                new SalesPivotQuery.Ordering("month", true),
+                new SalesPivotQuery.Ordering("district", false),
+                new SalesPivotQuery.Ordering("category", false));
+    }
+
+    @Test
+    void equivalentRequestsShareCacheKey() {
+        SalesPivotQuery first = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("district"))
+                .filters(SalesQueryRequest.Filters.builder().districts(List.of("서초구", "강남구")).build())
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+        SalesPivotQuery second = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("DISTRICT", "district"))
+                .measures(List.of(measure("amount", "sum")))
+                .filters(SalesQueryRequest.Filters.builder().districts(List.of("강남구", " 서초구 ", "강남구")).build())
+                .orderBy(List.of(order("district", "asc")))
+                .limit(DEFAULT_LIMIT)
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(second.cacheKey()).isEqualTo(first.cacheKey());
+    }
+
+    @Test
+    void minAndMaxRequireRawRows() {
+        SalesPivotQuery query = SalesPivotQuery.from(SalesQueryRequest.builder()
+                .measures(List.of(measure("amount", "avg"), measure("amount", "max")))
+                .build(), DEFAULT_LIMIT, MAX_LIMIT);
+
+        assertThat(query.requiresRawRows()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("street")).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .groupBy(List.of("district", "category", "month", "quarter", "year")).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .measures(List.of(measure("amount", "median"))).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .orderBy(List.of(order("district", "asc"))).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .orderBy(List.of(order("sum_amount", "down"))).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .limit(MAX_LIMIT + 1).build(), DEFAULT_LIMIT, MAX_LIMIT));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesPivotQuery.from(SalesQueryRequest.builder()
+                .limit(0).build(), DEFAULT_LIMIT, MAX_LIMIT));
+    }
+
+    private static SalesQueryRequest.Measure measure(String measure, String function) {
+        return SalesQueryRequest.Measure.builder().measure(measure).function(function).build();
+    }
+
+    private static SalesQueryRequest.Order order(String field, String direction) {
+        return SalesQueryRequest.Order.builder().field(field).direction(direction).build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FieldProjectionRepository} 키워드 LIKE 패턴 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class FieldProjectionRepositoryTest {
+
+    @Test
+    void keywordMatchesAsSubstring() {
+        assertThat(FieldProjectionRepository.containsPattern("강남")).isEqualTo("%강남%");
+    }
+
+    @Test
+    void likeWildcardsAreMatchedLiterally() {
+        assertThat(FieldProjectionRepository.containsPattern("100%_a\\b")).isEqualTo("%100\\%\\_a\\\\b%");
+    }
+}
@@ -0,0 +1,88 @@
+package com.kt.seoul.commercialdistrict.repository;
+
+import com.kt.seoul.commercialdistrict.dto.SalesPivotQuery;
+import com.kt.seoul.commercialdistrict.dto.SalesQueryRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link PivotQueryRepository#compile} SQL 형태 테스트 (데이터베이스 없이 생성된 SQL 과 파라미터만 확인)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class PivotQueryRepositoryTest {
+
+    private final PivotQueryRepository repository = new PivotQueryRepository(null);
+
+    @Test
+    void sumAndAvgReadTheMonthlyAggregate() {
+        PivotQueryRepository.CompiledQuery compiled = repository.compile(query(SalesQueryRequest.builder()
+                .groupBy(List.of("district", "month"))
+                .measures(List.of(measure("amount", "sum"), measure("amount", "avg")))
+                .orderBy(List.of(order("sum_amount", "desc")))
+                .limit(10)
+                .build()));
+
+        assertThat(compiled.source()).isEqualTo(PivotQueryRepository.AGGREGATE_SOURCE);
+        assertThat(compiled.sql()).isEqualTo("SELECT 자치구_코드_명 AS \"district\", 기준_년월_코드 AS \"month\", " +
+                "CAST(SUM(당월_매출_금액) AS BIGINT) AS \"sum_amount\", " +
+                "CAST(SUM(당월_매출_금액) AS DOUBLE PRECISION) / NULLIF(SUM(행_수), 0) AS \"avg_amount\" " +
+                "FROM sales_monthly_aggregate WHERE 기준_년월_코드 BETWEEN :fromMonth AND :toMonth " +
+                "GROUP BY 1, 2 ORDER BY \"sum_amount\" DESC NULLS LAST, \"district\" ASC, \"month\" ASC LIMIT :limit");
+        assertThat(compiled.params().getValue("limit")).isEqualTo(11);
+    }
+
+    @Test
+    void minOrMaxReadsRawRowsWithPlainAverage() {
+        PivotQueryRepository.CompiledQuery compiled = repository.compile(query(SalesQueryRequest.builder()
+                .measures(List.of(measure("count", "avg"), measure("count", "min")))
+                .build()));
+
+        assertThat(compiled.source()).isEqualTo(PivotQueryRepository.RAW_SOURCE);
+        assertThat(compiled.sql())
+                .contains("CAST(AVG(당월_매출_건수) AS DOUBLE PRECISION) AS \"avg_count\"")
+                .contains("CAST(MIN(당월_매출_건수) AS BIGINT) AS \"min_count\"")
+                .contains(" FROM sales_data WHERE ")
+                .doesNotContain("GROUP BY")
+                .doesNotContain("ORDER BY");
+    }
+
+    @Test
+    void filtersBindNormalizedInLists() {
+        PivotQueryRepository.CompiledQuery compiled = repository.compile(query(SalesQueryRequest.builder()
+                .groupBy(List.of("category-group"))
+                .filters(SalesQueryRequest.Filters.builder()
+                        .districts(List.of("서초구", "강남구", "서초구"))
+                        .categoryGroups(List.of("제과점/카페/호프"))
+                        .fromMonth("202301")
+                        .toMonth("202312")
+                        .build())
+                .build()));
+
+        assertThat(compiled.sql())
+                .contains(" AND 자치구_코드_명 IN (:districts)")
+                .doesNotContain(":categories)")
+                .contains(" IN (:categoryGroups)")
+                .doesNotContain("강남구");
+        assertThat(compiled.params().getValue("districts")).isEqualTo(List.of("강남구", "서초구"));
+        assertThat(compiled.params().getValue("categoryGroups")).isEqualTo(List.of("제과점/카페/호프"));
+        assertThat(compiled.params().getValue("fromMonth")).isEqualTo("202301");
+        assertThat(compiled.params().getValue("toMonth")).isEqualTo("202312");
+    }
+
+    private static SalesPivotQuery query(SalesQueryRequest request) {
+        return SalesPivotQuery.from(request, 100, 1000);
+    }
+
+    private static SalesQueryRequest.Measure measure(String measure, String function) {
+        return SalesQueryRequest.Measure.builder().measure(measure).function(function).build();
+    }
+
+    private static SalesQueryRequest.Order order(String field, String direction) {
+        return SalesQueryRequest.Order.builder().field(field).direction(direction).build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SalesAmounts} 포화 덧셈 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class SalesAmountsTest {
+
+    @Test
+    void addsWithinLongRange() {
+        assertThat(SalesAmounts.add(1_500_000_000L, 2_500_000_000L)).isEqualTo(4_000_000_000L);
+        assertThat(SalesAmounts.add(Long.MAX_VALUE - 1, 1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void saturatesInsteadOfWrappingAround() {
+        long sum = SalesAmounts.add(Long.MAX_VALUE - 10, 11);
+
+        assertThat(sum).isEqualTo(SalesAmounts.SATURATED);
+        assertThat(SalesAmounts.isSaturated(sum)).isTrue();
+        assertThat(SalesAmounts.add(sum, 1_000_000L)).isEqualTo(SalesAmounts.SATURATED);
+    }
+
+    @Test
+    void ordinarySumIsNotSaturated() {
+        assertThat(SalesAmounts.isSaturated(SalesAmounts.add(0, 42))).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link SalesPartitionService} PostgreSQL 통합 테스트 (Docker 가 없으면 건너뜀)
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SalesPartitionServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private SalesAggregateService salesAggregateService;
+    private SalesPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        salesAggregateService = mock(SalesAggregateService.class);
+        service = new SalesPartitionService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                salesAggregateService);
+        ReflectionTestUtils.setField(service, "archiveSchema", "sales_archive");
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS sales_archive CASCADE");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS sales_data CASCADE");
+        jdbcTemplate.execute("CREATE TABLE sales_data (" +
+                "id BIGSERIAL, 기준_년월_코드 VARCHAR(10) NOT NULL, 자치구_코드_명 VARCHAR(20), 당월_매출_금액 BIGINT, " +
+                "PRIMARY KEY (id, 기준_년월_코드)) PARTITION BY RANGE (기준_년월_코드)");
+        jdbcTemplate.execute("CREATE TABLE sales_data_default PARTITION OF sales_data DEFAULT");
+    }
+
+    @Test
+    void ensurePartitionMovesRowsAlreadyInDefaultPartition() {
+        insert("202401", "강남구", 100L);
+        insert("202401", "서초구", 200L);
+        insert("202402", "강남구", 300L);
+
+        service.ensurePartition("202401");
+
+        assertThat(service.getAttachedPartitionMonths()).containsExactly("202401");
+        assertThat(count("sales_data_p202401")).isEqualTo(2);
+        assertThat(count("sales_data_default")).isEqualTo(1);
+        assertThat(count("sales_data")).isEqualTo(3);
+        assertThat(defaultPartition()).isEqualTo("sales_data_default");
+
+        // 새 행은 연결된 파티션으로, 범위 밖 행은 다시 연결된 기본 파티션으로 들어감
+        insert("202401", "마포구", 400L);
+        insert("202403", "마포구", 500L);
+        assertThat(count("sales_data_p202401")).isEqualTo(3);
+        assertThat(count("sales_data_default")).isEqualTo(2);
+    }
+
+    @Test
+    void ensurePartitionIsIdempotent() {
+        service.ensurePartition("202401");
+        insert("202401", "강남구", 100L);
+        service.ensurePartition("202401");
+
+        assertThat(service.getAttachedPartitionMonths()).containsExactly("202401");
+        assertThat(count("sales_data_p202401")).isEqualTo(1);
+        assertThat(count("sales_data_default")).isZero();
+    }
+
+    @Test
+    void archiveThenRestoreRoundTripsPartition() {
+        service.ensurePartition("202401");
+        service.ensurePartition("202402");
+        insert("202401", "강남구", 100L);
+        insert("202401", "서초구", 200L);
+        insert("202402", "강남구", 300L);
+
+        service.archivePartition("202401");
+
+        assertThat(service.getAttachedPartitionMonths()).containsExactly("202402");
+        assertThat(service.getArchivedPartitionMonths()).containsExactly("202401");
+        assertThat(count("sales_data")).isEqualTo(1);
+        assertThat(count("sales_archive.sales_data_p202401")).isEqualTo(2);
+        verify(salesAggregateService).removeMonth("202401");
+
+        service.restorePartition("202401");
+
+        assertThat(service.getAttachedPartitionMonths()).containsExactly("202401", "202402");
+        assertThat(service.getArchivedPartitionMonths()).isEmpty();
+        assertThat(count("sales_data")).isEqualTo(3);
+        assertThat(count("sales_data_p202401")).isEqualTo(2);
+        verify(salesAggregateService).rebuildMonth("202401");
+    }
+
+    private void insert(String yearMonth, String district, long amount) {
+        jdbcTemplate.update("INSERT INTO sales_data (기준_년월_코드, 자치구_코드_명, 당월_매출_금액) VALUES (?, ?, ?)",
+                yearMonth, district, amount);
+    }
+
+    private int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private String defaultPartition() {
+        return jdbcTemplate.queryForObject(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'sales_data'::regclass AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'",
+                String.class);
+    }
+}
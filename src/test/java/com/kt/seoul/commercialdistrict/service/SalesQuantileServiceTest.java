@@ -0,0 +1,73 @@
+package com.kt.seoul.commercialdistrict.service;
+
+import com.tdunning.math.stats.MergingDigest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link SalesQuantileService} 스케치 직렬화와 분위수 파싱 테스트
+ *
+ * @author KT 개발팀
+ * @version 1.0.0
+ */
+class SalesQuantileServiceTest {
+
+    private static final double COMPRESSION = 100;
+
+    @Test
+    void sketchSurvivesByteRoundTrip() {
+        MergingDigest digest = new MergingDigest(COMPRESSION);
+        for (int i = 1; i <= 10_000; i++) {
+            digest.add(i * 1_000.0);
+        }
+
+        MergingDigest restored = SalesQuantileService.fromBytes(SalesQuantileService.toBytes(digest));
+
+        assertThat(restored.size()).isEqualTo(digest.size());
+        assertThat(restored.getMin()).isEqualTo(digest.getMin());
+        assertThat(restored.getMax()).isEqualTo(digest.getMax());
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            assertThat(restored.quantile(q)).isCloseTo(digest.quantile(q), within(digest.quantile(q) * 0.001));
+        }
+    }
+
+    @Test
+    void restoredSketchesMerge() {
+        MergingDigest low = new MergingDigest(COMPRESSION);
+        MergingDigest high = new MergingDigest(COMPRESSION);
+        for (int i = 1; i <= 5_000; i++) {
+            low.add(i);
+            high.add(5_000 + i);
+        }
+
+        MergingDigest merged = SalesQuantileService.fromBytes(SalesQuantileService.toBytes(low));
+        merged.add(SalesQuantileService.fromBytes(SalesQuantileService.toBytes(high)));
+
+        assertThat(merged.size()).isEqualTo(10_000);
+        assertThat(merged.quantile(0.5)).isCloseTo(5_000, within(100.0));
+        assertThat(merged.quantile(0.99)).isCloseTo(9_900, within(100.0));
+    }
+
+    @Test
+    void emptySketchSurvivesByteRoundTrip() {
+        MergingDigest restored = SalesQuantileService.fromBytes(SalesQuantileService.toBytes(new MergingDigest(COMPRESSION)));
+
+        assertThat(restored.size()).isZero();
+    }
+
+    @Test
+    void parsesQuantilesSortedAndDistinct() {
+        assertThat(SalesQuantileService.parseQuantiles(null)).containsExactly(0.5, 0.9, 0.99);
+        assertThat(SalesQuantileService.parseQuantiles(" 0.99, 0.5 ,0.5,")).containsExactly(0.5, 0.99);
+    }
+
+    @Test
+    void rejectsInvalidQuantiles() {
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesQuantileService.parseQuantiles("1.5"));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesQuantileService.parseQuantiles("p50"));
+        assertThatIllegalArgumentException().isThrownBy(() -> SalesQuantileService.parseQuantiles(","));
+    }
+}